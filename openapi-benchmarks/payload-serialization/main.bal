@@ -0,0 +1,94 @@
+// Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied. See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/io;
+import ballerina/time;
+
+// Compares the request payload serialization of the generated remote functions, before and after the JSON payloads
+// are converted with `toJson()` instead of `cloneWithType(json)`. Run with `bal run` in this directory.
+
+configurable int warmupIterations = 2000;
+configurable int iterations = 20000;
+configurable int itemCount = 100;
+
+public type Tag record {
+    int id;
+    string name;
+};
+
+public type Item record {
+    int id;
+    string name;
+    string description?;
+    decimal price;
+    Tag[] tags;
+};
+
+public type Order record {
+    string id;
+    string customer;
+    Item[] items;
+    map<string> metadata;
+};
+
+// The payload serialization of a generated remote function before the change.
+function setPayloadWithCloneWithType(Order payload) returns http:Request|error {
+    http:Request request = new;
+    json jsonBody = check payload.cloneWithType(json);
+    request.setPayload(jsonBody, "application/json");
+    return request;
+}
+
+// The payload serialization of a generated remote function after the change.
+function setPayloadWithToJson(Order payload) returns http:Request|error {
+    http:Request request = new;
+    json jsonBody = payload.toJson();
+    request.setPayload(jsonBody, "application/json");
+    return request;
+}
+
+public function main() returns error? {
+    Order payload = createOrder(itemCount);
+    check run("cloneWithType(json)", setPayloadWithCloneWithType, payload);
+    check run("toJson()", setPayloadWithToJson, payload);
+}
+
+function run(string name, function (Order) returns http:Request|error setPayload, Order payload) returns error? {
+    foreach int i in 0 ..< warmupIterations {
+        _ = check setPayload(payload);
+    }
+    decimal startTime = time:monotonicNow();
+    foreach int i in 0 ..< iterations {
+        _ = check setPayload(payload);
+    }
+    decimal elapsedTime = time:monotonicNow() - startTime;
+    io:println(string `${name}: ${elapsedTime * 1000000 / <decimal>iterations} us/op`);
+}
+
+function createOrder(int count) returns Order {
+    Item[] items = [];
+    foreach int i in 0 ..< count {
+        items.push({
+            id: i,
+            name: string `item-${i}`,
+            description: string `Description of the item ${i}`,
+            price: 10.5,
+            tags: [{id: i, name: "sale"}, {id: i + 1, name: "new"}]
+        });
+    }
+    return {id: "order-1", customer: "customer-1", items: items, metadata: {channel: "web", region: "us"}};
+}
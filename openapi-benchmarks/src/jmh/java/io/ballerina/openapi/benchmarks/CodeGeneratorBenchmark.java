@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.benchmarks;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.cmd.CodeGenerator;
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.generators.service.BallerinaServiceGenerator;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Benchmarks for each stage of the OpenAPI to Ballerina code generation, run against the large real-world OpenAPI
+ * definitions in the client test resources. Run with the GC profiler to get the allocation rate of each stage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MINUTES)
+public class CodeGeneratorBenchmark {
+    private static final String SPEC_DIRECTORY_PROPERTY = "openapi.benchmark.specs";
+
+    @Param({"jira_openapi.yaml", "sendgrid.yaml", "bitBucket.yaml"})
+    private String definition;
+
+    private Path definitionPath;
+    private Path outputPath;
+    private Filter filter;
+    private OpenAPI clientOpenAPI;
+    private OpenAPI serviceOpenAPI;
+    private SyntaxTree clientSyntaxTree;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, BallerinaOpenApiException {
+        String specDirectory = System.getProperty(SPEC_DIRECTORY_PROPERTY);
+        if (specDirectory == null) {
+            throw new IllegalStateException("The " + SPEC_DIRECTORY_PROPERTY + " system property is not set");
+        }
+        definitionPath = Paths.get(specDirectory).resolve(definition);
+        outputPath = Files.createTempDirectory("openapi-benchmark-out");
+        filter = new Filter(new ArrayList<>(), new ArrayList<>());
+        CodeGenerator codeGenerator = new CodeGenerator();
+        clientOpenAPI = codeGenerator.normalizeOpenAPI(definitionPath, true);
+        serviceOpenAPI = codeGenerator.normalizeOpenAPI(definitionPath, false);
+        clientSyntaxTree = new BallerinaClientGenerator(clientOpenAPI, filter, false).generateSyntaxTree();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(outputPath)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public OpenAPI parseAndNormalize() throws IOException, BallerinaOpenApiException {
+        return new CodeGenerator().normalizeOpenAPI(definitionPath, true);
+    }
+
+    @Benchmark
+    public SyntaxTree clientSyntaxTree() throws BallerinaOpenApiException {
+        return new BallerinaClientGenerator(clientOpenAPI, filter, false).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree typesSyntaxTree() throws BallerinaOpenApiException {
+        return new BallerinaTypesGenerator(clientOpenAPI, false).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree serviceSyntaxTree() throws BallerinaOpenApiException {
+        return new BallerinaServiceGenerator(serviceOpenAPI, filter).generateSyntaxTree();
+    }
+
+    @Benchmark
+    public SyntaxTree formatClient() throws FormatterException {
+        return Formatter.format(clientSyntaxTree);
+    }
+
+    @Benchmark
+    public void generateClient() throws IOException, BallerinaOpenApiException, FormatterException {
+        CodeGenerator codeGenerator = new CodeGenerator();
+        codeGenerator.setInteractive(false);
+        codeGenerator.generateClient(definitionPath.toString(), "benchmark", outputPath.toString(), filter, false);
+    }
+}
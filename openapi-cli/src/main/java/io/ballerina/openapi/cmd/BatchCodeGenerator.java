@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.cmd;
+
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.ExternalReferenceResolver;
+import io.ballerina.openapi.generators.GeneratorConstants;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.ballerina.openapi.generators.GeneratorConstants.JSON_EXTENSION;
+import static io.ballerina.openapi.generators.GeneratorConstants.YAML_EXTENSION;
+import static io.ballerina.openapi.generators.GeneratorConstants.YML_EXTENSION;
+
+/**
+ * This class generates the Ballerina sources for a batch of OpenAPI definitions on a worker pool in the same JVM.
+ * The sources of each definition are written to a separate module directory in the output directory.
+ *
+ * @since 2.0.0
+ */
+public class BatchCodeGenerator {
+    private static final String MANIFEST_COMMENT = "#";
+
+    private final GeneratorConstants.GenType type;
+    private final Filter filter;
+    private final boolean nullable;
+    private final int threads;
+    private String serviceName;
+    private String licenseHeader = "";
+    private boolean includeTestFiles;
+    private boolean incremental;
+    private boolean deduplicateInlineTypes;
+    private DefinitionCache definitionCache;
+    private ExternalReferenceResolver referenceResolver = new ExternalReferenceResolver();
+    private boolean shardClientByTag;
+    private int maxClientOperations;
+    private boolean specializeParameters;
+    private boolean streamArrayResponses;
+
+    public BatchCodeGenerator(GeneratorConstants.GenType type, Filter filter, boolean nullable, int threads) {
+        this.type = type;
+        this.filter = filter;
+        this.nullable = nullable;
+        this.threads = threads;
+    }
+
+    /**
+     * Get the OpenAPI definitions of a batch. When the input is a directory, all the YAML and JSON files in the
+     * directory and its subdirectories are taken. Otherwise the input is read as a manifest, which lists one
+     * definition path per line relative to the manifest directory. Blank lines and lines starting with {@code #} are
+     * ignored.
+     *
+     * @param input directory or manifest file given in the command
+     * @return sorted list of OpenAPI definition paths
+     * @throws IOException when the directory or the manifest can not be read
+     */
+    public static List<Path> getDefinitions(Path input) throws IOException {
+        if (Files.isDirectory(input)) {
+            try (Stream<Path> files = Files.walk(input)) {
+                return files.filter(Files::isRegularFile)
+                        .filter(BatchCodeGenerator::isOpenAPIDefinition)
+                        .sorted()
+                        .collect(Collectors.toList());
+            }
+        }
+        Path manifestDirectory = input.toAbsolutePath().getParent();
+        List<Path> definitions = new ArrayList<>();
+        for (String line : Files.readAllLines(input)) {
+            String definition = line.trim();
+            if (!definition.isEmpty() && !definition.startsWith(MANIFEST_COMMENT)) {
+                definitions.add(manifestDirectory.resolve(definition).normalize());
+            }
+        }
+        return definitions;
+    }
+
+    private static boolean isOpenAPIDefinition(Path path) {
+        String fileName = path.getFileName().toString();
+        return fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(YML_EXTENSION) ||
+                fileName.endsWith(JSON_EXTENSION);
+    }
+
+    /**
+     * Generate the sources of the given OpenAPI definitions. A failure of one definition does not stop the
+     * generation of the other definitions.
+     *
+     * @param baseDirectory directory which the module directory names are derived relative to
+     * @param definitions   OpenAPI definition paths
+     * @param outputPath    directory where the module directories are created
+     * @return generation result of each definition, in the same order as the given definitions
+     */
+    public List<Result> generate(Path baseDirectory, List<Path> definitions, Path outputPath) {
+        List<Result> results = new ArrayList<>();
+        List<Future<Result>> futures = new ArrayList<>();
+        Set<Path> moduleDirectories = new HashSet<>();
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            for (Path definition : definitions) {
+                Path moduleDirectory = outputPath.resolve(getModuleName(baseDirectory, definition)).normalize();
+                if (!moduleDirectories.add(moduleDirectory)) {
+                    futures.add(null);
+                    results.add(new Result(definition, moduleDirectory, 0,
+                            "Another OpenAPI definition is generated to the same directory " + moduleDirectory));
+                    continue;
+                }
+                futures.add(executorService.submit(() -> generateDefinition(definition, moduleDirectory)));
+                results.add(null);
+            }
+            for (int i = 0; i < futures.size(); i++) {
+                Future<Result> future = futures.get(i);
+                if (future != null) {
+                    results.set(i, getResult(future, definitions.get(i)));
+                }
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        return results;
+    }
+
+    private static Result getResult(Future<Result> future, Path definition) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(definition, null, 0, "Generation was interrupted");
+        } catch (ExecutionException e) {
+            return new Result(definition, null, 0, String.valueOf(e.getCause()));
+        }
+    }
+
+    private Result generateDefinition(Path definition, Path moduleDirectory) {
+        long startTime = System.nanoTime();
+        String error = null;
+        try {
+            Files.createDirectories(moduleDirectory);
+            CodeGenerator generator = new CodeGenerator();
+            generator.setLicenseHeader(licenseHeader);
+            generator.setIncludeTestFiles(includeTestFiles);
+            generator.setInteractive(false);
+            generator.setIncremental(incremental);
+            generator.setDeduplicateInlineTypes(deduplicateInlineTypes);
+            generator.setDefinitionCache(definitionCache);
+            generator.setReferenceResolver(referenceResolver);
+            generator.setShardClientByTag(shardClientByTag);
+            generator.setMaxClientOperations(maxClientOperations);
+            generator.setSpecializeParameters(specializeParameters);
+            generator.setStreamArrayResponses(streamArrayResponses);
+            // Definitions are already generated in parallel, hence the stages of a single definition run on the
+            // worker thread.
+            generator.setThreads(1);
+            String definitionPath = definition.toString();
+            String outPath = moduleDirectory.toString();
+            String name = serviceName != null ? serviceName : definition.getFileName().toString().split("\\.")[0];
+            switch (type) {
+                case GEN_SERVICE:
+                    generator.generateService(definitionPath, name, outPath, filter, nullable);
+                    break;
+                case GEN_CLIENT:
+                    generator.generateClient(definitionPath, name, outPath, filter, nullable);
+                    break;
+                default:
+                    generator.generateBothFiles(type, definitionPath, name, outPath, filter, nullable);
+                    break;
+            }
+        } catch (IOException | BallerinaOpenApiException | FormatterException | RuntimeException e) {
+            error = e.getMessage() != null ? e.getMessage().trim() : e.toString();
+        }
+        return new Result(definition, moduleDirectory,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime), error);
+    }
+
+    /**
+     * Get the module directory name of a definition. It is the path of the definition relative to the base
+     * directory without the file extension, or the file name without the extension when the definition is not
+     * inside the base directory.
+     */
+    static String getModuleName(Path baseDirectory, Path definition) {
+        Path absoluteDefinition = definition.toAbsolutePath().normalize();
+        Path absoluteBase = baseDirectory.toAbsolutePath().normalize();
+        Path modulePath = absoluteDefinition.startsWith(absoluteBase) ?
+                absoluteBase.relativize(absoluteDefinition) : absoluteDefinition.getFileName();
+        String moduleName = modulePath.toString();
+        int extensionIndex = moduleName.lastIndexOf('.');
+        return extensionIndex > 0 ? moduleName.substring(0, extensionIndex) : moduleName;
+    }
+
+    /**
+     * Get the summary of a batch generation with the time taken and the failure of each definition.
+     *
+     * @param results generation results
+     * @return summary to be printed to the console
+     */
+    public static String getSummary(List<Result> results) {
+        long failures = results.stream().filter(result -> !result.isSuccess()).count();
+        long totalTime = results.stream().mapToLong(Result::getTime).sum();
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format(Locale.ENGLISH, "Generated %d of %d OpenAPI definitions (%d failed, %d ms " +
+                "total generation time).%n", results.size() - failures, results.size(), failures, totalTime));
+        for (Result result : results) {
+            if (result.isSuccess()) {
+                summary.append(String.format(Locale.ENGLISH, "-- %-7s %7d ms  %s -> %s%n", "ok", result.getTime(),
+                        result.getDefinition(), result.getOutputPath()));
+            } else {
+                summary.append(String.format(Locale.ENGLISH, "-- %-7s %7d ms  %s : %s%n", "failed", result.getTime(),
+                        result.getDefinition(), result.getError()));
+            }
+        }
+        return summary.toString();
+    }
+
+    public void setServiceName(String serviceName) {
+        this.serviceName = serviceName;
+    }
+
+    public void setLicenseHeader(String licenseHeader) {
+        this.licenseHeader = licenseHeader;
+    }
+
+    public void setIncludeTestFiles(boolean includeTestFiles) {
+        this.includeTestFiles = includeTestFiles;
+    }
+
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    public void setDeduplicateInlineTypes(boolean deduplicateInlineTypes) {
+        this.deduplicateInlineTypes = deduplicateInlineTypes;
+    }
+
+    public void setDefinitionCache(DefinitionCache definitionCache) {
+        this.definitionCache = definitionCache;
+    }
+
+    public void setReferenceResolver(ExternalReferenceResolver referenceResolver) {
+        this.referenceResolver = referenceResolver;
+    }
+
+    public void setShardClientByTag(boolean shardClientByTag) {
+        this.shardClientByTag = shardClientByTag;
+    }
+
+    public void setMaxClientOperations(int maxClientOperations) {
+        this.maxClientOperations = maxClientOperations;
+    }
+
+    public void setSpecializeParameters(boolean specializeParameters) {
+        this.specializeParameters = specializeParameters;
+    }
+
+    public void setStreamArrayResponses(boolean streamArrayResponses) {
+        this.streamArrayResponses = streamArrayResponses;
+    }
+
+    /**
+     * Generation result of a single OpenAPI definition of a batch.
+     */
+    public static class Result {
+        private final Path definition;
+        private final Path outputPath;
+        private final long time;
+        private final String error;
+
+        Result(Path definition, Path outputPath, long time, String error) {
+            this.definition = definition;
+            this.outputPath = outputPath;
+            this.time = time;
+            this.error = error;
+        }
+
+        public Path getDefinition() {
+            return definition;
+        }
+
+        public Path getOutputPath() {
+            return outputPath;
+        }
+
+        /**
+         * Time taken to generate the sources in milliseconds.
+         */
+        public long getTime() {
+            return time;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+}
@@ -25,47 +25,30 @@ import com.github.jknack.handlebars.context.MapValueResolver;
 import com.github.jknack.handlebars.helper.StringHelpers;
 import com.github.jknack.handlebars.io.ClassPathTemplateLoader;
 import com.github.jknack.handlebars.io.FileTemplateLoader;
-import io.ballerina.compiler.api.SemanticModel;
-import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.SymbolKind;
-import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
-import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
-import io.ballerina.compiler.syntax.tree.ModulePartNode;
-import io.ballerina.compiler.syntax.tree.NodeList;
-import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.cmd.model.GenSrcFile;
 import io.ballerina.openapi.converter.utils.CodegenUtils;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.ExternalReferenceResolver;
 import io.ballerina.openapi.generators.GeneratorConstants;
 import io.ballerina.openapi.generators.GeneratorUtils;
+import io.ballerina.openapi.generators.OpenAPIIndex;
 import io.ballerina.openapi.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.generators.client.BallerinaTestGenerator;
-import io.ballerina.openapi.generators.client.BallerinaUtilGenerator;
+import io.ballerina.openapi.generators.client.ClientShardPlanner;
 import io.ballerina.openapi.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.generators.schema.TypeDefinitionRegistry;
 import io.ballerina.openapi.generators.service.BallerinaServiceGenerator;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Module;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.ProjectException;
-import io.ballerina.projects.ProjectKind;
-import io.ballerina.projects.directory.ProjectLoader;
-import io.ballerina.tools.diagnostics.Location;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.Schema;
-import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
-import org.apache.commons.io.FileUtils;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.PrintStream;
 import java.io.PrintWriter;
@@ -73,45 +56,44 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import static io.ballerina.openapi.generators.GeneratorConstants.BALLERINA_TOML;
-import static io.ballerina.openapi.generators.GeneratorConstants.BALLERINA_TOML_CONTENT;
 import static io.ballerina.openapi.generators.GeneratorConstants.CLIENT_FILE_NAME;
 import static io.ballerina.openapi.generators.GeneratorConstants.CONFIG_FILE_NAME;
 import static io.ballerina.openapi.generators.GeneratorConstants.DEFAULT_CLIENT_PKG;
 import static io.ballerina.openapi.generators.GeneratorConstants.DEFAULT_MOCK_PKG;
 import static io.ballerina.openapi.generators.GeneratorConstants.DELETE;
 import static io.ballerina.openapi.generators.GeneratorConstants.DOUBLE_LINE_SEPARATOR;
-import static io.ballerina.openapi.generators.GeneratorConstants.ESCAPE_PATTERN;
 import static io.ballerina.openapi.generators.GeneratorConstants.GET;
 import static io.ballerina.openapi.generators.GeneratorConstants.GenType.GEN_CLIENT;
 import static io.ballerina.openapi.generators.GeneratorConstants.GenType.GEN_SERVICE;
 import static io.ballerina.openapi.generators.GeneratorConstants.HEAD;
-import static io.ballerina.openapi.generators.GeneratorConstants.IDENTIFIER;
 import static io.ballerina.openapi.generators.GeneratorConstants.LINE_SEPARATOR;
+import static io.ballerina.openapi.generators.GeneratorConstants.MODULES_DIR;
 import static io.ballerina.openapi.generators.GeneratorConstants.OAS_PATH_SEPARATOR;
 import static io.ballerina.openapi.generators.GeneratorConstants.TEMPLATES_DIR_PATH_KEY;
 import static io.ballerina.openapi.generators.GeneratorConstants.TEMPLATES_SUFFIX;
 import static io.ballerina.openapi.generators.GeneratorConstants.TEST_DIR;
 import static io.ballerina.openapi.generators.GeneratorConstants.TEST_FILE_NAME;
 import static io.ballerina.openapi.generators.GeneratorConstants.TYPE_FILE_NAME;
-import static io.ballerina.openapi.generators.GeneratorConstants.TYPE_NAME;
-import static io.ballerina.openapi.generators.GeneratorConstants.UNTITLED_SERVICE;
 import static io.ballerina.openapi.generators.GeneratorConstants.UTIL_FILE_NAME;
 import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
-import static io.ballerina.openapi.generators.GeneratorUtils.setGeneratedFileName;
 
 /**
  * This class generates Ballerina Services/Clients for a provided OAS definition.
@@ -120,9 +102,18 @@ public class CodeGenerator {
     private String srcPackage;
     private String licenseHeader = "";
     private boolean includeTestFiles;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private boolean interactive = true;
+    private boolean incremental;
+    private boolean deduplicateInlineTypes;
+    private DefinitionCache definitionCache;
+    private ExternalReferenceResolver referenceResolver = new ExternalReferenceResolver();
+    private boolean shardClientByTag;
+    private int maxClientOperations;
+    private boolean specializeParameters;
+    private boolean streamArrayResponses;
 
     private static final PrintStream outStream = System.err;
-    private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
 
     /**
      * Generates ballerina source for provided Open API Definition in {@code definitionPath}.
@@ -147,8 +138,20 @@ public class CodeGenerator {
 
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
-        List<GenSrcFile> genFiles = generateBalSource(type, definitionPath, serviceName, filter, nullable);
-        writeGeneratedSources(genFiles, srcPath, implPath, type);
+        OpenAPI openAPIDef = parseOpenAPIDefinition(definitionPath, type.equals(GEN_CLIENT));
+        String inputHash = null;
+        if (incremental) {
+            inputHash = getInputHash(openAPIDef, type, serviceName, filter, nullable);
+            if (isUpToDate(srcPath, inputHash)) {
+                return;
+            }
+        }
+        String hash = inputHash;
+        runWithGenerationPool(executor -> {
+            List<GenSrcFile> genFiles = generateBalSource(type, openAPIDef, serviceName, filter, nullable, executor);
+            writeGeneratedSources(genFiles, srcPath, implPath, type, hash, executor);
+            return null;
+        });
     }
 
     public void generateBothFiles(GeneratorConstants.GenType type, String definitionPath, String serviceName,
@@ -156,14 +159,26 @@ public class CodeGenerator {
             throws IOException, BallerinaOpenApiException, FormatterException {
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
-        List<GenSrcFile> genSrcFiles = generateBalSource(GEN_SERVICE, definitionPath, serviceName, filter, nullable)
-                .stream().filter(genSrcFile -> !genSrcFile.getFileName().equals(TYPE_FILE_NAME))
-                        .collect(Collectors.toList());
-        genSrcFiles.addAll(generateBalSource(GEN_CLIENT, definitionPath, serviceName, filter,
-                nullable));
-        List<GenSrcFile> newGenFiles = genSrcFiles.stream().filter(distinctByKey(
-                GenSrcFile::getFileName)).collect(Collectors.toList());
-        writeGeneratedSources(newGenFiles, srcPath, implPath, type);
+        // Client normalization validates that every operation has an operationId, hence the same normalized
+        // definition can be shared by both the service and the client generation.
+        OpenAPI openAPIDef = parseOpenAPIDefinition(definitionPath, true);
+        String inputHash = null;
+        if (incremental) {
+            inputHash = getInputHash(openAPIDef, type, serviceName, filter, nullable);
+            if (isUpToDate(srcPath, inputHash)) {
+                return;
+            }
+        }
+        String hash = inputHash;
+        runWithGenerationPool(executor -> {
+            List<GenSrcFile> genSrcFiles = new ArrayList<>();
+            genSrcFiles.add(generateServiceFile(openAPIDef, serviceName, filter));
+            genSrcFiles.addAll(generateClientSources(openAPIDef, filter, nullable, executor));
+            List<GenSrcFile> newGenFiles = genSrcFiles.stream().filter(distinctByKey(
+                    GenSrcFile::getFileName)).collect(Collectors.toList());
+            writeGeneratedSources(newGenFiles, srcPath, implPath, type, hash, executor);
+            return null;
+        });
     }
 
     public static <T> Predicate<T> distinctByKey(
@@ -231,28 +246,14 @@ public class CodeGenerator {
                                               String serviceName, Filter filter,
                                               boolean nullable)
             throws IOException, BallerinaOpenApiException, FormatterException {
-        String openAPIFileContent = Files.readString(Paths.get(definitionPath));
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent);
-        if (parseResult.getMessages().size() > 0) {
-            StringBuilder errorMessage = new StringBuilder("OpenAPI definition has errors: \n\n");
-            for (String message : parseResult.getMessages()) {
-                errorMessage.append(message + "\n");
-            }
-            throw new BallerinaOpenApiException(errorMessage.toString());
-        }
-        OpenAPI api = parseResult.getOpenAPI();
-
-        if (api.getInfo() == null) {
-            throw new BallerinaOpenApiException("Info section of the definition file cannot be empty/null: " +
-                    definitionPath);
-        }
-
-        if (api.getInfo().getTitle().isBlank() && (serviceName == null || serviceName.isBlank())) {
-            api.getInfo().setTitle(UNTITLED_SERVICE);
-        } else {
-            api.getInfo().setTitle(serviceName);
-        }
+        OpenAPI openAPIDef = parseOpenAPIDefinition(definitionPath, type.equals(GEN_CLIENT));
+        return runWithGenerationPool(executor -> generateBalSource(type, openAPIDef, serviceName, filter, nullable,
+                executor));
+    }
 
+    private List<GenSrcFile> generateBalSource(GeneratorConstants.GenType type, OpenAPI openAPIDef,
+                                               String serviceName, Filter filter, boolean nullable, Executor executor)
+            throws IOException, BallerinaOpenApiException, FormatterException {
         List<GenSrcFile> sourceFiles;
 
         switch (type) {
@@ -260,13 +261,10 @@ public class CodeGenerator {
                 // modelPackage is not in use at the moment. All models will be written into same package
                 // as other src files.
                 // Therefore value set to modelPackage is ignored here
-                if (serviceName != null) {
-                    api.getInfo().setTitle(serviceName.replaceAll(ESCAPE_PATTERN, "\\\\$1"));
-                }
-                sourceFiles = generateClient(Paths.get(definitionPath), filter, nullable);
+                sourceFiles = generateClientSources(openAPIDef, filter, nullable, executor);
                 break;
             case GEN_SERVICE:
-                sourceFiles = generateBallerinaService(Paths.get(definitionPath), serviceName, filter, nullable);
+                sourceFiles = generateBallerinaService(openAPIDef, serviceName, filter, nullable, executor);
                 break;
             default:
                 return null;
@@ -275,6 +273,78 @@ public class CodeGenerator {
         return sourceFiles;
     }
 
+    /**
+     * Get the hash of all the inputs of a generation: the normalized OpenAPI definition, the generator options and
+     * the generator version. Generations with the same input hash generate the same sources. The path of the
+     * definition is not an input, so that the same definition given with another path is not generated again.
+     */
+    private String getInputHash(OpenAPI openAPIDef, GeneratorConstants.GenType type, String serviceName,
+                                Filter filter, boolean nullable) throws IOException {
+        String version = CodeGenerator.class.getPackage().getImplementationVersion();
+        StringBuilder inputs = new StringBuilder();
+        inputs.append(LINE_SEPARATOR).append("version=").append(version)
+                .append(LINE_SEPARATOR).append("type=").append(type)
+                .append(LINE_SEPARATOR).append("serviceName=").append(serviceName)
+                .append(LINE_SEPARATOR).append("tags=").append(filter.getTags())
+                .append(LINE_SEPARATOR).append("operations=").append(filter.getOperations())
+                .append(LINE_SEPARATOR).append("nullable=").append(nullable)
+                .append(LINE_SEPARATOR).append("includeTestFiles=").append(includeTestFiles)
+                .append(LINE_SEPARATOR).append("srcPackage=").append(srcPackage)
+                .append(LINE_SEPARATOR).append("licenseHeader=").append(licenseHeader)
+                .append(LINE_SEPARATOR).append("deduplicateInlineTypes=").append(deduplicateInlineTypes)
+                .append(LINE_SEPARATOR).append("shardClientByTag=").append(shardClientByTag)
+                .append(LINE_SEPARATOR).append("maxClientOperations=").append(maxClientOperations)
+                .append(LINE_SEPARATOR).append("specializeParameters=").append(specializeParameters)
+                .append(LINE_SEPARATOR).append("streamArrayResponses=").append(streamArrayResponses);
+        // The definition is hashed as a stream, so that the JSON of a large definition is not kept in memory.
+        return HashUtils.hash(Json.mapper(), openAPIDef, inputs.toString());
+    }
+
+    /**
+     * Check whether the sources in the output directory were generated with the same inputs and were not changed
+     * afterwards.
+     */
+    private boolean isUpToDate(Path srcPath, String inputHash) throws IOException {
+        GenerationManifest manifest = GenerationManifest.read(srcPath);
+        if (manifest == null || !manifest.isUpToDate(inputHash, srcPath)) {
+            return false;
+        }
+        if (interactive) {
+            outStream.println("The OpenAPI contract and the options are not changed. Generated sources at " +
+                    srcPath + " are up to date.");
+        }
+        return true;
+    }
+
+    /**
+     * Parse the given OpenAPI definition once and normalize it for the code generation. The returned definition is
+     * shared by all the generators of a run, hence the generators must treat it as read-only.
+     *
+     * @param definitionPath Input Open Api Definition file path
+     * @param isClient       Whether the definition is normalized for client generation
+     * @return normalized OpenAPI definition
+     * @throws IOException               when the definition file can not be read
+     * @throws BallerinaOpenApiException when the definition has errors
+     */
+    private OpenAPI parseOpenAPIDefinition(String definitionPath, boolean isClient)
+            throws IOException, BallerinaOpenApiException {
+        SwaggerParseResult parseResult = GeneratorUtils.parseOpenAPIFile(Paths.get(definitionPath), definitionCache,
+                referenceResolver);
+        if (!parseResult.getMessages().isEmpty()) {
+            StringBuilder errorMessage = new StringBuilder("OpenAPI definition has errors: \n\n");
+            for (String message : parseResult.getMessages()) {
+                errorMessage.append(message + "\n");
+            }
+            throw new BallerinaOpenApiException(errorMessage.toString());
+        }
+        OpenAPI api = parseResult.getOpenAPI();
+        if (api.getInfo() == null) {
+            throw new BallerinaOpenApiException("Info section of the definition file cannot be empty/null: " +
+                    definitionPath);
+        }
+        return normalizeOpenAPI(api, isClient);
+    }
+
     /**
      * Write ballerina definition of a <code>object</code> to a file as described by <code>template.</code>
      *
@@ -347,70 +417,53 @@ public class CodeGenerator {
     }
 
     private void writeGeneratedSources(List<GenSrcFile> sources, Path srcPath, Path implPath,
-                                       GeneratorConstants.GenType type)
-            throws IOException {
-        //  Remove old generated file with same name
-        List<File> listFiles = new ArrayList<>();
-        if (Files.exists(srcPath)) {
-            File[] files = new File(String.valueOf(srcPath)).listFiles();
-            if (files != null) {
-                listFiles.addAll(Arrays.asList(files));
-                for (File file : files) {
-                    if (file.isDirectory() && file.getName().equals("tests")) {
-                        File[] innerFiles = new File(srcPath + "/tests").listFiles();
-                        if (innerFiles != null) {
-                            listFiles.addAll(Arrays.asList(innerFiles));
-                        }
-                    }
-                }
+                                       GeneratorConstants.GenType type, String inputHash, Executor executor)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        // The manifest of the previous incremental generation, if any. Files recorded in it are owned by the
+        // generator, hence they are overridden without prompting.
+        GenerationManifest previousManifest = inputHash != null ? GenerationManifest.read(srcPath) : null;
+        // The existing files are indexed once, and a conflicting file is renamed using the index.
+        OutputDirectory outputDirectory = new OutputDirectory(srcPath);
+        for (GenSrcFile gFile : sources) {
+            if (!outputDirectory.containsFile(gFile.getFileName())) {
+                continue;
             }
-        }
-
-        for (File file : listFiles) {
-            for (GenSrcFile gFile : sources) {
-                if (file.getName().equals(gFile.getFileName())) {
-                    if (System.console() != null) {
-                        String userInput = System.console().readLine("There is already a/an " + file.getName() +
-                                " in the location. Do you want to override the file? [y/N] ");
-                        if (!Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
-                            int duplicateCount = 0;
-                            setGeneratedFileName(listFiles, gFile, duplicateCount);
-                        }
-                    }
+            if (previousManifest != null && previousManifest.containsFile(getRelativeFilePath(gFile))) {
+                continue;
+            }
+            if (interactive && System.console() != null) {
+                String userInput = System.console().readLine("There is already a/an " + gFile.getFileName() +
+                        " in the location. Do you want to override the file? [y/N] ");
+                if (!Objects.equals(userInput.toLowerCase(Locale.ENGLISH), "y")) {
+                    gFile.setFileName(outputDirectory.getDuplicateFileName(gFile.getFileName()));
                 }
             }
         }
 
+        // The files are independent of each other, hence they are written concurrently.
+        List<CompletableFuture<WrittenFile>> writtenFiles = new ArrayList<>();
+        Map<String, String> fileHashes = new LinkedHashMap<>();
+        List<String> unchangedFiles = new ArrayList<>();
         for (GenSrcFile file : sources) {
-            Path filePath;
-
-            // We only overwrite files of overwritable type.
-            // So non overwritable files will be written to disk only once.
-            if (!file.getType().isOverwritable()) {
-                filePath = implPath.resolve(file.getFileName());
-                if (Files.notExists(filePath)) {
-                    String fileContent = file.getFileName().endsWith(".bal") ?
-                            (licenseHeader + file.getContent()) : file.getContent();
-                    CodegenUtils.writeFile(filePath, fileContent);
-                }
-            } else {
-                boolean isDuplicatedFileInTests = file.getFileName().matches("test.+[0-9]+.bal") ||
-                        file.getFileName().matches("Config.+[0-9]+.toml");
-                if (file.getFileName().equals(TEST_FILE_NAME) || file.getFileName().equals(CONFIG_FILE_NAME) ||
-                        isDuplicatedFileInTests) {
-                    // Create test directory if not exists in the path. If exists do not throw an error
-                    Files.createDirectories(Paths.get(srcPath + OAS_PATH_SEPARATOR + TEST_DIR));
-                    filePath = Paths.get(srcPath.resolve(TEST_DIR + OAS_PATH_SEPARATOR +
-                            file.getFileName()).toFile().getCanonicalPath());
-                } else {
-                    filePath = Paths.get(srcPath.resolve(file.getFileName()).toFile().getCanonicalPath());
-                }
-                String fileContent = file.getFileName().endsWith(".bal") ?
-                        (licenseHeader + file.getContent()) : file.getContent();
-                CodegenUtils.writeFile(filePath, fileContent);
+            writtenFiles.add(runAsync(() -> writeSourceFile(file, srcPath, implPath, inputHash), executor));
+        }
+        for (CompletableFuture<WrittenFile> writtenFile : writtenFiles) {
+            WrittenFile file = join(writtenFile);
+            if (file == null) {
+                continue;
             }
+            if (file.unchanged) {
+                unchangedFiles.add(file.fileName);
+            }
+            fileHashes.put(file.relativeFilePath, file.contentHash);
+        }
+        if (inputHash != null) {
+            new GenerationManifest(inputHash, fileHashes).write(srcPath);
         }
 
+        if (!interactive) {
+            return;
+        }
         //This will print the generated files to the console
         if (type.equals(GEN_SERVICE)) {
             outStream.println("Service generated successfully and the OpenAPI contract is copied to path " + srcPath
@@ -421,194 +474,302 @@ public class CodeGenerator {
         outStream.println("Following files were created.");
         Iterator<GenSrcFile> iterator = sources.iterator();
         while (iterator.hasNext()) {
-            outStream.println("-- " + iterator.next().getFileName());
+            String fileName = iterator.next().getFileName();
+            outStream.println("-- " + fileName + (unchangedFiles.contains(fileName) ? " (unchanged)" : ""));
         }
     }
 
+    /**
+     * Write a generated source file. The files which are not overwritable are written only once, and in an
+     * incremental generation, the files with the same content are not written again, so that the builds depending
+     * on them are not invalidated.
+     *
+     * @return the written file with its content hash in an incremental generation, otherwise null
+     */
+    private WrittenFile writeSourceFile(GenSrcFile file, Path srcPath, Path implPath, String inputHash)
+            throws IOException {
+        String fileContent = file.getFileName().endsWith(".bal") ?
+                (licenseHeader + file.getContent()) : file.getContent();
+        if (!file.getType().isOverwritable()) {
+            Path filePath = implPath.resolve(file.getFileName());
+            if (Files.notExists(filePath)) {
+                OutputDirectory.writeFile(filePath, fileContent);
+            }
+            return null;
+        }
+        String relativeFilePath = getRelativeFilePath(file);
+        Path filePath = Paths.get(srcPath.resolve(relativeFilePath).toFile().getCanonicalPath());
+        // Create the tests directory or the module directory of a client shard, if it does not exist.
+        Files.createDirectories(filePath.getParent());
+        if (inputHash == null) {
+            OutputDirectory.writeFile(filePath, fileContent);
+            return null;
+        }
+        String contentHash = HashUtils.hash(fileContent);
+        boolean unchanged = Files.isRegularFile(filePath) &&
+                contentHash.equals(HashUtils.hash(Files.readAllBytes(filePath)));
+        if (!unchanged) {
+            OutputDirectory.writeFile(filePath, fileContent);
+        }
+        return new WrittenFile(file.getFileName(), relativeFilePath, contentHash, unchanged);
+    }
+
+    /**
+     * A source file written in an incremental generation.
+     */
+    private static class WrittenFile {
+        private final String fileName;
+        private final String relativeFilePath;
+        private final String contentHash;
+        private final boolean unchanged;
+
+        WrittenFile(String fileName, String relativeFilePath, String contentHash, boolean unchanged) {
+            this.fileName = fileName;
+            this.relativeFilePath = relativeFilePath;
+            this.contentHash = contentHash;
+            this.unchanged = unchanged;
+        }
+    }
+
+    private static boolean isTestFile(GenSrcFile file) {
+        boolean isDuplicatedFileInTests = file.getFileName().matches("test.+[0-9]+.bal") ||
+                file.getFileName().matches("Config.+[0-9]+.toml");
+        return file.getFileName().equals(TEST_FILE_NAME) || file.getFileName().equals(CONFIG_FILE_NAME) ||
+                isDuplicatedFileInTests;
+    }
+
+    /**
+     * Get the path of a generated file relative to the output directory.
+     */
+    private static String getRelativeFilePath(GenSrcFile file) {
+        return isTestFile(file) ? TEST_DIR + OAS_PATH_SEPARATOR + file.getFileName() : file.getFileName();
+    }
+
+    /**
+     * Generate code for ballerina client. When the client is sharded, the operations of each shard are generated as
+     * a separate client in the `modules/<shard>` directory, with the types, utils and tests of only that shard, so
+     * that the shards are compiled as independent modules.
+     *
+     * @return generated source files as a list of {@link GenSrcFile}
+     * @throws IOException when code generation with specified templates fails
+     */
+    private List<GenSrcFile> generateClientSources(OpenAPI openAPIDef, Filter filter, boolean nullable,
+                                                   Executor executor)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        ClientShardPlanner shardPlanner = new ClientShardPlanner(shardClientByTag, maxClientOperations);
+        if (!shardPlanner.isEnabled()) {
+            return generateClient(openAPIDef, filter, nullable, executor);
+        }
+        List<GenSrcFile> sourceFiles = new ArrayList<>();
+        for (ClientShardPlanner.Shard shard : shardPlanner.getShards(new OpenAPIIndex(openAPIDef), filter)) {
+            Filter shardFilter = new Filter(new ArrayList<>(), new ArrayList<>(shard.getOperationIds()));
+            for (GenSrcFile file : generateClient(openAPIDef, shardFilter, nullable, executor)) {
+                String moduleDirectory = MODULES_DIR + OAS_PATH_SEPARATOR + shard.getName() + OAS_PATH_SEPARATOR;
+                file.setFileName(moduleDirectory + getRelativeFilePath(file));
+                sourceFiles.add(file);
+            }
+        }
+        return sourceFiles;
+    }
+
     /**
      * Generate code for ballerina client.
      *
      * @return generated source files as a list of {@link GenSrcFile}
      * @throws IOException when code generation with specified templates fails
      */
-    private List<GenSrcFile> generateClient(Path openAPI, Filter filter, boolean nullable)
+    private List<GenSrcFile> generateClient(OpenAPI openAPIDef, Filter filter, boolean nullable, Executor executor)
             throws IOException, BallerinaOpenApiException, FormatterException {
         if (srcPackage == null || srcPackage.isEmpty()) {
             srcPackage = DEFAULT_CLIENT_PKG;
         }
         List<GenSrcFile> sourceFiles = new ArrayList<>();
-        // Normalize OpenAPI definition
-        OpenAPI openAPIDef = normalizeOpenAPI(openAPI, true);
         // Generate ballerina service and resources.
         BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(openAPIDef, filter, nullable);
-        String mainContent = Formatter.format(ballerinaClientGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME, mainContent));
-        String utilContent = Formatter.format(
-                ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString();
-        if (!utilContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, UTIL_FILE_NAME, utilContent));
+        ballerinaClientGenerator.setSpecializeParameters(specializeParameters);
+        ballerinaClientGenerator.setStreamArrayResponses(streamArrayResponses);
+        TypeDefinitionRegistry typeDefinitionRegistry = ballerinaClientGenerator.getTypeDefinitionRegistry();
+        typeDefinitionRegistry.setDeduplicateInlineTypes(deduplicateInlineTypes);
+        SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        if (interactive && typeDefinitionRegistry.getDeduplicatedTypeCount() > 0) {
+            outStream.printf(Locale.ENGLISH, "Deduplicated %d inline type(s) of the same shape, saving %d bytes of " +
+                            "generated types.%n", typeDefinitionRegistry.getDeduplicatedTypeCount(),
+                    typeDefinitionRegistry.getDeduplicatedBytes());
         }
 
+        // The util, types and test sources only read the state collected while generating the client, hence they
+        // are generated and formatted as independent tasks.
+        CompletableFuture<String> mainContent = runAsync(() -> Formatter.format(clientSyntaxTree).toString(),
+                executor);
+        CompletableFuture<String> utilContent = runAsync(() -> Formatter.format(
+                ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()).toString(),
+                executor);
         // Generate ballerina records to represent schemas.
-        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPIDef, nullable);
-        ballerinaSchemaGenerator.setTypeDefinitionNodeList(ballerinaClientGenerator.getTypeDefinitionNodeList());
-        SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toString();
-        if (filter.getTags().size() > 0) {
-            // Remove unused records and enums when generating the client by the tags given.
-            schemaContent = modifySchemaContent(schemaSyntaxTree, mainContent, schemaContent);
-        }
-        if (!schemaContent.isBlank()) {
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
-                    schemaContent));
-        }
-
+        // Records and enums which are not used by the filtered operations are not generated.
+        CompletableFuture<String> schemaContent = runAsync(() -> {
+            BallerinaTypesGenerator ballerinaSchemaGenerator =
+                    new BallerinaTypesGenerator(ballerinaClientGenerator.getOpenAPIIndex(), nullable, filter);
+            ballerinaSchemaGenerator.setTypeDefinitionRegistry(typeDefinitionRegistry);
+            return Formatter.format(ballerinaSchemaGenerator.generateSyntaxTree()).toString();
+        }, executor);
         // Generate test boilerplate code for test cases
-        if (this.includeTestFiles) {
-            BallerinaTestGenerator ballerinaTestGenerator = new BallerinaTestGenerator(ballerinaClientGenerator);
-            String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toString();
-            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME, testContent));
-
-            String configContent = ballerinaTestGenerator.getConfigTomlFile();
-            if (!configContent.isBlank()) {
-                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
-                        GeneratorConstants.CONFIG_FILE_NAME, configContent));
+        CompletableFuture<List<GenSrcFile>> testFiles = runAsync(() -> {
+            List<GenSrcFile> testSourceFiles = new ArrayList<>();
+            if (this.includeTestFiles) {
+                BallerinaTestGenerator ballerinaTestGenerator =
+                        new BallerinaTestGenerator(ballerinaClientGenerator);
+                String testContent = Formatter.format(ballerinaTestGenerator.generateSyntaxTree()).toString();
+                testSourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TEST_FILE_NAME,
+                        testContent));
+                String configContent = ballerinaTestGenerator.getConfigTomlFile();
+                if (!configContent.isBlank()) {
+                    testSourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
+                            GeneratorConstants.CONFIG_FILE_NAME, configContent));
+                }
             }
+            return testSourceFiles;
+        }, executor);
+
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
+                join(mainContent)));
+        String util = join(utilContent);
+        if (!util.isBlank()) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, UTIL_FILE_NAME, util));
         }
+        String schema = join(schemaContent);
+        if (interactive) {
+            // The conflicts are reported once the types of the component schemas are also registered.
+            for (String typeName : typeDefinitionRegistry.getConflictingTypeNames()) {
+                outStream.println("WARNING: Different types are generated with the name '" + typeName +
+                        "'. Only the first type is used for the name.");
+            }
+        }
+        if (!schema.isBlank()) {
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.MODEL_SRC, srcPackage, TYPE_FILE_NAME,
+                    schema));
+        }
+        sourceFiles.addAll(join(testFiles));
+        return sourceFiles;
+    }
+
+    private List<GenSrcFile> generateBallerinaService(OpenAPI openAPIDef, String serviceName,
+                                                      Filter filter, boolean nullable, Executor executor)
+            throws IOException, FormatterException, BallerinaOpenApiException {
 
+        if (srcPackage == null || srcPackage.isEmpty()) {
+            srcPackage = DEFAULT_MOCK_PKG;
+        }
+        List<GenSrcFile> sourceFiles = new ArrayList<>();
+        CompletableFuture<GenSrcFile> serviceFile = runAsync(() -> generateServiceFile(openAPIDef, serviceName,
+                filter), executor);
+        CompletableFuture<String> schemaContent = runAsync(() -> {
+            BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPIDef, nullable);
+            return Formatter.format(ballerinaSchemaGenerator.generateSyntaxTree()).toString();
+        }, executor);
+        sourceFiles.add(join(serviceFile));
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TYPE_FILE_NAME,
+                join(schemaContent)));
         return sourceFiles;
     }
 
-    private String modifySchemaContent(SyntaxTree schemaSyntaxTree, String clientContent, String schemaContent)
-            throws IOException, FormatterException {
-        Map<String, String> tempSourceFiles = new HashMap<>();
-        tempSourceFiles.put(CLIENT_FILE_NAME, clientContent);
-        tempSourceFiles.put(TYPE_FILE_NAME, schemaContent);
-        List<String> unusedTypeDefinitionNameList = getUnusedTypeDefinitionNameList(tempSourceFiles);
-        while (unusedTypeDefinitionNameList.size() > 0) {
-            ModulePartNode modulePartNode = schemaSyntaxTree.rootNode();
-            NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-            List<ModuleMemberDeclarationNode> unusedTypeDefinitionNodeList = new ArrayList<>();
-            for (ModuleMemberDeclarationNode node : members) {
-                if (node.kind().equals(SyntaxKind.TYPE_DEFINITION)) {
-                    for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                        if (childNodeEntry.name().equals(TYPE_NAME)) {
-                            if (unusedTypeDefinitionNameList.contains(childNodeEntry.node().get().toString())) {
-                                unusedTypeDefinitionNodeList.add(node);
-                            }
-                        }
-                    }
-                } else if (node.kind().equals(SyntaxKind.ENUM_DECLARATION)) {
-                    for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                        if (childNodeEntry.name().equals(IDENTIFIER)) {
-                            if (unusedTypeDefinitionNameList.contains(childNodeEntry.node().get().toString())) {
-                                unusedTypeDefinitionNodeList.add(node);
-                            }
-                        }
-                    }
-                }
-            }
-            NodeList<ModuleMemberDeclarationNode> modifiedMembers = members.removeAll
-                    (unusedTypeDefinitionNodeList);
-            ModulePartNode modiedModulePartNode = modulePartNode.modify(modulePartNode.imports(),
-                    modifiedMembers, modulePartNode.eofToken());
-            schemaSyntaxTree = schemaSyntaxTree.modifyWith(modiedModulePartNode);
-            schemaContent = Formatter.format(schemaSyntaxTree).toString();
-            tempSourceFiles.put(TYPE_FILE_NAME, schemaContent);
-            unusedTypeDefinitionNameList = getUnusedTypeDefinitionNameList(tempSourceFiles);
-        }
-        return schemaContent;
-    }
-
-    private List<String> getUnusedTypeDefinitionNameList(Map<String, String> srcFiles) throws IOException {
-        List<String> unusedTypeDefinitionNameList = new ArrayList<>();
-        Path tmpDir = Files.createTempDirectory(".openapi-tmp" + System.nanoTime());
-        writeFilesTemp(srcFiles, tmpDir);
-        if (Files.exists(tmpDir.resolve(CLIENT_FILE_NAME)) && Files.exists(tmpDir.resolve(TYPE_FILE_NAME)) &&
-                Files.exists(tmpDir.resolve(BALLERINA_TOML))) {
-            SemanticModel semanticModel = this.getSemanticModel(tmpDir.resolve(CLIENT_FILE_NAME));
-            List<Symbol> symbols = semanticModel.moduleSymbols();
-            for (Symbol symbol : symbols) {
-                if (symbol.kind().equals(SymbolKind.TYPE_DEFINITION) || symbol.kind().equals(SymbolKind.ENUM)) {
-                    List<Location> references = semanticModel.references(symbol);
-                    if (references.size() == 1) {
-                        unusedTypeDefinitionNameList.add(symbol.getName().get());
-                    }
-                }
+    /**
+     * Run a generation with a single pool, which runs the generation stages and the file writes of all the sources
+     * of the generation, including the sources of all the client shards. The pool is shut down when the generation
+     * completes, and the stages run on the caller thread when the generation is configured to run on a single
+     * thread.
+     */
+    private <T> T runWithGenerationPool(PooledGeneration<T> generation)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        ForkJoinPool generationPool = createGenerationPool();
+        try {
+            return generation.run(generationPool == null ? Runnable::run : generationPool);
+        } finally {
+            if (generationPool != null) {
+                generationPool.shutdown();
             }
         }
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-            try {
-                FileUtils.deleteDirectory(tmpDir.toFile());
-            } catch (IOException ex) {
-                LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
-            }
-        }));
-        return unusedTypeDefinitionNameList;
     }
 
-    private void writeFilesTemp(Map<String, String> srcFiles, Path tmpDir) throws IOException {
-        srcFiles.put(BALLERINA_TOML, BALLERINA_TOML_CONTENT);
-        PrintWriter writer = null;
-        for (Map.Entry<String, String> entry : srcFiles.entrySet()) {
-            String key = entry.getKey();
-            Path filePath = tmpDir.resolve(key);
+    /**
+     * Create the bounded pool which runs the generation stages of a single generation. No pool is created when the
+     * generation is configured to run on a single thread.
+     */
+    private ForkJoinPool createGenerationPool() {
+        if (threads <= 1) {
+            return null;
+        }
+        // Worker threads use the class loader of the caller, so that the formatter and the compiler APIs are
+        // resolved in the same way as in a sequential generation.
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        return new ForkJoinPool(threads, pool -> {
+            ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            worker.setContextClassLoader(classLoader);
+            return worker;
+        }, null, false);
+    }
+
+    private static <T> CompletableFuture<T> runAsync(GenerationTask<T> task, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
             try {
-                writer = new PrintWriter(filePath.toString(), "UTF-8");
-                writer.print(entry.getValue());
-            } finally {
-                if (writer != null) {
-                    writer.close();
-                }
+                return task.run();
+            } catch (IOException | BallerinaOpenApiException | FormatterException e) {
+                throw new CompletionException(e);
             }
-        }
+        }, executor);
     }
 
-    private SemanticModel getSemanticModel(Path clientPath) throws ProjectException {
-        // Load project instance for single ballerina file
+    /**
+     * Wait for the given generation stage and rethrow the exception thrown by the stage, if any.
+     */
+    private static <T> T join(CompletableFuture<T> future)
+            throws IOException, BallerinaOpenApiException, FormatterException {
         try {
-            Project project = ProjectLoader.loadProject(clientPath);
-            Package packageName = project.currentPackage();
-            DocumentId docId;
-
-            if (project.kind().equals(ProjectKind.BUILD_PROJECT)) {
-                docId = project.documentId(clientPath);
-            } else {
-                // Take module instance for traversing the syntax tree
-                Module currentModule = packageName.getDefaultModule();
-                Iterator<DocumentId> documentIterator = currentModule.documentIds().iterator();
-                docId = documentIterator.next();
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof BallerinaOpenApiException) {
+                throw (BallerinaOpenApiException) cause;
+            } else if (cause instanceof FormatterException) {
+                throw (FormatterException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
             }
-            return project.currentPackage().getCompilation().getSemanticModel(docId.moduleId());
-        } catch (ProjectException e) {
-            throw new ProjectException(e.getMessage());
+            throw e;
         }
     }
 
+    /**
+     * A single stage of the source generation.
+     */
+    @FunctionalInterface
+    private interface GenerationTask<T> {
+        T run() throws IOException, BallerinaOpenApiException, FormatterException;
+    }
+
+    /**
+     * A generation which runs its stages with the executor of the generation pool.
+     */
+    @FunctionalInterface
+    private interface PooledGeneration<T> {
+        T run(Executor executor) throws IOException, BallerinaOpenApiException, FormatterException;
+    }
 
-    private List<GenSrcFile> generateBallerinaService(Path openAPI, String serviceName,
-                                                      Filter filter, boolean nullable)
+    private GenSrcFile generateServiceFile(OpenAPI openAPIDef, String serviceName, Filter filter)
             throws IOException, FormatterException, BallerinaOpenApiException {
 
         if (srcPackage == null || srcPackage.isEmpty()) {
             srcPackage = DEFAULT_MOCK_PKG;
         }
-
-        List<GenSrcFile> sourceFiles = new ArrayList<>();
         String concatTitle = serviceName.toLowerCase(Locale.ENGLISH);
         String srcFile = concatTitle + "_service.bal";
-        OpenAPI openAPIDef = normalizeOpenAPI(openAPI, false);
         BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(openAPIDef, filter);
         String mainContent = Formatter.format
                 (ballerinaServiceGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, mainContent));
-
-        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPIDef, nullable);
-        String schemaContent = Formatter.format(
-                ballerinaSchemaGenerator.generateSyntaxTree()).toString();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TYPE_FILE_NAME, schemaContent));
-
-        return sourceFiles;
+        return new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile, mainContent);
     }
 
     /**
@@ -621,6 +782,18 @@ public class CodeGenerator {
      */
     public OpenAPI normalizeOpenAPI(Path openAPIPath, boolean isClient) throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(openAPIPath);
+        return normalizeOpenAPI(openAPI, isClient);
+    }
+
+    /**
+     * Normalize an already parsed OpenAPI specification with adding proper naming to schema.
+     *
+     * @param openAPI  - parsed openAPI specification
+     * @param isClient - whether the specification is normalized for client generation
+     * @return - normalized openAPI specification
+     * @throws BallerinaOpenApiException
+     */
+    public OpenAPI normalizeOpenAPI(OpenAPI openAPI, boolean isClient) throws BallerinaOpenApiException {
         io.swagger.v3.oas.models.Paths openAPIPaths = openAPI.getPaths();
         if (isClient) {
             validateOperationIds(openAPIPaths.entrySet());
@@ -721,4 +894,101 @@ public class CodeGenerator {
     public void setIncludeTestFiles(boolean includeTestFiles) {
         this.includeTestFiles = includeTestFiles;
     }
+
+    /**
+     * Set the number of threads used to generate and format the sources of a single generation.
+     *
+     * @param threads value received from command line by "--threads"
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    /**
+     * Set whether to prompt before overriding existing files and to print the generated files to the console.
+     * Batch generations turn this off, since the definitions are generated in parallel.
+     *
+     * @param interactive whether the generation is run interactively
+     */
+    public void setInteractive(boolean interactive) {
+        this.interactive = interactive;
+    }
+
+    /**
+     * Set whether to record the generation in the {@code .openapi-gen.json} manifest of the output directory. An
+     * incremental generation is skipped when the inputs are not changed since the last generation, and files with
+     * unchanged content are not written again.
+     *
+     * @param incremental value received from command line by "--incremental"
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Set whether the inline types of the same shape are generated as a single type in the client types.
+     *
+     * @param deduplicateInlineTypes value received from command line, turned on by "--type-dedup"
+     */
+    public void setDeduplicateInlineTypes(boolean deduplicateInlineTypes) {
+        this.deduplicateInlineTypes = deduplicateInlineTypes;
+    }
+
+    /**
+     * Set the cache of the parsed OpenAPI definitions. The definitions are parsed from the files when no cache is
+     * set.
+     *
+     * @param definitionCache cache enabled from command line by "--cache" or "--cache-dir"
+     */
+    public void setDefinitionCache(DefinitionCache definitionCache) {
+        this.definitionCache = definitionCache;
+    }
+
+    /**
+     * Set the resolver of the external documents referred by the OpenAPI definitions.
+     *
+     * @param referenceResolver resolver configured from command line by "--offline" and "--ref-mirror"
+     */
+    public void setReferenceResolver(ExternalReferenceResolver referenceResolver) {
+        this.referenceResolver = referenceResolver;
+    }
+
+    /**
+     * Set whether the client is split into a separate client module for each tag of the operations.
+     *
+     * @param shardClientByTag value received from command line by "--shard-by-tag"
+     */
+    public void setShardClientByTag(boolean shardClientByTag) {
+        this.shardClientByTag = shardClientByTag;
+    }
+
+    /**
+     * Set the maximum number of operations of a client module. The client is not split by the number of operations
+     * when the maximum is 0.
+     *
+     * @param maxClientOperations value received from command line by "--max-client-operations"
+     */
+    public void setMaxClientOperations(int maxClientOperations) {
+        this.maxClientOperations = maxClientOperations;
+    }
+
+    /**
+     * Set whether the query parameters and headers of each client operation are serialized by the statements
+     * generated for the operation, instead of the generic util functions.
+     *
+     * @param specializeParameters value received from command line by "--specialize-params"
+     */
+    public void setSpecializeParameters(boolean specializeParameters) {
+        this.specializeParameters = specializeParameters;
+    }
+
+    /**
+     * Set whether the JSON array responses of the client operations are returned as streams of the array elements,
+     * unless the `x-ballerina-stream` extension of the operation is `false`.
+     *
+     * @param streamArrayResponses value received from command line by "--stream-array-responses"
+     */
+    public void setStreamArrayResponses(boolean streamArrayResponses) {
+        this.streamArrayResponses = streamArrayResponses;
+    }
 }
@@ -0,0 +1,370 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.cmd;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.parser.ObjectMapperFactory;
+
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This class is an on-disk parse cache of OpenAPI definitions, shared by the generations of a machine. An entry keeps
+ * the parsed YAML or JSON of a definition as compressed JSON, keyed by the hash of the definition content, the parser
+ * options and the tool version, so that a definition which is generated again is not parsed from its text. The cache
+ * only skips the parsing, since the entry is deserialized, resolved and flattened in the same way as the definition
+ * file. The least recently used entries are evicted when the cache grows beyond its maximum size.
+ * <p>
+ * The cache is safe to be shared by concurrent generations, since the entries are written atomically and an entry
+ * which can not be read is treated as a miss.
+ *
+ * @since 2.0.0
+ */
+public class DefinitionCache {
+    public static final long DEFAULT_MAX_SIZE = 512L * 1024 * 1024;
+
+    private static final String ENTRY_EXTENSION = ".json.gz";
+    // Changing the format of the entries must change this, so that the entries of an older format are not read.
+    private static final String ENTRY_FORMAT = "1";
+    private static final ObjectMapper JSON_MAPPER = ObjectMapperFactory.createJson();
+
+    private final Path directory;
+    private final long maxSize;
+
+    /**
+     * Create a cache in the given directory, which is created when the first entry is written.
+     *
+     * @param directory cache directory
+     * @param maxSize   maximum total size of the entries in bytes
+     */
+    public DefinitionCache(Path directory, long maxSize) {
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the default cache directory, {@code ~/.ballerina/openapi-cache}.
+     */
+    public static Path getDefaultDirectory() {
+        return Paths.get(System.getProperty("user.home"), ".ballerina", "openapi-cache");
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Get the cache key of the given definition file parsed with the given options. The file content is hashed as a
+     * stream, so that the file is not held in memory.
+     *
+     * @param definitionPath definition file
+     * @param options        parser options which affect the parsed definition
+     * @return cache key
+     * @throws IOException when the file can not be read
+     */
+    public String getKey(Path definitionPath, String options) throws IOException {
+        String version = DefinitionCache.class.getPackage().getImplementationVersion();
+        return HashUtils.hash(definitionPath, String.join(System.lineSeparator(), "", "options=" + options,
+                "version=" + version, "format=" + ENTRY_FORMAT));
+    }
+
+    /**
+     * Open the parsed definition of the given key, and mark the entry as the most recently used entry. The entry is
+     * read from a memory mapped file, so that it is not copied to the heap before it is decompressed. The caller
+     * reads the definition from the returned parser and closes it. When the entry turns out to be invalid while it is
+     * read, the caller removes it with {@link #remove(String)}.
+     *
+     * @param key cache key
+     * @return parser of the parsed definition, or {@code null} when there is no entry for the key
+     */
+    public JsonParser load(String key) {
+        Path entryPath = getEntryPath(key);
+        if (!Files.isRegularFile(entryPath)) {
+            return null;
+        }
+        JsonParser parser;
+        try (FileChannel channel = FileChannel.open(entryPath, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed. It is released when the buffer is collected, and
+            // until then an entry may not be deleted or replaced on Windows, which the eviction and the writer of
+            // the entries tolerate.
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            parser = JSON_MAPPER.createParser(new GZIPInputStream(new ByteBufferInputStream(buffer)));
+        } catch (IOException e) {
+            // An entry which can not be read is removed, and the definition is parsed again.
+            deleteEntry(entryPath);
+            return null;
+        }
+        try {
+            Files.setLastModifiedTime(entryPath, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // The entry is still valid when the cache directory is read only, it is only not marked as used.
+        }
+        return parser;
+    }
+
+    /**
+     * Remove the entry of the given key, which can not be read.
+     *
+     * @param key cache key
+     */
+    public void remove(String key) {
+        deleteEntry(getEntryPath(key));
+    }
+
+    /**
+     * Create an entry with the given key, to which the parsed definition is written while the definition is parsed.
+     * A failure to write the entry only disables the caching of the definition, hence it never fails the parsing.
+     *
+     * @param key cache key
+     * @return writer of the entry, or {@code null} when the entry can not be created
+     */
+    public EntryWriter store(String key) {
+        Path tempPath = null;
+        try {
+            Files.createDirectories(directory);
+            tempPath = Files.createTempFile(directory, key, ".tmp");
+            EntryOutputStream outputStream = new EntryOutputStream(Files.newOutputStream(tempPath));
+            return new EntryWriter(key, tempPath, outputStream,
+                    JSON_MAPPER.createGenerator(new GZIPOutputStream(outputStream)));
+        } catch (IOException e) {
+            // The cache is an optimization, hence the generation continues without the entry.
+            if (tempPath != null) {
+                deleteEntry(tempPath);
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Delete the least recently used entries until the total size of the entries is within the maximum size.
+     */
+    private void evict() throws IOException {
+        List<CacheEntry> entries = new ArrayList<>();
+        long totalSize = 0;
+        try (DirectoryStream<Path> entryPaths = Files.newDirectoryStream(directory, "*" + ENTRY_EXTENSION)) {
+            for (Path entryPath : entryPaths) {
+                try {
+                    CacheEntry entry = new CacheEntry(entryPath, Files.size(entryPath),
+                            Files.getLastModifiedTime(entryPath).toMillis());
+                    entries.add(entry);
+                    totalSize += entry.size;
+                } catch (IOException e) {
+                    // The entry is removed by a concurrent generation.
+                }
+            }
+        }
+        if (totalSize <= maxSize) {
+            return;
+        }
+        entries.sort(Comparator.comparingLong(entry -> entry.lastUsed));
+        for (CacheEntry entry : entries) {
+            if (totalSize <= maxSize) {
+                break;
+            }
+            deleteEntry(entry.path);
+            totalSize -= entry.size;
+        }
+    }
+
+    private Path getEntryPath(String key) {
+        return directory.resolve(key + ENTRY_EXTENSION);
+    }
+
+    private static void deleteEntry(Path entryPath) {
+        try {
+            Files.deleteIfExists(entryPath);
+        } catch (IOException e) {
+            // The entry is in use, and it is evicted later.
+        }
+    }
+
+    /**
+     * A writer of a cache entry. The entry is written to a temporary file, which is moved in place when the entry is
+     * committed, so that a concurrent generation never reads a partially written entry.
+     */
+    public class EntryWriter implements Closeable {
+        private final String key;
+        private final Path tempPath;
+        private final EntryOutputStream outputStream;
+        private final JsonGenerator generator;
+        private boolean committed;
+
+        EntryWriter(String key, Path tempPath, EntryOutputStream outputStream, JsonGenerator generator) {
+            this.key = key;
+            this.tempPath = tempPath;
+            this.outputStream = outputStream;
+            this.generator = generator;
+        }
+
+        /**
+         * Get the generator to which the parsed definition is written.
+         */
+        public JsonGenerator getGenerator() {
+            return generator;
+        }
+
+        /**
+         * Complete the entry, and evict the least recently used entries when the cache grows beyond its maximum
+         * size. The entry is dropped when any part of it could not be written.
+         */
+        public void commit() {
+            try {
+                generator.close();
+                if (outputStream.failed) {
+                    return;
+                }
+                Files.move(tempPath, getEntryPath(key), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                committed = true;
+                evict();
+            } catch (IOException e) {
+                // The cache is an optimization, hence the generation continues without the entry.
+            }
+        }
+
+        @Override
+        public void close() {
+            if (committed) {
+                return;
+            }
+            try {
+                generator.close();
+            } catch (IOException e) {
+                // The incomplete entry is deleted regardless.
+            }
+            deleteEntry(tempPath);
+        }
+    }
+
+    /**
+     * An output stream which ignores the failures of the entry file, so that a full or read-only disk does not fail
+     * the parsing which writes the entry. The entry is dropped when a write has failed.
+     */
+    private static class EntryOutputStream extends FilterOutputStream {
+        private boolean failed;
+
+        EntryOutputStream(OutputStream outputStream) {
+            super(outputStream);
+        }
+
+        @Override
+        public void write(int b) {
+            if (failed) {
+                return;
+            }
+            try {
+                out.write(b);
+            } catch (IOException e) {
+                failed = true;
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            if (failed) {
+                return;
+            }
+            try {
+                out.write(bytes, offset, length);
+            } catch (IOException e) {
+                failed = true;
+            }
+        }
+
+        @Override
+        public void flush() {
+            try {
+                out.flush();
+            } catch (IOException e) {
+                failed = true;
+            }
+        }
+
+        @Override
+        public void close() {
+            try {
+                out.close();
+            } catch (IOException e) {
+                failed = true;
+            }
+        }
+    }
+
+    /**
+     * An input stream which reads the remaining bytes of a buffer.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+    }
+
+    /**
+     * A cache entry with its size and the time it was last used.
+     */
+    private static class CacheEntry {
+        private final Path path;
+        private final long size;
+        private final long lastUsed;
+
+        CacheEntry(Path path, long size, long lastUsed) {
+            this.path = path;
+            this.size = size;
+            this.lastUsed = lastUsed;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.cmd;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class represents the {@code .openapi-gen.json} manifest written to the output directory of an incremental
+ * generation. It records the hash of the generation inputs and the hash of each generated file, so that a later
+ * generation with the same inputs can be skipped and unchanged files are not rewritten.
+ *
+ * @since 2.0.0
+ */
+public class GenerationManifest {
+    public static final String MANIFEST_FILE_NAME = ".openapi-gen.json";
+
+    private static final String INPUT_HASH = "inputHash";
+    private static final String FILES = "files";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String inputHash;
+    private final Map<String, String> fileHashes;
+
+    public GenerationManifest(String inputHash, Map<String, String> fileHashes) {
+        this.inputHash = inputHash;
+        this.fileHashes = Collections.unmodifiableMap(new LinkedHashMap<>(fileHashes));
+    }
+
+    /**
+     * Read the manifest in the given output directory.
+     *
+     * @param outputPath output directory of the generation
+     * @return the manifest, or {@code null} when there is no valid manifest in the directory
+     */
+    public static GenerationManifest read(Path outputPath) {
+        Path manifestPath = outputPath.resolve(MANIFEST_FILE_NAME);
+        if (!Files.isRegularFile(manifestPath)) {
+            return null;
+        }
+        try {
+            JsonNode manifest = OBJECT_MAPPER.readTree(manifestPath.toFile());
+            JsonNode inputHash = manifest.get(INPUT_HASH);
+            JsonNode files = manifest.get(FILES);
+            if (inputHash == null || !inputHash.isTextual() || files == null || !files.isObject()) {
+                return null;
+            }
+            Map<String, String> fileHashes = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = files.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                fileHashes.put(field.getKey(), field.getValue().asText());
+            }
+            return new GenerationManifest(inputHash.asText(), fileHashes);
+        } catch (IOException e) {
+            // A manifest which can not be read is ignored, and all the files are generated again.
+            return null;
+        }
+    }
+
+    /**
+     * Write the manifest to the given output directory.
+     *
+     * @param outputPath output directory of the generation
+     * @throws IOException when the manifest can not be written
+     */
+    public void write(Path outputPath) throws IOException {
+        ObjectNode manifest = OBJECT_MAPPER.createObjectNode();
+        manifest.put(INPUT_HASH, inputHash);
+        ObjectNode files = manifest.putObject(FILES);
+        for (Map.Entry<String, String> fileHash : fileHashes.entrySet()) {
+            files.put(fileHash.getKey(), fileHash.getValue());
+        }
+        OutputDirectory.writeFile(outputPath.resolve(MANIFEST_FILE_NAME),
+                OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValueAsString(manifest) + System.lineSeparator());
+    }
+
+    /**
+     * Check whether the sources in the given output directory were generated with the given inputs and none of the
+     * recorded files were changed or removed afterwards.
+     *
+     * @param currentInputHash hash of the current generation inputs
+     * @param outputPath       output directory of the generation
+     * @return whether the generation can be skipped
+     * @throws IOException when a recorded file can not be read
+     */
+    public boolean isUpToDate(String currentInputHash, Path outputPath) throws IOException {
+        if (!inputHash.equals(currentInputHash) || fileHashes.isEmpty()) {
+            return false;
+        }
+        for (Map.Entry<String, String> fileHash : fileHashes.entrySet()) {
+            Path filePath = outputPath.resolve(fileHash.getKey());
+            if (!Files.isRegularFile(filePath) ||
+                    !fileHash.getValue().equals(HashUtils.hash(Files.readAllBytes(filePath)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public boolean containsFile(String relativePath) {
+        return fileHashes.containsKey(relativePath);
+    }
+
+    public String getInputHash() {
+        return inputHash;
+    }
+
+    public Map<String, String> getFileHashes() {
+        return fileHashes;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.cmd;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * This class contains the SHA-256 hashes used to detect the unchanged inputs and outputs of the generations, which
+ * are given as hexadecimal strings.
+ *
+ * @since 2.0.0
+ */
+public class HashUtils {
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    /**
+     * Get the hexadecimal SHA-256 hash of the given content.
+     */
+    public static String hash(String content) {
+        return hash(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Get the hexadecimal SHA-256 hash of the given bytes.
+     */
+    public static String hash(byte[] content) {
+        return toHexString(getMessageDigest().digest(content));
+    }
+
+    /**
+     * Get the hexadecimal SHA-256 hash of the JSON of the given value followed by the given content. The JSON is
+     * written straight to the digest, so that the JSON of a large value is not kept in memory.
+     *
+     * @param mapper  mapper used to write the JSON of the value
+     * @param value   value to be hashed as JSON
+     * @param content content hashed after the JSON
+     * @return hexadecimal hash
+     * @throws IOException when the value can not be written as JSON
+     */
+    public static String hash(ObjectMapper mapper, Object value, String content) throws IOException {
+        MessageDigest messageDigest = getMessageDigest();
+        try (OutputStream outputStream = new DigestOutputStream(OutputStream.nullOutputStream(), messageDigest)) {
+            mapper.writeValue(outputStream, value);
+        }
+        messageDigest.update(content.getBytes(StandardCharsets.UTF_8));
+        return toHexString(messageDigest.digest());
+    }
+
+    /**
+     * Get the hexadecimal SHA-256 hash of the given file followed by the given content. The file is hashed as a
+     * stream, so that it is not held in memory.
+     *
+     * @param filePath file to be hashed
+     * @param content  content hashed after the file
+     * @return hexadecimal hash
+     * @throws IOException when the file can not be read
+     */
+    public static String hash(Path filePath, String content) throws IOException {
+        MessageDigest messageDigest = getMessageDigest();
+        try (InputStream inputStream = new DigestInputStream(Files.newInputStream(filePath), messageDigest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        messageDigest.update(content.getBytes(StandardCharsets.UTF_8));
+        return toHexString(messageDigest.digest());
+    }
+
+    private static MessageDigest getMessageDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toHexString(byte[] digest) {
+        StringBuilder hexString = new StringBuilder(digest.length * 2);
+        for (byte b : digest) {
+            hexString.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hexString.toString();
+    }
+}
@@ -23,6 +23,7 @@ import io.ballerina.openapi.converter.diagnostic.ExceptionDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.IncompatibleResourceDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.ExternalReferenceResolver;
 import io.ballerina.openapi.generators.GeneratorConstants;
 import io.ballerina.openapi.generators.openapi.OpenApiConverter;
 import org.ballerinalang.formatter.core.FormatterException;
@@ -100,6 +101,54 @@ public class OpenApiCmd implements BLauncherCmd {
     @CommandLine.Option(names = {"--with-tests"}, hidden = true, description = "Generate test files")
     private boolean includeTestFiles;
 
+    @CommandLine.Option(names = {"--threads"}, description = "Number of threads used to generate the source files")
+    private Integer threads;
+
+    @CommandLine.Option(names = {"--batch"}, description = "Generate the source files for all the OpenAPI contracts " +
+            "in the given directory or manifest file")
+    private boolean batch;
+
+    @CommandLine.Option(names = {"--incremental"}, description = "Skip the generation when the OpenAPI contract and " +
+            "the options are not changed, and write only the changed files")
+    private boolean incremental;
+
+    @CommandLine.Option(names = {"--type-dedup"}, description = "Generate a single type for the inline schemas " +
+            "which have the same shape")
+    private boolean typeDedup;
+
+    @CommandLine.Option(names = {"--cache"}, description = "Keep a parse cache of the OpenAPI " +
+            "contracts in ~/.ballerina/openapi-cache, so that the contracts generated again are not parsed from " +
+            "their text again. The references are still resolved and the schemas flattened on every generation")
+    private boolean cache;
+
+    @CommandLine.Option(names = {"--cache-dir"}, description = "Directory of the parse cache of the " +
+            "OpenAPI contracts instead of ~/.ballerina/openapi-cache")
+    private String cacheDir;
+
+    @CommandLine.Option(names = {"--offline"}, description = "Resolve the remote references of the OpenAPI " +
+            "contracts only from the directory given by --ref-mirror, without network access")
+    private boolean offline;
+
+    @CommandLine.Option(names = {"--ref-mirror"}, description = "Directory which keeps a copy of the remote " +
+            "documents referred by the OpenAPI contracts")
+    private String refMirror;
+
+    @CommandLine.Option(names = {"--shard-by-tag"}, description = "Generate a separate client module for each tag " +
+            "of the operations")
+    private boolean shardByTag;
+
+    @CommandLine.Option(names = {"--max-client-operations"}, description = "Maximum number of operations of a " +
+            "generated client module")
+    private Integer maxClientOperations;
+
+    @CommandLine.Option(names = {"--specialize-params"}, description = "Serialize the query parameters and " +
+            "headers of each client operation with generated statements instead of the generic util functions")
+    private boolean specializeParams;
+
+    @CommandLine.Option(names = {"--stream-array-responses"}, description = "Return the JSON array responses of " +
+            "the client operations as streams of the array elements")
+    private boolean streamArrayResponses;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -134,27 +183,29 @@ public class OpenApiCmd implements BLauncherCmd {
                 exitError(this.exitWhenFinish);
                 return;
             }
+            if (threads != null && threads < 1) {
+                outStream.println(OpenApiMesseges.MESSAGE_FOR_INVALID_THREADS);
+                exitError(this.exitWhenFinish);
+                return;
+            }
+            if (maxClientOperations != null && maxClientOperations < 1) {
+                outStream.println(OpenApiMesseges.MESSAGE_FOR_INVALID_MAX_CLIENT_OPERATIONS);
+                exitError(this.exitWhenFinish);
+                return;
+            }
             // If given input is yaml contract, it generates service file and client stub
             // else if given ballerina service file it generates openapi contract file
             // else it generates error message to enter correct input file
             String fileName = argList.get(0);
-            if (fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(JSON_EXTENSION) ||
-                    fileName.endsWith(YML_EXTENSION)) {
-                List<String> tag = new ArrayList<>();
-                List<String> operation = new ArrayList<>();
-                if (tags != null) {
-                    tag.addAll(Arrays.asList(tags.split(",")));
-                }
-                if (operations != null) {
-                    String[] ids = operations.split(",");
-                    List<String> normalizedOperationIds =
-                            Arrays.stream(ids).map(operationId -> getValidName(operationId, false))
-                                    .collect(Collectors.toList());
-                    operation.addAll(normalizedOperationIds);
+            if (batch) {
+                if (!openApiToBallerinaBatch(fileName, getFilter())) {
+                    exitError(this.exitWhenFinish);
+                    return;
                 }
-                Filter filter = new Filter(tag, operation);
+            } else if (fileName.endsWith(YAML_EXTENSION) || fileName.endsWith(JSON_EXTENSION) ||
+                    fileName.endsWith(YML_EXTENSION)) {
                 try {
-                    openApiToBallerina(fileName, filter);
+                    openApiToBallerina(fileName, getFilter());
                 } catch (IOException e) {
                     outStream.println(e.getLocalizedMessage());
                     exitError(this.exitWhenFinish);
@@ -177,6 +228,93 @@ public class OpenApiCmd implements BLauncherCmd {
         }
     }
 
+    /**
+     * This util method creates the filter from the tags and operations given in the command.
+     */
+    private Filter getFilter() {
+        List<String> tag = new ArrayList<>();
+        List<String> operation = new ArrayList<>();
+        if (tags != null) {
+            tag.addAll(Arrays.asList(tags.split(",")));
+        }
+        if (operations != null) {
+            String[] ids = operations.split(",");
+            List<String> normalizedOperationIds =
+                    Arrays.stream(ids).map(operationId -> getValidName(operationId, false))
+                            .collect(Collectors.toList());
+            operation.addAll(normalizedOperationIds);
+        }
+        return new Filter(tag, operation);
+    }
+
+    /**
+     * This util method creates the cache of the parsed contracts, when the cache is enabled in the command.
+     */
+    private DefinitionCache getDefinitionCache() {
+        if (cacheDir != null) {
+            return new DefinitionCache(Paths.get(cacheDir).toAbsolutePath(), DefinitionCache.DEFAULT_MAX_SIZE);
+        } else if (cache) {
+            return new DefinitionCache(DefinitionCache.getDefaultDirectory(), DefinitionCache.DEFAULT_MAX_SIZE);
+        }
+        return null;
+    }
+
+    /**
+     * This util method creates the resolver of the external references, with the mirror of the remote documents
+     * given in the command.
+     */
+    private ExternalReferenceResolver getReferenceResolver() {
+        Path mirrorDirectory = refMirror != null ? Paths.get(refMirror).toAbsolutePath() : null;
+        return new ExternalReferenceResolver(mirrorDirectory, offline);
+    }
+
+    /**
+     * This util method generates the service and client stubs for all the contracts in the given directory or
+     * manifest file, and prints the summary of the generation.
+     *
+     * @param input  directory or manifest file
+     * @return whether the sources of all the contracts were generated
+     */
+    private boolean openApiToBallerinaBatch(String input, Filter filter) {
+        Path inputPath = Paths.get(input).toAbsolutePath().normalize();
+        List<Path> definitions;
+        try {
+            definitions = BatchCodeGenerator.getDefinitions(inputPath);
+        } catch (IOException e) {
+            outStream.println("Unable to read the OpenAPI contracts in " + input + ". " + e.getMessage());
+            return false;
+        }
+        if (definitions.isEmpty()) {
+            outStream.println("No OpenAPI contracts were found in " + input + ".");
+            return false;
+        }
+        GeneratorConstants.GenType type = GeneratorConstants.GenType.GEN_BOTH;
+        if ("service".equals(mode)) {
+            type = GeneratorConstants.GenType.GEN_SERVICE;
+        } else if ("client".equals(mode)) {
+            type = GeneratorConstants.GenType.GEN_CLIENT;
+        }
+        BatchCodeGenerator batchGenerator = new BatchCodeGenerator(type, filter, nullable,
+                threads != null ? threads : Runtime.getRuntime().availableProcessors());
+        batchGenerator.setServiceName(generatedServiceName);
+        batchGenerator.setLicenseHeader(this.setLicenseHeader());
+        batchGenerator.setIncludeTestFiles(this.includeTestFiles);
+        batchGenerator.setIncremental(this.incremental);
+        batchGenerator.setDeduplicateInlineTypes(this.typeDedup);
+        batchGenerator.setDefinitionCache(getDefinitionCache());
+        batchGenerator.setReferenceResolver(getReferenceResolver());
+        batchGenerator.setShardClientByTag(this.shardByTag);
+        batchGenerator.setMaxClientOperations(maxClientOperations != null ? maxClientOperations : 0);
+        batchGenerator.setSpecializeParameters(this.specializeParams);
+        batchGenerator.setStreamArrayResponses(this.streamArrayResponses);
+        getTargetOutputPath();
+        Path baseDirectory = Files.isDirectory(inputPath) ? inputPath : inputPath.getParent();
+        List<BatchCodeGenerator.Result> results = batchGenerator.generate(baseDirectory, definitions,
+                targetOutputPath);
+        outStream.print(BatchCodeGenerator.getSummary(results));
+        return results.stream().allMatch(BatchCodeGenerator.Result::isSuccess);
+    }
+
     /**
      * This util method to generate openApi contract based on the given service ballerina file.
      * @param fileName  input resource file
@@ -229,6 +367,17 @@ public class OpenApiCmd implements BLauncherCmd {
         CodeGenerator generator = new CodeGenerator();
         generator.setLicenseHeader(this.setLicenseHeader());
         generator.setIncludeTestFiles(this.includeTestFiles);
+        generator.setIncremental(this.incremental);
+        generator.setDeduplicateInlineTypes(this.typeDedup);
+        generator.setDefinitionCache(getDefinitionCache());
+        generator.setReferenceResolver(getReferenceResolver());
+        generator.setShardClientByTag(this.shardByTag);
+        generator.setMaxClientOperations(maxClientOperations != null ? maxClientOperations : 0);
+        generator.setSpecializeParameters(this.specializeParams);
+        generator.setStreamArrayResponses(this.streamArrayResponses);
+        if (threads != null) {
+            generator.setThreads(threads);
+        }
         final File openApiFile = new File(fileName);
         String serviceName;
         if (generatedServiceName != null) {
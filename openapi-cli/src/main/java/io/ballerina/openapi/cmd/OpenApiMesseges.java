@@ -27,6 +27,12 @@ public class OpenApiMesseges {
     public static final String MESSAGE_FOR_MISSING_INPUT = "An OpenAPI definition file is required to generate the " +
             "service. \ne.g: bal openapi --input <OpenAPIContract> or <Ballerina file>";
 
+    public static final String MESSAGE_FOR_INVALID_THREADS = "The number of threads given with the --threads option " +
+            "should be a positive integer.";
+
+    public static final String MESSAGE_FOR_INVALID_MAX_CLIENT_OPERATIONS = "The number of operations given with the " +
+            "--max-client-operations option should be a positive integer.";
+
     private OpenApiMesseges() {
         throw new AssertionError();
     }
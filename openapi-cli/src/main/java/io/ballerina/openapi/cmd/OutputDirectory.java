@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.cmd;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static io.ballerina.openapi.generators.GeneratorConstants.MODULES_DIR;
+import static io.ballerina.openapi.generators.GeneratorConstants.OAS_PATH_SEPARATOR;
+import static io.ballerina.openapi.generators.GeneratorConstants.TEST_DIR;
+
+/**
+ * This class is the output directory of a generation. The names of the existing files in the directory and in its
+ * tests directory are indexed once, so that the name conflicts of the generated files are resolved without listing
+ * the directory for each file. The files of the modules of the client shards, and of their tests directories, are
+ * indexed by their paths relative to the output directory, such as {@code modules/pets/client.bal}, which are the
+ * names of the generated shard files. The generated files are written atomically, so that an interrupted generation
+ * never leaves a partially written file.
+ *
+ * @since 2.0.0
+ */
+public class OutputDirectory {
+    private static final String TEMP_FILE_EXTENSION = ".tmp";
+
+    private final Set<String> fileNames = new HashSet<>();
+    // Number of the existing files of each name stem, which is the part of the name before the first `.`.
+    private final Map<String, Integer> stemCounts = new HashMap<>();
+
+    /**
+     * Index the files in the given output directory and in its tests directory.
+     *
+     * @param outputPath output directory of the generation
+     * @throws IOException when the directory can not be read
+     */
+    public OutputDirectory(Path outputPath) throws IOException {
+        this(listFileNames(outputPath));
+    }
+
+    OutputDirectory(Collection<String> existingFileNames) {
+        for (String fileName : existingFileNames) {
+            addFileName(fileName);
+        }
+    }
+
+    /**
+     * Whether a file with the given name exists in the output directory or in its tests directory, or with the given
+     * relative path in a module directory.
+     */
+    public boolean containsFile(String fileName) {
+        return fileNames.contains(fileName);
+    }
+
+    /**
+     * Get a new name for a generated file which conflicts with an existing file, by adding the number of the files
+     * of the same name stem before the extension. For example, {@code client.bal} is generated as
+     * {@code client.1.bal} when {@code client.bal} exists. The number is incremented while a file of the new name
+     * exists, such as when a numbered file was renamed. The new name is added to the index, so that it is not given
+     * to another file.
+     *
+     * @param fileName name of the generated file
+     * @return name which does not conflict with the existing files
+     */
+    public String getDuplicateFileName(String fileName) {
+        String[] nameParts = fileName.split("\\.");
+        int count = stemCounts.getOrDefault(nameParts[0], 0);
+        String duplicateFileName = nameParts[0] + "." + count + "." + nameParts[1];
+        while (containsFile(duplicateFileName)) {
+            count++;
+            duplicateFileName = nameParts[0] + "." + count + "." + nameParts[1];
+        }
+        addFileName(duplicateFileName);
+        return duplicateFileName;
+    }
+
+    /**
+     * Write the given content to the given file atomically. The content is written to a temporary file in the same
+     * directory first, which is then moved in place of the file.
+     *
+     * @param filePath path of the file
+     * @param content  content of the file
+     * @throws IOException when the file can not be written
+     */
+    public static void writeFile(Path filePath, String content) throws IOException {
+        // The temporary file is created with the default permissions of the directory, unlike a file created with
+        // Files.createTempFile, which can only be read by its owner.
+        Path tempPath = filePath.resolveSibling("." + filePath.getFileName() + "." + UUID.randomUUID() +
+                TEMP_FILE_EXTENSION);
+        try {
+            Files.writeString(tempPath, content, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+            try {
+                Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    private void addFileName(String fileName) {
+        if (fileNames.add(fileName) && fileName.contains(".")) {
+            stemCounts.merge(fileName.split("\\.")[0], 1, Integer::sum);
+        }
+    }
+
+    private static List<String> listFileNames(Path outputPath) throws IOException {
+        List<String> fileNames = new ArrayList<>();
+        if (!Files.isDirectory(outputPath)) {
+            return fileNames;
+        }
+        addModuleFileNames(outputPath, "", fileNames);
+        Path modulesPath = outputPath.resolve(MODULES_DIR);
+        if (Files.isDirectory(modulesPath)) {
+            try (DirectoryStream<Path> modulePaths = Files.newDirectoryStream(modulesPath, Files::isDirectory)) {
+                for (Path modulePath : modulePaths) {
+                    addModuleFileNames(modulePath, MODULES_DIR + OAS_PATH_SEPARATOR + modulePath.getFileName() +
+                            OAS_PATH_SEPARATOR, fileNames);
+                }
+            }
+        }
+        return fileNames;
+    }
+
+    /**
+     * Add the names of the files of a module directory and of its tests directory. The tests of the root module are
+     * indexed by their names, and the files of the other modules by their paths with the given prefix.
+     */
+    private static void addModuleFileNames(Path modulePath, String prefix, List<String> fileNames)
+            throws IOException {
+        addFileNames(modulePath, prefix, fileNames);
+        Path testPath = modulePath.resolve(TEST_DIR);
+        if (Files.isDirectory(testPath)) {
+            addFileNames(testPath, prefix.isEmpty() ? "" : prefix + TEST_DIR + OAS_PATH_SEPARATOR, fileNames);
+        }
+    }
+
+    private static void addFileNames(Path directory, String prefix, List<String> fileNames) throws IOException {
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory)) {
+            for (Path path : paths) {
+                fileNames.add(prefix + path.getFileName().toString());
+            }
+        }
+    }
+}
@@ -0,0 +1,471 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.OpenAPIResolver;
+import io.swagger.v3.parser.ResolverCache;
+import io.swagger.v3.parser.models.RefFormat;
+import io.swagger.v3.parser.processors.ComponentsProcessor;
+import io.swagger.v3.parser.processors.OperationProcessor;
+import io.swagger.v3.parser.processors.PathsProcessor;
+import io.swagger.v3.parser.util.DeserializationUtils;
+import io.swagger.v3.parser.util.OpenAPIDeserializer;
+import io.swagger.v3.parser.util.PathUtils;
+import io.swagger.v3.parser.util.RefUtils;
+import io.swagger.v3.parser.util.RemoteUrl;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/**
+ * This class resolves the external {@code $ref} documents of an OpenAPI definition in front of the resolver of the
+ * OpenAPI parser. The documents referred by the definition, and the documents referred by them, are read and parsed
+ * concurrently before the definition is resolved, and each document is parsed once instead of once for each of its
+ * references.
+ * <p>
+ * The parsed local documents are cached in the process by their canonical path and modification time, so that a
+ * document shared by several definitions is parsed once. Only the most recently used local documents are cached. When
+ * a mirror directory is given, the remote documents are saved to it, and in the offline mode the remote documents are
+ * only read from it, so that the definitions are resolved without network access.
+ *
+ * @since 2.0.0
+ */
+public class ExternalReferenceResolver {
+    private static final String REFERENCE = "$ref";
+    private static final String FRAGMENT_SEPARATOR = "#/";
+    private static final int FETCH_THREADS = 8;
+    private static final Pattern COLLAPSED_URL = Pattern.compile("^(https?:)/(?!/)");
+    // The local documents are kept with their parsed trees, hence only the most recently used documents are cached
+    // in a long-lived process.
+    private static final int MAX_LOCAL_DOCUMENTS = 64;
+    private static final Map<String, ExternalDocument> LOCAL_DOCUMENTS = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ExternalDocument> eldest) {
+                    return size() > MAX_LOCAL_DOCUMENTS;
+                }
+            });
+
+    private final Path mirrorDirectory;
+    private final boolean offline;
+    // The remote documents are read once per run, by the first thread which asks for them, while the other threads
+    // wait for the same document.
+    private final Map<String, CompletableFuture<ExternalDocument>> remoteDocuments = new ConcurrentHashMap<>();
+
+    /**
+     * Create a resolver which reads the remote documents from the network.
+     */
+    public ExternalReferenceResolver() {
+        this(null, false);
+    }
+
+    /**
+     * Create a resolver with a mirror of the remote documents.
+     *
+     * @param mirrorDirectory directory which keeps the remote documents by their host and path, or null
+     * @param offline         whether the remote documents are only read from the mirror directory
+     */
+    public ExternalReferenceResolver(Path mirrorDirectory, boolean offline) {
+        this.mirrorDirectory = mirrorDirectory;
+        this.offline = offline;
+    }
+
+    /**
+     * Get the external documents referred by the given definition tree, which are prefetched when the definition is
+     * resolved.
+     *
+     * @param definitionNode parsed definition tree
+     * @return references to the external documents, without their fragments
+     */
+    public static Set<String> getExternalDocuments(JsonNode definitionNode) {
+        Set<String> documents = new LinkedHashSet<>();
+        Deque<JsonNode> nodes = new ArrayDeque<>();
+        nodes.push(definitionNode);
+        while (!nodes.isEmpty()) {
+            JsonNode node = nodes.pop();
+            if (node.isObject()) {
+                JsonNode reference = node.get(REFERENCE);
+                if (reference != null && reference.isTextual()) {
+                    String ref = reference.textValue();
+                    if (RefUtils.computeRefFormat(ref) != RefFormat.INTERNAL) {
+                        int fragmentIndex = ref.indexOf('#');
+                        documents.add(fragmentIndex < 0 ? ref : ref.substring(0, fragmentIndex));
+                    }
+                }
+            }
+            if (node.isContainerNode()) {
+                for (JsonNode child : node) {
+                    nodes.push(child);
+                }
+            }
+        }
+        return documents;
+    }
+
+    /**
+     * Resolve the external references of the given OpenAPI model in the same way as the {@link OpenAPIResolver} of
+     * the OpenAPI parser, after prefetching the given external documents.
+     *
+     * @param openAPI           parsed OpenAPI model
+     * @param location          location of the definition, which the relative references are resolved against
+     * @param externalDocuments references to the external documents of the definition
+     * @return resolved OpenAPI model
+     */
+    public OpenAPI resolve(OpenAPI openAPI, String location, Set<String> externalDocuments) {
+        Path parentDirectory = PathUtils.getParentDirectoryOfFile(location);
+        if (!externalDocuments.isEmpty()) {
+            prefetch(parentDirectory, externalDocuments);
+        }
+        ResolverCache cache = new DocumentResolverCache(openAPI, location, parentDirectory);
+        OpenAPIResolver.Settings settings = new OpenAPIResolver.Settings();
+        new PathsProcessor(cache, openAPI, settings).processPaths();
+        new ComponentsProcessor(openAPI, cache).processComponents();
+        if (openAPI.getPaths() != null) {
+            OperationProcessor operationProcessor = new OperationProcessor(cache, openAPI);
+            for (PathItem pathItem : openAPI.getPaths().values()) {
+                for (Operation operation : pathItem.readOperations()) {
+                    operationProcessor.processOperation(operation);
+                }
+            }
+        }
+        return openAPI;
+    }
+
+    /**
+     * Read and parse the given documents and the documents referred by them on a pool of threads. A document which
+     * can not be read is skipped here, and the error is reported when its reference is resolved.
+     */
+    private void prefetch(Path parentDirectory, Set<String> documents) {
+        Set<String> locations = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(FETCH_THREADS, documents.size()));
+        CompletionService<List<String>> completionService = new ExecutorCompletionService<>(executor);
+        try {
+            int pending = 0;
+            for (String document : documents) {
+                pending += submitFetch(completionService, locations, getLocation(document, parentDirectory));
+            }
+            while (pending > 0) {
+                Future<List<String>> fetch = completionService.take();
+                pending--;
+                for (String nestedLocation : getResult(fetch)) {
+                    pending += submitFetch(completionService, locations, nestedLocation);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int submitFetch(CompletionService<List<String>> completionService, Set<String> locations,
+                            String location) {
+        if (location == null || !locations.add(location)) {
+            return 0;
+        }
+        completionService.submit(() -> {
+            ExternalDocument document = getDocument(location);
+            if (document == null || document.tree == null) {
+                return Collections.emptyList();
+            }
+            // The nested references are relative to the document which has them.
+            List<String> nestedLocations = new ArrayList<>();
+            for (String nestedDocument : getExternalDocuments(document.tree)) {
+                nestedLocations.add(getLocation(nestedDocument, document.location));
+            }
+            return nestedLocations;
+        });
+        return 1;
+    }
+
+    private static List<String> getResult(Future<List<String>> fetch) throws InterruptedException {
+        try {
+            return fetch.get();
+        } catch (ExecutionException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Get the absolute location of the given document reference, which is either a URL or a normalized file path.
+     */
+    private static String getLocation(String document, Object base) {
+        if (RefUtils.computeRefFormat(document) == RefFormat.URL) {
+            // The OpenAPI parser normalizes the nested references of a remote document as paths, which collapses
+            // the `//` after the scheme when the reference has a `..` segment.
+            return COLLAPSED_URL.matcher(document).replaceFirst("$1//");
+        }
+        try {
+            if (base instanceof Path) {
+                return ((Path) base).resolve(document).normalize().toString();
+            } else if (base instanceof String && isUrl((String) base)) {
+                return URI.create((String) base).resolve(document).toString();
+            } else if (base instanceof String) {
+                Path parent = Paths.get((String) base).getParent();
+                return parent == null ? null : parent.resolve(document).normalize().toString();
+            }
+        } catch (IllegalArgumentException e) {
+            // The reference is not a valid path, and it is left to the OpenAPI parser to report.
+        }
+        return null;
+    }
+
+    /**
+     * Get the parsed document at the given location.
+     *
+     * @param location URL or absolute file path of the document
+     * @return parsed document, or null when a local document does not exist
+     * @throws IOException when the document can not be read
+     */
+    ExternalDocument getDocument(String location) throws IOException {
+        if (isUrl(location)) {
+            return getRemoteDocument(location);
+        }
+        Path path = Paths.get(location);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        String canonicalPath = path.toRealPath().toString();
+        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        ExternalDocument document = LOCAL_DOCUMENTS.get(canonicalPath);
+        if (document == null || document.lastModified != lastModified || document.size != attributes.size()) {
+            document = new ExternalDocument(location, Files.readString(path), lastModified, attributes.size());
+            LOCAL_DOCUMENTS.put(canonicalPath, document);
+        }
+        return document;
+    }
+
+    private ExternalDocument getRemoteDocument(String url) throws IOException {
+        CompletableFuture<ExternalDocument> newDocument = new CompletableFuture<>();
+        CompletableFuture<ExternalDocument> document = remoteDocuments.putIfAbsent(url, newDocument);
+        if (document == null) {
+            document = newDocument;
+            try {
+                newDocument.complete(new ExternalDocument(url, readRemoteDocument(url), 0, 0));
+            } catch (IOException | RuntimeException e) {
+                // A document which can not be read is not kept, so that it is read again when its reference is
+                // resolved, and the error is reported.
+                remoteDocuments.remove(url, newDocument);
+                newDocument.completeExceptionally(e);
+            }
+        }
+        try {
+            return document.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw (RuntimeException) e.getCause();
+        }
+    }
+
+    private String readRemoteDocument(String url) throws IOException {
+        Path mirrorPath = getMirrorPath(url);
+        if (mirrorPath != null && Files.isRegularFile(mirrorPath)) {
+            return Files.readString(mirrorPath);
+        }
+        if (offline) {
+            throw new IOException(mirrorDirectory == null ?
+                    "Unable to resolve the reference to " + url + " in the offline mode without a mirror directory" :
+                    "Unable to resolve the reference to " + url + " in the offline mode, since it is not found in " +
+                            "the mirror directory " + mirrorDirectory);
+        }
+        String contents;
+        try {
+            contents = RemoteUrl.urlToString(url, new ArrayList<>());
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("Unable to read " + url + ": " + e.getMessage(), e);
+        }
+        if (mirrorPath != null) {
+            // The document is saved to a temporary file first, so that a concurrent run never reads a partially
+            // written document from the mirror.
+            Files.createDirectories(mirrorPath.getParent());
+            Path tempPath = Files.createTempFile(mirrorPath.getParent(), mirrorPath.getFileName().toString(), ".tmp");
+            Files.writeString(tempPath, contents);
+            Files.move(tempPath, mirrorPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return contents;
+    }
+
+    /**
+     * Get the path of the given URL in the mirror directory, which is the host followed by the path of the URL.
+     */
+    private Path getMirrorPath(String url) {
+        if (mirrorDirectory == null) {
+            return null;
+        }
+        URI uri = URI.create(url);
+        if (uri.getHost() == null) {
+            return null;
+        }
+        String host = uri.getPort() < 0 ? uri.getHost() : uri.getHost() + "_" + uri.getPort();
+        String path = uri.getPath() == null || uri.getPath().isEmpty() ? "/index" : uri.getPath();
+        Path mirrorPath = mirrorDirectory.resolve(host).resolve(path.substring(1)).normalize();
+        // A URL which points outside of its host directory is not mirrored.
+        return mirrorPath.startsWith(mirrorDirectory.resolve(host)) ? mirrorPath : null;
+    }
+
+    private static boolean isUrl(String location) {
+        return location.startsWith("http:") || location.startsWith("https:");
+    }
+
+    private static String unescapePointer(String segment) {
+        try {
+            segment = URLDecoder.decode(segment, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            // UTF-8 is always supported.
+        }
+        return segment.replaceAll("~1", "/").replaceAll("~0", "~");
+    }
+
+    /**
+     * A document referred by a definition, with its parsed tree.
+     */
+    static class ExternalDocument {
+        private final String location;
+        private final JsonNode tree;
+        private final long lastModified;
+        private final long size;
+
+        ExternalDocument(String location, String contents, long lastModified, long size) {
+            this.location = location;
+            this.lastModified = lastModified;
+            this.size = size;
+            JsonNode documentTree;
+            try {
+                documentTree = DeserializationUtils.deserializeIntoTree(contents, location);
+            } catch (RuntimeException e) {
+                // The OpenAPI parser reports the error when the document is resolved.
+                documentTree = null;
+            }
+            this.tree = documentTree;
+        }
+    }
+
+    /**
+     * The resolver cache of the OpenAPI parser, which loads the external references from the parsed documents of the
+     * resolver. The references to the local documents which do not exist are left to the OpenAPI parser, which looks
+     * for them in the other places it supports and reports the error.
+     */
+    private class DocumentResolverCache extends ResolverCache {
+        private final Path parentDirectory;
+        private final Map<String, Object> resolvedReferences = new HashMap<>();
+
+        DocumentResolverCache(OpenAPI openAPI, String location, Path parentDirectory) {
+            super(openAPI, new ArrayList<>(), location);
+            this.parentDirectory = parentDirectory;
+        }
+
+        @Override
+        public <T> T loadRef(String ref, RefFormat refFormat, Class<T> expectedType) {
+            if (refFormat == RefFormat.INTERNAL) {
+                return super.loadRef(ref, refFormat, expectedType);
+            }
+            Object result = resolvedReferences.get(ref);
+            if (result != null) {
+                return expectedType.cast(result);
+            }
+            String[] refParts = ref.split(FRAGMENT_SEPARATOR);
+            ExternalDocument document = getReferredDocument(refParts[0]);
+            if (document == null || document.tree == null || refParts.length > 2) {
+                return super.loadRef(ref, refFormat, expectedType);
+            }
+            if (refParts.length == 1) {
+                result = DeserializationUtils.deserialize(document.tree, refParts[0], expectedType);
+            } else {
+                result = loadFragment(document.tree, refParts[0], refParts[1], expectedType);
+            }
+            resolvedReferences.put(ref, result);
+            return expectedType.cast(result);
+        }
+
+        private ExternalDocument getReferredDocument(String file) {
+            try {
+                String location = getLocation(file, parentDirectory);
+                return location == null ? null : getDocument(location);
+            } catch (IOException e) {
+                if (offline) {
+                    throw new IllegalStateException(e.getMessage(), e);
+                }
+                // The OpenAPI parser reads the document again and reports the error.
+                return null;
+            }
+        }
+
+        private Object loadFragment(JsonNode tree, String file, String definitionPath, Class<?> expectedType) {
+            JsonNode node = tree;
+            for (String segment : definitionPath.split("/")) {
+                node = node.get(unescapePointer(segment));
+                if (node == null) {
+                    throw new IllegalStateException("Could not find " + definitionPath + " in contents of " + file);
+                }
+            }
+            Object result;
+            if (Schema.class.equals(expectedType)) {
+                if (!node.isObject()) {
+                    // The schema deserializer only reads objects, hence a boolean or an array is reported here.
+                    throw new IllegalStateException("Could not read " + definitionPath + " in contents of " + file +
+                            " as a schema, since it is not an object");
+                }
+                result = new OpenAPIDeserializer().getSchema((ObjectNode) node, definitionPath.replace("/", "."),
+                        null);
+            } else {
+                result = DeserializationUtils.deserialize(node, file, expectedType);
+            }
+            updateLocalRefs(file, result);
+            return result;
+        }
+    }
+}
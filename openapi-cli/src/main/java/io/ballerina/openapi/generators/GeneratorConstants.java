@@ -111,6 +111,7 @@ public class GeneratorConstants {
     public static final String PREFIX_TEST = " test";
     public static final String ANNOT_TEST = "test:Config";
     public static final String TEST_DIR = "tests";
+    public static final String MODULES_DIR = "modules";
     public static final String STRING = "string";
     public static final String XML = "xml";
     public static final String BYTE = "byte";
@@ -200,6 +201,9 @@ public class GeneratorConstants {
     public static final String X_BALLERINA_INIT_DESCRIPTION = "x-ballerina-init-description";
     public static final String X_BALLERINA_DISPLAY = "x-ballerina-display";
     public static final String X_BALLERINA_DEPRECATED_REASON = "x-ballerina-deprecated-reason";
+    public static final String X_BALLERINA_HTTP_CLIENT_CONFIG = "x-ballerina-http-client-config";
+    public static final String X_BALLERINA_STREAM = "x-ballerina-stream";
+    public static final String X_BALLERINA_PAGINATION = "x-ballerina-pagination";
 
     //Service related
     public static final String HOST = "host";
@@ -18,6 +18,10 @@
 
 package io.ballerina.openapi.generators;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.BuiltinSimpleNameReferenceNode;
@@ -43,31 +47,34 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.openapi.ErrorMessages;
-import io.ballerina.openapi.cmd.model.GenSrcFile;
+import io.ballerina.openapi.cmd.DefinitionCache;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.Parameter;
 import io.swagger.v3.oas.models.servers.ServerVariable;
 import io.swagger.v3.oas.models.servers.ServerVariables;
-import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.ObjectMapperFactory;
 import io.swagger.v3.parser.core.models.ParseOptions;
 import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import io.swagger.v3.parser.util.InlineModelResolver;
 
-import java.io.File;
+import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import javax.ws.rs.core.MediaType;
 
@@ -93,18 +100,14 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
 import static io.ballerina.openapi.generators.GeneratorConstants.ANY_TYPE;
 import static io.ballerina.openapi.generators.GeneratorConstants.APPLICATION_PDF;
 import static io.ballerina.openapi.generators.GeneratorConstants.BALLERINA;
-import static io.ballerina.openapi.generators.GeneratorConstants.DELETE;
+import static io.ballerina.openapi.generators.GeneratorConstants.DOUBLE;
 import static io.ballerina.openapi.generators.GeneratorConstants.EXPLODE;
-import static io.ballerina.openapi.generators.GeneratorConstants.GET;
-import static io.ballerina.openapi.generators.GeneratorConstants.HEAD;
+import static io.ballerina.openapi.generators.GeneratorConstants.FLOAT;
 import static io.ballerina.openapi.generators.GeneratorConstants.IMAGE_PNG;
 import static io.ballerina.openapi.generators.GeneratorConstants.LINE_SEPARATOR;
-import static io.ballerina.openapi.generators.GeneratorConstants.OPTIONS;
-import static io.ballerina.openapi.generators.GeneratorConstants.PATCH;
-import static io.ballerina.openapi.generators.GeneratorConstants.PUT;
+import static io.ballerina.openapi.generators.GeneratorConstants.NUMBER;
 import static io.ballerina.openapi.generators.GeneratorConstants.SQUARE_BRACKETS;
 import static io.ballerina.openapi.generators.GeneratorConstants.STYLE;
-import static io.ballerina.openapi.generators.GeneratorConstants.TRACE;
 
 /**
  * This class util for store all the common scenarios.
@@ -114,6 +117,11 @@ public class GeneratorUtils {
     public static final MinutiaeList SINGLE_WS_MINUTIAE = getSingleWSMinutiae();
     public static final List<String> BAL_KEYWORDS = SyntaxInfo.keywords();
     public static final MinutiaeList SINGLE_END_OF_LINE_MINUTIAE = getEndOfLineMinutiae();
+    private static final String ROOT_PATH_OPERATION_ID = "root";
+    // Maximum number of leading whitespace characters read to find whether a definition is a JSON document.
+    private static final int DEFINITION_PREFIX_LIMIT = 8192;
+    private static final ObjectMapper JSON_DEFINITION_MAPPER = ObjectMapperFactory.createJson();
+    private static final ObjectMapper YAML_DEFINITION_MAPPER = ObjectMapperFactory.createYaml();
 
     public static ImportDeclarationNode getImportDeclarationNode(String orgName, String moduleName) {
 
@@ -219,6 +227,22 @@ public class GeneratorUtils {
         }
     }
 
+    /**
+     * Get the Ballerina type of a parameter of the given basic type schema. A number with the `float` or `double`
+     * format is a float, as in the query parameters of the client functions.
+     *
+     * @param schema schema of a basic type
+     * @return Ballerina type of the schema
+     * @throws BallerinaOpenApiException when the type of the schema is not supported
+     */
+    public static String getParameterBasicType(Schema<?> schema) throws BallerinaOpenApiException {
+        if (NUMBER.equals(schema.getType()) && (FLOAT.equals(schema.getFormat()) ||
+                DOUBLE.equals(schema.getFormat()))) {
+            return convertOpenAPITypeToBallerina(schema.getFormat());
+        }
+        return convertOpenAPITypeToBallerina(schema.getType().trim());
+    }
+
 
     /**
      * This method will escape special characters used in method names and identifiers.
@@ -227,13 +251,7 @@ public class GeneratorUtils {
      * @return - escaped string
      */
     public static String escapeIdentifier(String identifier) {
-        if (identifier.matches("\\b[0-9]*\\b")) {
-            return "'" + identifier;
-        } else if (!identifier.matches("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b") || BAL_KEYWORDS.contains(identifier)) {
-            identifier = identifier.replaceAll(GeneratorConstants.ESCAPE_PATTERN, "\\\\$1");
-            return "'" + identifier;
-        }
-        return identifier;
+        return IdentifierNormalizer.escapeIdentifier(identifier);
     }
 
     /**
@@ -243,27 +261,7 @@ public class GeneratorUtils {
      * @return string with new generated name
      */
     public static String getValidName(String identifier, boolean isSchema) {
-        //For the flatten enable we need to remove first Part of valid name check
-        // this - > !identifier.matches("\\b[a-zA-Z][a-zA-Z0-9]*\\b") &&
-        if (!identifier.matches("\\b[0-9]*\\b")) {
-            String[] split = identifier.split(GeneratorConstants.ESCAPE_PATTERN);
-            StringBuilder validName = new StringBuilder();
-            for (String part: split) {
-                if (!part.isBlank()) {
-                    if (split.length > 1) {
-                        part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) +
-                                part.substring(1).toLowerCase(Locale.ENGLISH);
-                    }
-                    validName.append(part);
-                }
-            }
-            identifier = validName.toString();
-        }
-        if (isSchema) {
-            return identifier.substring(0, 1).toUpperCase(Locale.ENGLISH) + identifier.substring(1);
-        } else {
-            return escapeIdentifier(identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1));
-        }
+        return IdentifierNormalizer.getValidName(identifier, isSchema);
     }
 
     /**
@@ -273,7 +271,7 @@ public class GeneratorUtils {
      * @return           - boolean value
      */
     public static boolean isValidSchemaName(String recordName) {
-        return !recordName.matches("\\b[0-9]*\\b");
+        return !IdentifierNormalizer.isNumber(recordName);
     }
 
     /**
@@ -286,8 +284,12 @@ public class GeneratorUtils {
      */
     public static String extractReferenceType(String referenceVariable) throws BallerinaOpenApiException {
         if (referenceVariable.startsWith("#") && referenceVariable.contains("/")) {
-            String[] refArray = referenceVariable.split("/");
-            return refArray[refArray.length - 1];
+            // Take the last non-empty segment without splitting the whole reference.
+            int end = referenceVariable.length();
+            while (referenceVariable.charAt(end - 1) == '/') {
+                end--;
+            }
+            return referenceVariable.substring(referenceVariable.lastIndexOf('/', end - 1) + 1, end);
         } else {
             throw new BallerinaOpenApiException("Invalid reference value : " + referenceVariable
                     + "\nBallerina only supports local reference values.");
@@ -304,6 +306,63 @@ public class GeneratorUtils {
     public static OpenAPI getOpenAPIFromOpenAPIV3Parser(Path definitionPath) throws
             IOException, BallerinaOpenApiException {
 
+        SwaggerParseResult parseResult = parseOpenAPIFile(definitionPath);
+        if (!parseResult.getMessages().isEmpty()) {
+            StringBuilder errorMessage = new StringBuilder("OpenAPI file has errors: \n\n");
+            for (String message: parseResult.getMessages()) {
+                errorMessage.append(message);
+            }
+            throw new BallerinaOpenApiException(errorMessage.toString());
+        }
+        return parseResult.getOpenAPI();
+    }
+
+
+    /**
+     * Read and parse the given OpenAPI definition with resolve and flatten enabled. The file is read and parsed
+     * only once, and the caller decides how the parser messages are reported.
+     *
+     * @param definitionPath OpenAPI definition file path
+     * @return parse result including the parsed model and the parser messages
+     * @throws IOException               when the file can not be read
+     * @throws BallerinaOpenApiException when the file does not exist or is not a YAML/JSON file
+     */
+    public static SwaggerParseResult parseOpenAPIFile(Path definitionPath) throws IOException,
+            BallerinaOpenApiException {
+        return parseOpenAPIFile(definitionPath, null);
+    }
+
+    /**
+     * Read and parse the given OpenAPI definition with resolve and flatten enabled. When a cache is given, the
+     * parsed definition is read from the cache instead of parsing the file, and it is stored in the cache when it is
+     * not cached yet. The definition is resolved and flattened in the same way in both cases.
+     *
+     * @param definitionPath OpenAPI definition file path
+     * @param cache          parse cache of the definitions, or null to parse the file
+     * @return parse result including the parsed model and the parser messages
+     * @throws IOException               when the file can not be read
+     * @throws BallerinaOpenApiException when the file does not exist or is not a YAML/JSON file
+     */
+    public static SwaggerParseResult parseOpenAPIFile(Path definitionPath, DefinitionCache cache)
+            throws IOException, BallerinaOpenApiException {
+        return parseOpenAPIFile(definitionPath, cache, new ExternalReferenceResolver());
+    }
+
+    /**
+     * Read and parse the given OpenAPI definition with resolve and flatten enabled, and resolve the external
+     * references of the definition with the given resolver.
+     *
+     * @param definitionPath    OpenAPI definition file path
+     * @param cache             parse cache of the definitions, or null to parse the file
+     * @param referenceResolver resolver of the external documents referred by the definition
+     * @return parse result including the parsed model and the parser messages
+     * @throws IOException               when the file can not be read
+     * @throws BallerinaOpenApiException when the file does not exist or is not a YAML/JSON file
+     */
+    public static SwaggerParseResult parseOpenAPIFile(Path definitionPath, DefinitionCache cache,
+                                                      ExternalReferenceResolver referenceResolver)
+            throws IOException, BallerinaOpenApiException {
+
         Path contractPath = java.nio.file.Paths.get(definitionPath.toString());
         if (!Files.exists(contractPath)) {
             throw new BallerinaOpenApiException(ErrorMessages.invalidFilePath(definitionPath.toString()));
@@ -312,21 +371,99 @@ public class GeneratorUtils {
                 definitionPath.toString().endsWith(".yml"))) {
             throw new BallerinaOpenApiException(ErrorMessages.invalidFileType());
         }
-        String openAPIFileContent = Files.readString(definitionPath);
         ParseOptions parseOptions = new ParseOptions();
         parseOptions.setResolve(true);
         parseOptions.setFlatten(true);
-        SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent, null, parseOptions);
-        if (!parseResult.getMessages().isEmpty()) {
-            StringBuilder errorMessage = new StringBuilder("OpenAPI file has errors: \n\n");
-            for (String message: parseResult.getMessages()) {
-                errorMessage.append(message);
+        // The definition is deserialized from a stream of tokens, one path and one component at a time, so that the
+        // tree of the whole definition is never built.
+        StreamingOpenAPIParser definitionParser = new StreamingOpenAPIParser(parseOptions);
+        SwaggerParseResult parseResult = null;
+        String cacheKey = null;
+        if (cache != null) {
+            cacheKey = cache.getKey(definitionPath, getParseOptionsKey(parseOptions));
+            try (JsonParser cachedParser = cache.load(cacheKey)) {
+                if (cachedParser != null) {
+                    parseResult = definitionParser.parse(cachedParser, null);
+                }
+            } catch (IOException e) {
+                // An entry which can not be read is removed, and the definition is parsed again.
+                cache.remove(cacheKey);
+                definitionParser = new StreamingOpenAPIParser(parseOptions);
             }
-            throw new BallerinaOpenApiException(errorMessage.toString());
         }
-        return parseResult.getOpenAPI();
+        if (parseResult == null) {
+            try (DefinitionCache.EntryWriter entryWriter = cache != null ? cache.store(cacheKey) : null) {
+                parseResult = readDefinition(definitionPath, definitionParser,
+                        entryWriter != null ? entryWriter.getGenerator() : null);
+                if (entryWriter != null) {
+                    entryWriter.commit();
+                }
+            } catch (JsonProcessingException e) {
+                return SwaggerParseResult.ofError(getParseErrorMessage(e.getOriginalMessage(), definitionPath));
+            }
+        }
+        if (parseResult.getOpenAPI() != null) {
+            resolveOpenAPI(parseResult, parseOptions, referenceResolver,
+                    definitionPath.toAbsolutePath().toString(), definitionParser.getExternalDocuments());
+        }
+        return parseResult;
     }
 
+    /**
+     * Parse the given definition file, and write the parsed definition to the given generator. The file is read as
+     * JSON when its content starts with a `{`, and as YAML otherwise, in the same way as the OpenAPI parser selects
+     * the reader of a definition.
+     */
+    private static SwaggerParseResult readDefinition(Path definitionPath, StreamingOpenAPIParser definitionParser,
+                                                     JsonGenerator copyGenerator) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(definitionPath, StandardCharsets.UTF_8)) {
+            reader.mark(DEFINITION_PREFIX_LIMIT);
+            int c = reader.read();
+            int count = 1;
+            while (c != -1 && Character.isWhitespace(c) && count < DEFINITION_PREFIX_LIMIT) {
+                c = reader.read();
+                count++;
+            }
+            reader.reset();
+            ObjectMapper mapper = c == '{' ? JSON_DEFINITION_MAPPER : YAML_DEFINITION_MAPPER;
+            try (JsonParser parser = mapper.createParser(reader)) {
+                return definitionParser.parse(parser, copyGenerator);
+            }
+        }
+    }
+
+    private static String getParseOptionsKey(ParseOptions parseOptions) {
+        return "resolve=" + parseOptions.isResolve() + ",flatten=" + parseOptions.isFlatten();
+    }
+
+    /**
+     * Resolve and flatten the parsed OpenAPI model with the given options, as the OpenAPI parser does after the
+     * model is deserialized. The relative references are resolved against the directory of the definition.
+     */
+    private static void resolveOpenAPI(SwaggerParseResult parseResult, ParseOptions parseOptions,
+                                       ExternalReferenceResolver referenceResolver, String location,
+                                       Set<String> externalDocuments) {
+        try {
+            parseResult.setOpenAPI(referenceResolver.resolve(parseResult.getOpenAPI(), location, externalDocuments));
+            if (parseOptions.isFlatten() && parseResult.getOpenAPI() != null) {
+                InlineModelResolver inlineModelResolver = new InlineModelResolver(
+                        parseOptions.isFlattenComposedSchemas(), parseOptions.isCamelCaseFlattenNaming(),
+                        parseOptions.isSkipMatches());
+                inlineModelResolver.flatten(parseResult.getOpenAPI());
+            }
+        } catch (RuntimeException e) {
+            parseResult.setMessages(Collections.singletonList(e.getMessage()));
+        }
+    }
+
+    private static String getParseErrorMessage(String message, Path definitionPath) {
+        if (message == null) {
+            return String.format("Unable to parse `%s`", definitionPath);
+        } else if (message.startsWith("Duplicate field")) {
+            return String.format("%s in `%s`", message, definitionPath);
+        }
+        return message;
+    }
 
     /**
      * Generate BallerinaMediaType for all the mediaTypes.
@@ -353,144 +490,79 @@ public class GeneratorUtils {
     }
 
     /**
-     * Generate remote function method name , when operation ID is not available for given operation.
+     * Generate remote function method name , when operation ID is not available for given operation. The ID is
+     * synthesized from the HTTP method and the last segment of the path, which is tokenized once per path. When a
+     * synthesized ID is already used by another operation, a number is appended to it, in the order of the paths
+     * and the operations.
      *
      * @param paths - swagger paths object
      * @return {@link io.swagger.v3.oas.models.Paths }
      */
     public static Paths setOperationId(Paths paths) {
-        Set<Map.Entry<String, PathItem>> entries = paths.entrySet();
-        for (Map.Entry<String, PathItem> entry: entries) {
-            PathItem pathItem = entry.getValue();
+        Set<String> operationIds = new HashSet<>();
+        Map<String, Integer> missingIdCounts = new HashMap<>();
+        for (Map.Entry<String, PathItem> entry : paths.entrySet()) {
             int countMissId = 0;
             for (Operation operation : entry.getValue().readOperations()) {
                 if (operation.getOperationId() == null) {
-                    //simplify here with 1++
-                    countMissId = countMissId + 1;
+                    countMissId++;
                 } else {
                     String operationId = getValidName(operation.getOperationId(), false);
                     operation.setOperationId(operationId);
+                    operationIds.add(operationId);
                 }
             }
-
-            if (pathItem.getGet() != null) {
-                Operation getOp = pathItem.getGet();
-                if (getOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, GET);
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    getOp.setOperationId(operationId);
-                }
-            }
-            if (pathItem.getPut() != null) {
-                Operation putOp = pathItem.getPut();
-                if (putOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, PUT);
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    putOp.setOperationId(operationId);
-                }
-            }
-            if (pathItem.getPost() != null) {
-                Operation postOp = pathItem.getPost();
-                if (postOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, "post");
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    postOp.setOperationId(operationId);
-                }
-            }
-            if (pathItem.getDelete() != null) {
-                Operation deleteOp = pathItem.getDelete();
-                if (deleteOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, DELETE);
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    deleteOp.setOperationId(operationId);
-                }
-            }
-            if (pathItem.getOptions() != null) {
-                Operation optionOp = pathItem.getOptions();
-                if (optionOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, OPTIONS);
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    optionOp.setOperationId(operationId);
-                }
-            }
-            if (pathItem.getHead() != null) {
-                Operation headOp = pathItem.getHead();
-                if (headOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, HEAD);
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    headOp.setOperationId(operationId);
-                }
+            missingIdCounts.put(entry.getKey(), countMissId);
+        }
+        for (Map.Entry<String, PathItem> entry : paths.entrySet()) {
+            int countMissId = missingIdCounts.get(entry.getKey());
+            if (countMissId == 0) {
+                continue;
             }
-            if (pathItem.getPatch() != null) {
-                Operation patchOp = pathItem.getPatch();
-                if (patchOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, PATCH);
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    patchOp.setOperationId(operationId);
+            String pathSuffix = getOperationIdSuffix(entry.getKey().trim());
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation :
+                    entry.getValue().readOperationsMap().entrySet()) {
+                if (operation.getValue().getOperationId() != null) {
+                    continue;
                 }
-            }
-            if (pathItem.getTrace() != null) {
-                Operation traceOp = pathItem.getTrace();
-                if (traceOp.getOperationId() == null) {
-                    String operationId;
-                    String[] split = entry.getKey().trim().split("/");
-                    if (countMissId > 1) {
-                        operationId = getOperationId(split, TRACE);
-                    } else {
-                        operationId = getOperationId(split, " ");
-                    }
-                    traceOp.setOperationId(operationId);
+                // The method is only added to the ID when more than one operation of the path misses an ID.
+                // Otherwise, the ID keeps its legacy leading space, which is ignored when the IDs are compared, as
+                // the generators trim the IDs.
+                String method = countMissId > 1 ? operation.getKey().name().toLowerCase(Locale.ENGLISH) : " ";
+                String operationId = method + pathSuffix;
+                operationId = Character.toLowerCase(operationId.charAt(0)) + operationId.substring(1);
+                String uniqueOperationId = operationId;
+                for (int i = 1; !operationIds.add(uniqueOperationId.trim()); i++) {
+                    uniqueOperationId = operationId + i;
                 }
+                operation.getValue().setOperationId(uniqueOperationId);
             }
         }
         return paths;
     }
 
-    private static String getOperationId(String[] split, String method) {
-        String operationId;
-        String regEx = "\\{([^}]*)\\}";
-        Matcher matcher = Pattern.compile(regEx).matcher(split[split.length - 1]);
-        if (matcher.matches()) {
-            operationId = method + split[split.length - 2] + "By" + matcher.group(1);
-        } else {
-            operationId = method + split[split.length - 1];
+    /**
+     * Get the part of a synthesized operation ID which is derived from the path. It is the last segment of the path,
+     * or {@code <segment>By<parameter>} when the last segment is a path parameter.
+     * -- ex: /pets -> pets, /pets/{petId} -> petsBypetId
+     */
+    private static String getOperationIdSuffix(String path) {
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == '/') {
+            end--;
         }
-        return Character.toLowerCase(operationId.charAt(0)) + operationId.substring(1);
+        if (end == 0) {
+            return ROOT_PATH_OPERATION_ID;
+        }
+        int lastSlash = path.lastIndexOf('/', end - 1);
+        String lastSegment = path.substring(lastSlash + 1, end);
+        int lastIndex = lastSegment.length() - 1;
+        if (lastIndex > 0 && lastSegment.charAt(0) == '{' && lastSegment.indexOf('}') == lastIndex) {
+            String previousSegment = lastSlash < 0 ? "" :
+                    path.substring(path.lastIndexOf('/', lastSlash - 1) + 1, lastSlash);
+            return previousSegment + "By" + lastSegment.substring(1, lastIndex);
+        }
+        return lastSegment;
     }
 
     /*
@@ -547,25 +619,6 @@ public class GeneratorUtils {
         return leading;
     }
 
-    /**
-     * This method for setting the file name for generated file.
-     *
-     * @param listFiles      generated files
-     * @param gFile          GenSrcFile object
-     * @param duplicateCount add the tag with duplicate number if file already exist
-     */
-    public static void setGeneratedFileName(List<File> listFiles, GenSrcFile gFile, int duplicateCount) {
-        for (File listFile : listFiles) {
-            String listFileName = listFile.getName();
-            if (listFileName.contains(".") && ((listFileName.split("\\.")).length >= 2) &&
-                    (listFileName.split("\\.")[0].equals(gFile.getFileName().split("\\.")[0]))) {
-                duplicateCount = 1 + duplicateCount;
-            }
-        }
-        gFile.setFileName(gFile.getFileName().split("\\.")[0] + "." + (duplicateCount) + "." +
-                gFile.getFileName().split("\\.")[1]);
-    }
-
     /**
      * Create each item of the encoding map.
      *
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators;
+
+import io.ballerina.compiler.syntax.tree.SyntaxInfo;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class normalizes the names in the OpenAPI definition to Ballerina identifiers. It scans the names by hand
+ * instead of using the regular expressions of {@link GeneratorConstants#ESCAPE_PATTERN}, and memoizes the normalized
+ * names, since the same names are normalized many times in a generation.
+ * <p>
+ * The normalized names are the same as the ones given by the regular expression based rules.
+ *
+ * @since 2.0.0
+ */
+public final class IdentifierNormalizer {
+    /**
+     * Maximum number of names kept in each memo. The least recently used name is dropped when a memo is full, so that
+     * the memory used by a long-running process does not grow with the number of definitions generated, and the
+     * names used by the generations in progress are kept.
+     */
+    static final int MAX_MEMO_SIZE = 16384;
+
+    private static final Set<String> KEYWORDS = new HashSet<>(SyntaxInfo.keywords());
+    // Characters matched by GeneratorConstants.ESCAPE_PATTERN, including the `\s` whitespace characters.
+    private static final String ESCAPE_CHARACTERS = "[]\\?!<>@#&~`*-=^+();:/_{} \t\n\u000B\f\r|.$";
+    private static final boolean[] IS_ESCAPE_CHARACTER = new boolean[128];
+
+    private static final Map<String, String> ESCAPED_IDENTIFIERS = createMemo();
+    private static final Map<String, String> SCHEMA_NAMES = createMemo();
+    private static final Map<String, String> VARIABLE_NAMES = createMemo();
+
+    static {
+        for (int i = 0; i < ESCAPE_CHARACTERS.length(); i++) {
+            IS_ESCAPE_CHARACTER[ESCAPE_CHARACTERS.charAt(i)] = true;
+        }
+    }
+
+    private IdentifierNormalizer() {
+    }
+
+    /**
+     * Escape the given name to a Ballerina identifier. Names which are numbers, keywords or have characters other
+     * than letters, digits and underscores are quoted, and the special characters in them are escaped.
+     *
+     * @param identifier identifier or method name
+     * @return escaped identifier
+     */
+    public static String escapeIdentifier(String identifier) {
+        String escapedIdentifier = ESCAPED_IDENTIFIERS.get(identifier);
+        if (escapedIdentifier == null) {
+            escapedIdentifier = computeEscapedIdentifier(identifier);
+            ESCAPED_IDENTIFIERS.put(identifier, escapedIdentifier);
+        }
+        return escapedIdentifier;
+    }
+
+    /**
+     * Get a valid Ballerina name for the given name by removing the special characters and joining the remaining
+     * parts in pascal case.
+     *
+     * @param identifier function name, record name or operation id
+     * @param isSchema   whether the name is a type name, which starts with an upper case letter. Other names start
+     *                   with a lower case letter and are escaped.
+     * @return valid name
+     */
+    public static String getValidName(String identifier, boolean isSchema) {
+        Map<String, String> memo = isSchema ? SCHEMA_NAMES : VARIABLE_NAMES;
+        String validName = memo.get(identifier);
+        if (validName == null) {
+            validName = computeValidName(identifier, isSchema);
+            memo.put(identifier, validName);
+        }
+        return validName;
+    }
+
+    /**
+     * Check whether the given name is a Ballerina keyword.
+     */
+    public static boolean isKeyword(String identifier) {
+        return KEYWORDS.contains(identifier);
+    }
+
+    /**
+     * Check whether the given name only has ASCII digits, which is the case where a name is quoted without escaping.
+     */
+    static boolean isNumber(String identifier) {
+        if (identifier.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, String> createMemo() {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > MAX_MEMO_SIZE;
+            }
+        });
+    }
+
+    private static String computeEscapedIdentifier(String identifier) {
+        if (isNumber(identifier)) {
+            return "'" + identifier;
+        } else if (!isUnquotedIdentifier(identifier) || KEYWORDS.contains(identifier)) {
+            StringBuilder escapedIdentifier = new StringBuilder(identifier.length() + 8).append('\'');
+            for (int i = 0; i < identifier.length(); i++) {
+                char c = identifier.charAt(i);
+                if (isEscapeCharacter(c)) {
+                    escapedIdentifier.append('\\');
+                }
+                escapedIdentifier.append(c);
+            }
+            return escapedIdentifier.toString();
+        }
+        return identifier;
+    }
+
+    private static String computeValidName(String identifier, boolean isSchema) {
+        if (!isNumber(identifier)) {
+            identifier = joinParts(identifier);
+        }
+        if (isSchema) {
+            return identifier.substring(0, 1).toUpperCase(Locale.ENGLISH) + identifier.substring(1);
+        } else {
+            return escapeIdentifier(identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1));
+        }
+    }
+
+    /**
+     * Split the given name at the special characters and join the non-blank parts. When the name has more than one
+     * part, each part is capitalized. The parts are counted the way {@link String#split(String)} counts them, where
+     * the trailing empty parts are dropped.
+     */
+    private static String joinParts(String identifier) {
+        int length = identifier.length();
+        int separatorCount = 0;
+        int partCount = 0;
+        int partStart = 0;
+        for (int i = 0; i < length; i++) {
+            if (isEscapeCharacter(identifier.charAt(i))) {
+                if (i > partStart) {
+                    partCount = separatorCount + 1;
+                }
+                separatorCount++;
+                partStart = i + 1;
+            }
+        }
+        if (separatorCount == 0) {
+            return isBlank(identifier, 0, length) ? "" : identifier;
+        }
+        if (length > partStart) {
+            partCount = separatorCount + 1;
+        }
+        boolean capitalize = partCount > 1;
+        StringBuilder validName = new StringBuilder(length);
+        partStart = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || isEscapeCharacter(identifier.charAt(i))) {
+                appendPart(validName, identifier, partStart, i, capitalize);
+                partStart = i + 1;
+            }
+        }
+        return validName.toString();
+    }
+
+    private static void appendPart(StringBuilder validName, String identifier, int start, int end,
+                                   boolean capitalize) {
+        if (isBlank(identifier, start, end)) {
+            return;
+        }
+        if (!capitalize) {
+            validName.append(identifier, start, end);
+        } else if (isAscii(identifier, start, end)) {
+            validName.append(toAsciiUpperCase(identifier.charAt(start)));
+            for (int i = start + 1; i < end; i++) {
+                validName.append(toAsciiLowerCase(identifier.charAt(i)));
+            }
+        } else {
+            String part = identifier.substring(start, end);
+            validName.append(part.substring(0, 1).toUpperCase(Locale.ENGLISH))
+                    .append(part.substring(1).toLowerCase(Locale.ENGLISH));
+        }
+    }
+
+    private static boolean isUnquotedIdentifier(String identifier) {
+        if (identifier.isEmpty()) {
+            return false;
+        }
+        char first = identifier.charAt(0);
+        if (first != '_' && !isAsciiLetter(first)) {
+            return false;
+        }
+        for (int i = 1; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            if (c != '_' && !isAsciiLetter(c) && (c < '0' || c > '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isBlank(String identifier, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(identifier.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAscii(String identifier, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (identifier.charAt(i) >= 128) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEscapeCharacter(char c) {
+        return c < 128 && IS_ESCAPE_CHARACTER[c];
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static char toAsciiUpperCase(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - 'a' + 'A') : c;
+    }
+
+    private static char toAsciiLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c - 'A' + 'a') : c;
+    }
+}
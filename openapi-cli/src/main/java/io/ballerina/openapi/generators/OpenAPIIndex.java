@@ -0,0 +1,479 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators;
+
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.MapSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class is a lookup index over the OpenAPI model of a definition. It is built once and shared by the type and
+ * client generators of the definition, so that they do not walk the OpenAPI model for each lookup.
+ * <p>
+ * It keeps the operations in the order of the paths, indexed by the tags and the operation ids, and a
+ * {@link TypeEntry} for each component schema. The type entries have the type names and the primitive codes of the
+ * kinds of the schemas, and refer to the type entries of the schemas they depend on directly, so that the
+ * {@code $ref} values are resolved once when the index is built, and the dependencies between the schemas are
+ * followed without resolving the references again. The names kept in the index are interned, so that the same name is
+ * shared by all the entries which have it.
+ * <p>
+ * The index is not a replacement of the OpenAPI model. The type entries and the operation entries refer to the
+ * schemas and the operations of the model, which the generators still generate the Ballerina sources from, and the
+ * service generators, such as the {@code ParametersGenerator}, walk the model directly. Hence the model stays
+ * reachable through {@link #getOpenAPI()} for as long as the index.
+ *
+ * @since 2.0.0
+ */
+public final class OpenAPIIndex {
+    private static final String SCHEMA_REFERENCE_PREFIX = "#/components/schemas/";
+
+    private final OpenAPI openAPI;
+    private final List<TypeEntry> typeEntries;
+    private final Map<String, TypeEntry> typeEntriesByName;
+    private final Map<String, String> referenceTypeNames;
+    private final Map<String, TypeEntry> referencedTypeEntries;
+    private final List<OperationEntry> operations;
+    private final Map<String, List<OperationEntry>> operationsByTag;
+    private final Map<String, List<OperationEntry>> operationsById;
+
+    public OpenAPIIndex(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+        Map<String, String> names = new HashMap<>();
+
+        Map<String, Schema> componentSchemas = openAPI.getComponents() == null ? null :
+                openAPI.getComponents().getSchemas();
+        List<TypeEntry> typeEntryList = new ArrayList<>();
+        Map<String, TypeEntry> typeEntryMap = new HashMap<>();
+        Map<String, String> referenceTypeNameMap = new HashMap<>();
+        Map<String, TypeEntry> referencedTypeEntryMap = new HashMap<>();
+        if (componentSchemas != null) {
+            for (Map.Entry<String, Schema> schema : componentSchemas.entrySet()) {
+                String schemaName = intern(names, schema.getKey());
+                String typeName = intern(names, IdentifierNormalizer.getValidName(schemaName, true));
+                TypeEntry typeEntry = new TypeEntry(typeEntryList.size(), schemaName, typeName,
+                        getKind(schema.getValue()), schema.getValue());
+                typeEntryList.add(typeEntry);
+                typeEntryMap.put(schemaName, typeEntry);
+            }
+            for (TypeEntry typeEntry : typeEntryList) {
+                if (typeEntry.name.indexOf('/') >= 0) {
+                    // The reference of such a name is resolved from its last segment, hence it is not pre-resolved.
+                    continue;
+                }
+                String reference = SCHEMA_REFERENCE_PREFIX + typeEntry.name;
+                referenceTypeNameMap.put(reference, typeEntry.typeName);
+                TypeEntry referencedTypeEntry = typeEntryMap.get(typeEntry.typeName);
+                if (referencedTypeEntry != null) {
+                    referencedTypeEntryMap.put(reference, referencedTypeEntry);
+                }
+            }
+        }
+        this.typeEntries = Collections.unmodifiableList(typeEntryList);
+        this.typeEntriesByName = Collections.unmodifiableMap(typeEntryMap);
+        this.referenceTypeNames = Collections.unmodifiableMap(referenceTypeNameMap);
+        this.referencedTypeEntries = Collections.unmodifiableMap(referencedTypeEntryMap);
+        for (TypeEntry typeEntry : typeEntryList) {
+            typeEntry.dependencies = getDependencies(typeEntry.schema);
+        }
+
+        List<OperationEntry> operationList = new ArrayList<>();
+        Map<String, List<OperationEntry>> operationsByTagMap = new HashMap<>();
+        Map<String, List<OperationEntry>> operationsByIdMap = new HashMap<>();
+        if (openAPI.getPaths() != null) {
+            for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+                String pathName = intern(names, path.getKey());
+                for (Map.Entry<PathItem.HttpMethod, Operation> operation :
+                        path.getValue().readOperationsMap().entrySet()) {
+                    OperationEntry operationEntry = new OperationEntry(operationList.size(), pathName,
+                            operation.getKey(), operation.getValue());
+                    operationList.add(operationEntry);
+                    List<String> tags = operation.getValue().getTags();
+                    if (tags != null) {
+                        for (String tag : tags) {
+                            operationsByTagMap.computeIfAbsent(intern(names, tag), key -> new ArrayList<>())
+                                    .add(operationEntry);
+                        }
+                    }
+                    String operationId = operation.getValue().getOperationId();
+                    if (operationId != null) {
+                        operationsByIdMap.computeIfAbsent(intern(names, operationId.trim()),
+                                key -> new ArrayList<>()).add(operationEntry);
+                    }
+                }
+            }
+        }
+        this.operations = Collections.unmodifiableList(operationList);
+        this.operationsByTag = unmodifiableListMap(operationsByTagMap);
+        this.operationsById = unmodifiableListMap(operationsByIdMap);
+    }
+
+    public OpenAPI getOpenAPI() {
+        return openAPI;
+    }
+
+    /**
+     * Get the component schema with the given name.
+     */
+    public Schema getSchema(String schemaName) {
+        TypeEntry typeEntry = typeEntriesByName.get(schemaName);
+        return typeEntry == null ? null : typeEntry.schema;
+    }
+
+    /**
+     * Get the type entries of the component schemas in the order of the components.
+     */
+    public List<TypeEntry> getTypeEntries() {
+        return typeEntries;
+    }
+
+    /**
+     * Get the Ballerina type name of the schema referred by the given {@code $ref} value.
+     *
+     * @param reference {@code $ref} value
+     * @return type name of the referred schema
+     * @throws BallerinaOpenApiException when the reference is not a local reference
+     */
+    public String getReferenceTypeName(String reference) throws BallerinaOpenApiException {
+        String typeName = referenceTypeNames.get(reference);
+        if (typeName == null) {
+            typeName = IdentifierNormalizer.getValidName(GeneratorUtils.extractReferenceType(reference), true);
+        }
+        return typeName;
+    }
+
+    /**
+     * Get the component schema referred by the given {@code $ref} value, which is the component schema named with
+     * the type name of the reference.
+     *
+     * @param reference {@code $ref} value
+     * @return referred schema, or null when there is no component schema for the reference
+     * @throws BallerinaOpenApiException when the reference is not a local reference
+     */
+    public Schema getReferencedSchema(String reference) throws BallerinaOpenApiException {
+        TypeEntry typeEntry = getReferencedTypeEntry(reference);
+        return typeEntry == null ? null : typeEntry.schema;
+    }
+
+    /**
+     * Get the type entry of the component schema referred by the given {@code $ref} value, which is the type entry
+     * of the component schema named with the type name of the reference.
+     *
+     * @param reference {@code $ref} value
+     * @return type entry of the referred schema, or null when there is no component schema for the reference
+     * @throws BallerinaOpenApiException when the reference is not a local reference
+     */
+    public TypeEntry getReferencedTypeEntry(String reference) throws BallerinaOpenApiException {
+        TypeEntry typeEntry = referencedTypeEntries.get(reference);
+        if (typeEntry == null && !referenceTypeNames.containsKey(reference)) {
+            typeEntry = typeEntriesByName.get(getReferenceTypeName(reference).trim());
+        }
+        return typeEntry;
+    }
+
+    /**
+     * Collect the {@code $ref} values of the given schema and of its inline sub schemas. The properties, the array
+     * items, the {@code allOf}, {@code oneOf} and {@code anyOf} schemas, the {@code not} schema and the additional
+     * properties are followed, while the referred schemas are not.
+     *
+     * @param schema     schema to collect the references of
+     * @param references collected {@code $ref} values
+     */
+    public static void collectReferences(Schema<?> schema, Set<String> references) {
+        collectReferences(schema, references, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    /**
+     * Get all the operations in the order of the paths.
+     */
+    public List<OperationEntry> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Get the operations selected by the tags or the operation ids of the given filter, in the order of the paths.
+     * All the operations are selected when the filter is empty.
+     *
+     * @param filter tags and operations given in the command
+     * @return selected operations
+     */
+    public List<OperationEntry> getOperations(Filter filter) {
+        List<String> filterTags = filter.getTags();
+        List<String> filterOperations = filter.getOperations();
+        if (filterTags.isEmpty() && filterOperations.isEmpty()) {
+            return operations;
+        }
+        boolean[] selected = new boolean[operations.size()];
+        for (String tag : filterTags) {
+            select(operationsByTag.get(tag), selected);
+        }
+        for (String operationId : filterOperations) {
+            select(operationsById.get(operationId), selected);
+        }
+        List<OperationEntry> selectedOperations = new ArrayList<>();
+        for (int i = 0; i < selected.length; i++) {
+            if (selected[i]) {
+                selectedOperations.add(operations.get(i));
+            }
+        }
+        return selectedOperations;
+    }
+
+    /**
+     * Get the operations which have the given tag.
+     */
+    public List<OperationEntry> getOperationsByTag(String tag) {
+        return operationsByTag.getOrDefault(tag, Collections.emptyList());
+    }
+
+    /**
+     * Get the first operation which has the given operation id.
+     */
+    public OperationEntry getOperation(String operationId) {
+        List<OperationEntry> operationEntries = operationsById.get(operationId);
+        return operationEntries == null ? null : operationEntries.get(0);
+    }
+
+    /**
+     * Get the type entries of the component schemas which the given schema refers to directly. The references which
+     * are not local references, or which have no component schema, are reported when their types are generated.
+     */
+    private TypeEntry[] getDependencies(Schema<?> schema) {
+        Set<String> references = new LinkedHashSet<>();
+        collectReferences(schema, references);
+        Set<TypeEntry> dependencies = new LinkedHashSet<>();
+        for (String reference : references) {
+            try {
+                TypeEntry dependency = getReferencedTypeEntry(reference);
+                if (dependency != null) {
+                    dependencies.add(dependency);
+                }
+            } catch (BallerinaOpenApiException e) {
+                // The reference is reported when its type is generated.
+            }
+        }
+        return dependencies.toArray(new TypeEntry[0]);
+    }
+
+    private static void collectReferences(Schema<?> schema, Set<String> references, Set<Schema<?>> visited) {
+        if (schema == null || !visited.add(schema)) {
+            return;
+        }
+        if (schema.get$ref() != null) {
+            references.add(schema.get$ref());
+            return;
+        }
+        if (schema.getProperties() != null) {
+            for (Schema<?> property : schema.getProperties().values()) {
+                collectReferences(property, references, visited);
+            }
+        }
+        if (schema instanceof ArraySchema) {
+            collectReferences(((ArraySchema) schema).getItems(), references, visited);
+        }
+        if (schema instanceof ComposedSchema) {
+            ComposedSchema composedSchema = (ComposedSchema) schema;
+            collectReferences(composedSchema.getAllOf(), references, visited);
+            collectReferences(composedSchema.getOneOf(), references, visited);
+            collectReferences(composedSchema.getAnyOf(), references, visited);
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            collectReferences((Schema<?>) schema.getAdditionalProperties(), references, visited);
+        }
+        collectReferences(schema.getNot(), references, visited);
+    }
+
+    private static void collectReferences(List<Schema> schemas, Set<String> references, Set<Schema<?>> visited) {
+        if (schemas != null) {
+            for (Schema<?> schema : schemas) {
+                collectReferences(schema, references, visited);
+            }
+        }
+    }
+
+    /**
+     * Get the primitive code of the kind of the given schema.
+     */
+    private static byte getKind(Schema<?> schema) {
+        if (schema.get$ref() != null) {
+            return TypeEntry.REFERENCE;
+        } else if (schema instanceof ComposedSchema) {
+            return TypeEntry.COMPOSED;
+        } else if (schema instanceof ArraySchema) {
+            return TypeEntry.ARRAY;
+        } else if (schema instanceof MapSchema) {
+            return TypeEntry.MAP;
+        } else if (schema instanceof ObjectSchema || schema.getProperties() != null) {
+            return TypeEntry.OBJECT;
+        }
+        String type = schema.getType() == null ? "" : schema.getType().trim();
+        switch (type) {
+            case "string":
+                return TypeEntry.STRING;
+            case "integer":
+                return TypeEntry.INTEGER;
+            case "number":
+                return TypeEntry.NUMBER;
+            case "boolean":
+                return TypeEntry.BOOLEAN;
+            case "object":
+                return TypeEntry.OBJECT;
+            case "array":
+                return TypeEntry.ARRAY;
+            default:
+                return TypeEntry.ANY;
+        }
+    }
+
+    private static void select(List<OperationEntry> operationEntries, boolean[] selected) {
+        if (operationEntries != null) {
+            for (OperationEntry operationEntry : operationEntries) {
+                selected[operationEntry.index] = true;
+            }
+        }
+    }
+
+    private static String intern(Map<String, String> names, String name) {
+        String internedName = names.putIfAbsent(name, name);
+        return internedName == null ? name : internedName;
+    }
+
+    private static Map<String, List<OperationEntry>> unmodifiableListMap(Map<String, List<OperationEntry>> map) {
+        map.replaceAll((key, value) -> Collections.unmodifiableList(value));
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * A component schema of the OpenAPI definition with its Ballerina type name, the primitive code of its kind and
+     * the type entries of the component schemas it depends on directly.
+     */
+    public static final class TypeEntry {
+        public static final byte ANY = 0;
+        public static final byte OBJECT = 1;
+        public static final byte ARRAY = 2;
+        public static final byte MAP = 3;
+        public static final byte COMPOSED = 4;
+        public static final byte REFERENCE = 5;
+        public static final byte STRING = 6;
+        public static final byte INTEGER = 7;
+        public static final byte NUMBER = 8;
+        public static final byte BOOLEAN = 9;
+
+        private final int index;
+        private final String name;
+        private final String typeName;
+        private final byte kind;
+        private final Schema schema;
+        // Set once by the index after all the type entries are created, since the schemas may refer to each other.
+        private TypeEntry[] dependencies;
+
+        private TypeEntry(int index, String name, String typeName, byte kind, Schema schema) {
+            this.index = index;
+            this.name = name;
+            this.typeName = typeName;
+            this.kind = kind;
+            this.schema = schema;
+        }
+
+        /**
+         * Get the position of the type entry in {@link OpenAPIIndex#getTypeEntries()}.
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Get the name of the component schema.
+         */
+        public String getName() {
+            return name;
+        }
+
+        public String getTypeName() {
+            return typeName;
+        }
+
+        /**
+         * Get the primitive code of the kind of the schema, which is one of the kind constants of this class.
+         */
+        public byte getKind() {
+            return kind;
+        }
+
+        public Schema getSchema() {
+            return schema;
+        }
+
+        /**
+         * Get the type entries of the component schemas which the schema refers to directly.
+         */
+        public List<TypeEntry> getDependencies() {
+            return Collections.unmodifiableList(Arrays.asList(dependencies));
+        }
+    }
+
+    /**
+     * An operation of the OpenAPI definition with its path and HTTP method.
+     */
+    public static final class OperationEntry {
+        private final int index;
+        private final String path;
+        private final Map.Entry<PathItem.HttpMethod, Operation> operation;
+
+        private OperationEntry(int index, String path, PathItem.HttpMethod method, Operation operation) {
+            this.index = index;
+            this.path = path;
+            this.operation = Map.entry(method, operation);
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public PathItem.HttpMethod getMethod() {
+            return operation.getKey();
+        }
+
+        public Operation getOperation() {
+            return operation.getValue();
+        }
+
+        /**
+         * Get the HTTP method and the operation as an entry of {@link PathItem#readOperationsMap()}.
+         */
+        public Map.Entry<PathItem.HttpMethod, Operation> getOperationEntry() {
+            return operation;
+        }
+    }
+}
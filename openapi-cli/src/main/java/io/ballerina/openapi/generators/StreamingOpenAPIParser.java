@@ -0,0 +1,321 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.parser.ObjectMapperFactory;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import io.swagger.v3.parser.util.OpenAPIDeserializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * This class deserializes an OpenAPI definition from a stream of JSON or YAML tokens, without building the tree of
+ * the whole definition. The paths and the components are deserialized one entry at a time with the deserializer of
+ * the OpenAPI parser, and the tree of each entry is released once its model is built. The other root fields are small,
+ * hence they are read as a tree and deserialized together.
+ * <p>
+ * The path items are validated against the components, which may come after the paths in the definition. Hence the
+ * paths are first copied token by token to a temporary JSON file, and they are deserialized from it once the
+ * components are read. A copy of the definition can be written as JSON while it is parsed, in which the paths come
+ * after the other root fields.
+ *
+ * @since 2.0.0
+ */
+public class StreamingOpenAPIParser {
+    private static final String PATHS = "paths";
+    private static final String COMPONENTS = "components";
+    private static final String EXTENSION_PREFIX = "x-";
+    private static final ObjectMapper JSON_MAPPER = ObjectMapperFactory.createJson();
+
+    private final ParseOptions parseOptions;
+    private final Set<String> externalDocuments = new LinkedHashSet<>();
+
+    /**
+     * Create a parser with the given options. Only the deserialization options are used, since the parsed model is
+     * resolved and flattened by the caller.
+     *
+     * @param parseOptions parser options
+     */
+    public StreamingOpenAPIParser(ParseOptions parseOptions) {
+        this.parseOptions = parseOptions;
+    }
+
+    /**
+     * Get the external documents referred by the definitions parsed so far.
+     */
+    public Set<String> getExternalDocuments() {
+        return externalDocuments;
+    }
+
+    /**
+     * Deserialize the definition read by the given parser.
+     *
+     * @param parser        parser of the definition, which is positioned before its first token
+     * @param copyGenerator generator to which a JSON copy of the definition is written, or null
+     * @return parse result including the deserialized model and the parser messages
+     * @throws IOException when the definition can not be read, or it is not valid JSON or YAML
+     */
+    public SwaggerParseResult parse(JsonParser parser, JsonGenerator copyGenerator) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return SwaggerParseResult.ofError("Null or empty definition");
+        }
+        DefinitionDeserializer deserializer = new DefinitionDeserializer(copyGenerator);
+        if (token != JsonToken.START_OBJECT) {
+            return deserializer.deserialize(readTree(parser, copyGenerator), null, parseOptions);
+        }
+        // The paths are spooled to a temporary file only when they are found, hence the file is deleted here
+        // regardless of whether the definition is parsed.
+        try {
+            return deserializer.parse(parser);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            deserializer.deletePathsSpool();
+        }
+    }
+
+    private JsonNode readTree(JsonParser parser, JsonGenerator copyGenerator) throws IOException {
+        JsonNode node = parser.readValueAsTree();
+        externalDocuments.addAll(ExternalReferenceResolver.getExternalDocuments(node));
+        if (copyGenerator != null) {
+            copyGenerator.writeTree(node);
+        }
+        return node;
+    }
+
+    private static <T> void merge(Supplier<Map<String, T>> getter, Consumer<Map<String, T>> setter,
+                                  Map<String, T> entries) {
+        if (entries == null) {
+            return;
+        }
+        Map<String, T> mergedEntries = getter.get();
+        if (mergedEntries == null) {
+            setter.accept(new LinkedHashMap<>(entries));
+        } else {
+            mergedEntries.putAll(entries);
+        }
+    }
+
+    private static void mergeComponents(Components components, Components part) {
+        merge(components::getSchemas, components::setSchemas, part.getSchemas());
+        merge(components::getResponses, components::setResponses, part.getResponses());
+        merge(components::getParameters, components::setParameters, part.getParameters());
+        merge(components::getExamples, components::setExamples, part.getExamples());
+        merge(components::getRequestBodies, components::setRequestBodies, part.getRequestBodies());
+        merge(components::getHeaders, components::setHeaders, part.getHeaders());
+        merge(components::getSecuritySchemes, components::setSecuritySchemes, part.getSecuritySchemes());
+        merge(components::getLinks, components::setLinks, part.getLinks());
+        merge(components::getCallbacks, components::setCallbacks, part.getCallbacks());
+        merge(components::getExtensions, components::setExtensions, part.getExtensions());
+    }
+
+    private static void mergePaths(Paths paths, Paths part) {
+        paths.putAll(part);
+        merge(paths::getExtensions, paths::setExtensions, part.getExtensions());
+    }
+
+    /**
+     * The deserializer of a single definition. The root node given to the OpenAPI deserializer holds placeholders
+     * for the paths and the components, which are replaced by the models deserialized from the stream, so that the
+     * deserializer validates the paths against the components in the same way as for a whole tree.
+     */
+    private class DefinitionDeserializer extends OpenAPIDeserializer {
+        private final JsonGenerator copyGenerator;
+        private final ObjectNode pathsPlaceholder = JsonNodeFactory.instance.objectNode();
+        private final ObjectNode componentsPlaceholder = JsonNodeFactory.instance.objectNode();
+        private final ParseResult result = new ParseResult();
+        private Components components;
+        private Path pathsSpool;
+
+        DefinitionDeserializer(JsonGenerator copyGenerator) {
+            this.copyGenerator = copyGenerator;
+            result.setAllowEmptyStrings(parseOptions.isAllowEmptyString());
+        }
+
+        SwaggerParseResult parse(JsonParser parser) throws IOException {
+            ObjectNode rootNode = JsonNodeFactory.instance.objectNode();
+            if (copyGenerator != null) {
+                copyGenerator.writeStartObject();
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken token = parser.nextToken();
+                if (PATHS.equals(fieldName) && token == JsonToken.START_OBJECT) {
+                    spoolPaths(parser);
+                    rootNode.set(fieldName, pathsPlaceholder);
+                } else if (COMPONENTS.equals(fieldName) && token == JsonToken.START_OBJECT) {
+                    copyFieldName(fieldName);
+                    components = readComponents(parser);
+                    rootNode.set(fieldName, componentsPlaceholder);
+                } else {
+                    copyFieldName(fieldName);
+                    rootNode.set(fieldName, readTree(parser, copyGenerator));
+                }
+            }
+            OpenAPI openAPI = parseRoot(rootNode, result, null);
+            if (copyGenerator != null) {
+                copyGenerator.writeEndObject();
+            }
+            SwaggerParseResult parseResult = new SwaggerParseResult();
+            parseResult.setOpenAPI(openAPI);
+            parseResult.setMessages(result.getMessages());
+            return parseResult;
+        }
+
+        @Override
+        public Components getComponents(ObjectNode obj, String location, ParseResult result) {
+            return obj == componentsPlaceholder ? components : super.getComponents(obj, location, result);
+        }
+
+        @Override
+        public Paths getPaths(ObjectNode obj, String location, ParseResult result) {
+            if (obj != pathsPlaceholder) {
+                return super.getPaths(obj, location, result);
+            }
+            try {
+                return readSpooledPaths(location);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Deserialize the components one entry at a time. A section which is not a map of components is
+         * deserialized as a whole, so that the deserializer reports it.
+         */
+        private Components readComponents(JsonParser parser) throws IOException {
+            Components streamedComponents = new Components();
+            ObjectNode sectionsNode = JsonNodeFactory.instance.objectNode();
+            copyStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String section = parser.getCurrentName();
+                copyFieldName(section);
+                if (parser.nextToken() != JsonToken.START_OBJECT || section.startsWith(EXTENSION_PREFIX)) {
+                    sectionsNode.set(section, readTree(parser, copyGenerator));
+                    continue;
+                }
+                copyStartObject();
+                ObjectNode entryNode = JsonNodeFactory.instance.objectNode();
+                ObjectNode componentNode = JsonNodeFactory.instance.objectNode();
+                entryNode.set(section, componentNode);
+                int count = 0;
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    copyFieldName(name);
+                    parser.nextToken();
+                    componentNode.set(name, readTree(parser, copyGenerator));
+                    mergeComponents(streamedComponents, super.getComponents(entryNode, COMPONENTS, result));
+                    componentNode.removeAll();
+                    count++;
+                }
+                copyEndObject();
+                if (count == 0) {
+                    // An empty section is deserialized as it is, since it sets an empty map.
+                    mergeComponents(streamedComponents, super.getComponents(entryNode, COMPONENTS, result));
+                }
+            }
+            copyEndObject();
+            if (!sectionsNode.isEmpty()) {
+                mergeComponents(streamedComponents, super.getComponents(sectionsNode, COMPONENTS, result));
+            }
+            return streamedComponents;
+        }
+
+        /**
+         * Copy the paths token by token to a temporary JSON file, without building their tree.
+         */
+        private void spoolPaths(JsonParser parser) throws IOException {
+            if (pathsSpool == null) {
+                pathsSpool = Files.createTempFile("openapi-paths", ".json");
+            }
+            try (OutputStream outputStream = Files.newOutputStream(pathsSpool);
+                 JsonGenerator generator = JSON_MAPPER.createGenerator(outputStream)) {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+
+        /**
+         * Deserialize the spooled paths one path item at a time, and copy them to the copy of the definition.
+         */
+        private Paths readSpooledPaths(String location) throws IOException {
+            Paths paths = new Paths();
+            copyFieldName(PATHS);
+            copyStartObject();
+            try (JsonParser parser = JSON_MAPPER.createParser(pathsSpool.toFile())) {
+                parser.nextToken();
+                ObjectNode pathNode = JsonNodeFactory.instance.objectNode();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String path = parser.getCurrentName();
+                    copyFieldName(path);
+                    parser.nextToken();
+                    pathNode.set(path, readTree(parser, copyGenerator));
+                    mergePaths(paths, super.getPaths(pathNode, location, result));
+                    pathNode.removeAll();
+                }
+            }
+            copyEndObject();
+            return paths;
+        }
+
+        private void deletePathsSpool() throws IOException {
+            if (pathsSpool != null) {
+                Files.deleteIfExists(pathsSpool);
+            }
+        }
+
+        private void copyFieldName(String name) throws IOException {
+            if (copyGenerator != null) {
+                copyGenerator.writeFieldName(name);
+            }
+        }
+
+        private void copyStartObject() throws IOException {
+            if (copyGenerator != null) {
+                copyGenerator.writeStartObject();
+            }
+        }
+
+        private void copyEndObject() throws IOException {
+            if (copyGenerator != null) {
+                copyGenerator.writeEndObject();
+            }
+        }
+    }
+}
@@ -168,6 +168,7 @@ public class BallerinaAuthConfigGenerator {
     private String passwordGrantTokenUrl;
     private String refreshTokenUrl;
     private final Set<String> authTypes = new LinkedHashSet<>();
+    private Map<String, String> clientConfigDefaultValues = new HashMap<>();
 
     public BallerinaAuthConfigGenerator(boolean isAPIKey, boolean isHttpOROAuth) {
         this.apiKey = isAPIKey;
@@ -219,6 +220,16 @@ public class BallerinaAuthConfigGenerator {
         return authTypes;
     }
 
+    /**
+     * Set the default values of the HTTP client configurations given in the `x-ballerina-http-client-config`
+     * extension, which are used in the ClientConfig record and in the client init function.
+     *
+     * @param clientConfigDefaultValues Ballerina expressions of the default values by the field names
+     */
+    public void setClientConfigDefaultValues(Map<String, String> clientConfigDefaultValues) {
+        this.clientConfigDefaultValues = clientConfigDefaultValues;
+    }
+
     /**
      * Add authentication related records.
      *
@@ -616,7 +627,8 @@ public class BallerinaAuthConfigGenerator {
             BuiltinSimpleNameReferenceNode httpClientConfigTypeName = createBuiltinSimpleNameReferenceNode(null,
                     createIdentifierToken("http:ClientConfiguration"));
             IdentifierToken httpClientConfig = createIdentifierToken(CONFIG_RECORD_ARG);
-            BasicLiteralNode emptyexpression = createBasicLiteralNode(null, createIdentifierToken(" {}"));
+            BasicLiteralNode emptyexpression = createBasicLiteralNode(null, createIdentifierToken(" " +
+                    HttpClientConfigExtension.getMappingConstructor(clientConfigDefaultValues)));
             DefaultableParameterNode defaultHTTPConfig = createDefaultableParameterNode(annotationNodes,
                     httpClientConfigTypeName,
                     httpClientConfig, equalToken, emptyexpression);
@@ -786,7 +798,7 @@ public class BallerinaAuthConfigGenerator {
                 createRequiredExpressionNode(createIdentifierToken("\"1.1\""));
         RecordFieldWithDefaultValueNode httpVersionFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 httpVersionMetadata, null, httpVersionFieldType, httpVersionFieldName,
-                equalToken, httpVersionExpression, semicolonToken);
+                equalToken, getDefaultValue("httpVersion", httpVersionExpression), semicolonToken);
         recordFieldNodes.add(httpVersionFieldNode);
 
         // add http1Settings field
@@ -796,7 +808,7 @@ public class BallerinaAuthConfigGenerator {
                 createSimpleNameReferenceNode(createIdentifierToken("http:ClientHttp1Settings"));
         RecordFieldWithDefaultValueNode http1SettingsFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 http1SettingsMetadata, null, http1SettingsFieldType, http1SettingsFieldName,
-                equalToken, emptyExpression, semicolonToken);
+                equalToken, getDefaultValue("http1Settings", emptyExpression), semicolonToken);
         recordFieldNodes.add(http1SettingsFieldNode);
 
         // add http2Settings fields
@@ -806,7 +818,7 @@ public class BallerinaAuthConfigGenerator {
         IdentifierToken http2SettingsFieldName = createIdentifierToken("http2Settings");
         RecordFieldWithDefaultValueNode http2SettingsFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 http2SettingsMetadata, null, http2SettingsFieldType, http2SettingsFieldName,
-                equalToken, emptyExpression, semicolonToken);
+                equalToken, getDefaultValue("http2Settings", emptyExpression), semicolonToken);
         recordFieldNodes.add(http2SettingsFieldNode);
 
         // add timeout field
@@ -817,7 +829,7 @@ public class BallerinaAuthConfigGenerator {
         ExpressionNode decimalLiteralNode = createRequiredExpressionNode(createIdentifierToken("60"));
         RecordFieldWithDefaultValueNode timeoutFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 timeoutMetadata, null, timeoutFieldType, timeoutFieldName,
-                equalToken, decimalLiteralNode, semicolonToken);
+                equalToken, getDefaultValue("timeout", decimalLiteralNode), semicolonToken);
         recordFieldNodes.add(timeoutFieldNode);
 
         // add forwarded field
@@ -828,7 +840,7 @@ public class BallerinaAuthConfigGenerator {
         ExpressionNode forwardedDefaultValue = createRequiredExpressionNode(createIdentifierToken("\"disable\""));
         RecordFieldWithDefaultValueNode forwardedFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 forwardedMetadata, null, forwardedFieldType, forwardedFieldName,
-                equalToken, forwardedDefaultValue, semicolonToken);
+                equalToken, getDefaultValue("forwarded", forwardedDefaultValue), semicolonToken);
         recordFieldNodes.add(forwardedFieldNode);
 
         // add followRedirects field
@@ -838,7 +850,8 @@ public class BallerinaAuthConfigGenerator {
                 createIdentifierToken("http:FollowRedirects"), createToken(QUESTION_MARK_TOKEN));
         RecordFieldWithDefaultValueNode followRedirectsFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 followRedirectsMetadata, null, followRedirectsFieldType,
-                followRedirectsFieldName, equalToken, nilLiteralNode, semicolonToken);
+                followRedirectsFieldName, equalToken, getDefaultValue("followRedirects", nilLiteralNode),
+                semicolonToken);
         recordFieldNodes.add(followRedirectsFieldNode);
 
         // add poolConfig field
@@ -848,7 +861,7 @@ public class BallerinaAuthConfigGenerator {
                 createIdentifierToken("http:PoolConfiguration"), createToken(QUESTION_MARK_TOKEN));
         RecordFieldWithDefaultValueNode poolConfigFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 poolConfigMetaData, null, poolConfigFieldType, poolConfigFieldName,
-                equalToken, nilLiteralNode, semicolonToken);
+                equalToken, getDefaultValue("poolConfig", nilLiteralNode), semicolonToken);
         recordFieldNodes.add(poolConfigFieldNode);
 
         // add cache field
@@ -858,7 +871,7 @@ public class BallerinaAuthConfigGenerator {
                 createSimpleNameReferenceNode(createIdentifierToken("http:CacheConfig"));
         RecordFieldWithDefaultValueNode cachFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 cachMetadata, null, cacheFieldType, cacheFieldName,
-                equalToken, emptyExpression, semicolonToken);
+                equalToken, getDefaultValue("cache", emptyExpression), semicolonToken);
         recordFieldNodes.add(cachFieldNode);
 
         // add compression field
@@ -871,7 +884,7 @@ public class BallerinaAuthConfigGenerator {
                 createIdentifierToken("http:COMPRESSION_AUTO"));
         RecordFieldWithDefaultValueNode compressionFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 compressionMetadata, null, compressionFieldType, compressionFieldName,
-                equalToken, compressionDefaultValue, semicolonToken);
+                equalToken, getDefaultValue("compression", compressionDefaultValue), semicolonToken);
         recordFieldNodes.add(compressionFieldNode);
 
         // add circuitBreaker field
@@ -882,7 +895,7 @@ public class BallerinaAuthConfigGenerator {
                 createIdentifierToken("http:CircuitBreakerConfig"), createToken(QUESTION_MARK_TOKEN));
         RecordFieldWithDefaultValueNode circuitBreakerFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 circuitBreakerMetadata, null, circuitBreakerFieldType, circuitBreakerFieldName,
-                equalToken, nilLiteralNode, semicolonToken);
+                equalToken, getDefaultValue("circuitBreaker", nilLiteralNode), semicolonToken);
         recordFieldNodes.add(circuitBreakerFieldNode);
 
         // add retryConfig field
@@ -892,7 +905,7 @@ public class BallerinaAuthConfigGenerator {
                 createIdentifierToken("http:RetryConfig"), createToken(QUESTION_MARK_TOKEN));
         RecordFieldWithDefaultValueNode retryConfigFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 retryConfigMetadata, null, returConfigFieldType, retryConfigFieldName,
-                equalToken, nilLiteralNode, semicolonToken);
+                equalToken, getDefaultValue("retryConfig", nilLiteralNode), semicolonToken);
         recordFieldNodes.add(retryConfigFieldNode);
 
         // add cookieConfig field
@@ -902,7 +915,7 @@ public class BallerinaAuthConfigGenerator {
                 createIdentifierToken("http:CookieConfig"), createToken(QUESTION_MARK_TOKEN));
         RecordFieldWithDefaultValueNode cookieConfigFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 cookieConfigMetadata, null, cookieConfigFieldType, cookieConfigFieldName,
-                equalToken, nilLiteralNode, semicolonToken);
+                equalToken, getDefaultValue("cookieConfig", nilLiteralNode), semicolonToken);
         recordFieldNodes.add(cookieConfigFieldNode);
 
         // add responseLimits field
@@ -913,7 +926,7 @@ public class BallerinaAuthConfigGenerator {
                 createIdentifierToken("http:ResponseLimitConfigs"));
         RecordFieldWithDefaultValueNode responseLimitsFieldNode = NodeFactory.createRecordFieldWithDefaultValueNode(
                 responseLimitsMetadata, null, responseLimitsFieldType, responseLimitsFieldName,
-                equalToken, emptyExpression, semicolonToken);
+                equalToken, getDefaultValue("responseLimits", emptyExpression), semicolonToken);
         recordFieldNodes.add(responseLimitsFieldNode);
 
         // add secureSocket field
@@ -929,6 +942,18 @@ public class BallerinaAuthConfigGenerator {
         return recordFieldNodes;
     }
 
+    /**
+     * Get the default value of a field of the ClientConfig record, which is the value given in the
+     * `x-ballerina-http-client-config` extension if it is given.
+     */
+    private ExpressionNode getDefaultValue(String fieldName, ExpressionNode defaultValue) {
+        String configuredValue = clientConfigDefaultValues.get(fieldName);
+        if (configuredValue == null) {
+            return defaultValue;
+        }
+        return createRequiredExpressionNode(createIdentifierToken(configuredValue));
+    }
+
     /**
      * Generate statements for init function when combination of ApiKeys and HTTP/OAuth authentication is used.
      *
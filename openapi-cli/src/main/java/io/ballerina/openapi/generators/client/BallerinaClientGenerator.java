@@ -47,20 +47,20 @@ import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
-import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.openapi.cmd.Filter;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.DocCommentsGenerator;
 import io.ballerina.openapi.generators.GeneratorConstants;
 import io.ballerina.openapi.generators.GeneratorUtils;
+import io.ballerina.openapi.generators.OpenAPIIndex;
 import io.ballerina.openapi.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.generators.schema.TypeDefinitionRegistry;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
-import io.swagger.v3.oas.models.Paths;
 import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.servers.ServerVariables;
 
@@ -122,21 +122,31 @@ import static io.ballerina.openapi.generators.GeneratorConstants.X_BALLERINA_INI
 public class BallerinaClientGenerator {
     private final Filter filters;
     private List<ImportDeclarationNode> imports;
-    private List<TypeDefinitionNode> typeDefinitionNodeList;
+    private TypeDefinitionRegistry typeDefinitionRegistry;
     private List<String> apiKeyNameList = new ArrayList<>();
     private final OpenAPI openAPI;
+    private final OpenAPIIndex openAPIIndex;
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
     private final BallerinaUtilGenerator ballerinaUtilGenerator;
     private final List<String> remoteFunctionNameList;
     private String serverURL;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
+    private boolean specializeParameters;
+    private boolean streamArrayResponses;
 
     /**
-     * Returns a list of type definition nodes.
+     * Returns the registry of the type definition nodes.
      */
-    public List<TypeDefinitionNode> getTypeDefinitionNodeList() {
+    public TypeDefinitionRegistry getTypeDefinitionRegistry() {
 
-        return typeDefinitionNodeList;
+        return typeDefinitionRegistry;
+    }
+
+    /**
+     * Returns the index of the OpenAPI definition, which is shared by the generators of the definition.
+     */
+    public OpenAPIIndex getOpenAPIIndex() {
+        return openAPIIndex;
     }
 
     /**
@@ -147,13 +157,29 @@ public class BallerinaClientGenerator {
     }
 
     /**
-     * Set the typeDefinitionNodeList.
+     * Set the typeDefinitionRegistry.
+     */
+    public void setTypeDefinitionRegistry(TypeDefinitionRegistry typeDefinitionRegistry) {
+
+        this.typeDefinitionRegistry = typeDefinitionRegistry;
+    }
+
+    /**
+     * Set whether the query parameters and headers of the remote functions are serialized by the statements
+     * generated for each function, instead of the util functions.
      */
-    public void setTypeDefinitionNodeList(
-            List<TypeDefinitionNode> typeDefinitionNodeList) {
+    public void setSpecializeParameters(boolean specializeParameters) {
+        this.specializeParameters = specializeParameters;
+    }
 
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+    /**
+     * Set whether the JSON array responses of the remote functions are returned as streams, unless the
+     * `x-ballerina-stream` extension of the operation is `false`.
+     */
+    public void setStreamArrayResponses(boolean streamArrayResponses) {
+        this.streamArrayResponses = streamArrayResponses;
     }
+
     public List<String> getRemoteFunctionNameList () {
         return remoteFunctionNameList;
     }
@@ -170,9 +196,10 @@ public class BallerinaClientGenerator {
 
         this.filters = filters;
         this.imports = new ArrayList<>();
-        this.typeDefinitionNodeList = new ArrayList<>();
+        this.typeDefinitionRegistry = new TypeDefinitionRegistry();
         this.openAPI = openAPI;
-        this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI, nullable);
+        this.openAPIIndex = new OpenAPIIndex(openAPI);
+        this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPIIndex, nullable);
         this.ballerinaUtilGenerator = new BallerinaUtilGenerator();
         this.remoteFunctionNameList = new ArrayList<>();
         this.serverURL = "/";
@@ -192,6 +219,8 @@ public class BallerinaClientGenerator {
                 , GeneratorConstants.HTTP);
         imports.add(importForHttp);
         List<ModuleMemberDeclarationNode> nodes =  new ArrayList<>();
+        ballerinaAuthConfigGenerator.setClientConfigDefaultValues(HttpClientConfigExtension.getDefaultValues(
+                openAPI, getSelectedServer(openAPI.getServers())));
         // Add authentication related records
         ballerinaAuthConfigGenerator.addAuthRelatedRecords(openAPI, nodes);
 
@@ -237,7 +266,7 @@ public class BallerinaClientGenerator {
         // Add init function to class definition node
         memberNodeList.add(createInitFunction());
         // Generate remote function Nodes
-        memberNodeList.addAll(createRemoteFunctions(openAPI.getPaths(), filters));
+        memberNodeList.addAll(createRemoteFunctions(filters));
         // Generate the class combining members
         MetadataNode metadataNode = getClassMetadataNode();
         IdentifierToken className = createIdentifierToken(GeneratorConstants.CLIENT_CLASS);
@@ -440,49 +469,30 @@ public class BallerinaClientGenerator {
     /**
      * Generate remote functions for OpenAPI operations.
      *
-     * @param paths     openAPI Paths
      * @param filter    user given tags and operations
      * @return          FunctionDefinitionNodes list
      * @throws BallerinaOpenApiException - throws when creating remote functions fails
      */
-    private  List<FunctionDefinitionNode> createRemoteFunctions(Paths paths, Filter filter)
-            throws BallerinaOpenApiException {
+    private  List<FunctionDefinitionNode> createRemoteFunctions(Filter filter) throws BallerinaOpenApiException {
 
-        List<String> filterTags = filter.getTags();
-        List<String> filterOperations = filter.getOperations();
         List<FunctionDefinitionNode> functionDefinitionNodeList = new ArrayList<>();
-        Set<Map.Entry<String, PathItem>> pathsItems = paths.entrySet();
-        for (Map.Entry<String, PathItem> path : pathsItems) {
-            if (!path.getValue().readOperationsMap().isEmpty()) {
-                for (Map.Entry<PathItem.HttpMethod, Operation> operation :
-                        path.getValue().readOperationsMap().entrySet()) {
-                    // create display annotation of the operation
-                    List<AnnotationNode> functionLevelAnnotationNodes  = new ArrayList<>();
-                    if (operation.getValue().getExtensions() != null) {
-                        Map<String, Object> extensions = operation.getValue().getExtensions();
-                        DocCommentsGenerator.extractDisplayAnnotation(extensions, functionLevelAnnotationNodes);
-                    }
-                    List<String> operationTags = operation.getValue().getTags();
-                    String operationId = operation.getValue().getOperationId();
-                    if (!filterTags.isEmpty() || !filterOperations.isEmpty()) {
-                        // Generate remote function only if it is available in tag filter or operation filter or both
-                        if (operationTags != null || ((!filterOperations.isEmpty()) && (operationId != null))) {
-                            if (GeneratorUtils.hasTags(operationTags, filterTags) ||
-                                    ((operationId != null) && filterOperations.contains(operationId.trim()))) {
-                                // Generate remote function
-                                FunctionDefinitionNode functionDefinitionNode =
-                                        getRemoteFunctionDefinitionNode(
-                                                functionLevelAnnotationNodes, path.getKey(), operation);
-                                functionDefinitionNodeList.add(functionDefinitionNode);
-                            }
-                        }
-                    } else {
-                        // Generate remote function
-                        FunctionDefinitionNode functionDefinitionNode = getRemoteFunctionDefinitionNode(
-                                functionLevelAnnotationNodes, path.getKey(), operation);
-                        functionDefinitionNodeList.add(functionDefinitionNode);
-                    }
-                }
+        PaginationGenerator paginationGenerator = new PaginationGenerator(openAPIIndex, ballerinaUtilGenerator,
+                ballerinaSchemaGenerator.getGeneratorMetaData().isNullable());
+        // Generate remote functions only for the operations available in the tag filter or the operation filter
+        for (OpenAPIIndex.OperationEntry operation : openAPIIndex.getOperations(filter)) {
+            // create display annotation of the operation
+            List<AnnotationNode> functionLevelAnnotationNodes  = new ArrayList<>();
+            if (operation.getOperation().getExtensions() != null) {
+                Map<String, Object> extensions = operation.getOperation().getExtensions();
+                DocCommentsGenerator.extractDisplayAnnotation(extensions, functionLevelAnnotationNodes);
+            }
+            FunctionDefinitionNode functionDefinitionNode = getRemoteFunctionDefinitionNode(
+                    functionLevelAnnotationNodes, operation.getPath(), operation.getOperationEntry());
+            functionDefinitionNodeList.add(functionDefinitionNode);
+            // Generate the companion function which streams the items of all the pages of a paginated operation
+            if (PaginationGenerator.isPaginated(operation.getOperation())) {
+                functionDefinitionNodeList.add(paginationGenerator.getStreamFunctionDefinitionNode(
+                        operation.getOperation(), functionDefinitionNode));
             }
         }
         return functionDefinitionNodeList;
@@ -523,11 +533,12 @@ public class BallerinaClientGenerator {
         remoteFunctionNameList.add(operation.getValue().getOperationId());
 
         FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
-                ballerinaSchemaGenerator, typeDefinitionNodeList);
+                ballerinaSchemaGenerator, typeDefinitionRegistry);
+        functionSignatureGenerator.setStreamArrayResponses(streamArrayResponses);
         FunctionSignatureNode functionSignatureNode =
                 functionSignatureGenerator.getFunctionSignatureNode(operation.getValue(),
                         remoteFunctionDocs);
-        typeDefinitionNodeList = functionSignatureGenerator.getTypeDefinitionNodeList();
+        typeDefinitionRegistry = functionSignatureGenerator.getTypeDefinitionRegistry();
         // Create `Deprecated` annotation if an operation has mentioned as `deprecated:true`
         if (operation.getValue().getDeprecated() != null && operation.getValue().getDeprecated()) {
             DocCommentsGenerator.extractDeprecatedAnnotation(operation.getValue().getExtensions(),
@@ -538,8 +549,10 @@ public class BallerinaClientGenerator {
                 createNodeList(remoteFunctionDocs)), createNodeList(annotationNodes));
 
         // Create Function Body
-        FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(imports, typeDefinitionNodeList,
+        FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(imports, typeDefinitionRegistry,
                 openAPI, ballerinaSchemaGenerator, ballerinaAuthConfigGenerator, ballerinaUtilGenerator);
+        functionBodyGenerator.setSpecializeParameters(specializeParameters);
+        functionBodyGenerator.setStreamArrayResponses(streamArrayResponses);
         FunctionBodyNode functionBodyNode = functionBodyGenerator.getFunctionBodyNode(path, operation);
         imports = functionBodyGenerator.getImports();
         return createFunctionDefinitionNode(null,
@@ -552,15 +565,7 @@ public class BallerinaClientGenerator {
      */
     private String getServerURL(List<Server> servers) throws BallerinaOpenApiException {
         String serverURL;
-        Server selectedServer = servers.get(0);
-        if (!selectedServer.getUrl().startsWith("https:") && servers.size() > 1) {
-            for (Server server : servers) {
-                if (server.getUrl().startsWith("https:")) {
-                    selectedServer = server;
-                    break;
-                }
-            }
-        }
+        Server selectedServer = getSelectedServer(servers);
         if (selectedServer.getUrl() == null) {
             serverURL = "http://localhost:9090/v1";
         } else if (selectedServer.getVariables() != null) {
@@ -580,6 +585,26 @@ public class BallerinaClientGenerator {
         return  serverURL;
     }
 
+    /**
+     * Select the server of the client, which is the first HTTPS server or the first server when there is no HTTPS
+     * server.
+     */
+    private static Server getSelectedServer(List<Server> servers) {
+        if (servers == null || servers.isEmpty()) {
+            return null;
+        }
+        Server selectedServer = servers.get(0);
+        if (!selectedServer.getUrl().startsWith("https:") && servers.size() > 1) {
+            for (Server server : servers) {
+                if (server.getUrl().startsWith("https:")) {
+                    selectedServer = server;
+                    break;
+                }
+            }
+        }
+        return selectedServer;
+    }
+
     /**
      * Return auth type to generate test file.
      *
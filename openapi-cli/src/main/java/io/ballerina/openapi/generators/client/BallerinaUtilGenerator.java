@@ -1,10 +1,11 @@
 package io.ballerina.openapi.generators.client;
 
 import io.ballerina.compiler.syntax.tree.CaptureBindingPatternNode;
-import io.ballerina.compiler.syntax.tree.ChildNodeEntry;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
 import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
 import io.ballerina.compiler.syntax.tree.EnumMemberNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.IntersectionTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.MarkdownDocumentationNode;
@@ -24,27 +25,20 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.openapi.generators.DocCommentsGenerator;
 import io.ballerina.openapi.generators.GeneratorUtils;
-import io.ballerina.projects.DocumentId;
-import io.ballerina.projects.Package;
-import io.ballerina.projects.Project;
-import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
-import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PrintWriter;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -90,6 +84,7 @@ import static io.ballerina.openapi.generators.GeneratorConstants.ENCODING;
 import static io.ballerina.openapi.generators.GeneratorConstants.ENCODING_STYLE;
 import static io.ballerina.openapi.generators.GeneratorConstants.EXPLODE;
 import static io.ballerina.openapi.generators.GeneratorConstants.FORM;
+import static io.ballerina.openapi.generators.GeneratorConstants.HTTP;
 import static io.ballerina.openapi.generators.GeneratorConstants.MIME;
 import static io.ballerina.openapi.generators.GeneratorConstants.PIPE_DELIMITED;
 import static io.ballerina.openapi.generators.GeneratorConstants.SPACE_DELIMITED;
@@ -106,7 +101,11 @@ public class BallerinaUtilGenerator {
     private boolean queryParamsFound = false;
     private boolean requestBodyEncodingFound = false;
     private boolean requestBodyMultipartFormDatafound = false;
-    private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
+    private boolean jsonArrayStreamFound = false;
+    private boolean paginationFound = false;
+    private boolean linkPaginationFound = false;
+    private static final String UTIL_TEMPLATE = "templates/utils_openapi.bal";
+    private static volatile Map<String, ModuleMemberDeclarationNode> utilFunctions;
 
     private static final String CREATE_FORM_URLENCODED_REQUEST_BODY = "createFormURLEncodedRequestBody";
     private static final String GET_DEEP_OBJECT_STYLE_REQUEST = "getDeepObjectStyleRequest";
@@ -118,6 +117,14 @@ public class BallerinaUtilGenerator {
     private static final String GET_MAP_FOR_HEADERS = "getMapForHeaders";
     private static final String GET_SERIALIZED_RECORD_ARRAY = "getSerializedRecordArray";
     private static final String CREATE_MULTIPART_BODY_PARTS = "createBodyParts";
+    private static final String GET_JSON_ARRAY_STREAM = "getJsonArrayStream";
+    private static final String GET_APPLICATION_RESPONSE_ERROR = "getApplicationResponseError";
+    private static final String JSON_ARRAY_ELEMENT_ITERATOR = "JsonArrayElementIterator";
+    private static final String PAGE = "Page";
+    private static final String PAGE_FETCHER = "PageFetcher";
+    private static final String GET_PAGE_STREAM = "getPageStream";
+    private static final String PAGE_ITERATOR = "PageIterator";
+    private static final String GET_QUERY_PARAM_FROM_LINK = "getQueryParamFromLink";
 
     /**
      * Set `queryParamsFound` flag to `true` when at least one query parameter found.
@@ -165,6 +172,34 @@ public class BallerinaUtilGenerator {
         this.requestBodyMultipartFormDatafound = flag;
     }
 
+    /**
+     * Set `jsonArrayStreamFound` flag to `true` when at least one function found with a streamed JSON array response.
+     *
+     * @param flag     Function will be called only in the occasions where value needs to be set to `true`.
+     */
+    public void setJsonArrayStreamFound(boolean flag) {
+        this.jsonArrayStreamFound = flag;
+    }
+
+    /**
+     * Set `paginationFound` flag to `true` when at least one paginated operation found.
+     *
+     * @param flag     Function will be called only in the occasions where value needs to be set to `true`.
+     */
+    public void setPaginationFound(boolean flag) {
+        this.paginationFound = flag;
+    }
+
+    /**
+     * Set `linkPaginationFound` flag to `true` when at least one operation found which is paginated with the links
+     * to the next pages.
+     *
+     * @param flag     Function will be called only in the occasions where value needs to be set to `true`.
+     */
+    public void setLinkPaginationFound(boolean flag) {
+        this.linkPaginationFound = flag;
+    }
+
     /**
      * Generates util file syntax tree.
      *
@@ -194,33 +229,29 @@ public class BallerinaUtilGenerator {
         if (requestBodyMultipartFormDatafound) {
             functionNameList.add(CREATE_MULTIPART_BODY_PARTS);
         }
+        if (jsonArrayStreamFound) {
+            functionNameList.addAll(Arrays.asList(GET_JSON_ARRAY_STREAM, GET_APPLICATION_RESPONSE_ERROR,
+                    JSON_ARRAY_ELEMENT_ITERATOR));
+        }
+        if (paginationFound) {
+            functionNameList.addAll(Arrays.asList(PAGE, PAGE_FETCHER, GET_PAGE_STREAM, PAGE_ITERATOR));
+        }
+        if (linkPaginationFound) {
+            functionNameList.add(GET_QUERY_PARAM_FROM_LINK);
+        }
 
         List<ModuleMemberDeclarationNode> memberDeclarationNodes = new ArrayList<>();
         getUtilTypeDeclarationNodes(memberDeclarationNodes);
 
-        Path path = getResourceFilePath();
-
-        Project project = ProjectLoader.loadProject(path);
-        Package currentPackage = project.currentPackage();
-        DocumentId docId = currentPackage.getDefaultModule().documentIds().iterator().next();
-        SyntaxTree syntaxTree = currentPackage.getDefaultModule().document(docId).syntaxTree();
-
-        ModulePartNode modulePartNode = syntaxTree.rootNode();
-        NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
-        for (ModuleMemberDeclarationNode node : members) {
-            if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION)) {
-                for (ChildNodeEntry childNodeEntry : node.childEntries()) {
-                    if (childNodeEntry.name().equals("functionName")) {
-                        if (functionNameList.contains(childNodeEntry.node().get().toString())) {
-                            memberDeclarationNodes.add(node);
-                        }
-                    }
-                }
+        // Functions, classes and types are added in the order they are defined in the template.
+        for (Map.Entry<String, ModuleMemberDeclarationNode> utilFunction : getUtilFunctions().entrySet()) {
+            if (functionNameList.contains(utilFunction.getKey())) {
+                memberDeclarationNodes.add(utilFunction.getValue());
             }
         }
 
         List<ImportDeclarationNode> imports = new ArrayList<>();
-        if (functionNameList.contains(GET_ENCODED_URI)) {
+        if (functionNameList.contains(GET_ENCODED_URI) || functionNameList.contains(GET_QUERY_PARAM_FROM_LINK)) {
             ImportDeclarationNode importForUrl = GeneratorUtils.getImportDeclarationNode(BALLERINA, URL);
             imports.add(importForUrl);
         }
@@ -228,6 +259,9 @@ public class BallerinaUtilGenerator {
             ImportDeclarationNode importMime =  GeneratorUtils.getImportDeclarationNode(BALLERINA, MIME);
             imports.add(importMime);
         }
+        if (jsonArrayStreamFound) {
+            imports.add(GeneratorUtils.getImportDeclarationNode(BALLERINA, HTTP));
+        }
 
         NodeList<ImportDeclarationNode> importsList = createNodeList(imports);
         ModulePartNode utilModulePartNode =
@@ -389,30 +423,49 @@ public class BallerinaUtilGenerator {
     }
 
     /**
-     * Gets the path of the utils_openapi.bal template at the time of execution.
+     * Gets the functions, classes and types of the utils_openapi.bal template indexed by their names. The template
+     * is parsed only once per process, and the immutable definition nodes are shared by all the generations.
      *
-     * @return  Path to utils_openapi.bal file in the temporary directory created
+     * @return  Function, class and type definition nodes in the order they are defined in the template
      * @throws  IOException     When failed to get the templates/utils_openapi.bal file from resources
      */
-    private Path getResourceFilePath() throws IOException {
-        Path path = null;
-        ClassLoader classLoader = getClass().getClassLoader();
-        InputStream inputStream = classLoader.getResourceAsStream("templates/utils_openapi.bal");
-        if (inputStream != null) {
-            String clientSyntaxTreeString = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
-            Path tmpDir = Files.createTempDirectory(".util-tmp" + System.nanoTime());
-            path = tmpDir.resolve("utils.bal");
-            try (PrintWriter writer = new PrintWriter(path.toString(), StandardCharsets.UTF_8)) {
-                writer.print(clientSyntaxTreeString);
+    private static Map<String, ModuleMemberDeclarationNode> getUtilFunctions() throws IOException {
+        Map<String, ModuleMemberDeclarationNode> functions = utilFunctions;
+        if (functions == null) {
+            synchronized (BallerinaUtilGenerator.class) {
+                functions = utilFunctions;
+                if (functions == null) {
+                    functions = loadUtilFunctions();
+                    utilFunctions = functions;
+                }
             }
-            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
-                try {
-                    FileUtils.deleteDirectory(tmpDir.toFile());
-                } catch (IOException ex) {
-                    LOGGER.error("Unable to delete the temporary directory : " + tmpDir, ex);
+        }
+        return functions;
+    }
+
+    private static Map<String, ModuleMemberDeclarationNode> loadUtilFunctions() throws IOException {
+        ClassLoader classLoader = BallerinaUtilGenerator.class.getClassLoader();
+        try (InputStream inputStream = classLoader.getResourceAsStream(UTIL_TEMPLATE)) {
+            if (inputStream == null) {
+                throw new IOException("Unable to find the " + UTIL_TEMPLATE + " file in resources");
+            }
+            String utilTemplateContent = IOUtils.toString(inputStream, StandardCharsets.UTF_8);
+            SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from(utilTemplateContent));
+            ModulePartNode modulePartNode = syntaxTree.rootNode();
+            Map<String, ModuleMemberDeclarationNode> functions = new LinkedHashMap<>();
+            for (ModuleMemberDeclarationNode node : modulePartNode.members()) {
+                if (node.kind().equals(SyntaxKind.FUNCTION_DEFINITION)) {
+                    FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) node;
+                    functions.put(functionDefinitionNode.functionName().text(), functionDefinitionNode);
+                } else if (node.kind().equals(SyntaxKind.CLASS_DEFINITION)) {
+                    ClassDefinitionNode classDefinitionNode = (ClassDefinitionNode) node;
+                    functions.put(classDefinitionNode.className().text(), classDefinitionNode);
+                } else if (node.kind().equals(SyntaxKind.TYPE_DEFINITION)) {
+                    TypeDefinitionNode typeDefinitionNode = (TypeDefinitionNode) node;
+                    functions.put(typeDefinitionNode.typeName().text(), typeDefinitionNode);
                 }
-            }));
+            }
+            return Collections.unmodifiableMap(functions);
         }
-        return path;
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.generators.IdentifierNormalizer;
+import io.ballerina.openapi.generators.OpenAPIIndex;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class splits the operations of a client into shards, which are generated as separate client modules. The
+ * operations are grouped by their first tag when sharding by tag, and each group is split into shards of at most the
+ * given number of operations when a maximum is given.
+ *
+ * @since 2.0.0
+ */
+public class ClientShardPlanner {
+    public static final String DEFAULT_SHARD_NAME = "client";
+
+    private final boolean shardByTag;
+    private final int maxOperations;
+
+    /**
+     * Create a planner with the given sharding options.
+     *
+     * @param shardByTag    whether the operations are grouped by their first tag
+     * @param maxOperations maximum number of operations of a shard, or 0 for no maximum
+     */
+    public ClientShardPlanner(boolean shardByTag, int maxOperations) {
+        this.shardByTag = shardByTag;
+        this.maxOperations = maxOperations;
+    }
+
+    /**
+     * Whether the client is split into shards with the options of the planner.
+     */
+    public boolean isEnabled() {
+        return shardByTag || maxOperations > 0;
+    }
+
+    /**
+     * Split the operations selected by the given filter into shards, in the order of the paths. The names of the
+     * shards are valid and unique Ballerina module names.
+     *
+     * @param openAPIIndex index of the OpenAPI definition
+     * @param filter       tags and operations given in the command
+     * @return shards of the client
+     */
+    public List<Shard> getShards(OpenAPIIndex openAPIIndex, Filter filter) {
+        Map<String, List<String>> groups = new LinkedHashMap<>();
+        for (OpenAPIIndex.OperationEntry operation : openAPIIndex.getOperations(filter)) {
+            List<String> tags = operation.getOperation().getTags();
+            String groupName = shardByTag && tags != null && !tags.isEmpty() ?
+                    getModuleName(tags.get(0)) : DEFAULT_SHARD_NAME;
+            groups.computeIfAbsent(groupName, name -> new ArrayList<>()).add(operation.getOperation()
+                    .getOperationId());
+        }
+        List<Shard> shards = new ArrayList<>();
+        Set<String> shardNames = new HashSet<>();
+        for (Map.Entry<String, List<String>> group : groups.entrySet()) {
+            List<String> operationIds = group.getValue();
+            if (maxOperations <= 0 || operationIds.size() <= maxOperations) {
+                shards.add(new Shard(getUniqueName(group.getKey(), shardNames), operationIds));
+                continue;
+            }
+            for (int start = 0, part = 1; start < operationIds.size(); start += maxOperations, part++) {
+                List<String> partOperationIds = operationIds.subList(start,
+                        Math.min(start + maxOperations, operationIds.size()));
+                shards.add(new Shard(getUniqueName(group.getKey() + part, shardNames), partOperationIds));
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * Get a Ballerina module name for the given tag, which has only lower case letters, digits and underscores and
+     * starts with a letter. A name which is a reserved word, such as {@code type}, is prefixed as well.
+     */
+    private static String getModuleName(String tag) {
+        String moduleName = tag.toLowerCase(Locale.ENGLISH).replaceAll("[^a-z0-9]+", "_")
+                .replaceAll("^_+|_+$", "");
+        if (moduleName.isEmpty()) {
+            return DEFAULT_SHARD_NAME;
+        }
+        if (!Character.isLetter(moduleName.charAt(0)) || IdentifierNormalizer.isKeyword(moduleName)) {
+            return "tag_" + moduleName;
+        }
+        return moduleName;
+    }
+
+    private static String getUniqueName(String name, Set<String> names) {
+        String uniqueName = name;
+        for (int suffix = 2; !names.add(uniqueName); suffix++) {
+            uniqueName = name + "_" + suffix;
+        }
+        return uniqueName;
+    }
+
+    /**
+     * A shard of the client with its module name and the ids of its operations.
+     */
+    public static final class Shard {
+        private final String name;
+        private final List<String> operationIds;
+
+        Shard(String name, List<String> operationIds) {
+            this.name = name;
+            this.operationIds = Collections.unmodifiableList(new ArrayList<>(operationIds));
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<String> getOperationIds() {
+            return operationIds;
+        }
+    }
+}
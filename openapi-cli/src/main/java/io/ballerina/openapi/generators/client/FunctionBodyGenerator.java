@@ -38,13 +38,13 @@ import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
 import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.TemplateExpressionNode;
 import io.ballerina.compiler.syntax.tree.Token;
-import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.GeneratorUtils;
 import io.ballerina.openapi.generators.client.mime.MimeType;
 import io.ballerina.openapi.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.generators.schema.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
@@ -109,6 +109,7 @@ import static io.ballerina.openapi.generators.GeneratorConstants.HEAD;
 import static io.ballerina.openapi.generators.GeneratorConstants.HEADER;
 import static io.ballerina.openapi.generators.GeneratorConstants.HEADER_VALUES;
 import static io.ballerina.openapi.generators.GeneratorConstants.HTTP_HEADERS;
+import static io.ballerina.openapi.generators.GeneratorConstants.HTTP_RESPONSE;
 import static io.ballerina.openapi.generators.GeneratorConstants.NILLABLE;
 import static io.ballerina.openapi.generators.GeneratorConstants.PATCH;
 import static io.ballerina.openapi.generators.GeneratorConstants.POST;
@@ -127,11 +128,16 @@ import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
 public class FunctionBodyGenerator {
     private List<ImportDeclarationNode> imports;
     private boolean isHeader;
-    private final List<TypeDefinitionNode> typeDefinitionNodeList;
+    private final TypeDefinitionRegistry typeDefinitionRegistry;
     private final OpenAPI openAPI;
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
     private final BallerinaUtilGenerator ballerinaUtilGenerator;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
+    private boolean specializeParameters;
+    private boolean streamArrayResponses;
+    // Element type of the stream returned by the function being generated, which is null when the response is not
+    // streamed.
+    private String streamElementType;
 
     public List<ImportDeclarationNode> getImports() {
         return imports;
@@ -141,14 +147,29 @@ public class FunctionBodyGenerator {
         this.imports = imports;
     }
 
-    public FunctionBodyGenerator(List<ImportDeclarationNode> imports, List<TypeDefinitionNode> typeDefinitionNodeList,
+    /**
+     * Set whether the query parameters and headers are serialized by statements generated for each operation,
+     * instead of the util functions.
+     */
+    public void setSpecializeParameters(boolean specializeParameters) {
+        this.specializeParameters = specializeParameters;
+    }
+
+    /**
+     * Set whether the JSON array responses are returned as streams.
+     */
+    public void setStreamArrayResponses(boolean streamArrayResponses) {
+        this.streamArrayResponses = streamArrayResponses;
+    }
+
+    public FunctionBodyGenerator(List<ImportDeclarationNode> imports, TypeDefinitionRegistry typeDefinitionRegistry,
                                  OpenAPI openAPI, BallerinaTypesGenerator ballerinaSchemaGenerator,
                                  BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator,
                                  BallerinaUtilGenerator ballerinaUtilGenerator) {
 
         this.imports = imports;
         this.isHeader = false;
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.typeDefinitionRegistry = typeDefinitionRegistry;
         this.openAPI = openAPI;
         this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
         this.ballerinaUtilGenerator = ballerinaUtilGenerator;
@@ -167,7 +188,8 @@ public class FunctionBodyGenerator {
             throws BallerinaOpenApiException {
         NodeList<AnnotationNode> annotationNodes = createEmptyNodeList();
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
-                openAPI, ballerinaSchemaGenerator, typeDefinitionNodeList);
+                openAPI, ballerinaSchemaGenerator, typeDefinitionRegistry);
+        functionReturnType.setStreamArrayResponses(streamArrayResponses);
         isHeader = false;
         // Create statements
         List<StatementNode> statementsList =  new ArrayList<>();
@@ -182,6 +204,12 @@ public class FunctionBodyGenerator {
         // This return type for target data type binding.
         String rType = functionReturnType.getReturnType(operation.getValue(), true);
         String returnType = returnTypeForTargetTypeField(rType);
+        streamElementType = functionReturnType.getStreamElementType(operation.getValue());
+        if (streamElementType != null) {
+            // The payload of a streamed response is read from the `http:Response`.
+            returnType = HTTP_RESPONSE;
+            ballerinaUtilGenerator.setJsonArrayStreamFound(true);
+        }
         // Statement Generator for requestBody
         if (operation.getValue().getRequestBody() != null) {
             RequestBody requestBody = operation.getValue().getRequestBody();
@@ -247,19 +275,32 @@ public class FunctionBodyGenerator {
             addUpdatedPathAndHeaders(statementsList, queryApiKeyNameList, queryParameters,
                     headerApiKeyNameList, headerParameters);
         } else {
+            ParameterSerializationGenerator parameterSerializationGenerator = new ParameterSerializationGenerator(
+                    ballerinaSchemaGenerator.getGeneratorMetaData().getOpenAPIIndex(),
+                    ballerinaSchemaGenerator.getGeneratorMetaData().isNullable());
             if (!queryParameters.isEmpty() || !queryApiKeyNameList.isEmpty()) {
-                ballerinaUtilGenerator.setQueryParamsFound(true);
-                statementsList.add(getMapForParameters(queryParameters, "map<anydata>",
-                        QUERY_PARAM, queryApiKeyNameList));
-                getUpdatedPathHandlingQueryParamEncoding(statementsList, queryParameters);
+                if (specializeParameters && parameterSerializationGenerator.isSerializableQuery(queryParameters)) {
+                    statementsList.addAll(parameterSerializationGenerator.getQueryStatements(queryParameters,
+                            queryApiKeyNameList));
+                } else {
+                    ballerinaUtilGenerator.setQueryParamsFound(true);
+                    statementsList.add(getMapForParameters(queryParameters, "map<anydata>",
+                            QUERY_PARAM, queryApiKeyNameList));
+                    getUpdatedPathHandlingQueryParamEncoding(statementsList, queryParameters);
+                }
             }
             if (!headerParameters.isEmpty() || !headerApiKeyNameList.isEmpty()) {
-                statementsList.add(getMapForParameters(headerParameters, "map<any>",
-                        HEADER_VALUES, headerApiKeyNameList));
-                statementsList.add(GeneratorUtils.getSimpleExpressionStatementNode(
-                        "map<string|string[]> " + HTTP_HEADERS + " = getMapForHeaders(headerValues)"));
+                if (specializeParameters && parameterSerializationGenerator.isSerializableHeaders(headerParameters)) {
+                    statementsList.addAll(parameterSerializationGenerator.getHeaderStatements(headerParameters,
+                            headerApiKeyNameList));
+                } else {
+                    statementsList.add(getMapForParameters(headerParameters, "map<any>",
+                            HEADER_VALUES, headerApiKeyNameList));
+                    statementsList.add(GeneratorUtils.getSimpleExpressionStatementNode(
+                            "map<string|string[]> " + HTTP_HEADERS + " = getMapForHeaders(headerValues)"));
+                    ballerinaUtilGenerator.setHeadersFound(true);
+                }
                 isHeader = true;
-                ballerinaUtilGenerator.setHeadersFound(true);
             }
         }
     }
@@ -417,8 +458,8 @@ public class FunctionBodyGenerator {
         for (Parameter parameter: queryParameters) {
             Schema paramSchema = parameter.getSchema();
             if (paramSchema.get$ref() != null) {
-                paramSchema  = openAPI.getComponents().getSchemas().get(
-                        getValidName(extractReferenceType(paramSchema.get$ref()), true));
+                paramSchema = ballerinaSchemaGenerator.getGeneratorMetaData().getOpenAPIIndex()
+                        .getReferencedSchema(paramSchema.get$ref());
             }
             if (paramSchema != null && (paramSchema.getProperties() != null ||
                     (paramSchema.getType() != null && paramSchema.getType().equals("array")) ||
@@ -540,8 +581,31 @@ public class FunctionBodyGenerator {
         VariableDeclarationNode clientCall = GeneratorUtils.getSimpleStatement(returnType, RESPONSE,
                 clientCallStatement);
         statementsList.add(clientCall);
+        addReturnStatements(statementsList);
+    }
+
+    /**
+     * Generate the statements which return the response. A streamed response is returned as a stream of the
+     * elements of its JSON array payload.
+     * <pre>
+     *     stream<json, error?> payloadElements = check getJsonArrayStream(response);
+     *     stream<Pet, error?> elementStream = stream from json element in payloadElements
+     *             select check element.cloneWithType();
+     *     return elementStream;
+     * </pre>
+     */
+    private void addReturnStatements(List<StatementNode> statementsList) {
+        String returnVariable = RESPONSE;
+        if (streamElementType != null) {
+            statementsList.add(GeneratorUtils.getSimpleStatement("stream<json, error?>", "payloadElements",
+                    "check getJsonArrayStream(" + RESPONSE + ")"));
+            statementsList.add(GeneratorUtils.getSimpleStatement("stream<" + streamElementType + ", error?>",
+                    "elementStream", "stream from json element in payloadElements select check " +
+                            "element.cloneWithType()"));
+            returnVariable = "elementStream";
+        }
         Token returnKeyWord = createIdentifierToken("return");
-        SimpleNameReferenceNode returns = createSimpleNameReferenceNode(createIdentifierToken(RESPONSE));
+        SimpleNameReferenceNode returns = createSimpleNameReferenceNode(createIdentifierToken(returnVariable));
         ReturnStatementNode returnStatementNode = createReturnStatementNode(returnKeyWord, returns,
                 createToken(SEMICOLON_TOKEN));
         statementsList.add(returnStatementNode);
@@ -605,7 +669,7 @@ public class FunctionBodyGenerator {
      * -- ex: Request body with json payload.
      * <pre>
      *    http:Request request = new;
-     *    json jsonBody = check payload.cloneWithType(json);
+     *    json jsonBody = payload.toJson();
      *    request.setPayload(jsonBody, "application/json");
      *    json response = check self.clientEp->put(path, request);
      * </pre>
@@ -646,19 +710,11 @@ public class FunctionBodyGenerator {
                         "check self.clientEp->" + method + "(" + RESOURCE_PATH + ", request, headers = " +
                                 HTTP_HEADERS + ")");
                 statementsList.add(requestStatement);
-                Token returnKeyWord = createIdentifierToken("return");
-                SimpleNameReferenceNode returns = createSimpleNameReferenceNode(createIdentifierToken(RESPONSE));
-                ReturnStatementNode returnStatementNode = createReturnStatementNode(returnKeyWord, returns,
-                        createToken(SEMICOLON_TOKEN));
-                statementsList.add(returnStatementNode);
+                addReturnStatements(statementsList);
             }
         } else {
             statementsList.add(requestStatement);
-            Token returnKeyWord = createIdentifierToken("return");
-            SimpleNameReferenceNode returnVariable = createSimpleNameReferenceNode(createIdentifierToken(RESPONSE));
-            ReturnStatementNode returnStatementNode = createReturnStatementNode(returnKeyWord, returnVariable,
-                    createToken(SEMICOLON_TOKEN));
-            statementsList.add(returnStatementNode);
+            addReturnStatements(statementsList);
         }
     }
 
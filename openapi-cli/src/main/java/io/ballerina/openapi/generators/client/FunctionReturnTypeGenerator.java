@@ -23,7 +23,9 @@ import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.DocCommentsGenerator;
 import io.ballerina.openapi.generators.GeneratorUtils;
+import io.ballerina.openapi.generators.OpenAPIIndex;
 import io.ballerina.openapi.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.generators.schema.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.ArraySchema;
@@ -38,7 +40,6 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 
 import java.util.ArrayList;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -50,9 +51,11 @@ import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameRefe
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypeDefinitionNode;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.PIPE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
+import static io.ballerina.openapi.generators.GeneratorConstants.APPLICATION_JSON;
 import static io.ballerina.openapi.generators.GeneratorConstants.DEFAULT_RETURN;
 import static io.ballerina.openapi.generators.GeneratorConstants.ERROR;
 import static io.ballerina.openapi.generators.GeneratorConstants.NILLABLE;
+import static io.ballerina.openapi.generators.GeneratorConstants.X_BALLERINA_STREAM;
 import static io.ballerina.openapi.generators.GeneratorUtils.convertOpenAPITypeToBallerina;
 import static io.ballerina.openapi.generators.GeneratorUtils.extractReferenceType;
 import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
@@ -64,16 +67,25 @@ import static io.ballerina.openapi.generators.GeneratorUtils.isValidSchemaName;
 public class FunctionReturnTypeGenerator {
     private OpenAPI openAPI;
     private BallerinaTypesGenerator ballerinaSchemaGenerator;
-    private List<TypeDefinitionNode> typeDefinitionNodeList = new LinkedList<>();
+    private TypeDefinitionRegistry typeDefinitionRegistry = new TypeDefinitionRegistry();
+    private boolean streamArrayResponses;
 
     public FunctionReturnTypeGenerator() {}
 
     public FunctionReturnTypeGenerator(OpenAPI openAPI, BallerinaTypesGenerator ballerinaSchemaGenerator,
-                                       List<TypeDefinitionNode> typeDefinitionNodeList) {
+                                       TypeDefinitionRegistry typeDefinitionRegistry) {
 
         this.openAPI = openAPI;
         this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.typeDefinitionRegistry = typeDefinitionRegistry;
+    }
+
+    /**
+     * Set whether the JSON array responses are streamed, unless the `x-ballerina-stream` extension of the operation
+     * is `false`.
+     */
+    public void setStreamArrayResponses(boolean streamArrayResponses) {
+        this.streamArrayResponses = streamArrayResponses;
     }
 
     /**
@@ -84,6 +96,10 @@ public class FunctionReturnTypeGenerator {
      * @throws BallerinaOpenApiException - throws exception if creating return type fails.
      */
     public String getReturnType(Operation operation, boolean isSignature) throws BallerinaOpenApiException {
+        String streamElementType = getStreamElementType(operation);
+        if (streamElementType != null) {
+            return "stream<" + streamElementType + ", " + ERROR + NILLABLE + ">|" + ERROR;
+        }
         //TODO: Handle multiple media-type
         Set<String> returnTypes = new HashSet<>();
         boolean noContentResponseFound = false;
@@ -128,6 +144,46 @@ public class FunctionReturnTypeGenerator {
         }
     }
 
+    /**
+     * Get the element type of the stream returned by the remote function, when the response of the operation is
+     * streamed. The response is streamed when the `x-ballerina-stream` extension of the operation is `true`, or when
+     * the array responses are streamed and the extension is not given. Only an operation with a single successful
+     * response of a JSON array is streamed. The response of a paginated operation is not streamed, as the items of its
+     * pages are streamed by its companion function.
+     *
+     * @param operation     swagger operation.
+     * @return              element type of the stream, or null when the response is not streamed.
+     * @throws BallerinaOpenApiException - throws exception if creating the element type fails.
+     */
+    public String getStreamElementType(Operation operation) throws BallerinaOpenApiException {
+        Object streamExtension = operation.getExtensions() == null ? null :
+                operation.getExtensions().get(X_BALLERINA_STREAM);
+        boolean isStreamed = streamExtension == null ? streamArrayResponses :
+                Boolean.parseBoolean(streamExtension.toString());
+        if (!isStreamed || operation.getResponses() == null || PaginationGenerator.isPaginated(operation)) {
+            return null;
+        }
+        Map.Entry<String, MediaType> arrayMedia = null;
+        for (Map.Entry<String, ApiResponse> response : operation.getResponses().entrySet()) {
+            if (!response.getKey().startsWith("2")) {
+                continue;
+            }
+            Content content = response.getValue().getContent();
+            if (arrayMedia != null || content == null || content.isEmpty()) {
+                return null;
+            }
+            arrayMedia = content.entrySet().iterator().next();
+        }
+        if (arrayMedia == null || !APPLICATION_JSON.equals(arrayMedia.getKey().trim()) ||
+                !(arrayMedia.getValue().getSchema() instanceof ArraySchema) ||
+                ((ArraySchema) arrayMedia.getValue().getSchema()).getItems() == null) {
+            return null;
+        }
+        String arrayType = generateReturnTypeForArraySchema(arrayMedia,
+                (ArraySchema) arrayMedia.getValue().getSchema(), true);
+        return arrayType.substring(0, arrayType.length() - 2);
+    }
+
     /**
      * Get return data type by traversing OAS schemas.
      */
@@ -145,8 +201,9 @@ public class FunctionReturnTypeGenerator {
             MapSchema mapSchema = (MapSchema) schema;
             type = handleResponseWithMapSchema(operation, media, mapSchema);
         } else  if (schema.get$ref() != null) {
-            type = getValidName(extractReferenceType(schema.get$ref()), true);
-            Schema componentSchema = openAPI.getComponents().getSchemas().get(type);
+            OpenAPIIndex openAPIIndex = ballerinaSchemaGenerator.getGeneratorMetaData().getOpenAPIIndex();
+            type = openAPIIndex.getReferenceTypeName(schema.get$ref());
+            Schema componentSchema = openAPIIndex.getReferencedSchema(schema.get$ref());
             if (!isValidSchemaName(type)) {
                 String operationId = operation.getOperationId();
                 type = Character.toUpperCase(operationId.charAt(0)) + operationId.substring(1) +
@@ -158,7 +215,7 @@ public class FunctionReturnTypeGenerator {
                 }
                 TypeDefinitionNode typeDefinitionNode = ballerinaSchemaGenerator.getTypeDefinitionNode
                         (componentSchema, type, responseDocs);
-                updateTypeDefinitionNodeList(type, typeDefinitionNode);
+                type = registerInlineTypeDefinition(type, typeDefinitionNode);
             }
         } else if (schema instanceof ArraySchema) {
             ArraySchema arraySchema = (ArraySchema) schema;
@@ -190,7 +247,7 @@ public class FunctionReturnTypeGenerator {
                     createSimpleNameReferenceNode(createIdentifierToken(type)),
                     createToken(SEMICOLON_TOKEN));
             // Check already typeDescriptor has same name
-            updateTypeDefinitionNodeList(typeName, typeDefNode);
+            registerTypeDefinition(typeName, typeDefNode);
             if (!isSignature) {
                 type = typeName;
             }
@@ -237,7 +294,7 @@ public class FunctionReturnTypeGenerator {
             String typeName = "OneOf" + getValidName(operation.getOperationId().trim(), true) +  "Response";
             TypeDefinitionNode typeDefNode = ballerinaSchemaGenerator.getTypeDefinitionNode(
                     composedSchema, typeName, new ArrayList<>());
-            updateTypeDefinitionNodeList(typeName, typeDefNode);
+            typeName = registerInlineTypeDefinition(typeName, typeDefNode);
             type = typeDefNode.typeDescriptor().toString();
             if (!isSignature) {
                 type = typeName;
@@ -247,8 +304,7 @@ public class FunctionReturnTypeGenerator {
                     "Response";
             TypeDefinitionNode allOfTypeDefinitionNode = ballerinaSchemaGenerator.getTypeDefinitionNode
                     (composedSchema, recordName, new ArrayList<>());
-            updateTypeDefinitionNodeList(recordName, allOfTypeDefinitionNode);
-            type = recordName;
+            type = registerInlineTypeDefinition(recordName, allOfTypeDefinitionNode);
         }
         return type;
     }
@@ -277,7 +333,7 @@ public class FunctionReturnTypeGenerator {
                 }
                 TypeDefinitionNode recordNode = ballerinaSchemaGenerator.getTypeDefinitionNode
                         (objectSchema, type, returnTypeDocs);
-                updateTypeDefinitionNodeList(type, recordNode);
+                type = registerInlineTypeDefinition(type, recordNode);
             }
         } else {
             type = GeneratorUtils.getBallerinaMediaType(media.getKey().trim());
@@ -308,7 +364,7 @@ public class FunctionReturnTypeGenerator {
                 }
                 TypeDefinitionNode recordNode = ballerinaSchemaGenerator.getTypeDefinitionNode
                         (mapSchema, type, schemaDocs);
-                updateTypeDefinitionNodeList(type, recordNode);
+                type = registerInlineTypeDefinition(type, recordNode);
             }
         } else {
             type = GeneratorUtils.getBallerinaMediaType(media.getKey().trim());
@@ -330,7 +386,7 @@ public class FunctionReturnTypeGenerator {
                 createIdentifierToken(typeName),
                 createSimpleNameReferenceNode(createIdentifierToken(type)),
                 createToken(SEMICOLON_TOKEN));
-        updateTypeDefinitionNodeList(typeName, typeDefNode);
+        registerTypeDefinition(typeName, typeDefNode);
         if (!isSignature) {
             return typeName;
         } else {
@@ -339,24 +395,24 @@ public class FunctionReturnTypeGenerator {
     }
 
     /**
-     * This util function for update the typeDefinition node after check it duplicates.
+     * This util function for register the typeDefinition node unless a node with the same name is registered.
      *
      * @param typeName      - Given Node name
      * @param typeDefNode   - Generated Node
      */
-    public void updateTypeDefinitionNodeList(String typeName, TypeDefinitionNode typeDefNode) {
-        boolean isExit = false;
-        if (!typeDefinitionNodeList.isEmpty()) {
-            for (TypeDefinitionNode typeNode: typeDefinitionNodeList) {
-                if (typeNode.typeName().toString().trim().equals(typeName)) {
-                    isExit = true;
-                }
-            }
-            if (!isExit) {
-                typeDefinitionNodeList.add(typeDefNode);
-            }
-        } else {
-            typeDefinitionNodeList.add(typeDefNode);
-        }
+    public void registerTypeDefinition(String typeName, TypeDefinitionNode typeDefNode) {
+        typeDefinitionRegistry.register(typeName, typeDefNode);
+    }
+
+    /**
+     * This util function for register the typeDefinition node of an inline schema. When an inline type of the same
+     * shape is already registered, the node is dropped and the name of the registered type is returned.
+     *
+     * @param typeName      - Given Node name
+     * @param typeDefNode   - Generated Node
+     * @return name of the type to be used for the inline schema
+     */
+    public String registerInlineTypeDefinition(String typeName, TypeDefinitionNode typeDefNode) {
+        return typeDefinitionRegistry.registerInlineType(typeName, typeDefNode);
     }
 }
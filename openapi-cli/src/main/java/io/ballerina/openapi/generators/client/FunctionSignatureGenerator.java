@@ -39,7 +39,9 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.DocCommentsGenerator;
 import io.ballerina.openapi.generators.GeneratorUtils;
+import io.ballerina.openapi.generators.OpenAPIIndex;
 import io.ballerina.openapi.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.generators.schema.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.headers.Header;
@@ -102,6 +104,7 @@ import static io.ballerina.openapi.generators.GeneratorConstants.X_BALLERINA_DEP
 import static io.ballerina.openapi.generators.GeneratorUtils.convertOpenAPITypeToBallerina;
 import static io.ballerina.openapi.generators.GeneratorUtils.escapeIdentifier;
 import static io.ballerina.openapi.generators.GeneratorUtils.extractReferenceType;
+import static io.ballerina.openapi.generators.GeneratorUtils.getParameterBasicType;
 import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
 
 /**
@@ -110,24 +113,34 @@ import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
  */
 public class FunctionSignatureGenerator {
     private final OpenAPI openAPI;
+    private final OpenAPIIndex openAPIIndex;
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
-    private final List<TypeDefinitionNode> typeDefinitionNodeList;
+    private final TypeDefinitionRegistry typeDefinitionRegistry;
     private FunctionReturnTypeGenerator functionReturnType;
     private boolean deprecatedParamFound = false;
+    private boolean streamArrayResponses;
 
-    public List<TypeDefinitionNode> getTypeDefinitionNodeList() {
-        return typeDefinitionNodeList;
+    public TypeDefinitionRegistry getTypeDefinitionRegistry() {
+        return typeDefinitionRegistry;
+    }
+
+    /**
+     * Set whether the JSON array responses are returned as streams.
+     */
+    public void setStreamArrayResponses(boolean streamArrayResponses) {
+        this.streamArrayResponses = streamArrayResponses;
     }
 
     public FunctionSignatureGenerator(OpenAPI openAPI,
                                       BallerinaTypesGenerator ballerinaSchemaGenerator,
-                                      List<TypeDefinitionNode> typeDefinitionNodeList) {
+                                      TypeDefinitionRegistry typeDefinitionRegistry) {
 
         this.openAPI = openAPI;
+        this.openAPIIndex = ballerinaSchemaGenerator.getGeneratorMetaData().getOpenAPIIndex();
         this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+        this.typeDefinitionRegistry = typeDefinitionRegistry;
         this.functionReturnType =  new FunctionReturnTypeGenerator
-                (openAPI, ballerinaSchemaGenerator, typeDefinitionNodeList);
+                (openAPI, ballerinaSchemaGenerator, typeDefinitionRegistry);
 
     }
 
@@ -143,7 +156,8 @@ public class FunctionSignatureGenerator {
         // Store the parameters for method.
         List<Node> parameterList =  new ArrayList<>();
         functionReturnType =  new FunctionReturnTypeGenerator
-                (openAPI, ballerinaSchemaGenerator, typeDefinitionNodeList);
+                (openAPI, ballerinaSchemaGenerator, typeDefinitionRegistry);
+        functionReturnType.setStreamArrayResponses(streamArrayResponses);
         setFunctionParameters(operation, parameterList, createToken(COMMA_TOKEN), remoteFunctionDoc);
 
         if (parameterList.size() >= 2) {
@@ -286,7 +300,7 @@ public class FunctionSignatureGenerator {
         Schema parameterSchema = parameter.getSchema();
         String paramType = "";
         if (parameterSchema.get$ref() != null) {
-            paramType = getValidName(extractReferenceType(parameterSchema.get$ref()), true);
+            paramType = openAPIIndex.getReferenceTypeName(parameterSchema.get$ref());
         } else {
             paramType = convertOpenAPITypeToBallerina(parameterSchema.getType().trim());
             if (parameterSchema.getType().equals(NUMBER)) {
@@ -307,8 +321,8 @@ public class FunctionSignatureGenerator {
                                 parameter.getName());
                     }
                 } else if (arraySchema.getItems().get$ref() != null) {
-                    paramType = getValidName(extractReferenceType(
-                            arraySchema.getItems().get$ref().trim()), true) + SQUARE_BRACKETS;
+                    paramType = openAPIIndex.getReferenceTypeName(arraySchema.getItems().get$ref().trim()) +
+                            SQUARE_BRACKETS;
                 } else {
                     throw new BallerinaOpenApiException("Please define the array item type of the parameter : " +
                             parameter.getName());
@@ -361,8 +375,8 @@ public class FunctionSignatureGenerator {
         String type = "";
         Schema parameterSchema = parameter.getSchema();
         if (parameterSchema.get$ref() != null) {
-            type = getValidName(extractReferenceType(parameterSchema.get$ref()), true);
-            Schema schema = openAPI.getComponents().getSchemas().get(type.trim());
+            type = openAPIIndex.getReferenceTypeName(parameterSchema.get$ref());
+            Schema schema = openAPIIndex.getReferencedSchema(parameterSchema.get$ref());
             if (schema instanceof ObjectSchema) {
                 throw new BallerinaOpenApiException("Ballerina does not support object type path parameters.");
             }
@@ -417,13 +431,13 @@ public class FunctionSignatureGenerator {
     private Node getHeader(boolean isRequiredHeader, Schema schema, IdentifierToken paramName,
                            NodeList<AnnotationNode> parameterAnnotationNodeList) throws BallerinaOpenApiException {
         if (isRequiredHeader) {
-            String type = convertOpenAPITypeToBallerina(schema.getType().trim());
+            String type = getParameterBasicType(schema);
             if (schema instanceof ArraySchema) {
                 ArraySchema arraySchema = (ArraySchema) schema;
                 if (arraySchema.getItems().get$ref() != null) {
                     type = extractReferenceType(arraySchema.getItems().get$ref()) + SQUARE_BRACKETS;
                 } else {
-                    type = convertOpenAPITypeToBallerina(arraySchema.getItems().getType().trim()) + SQUARE_BRACKETS;
+                    type = getParameterBasicType(arraySchema.getItems()) + SQUARE_BRACKETS;
                 }
             }
             BuiltinSimpleNameReferenceNode typeName = createBuiltinSimpleNameReferenceNode(null,
@@ -432,7 +446,7 @@ public class FunctionSignatureGenerator {
         } else {
             if (schema.getDefault() != null) {
                 BuiltinSimpleNameReferenceNode typeName = createBuiltinSimpleNameReferenceNode(null,
-                        createIdentifierToken(convertOpenAPITypeToBallerina(schema.getType().trim())));
+                        createIdentifierToken(getParameterBasicType(schema)));
                 LiteralValueToken literalValueToken;
                 if (schema.getType().equals(STRING)) {
                     literalValueToken = createLiteralValueToken(null,
@@ -445,13 +459,13 @@ public class FunctionSignatureGenerator {
                 return createDefaultableParameterNode(parameterAnnotationNodeList, typeName, paramName,
                         createToken(EQUAL_TOKEN), literalValueToken);
             } else {
-                String type = convertOpenAPITypeToBallerina(schema.getType().trim()) + NILLABLE;
+                String type = getParameterBasicType(schema) + NILLABLE;
                 if (schema instanceof ArraySchema) {
                     ArraySchema arraySchema = (ArraySchema) schema;
                     if (arraySchema.getItems().get$ref() != null) {
                         type = extractReferenceType(arraySchema.getItems().get$ref()) + SQUARE_BRACKETS + NILLABLE;
                     } else {
-                        type = convertOpenAPITypeToBallerina(arraySchema.getItems().getType().trim()) + SQUARE_BRACKETS
+                        type = getParameterBasicType(arraySchema.getItems()) + SQUARE_BRACKETS
                                 + NILLABLE;
                     }
                 }
@@ -483,7 +497,7 @@ public class FunctionSignatureGenerator {
                 if (next.getKey().equals(ANY_TYPE) || next.getKey().contains(VENDOR_SPECIFIC_TYPE)) {
                     paramType = SyntaxKind.BYTE_KEYWORD.stringValue() + SQUARE_BRACKETS;
                 } else if (schema.get$ref() != null) {
-                    paramType = getValidName(extractReferenceType(schema.get$ref().trim()), true);
+                    paramType = openAPIIndex.getReferenceTypeName(schema.get$ref().trim());
                 } else if (schema.getType() != null && !schema.getType().equals(ARRAY) && !schema.getType().equals(
                         OBJECT)) {
                     String typeOfPayload = schema.getType().trim();
@@ -556,13 +570,13 @@ public class FunctionSignatureGenerator {
         if (arrayItems.getType() != null) {
             paramType = convertOpenAPITypeToBallerina(arrayItems.getType()) + SQUARE_BRACKETS;
         } else if (arrayItems.get$ref() != null) {
-            paramType = getValidName(extractReferenceType(arrayItems.get$ref()), true) + SQUARE_BRACKETS;
+            paramType = openAPIIndex.getReferenceTypeName(arrayItems.get$ref()) + SQUARE_BRACKETS;
         } else if (arrayItems instanceof ComposedSchema) {
             paramType = "CompoundArrayItem" +  getValidName(operationId, true) + "Request";
             // TODO - Add API doc by checking requestBody
             TypeDefinitionNode arrayTypeNode =
                     ballerinaSchemaGenerator.getTypeDefinitionNode(arraySchema, paramType, new ArrayList<>());
-            functionReturnType.updateTypeDefinitionNodeList(paramType, arrayTypeNode);
+            paramType = functionReturnType.registerInlineTypeDefinition(paramType, arrayTypeNode);
         } else {
             paramType = GeneratorUtils.getBallerinaMediaType(next.getKey().trim()) + SQUARE_BRACKETS;
         }
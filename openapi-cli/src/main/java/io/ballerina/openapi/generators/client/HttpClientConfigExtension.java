@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.servers.Server;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import static io.ballerina.openapi.generators.GeneratorConstants.X_BALLERINA_HTTP_CLIENT_CONFIG;
+import static io.ballerina.openapi.generators.GeneratorUtils.escapeIdentifier;
+
+/**
+ * This class reads the default values of the HTTP client configurations of a generated client from the
+ * {@code x-ballerina-http-client-config} extension. The extension can be given in the OpenAPI definition and in the
+ * server of the client, and the values given in the server override the values given in the definition.
+ *
+ * <pre>
+ *     x-ballerina-http-client-config:
+ *       timeout: 30
+ *       compression: ALWAYS
+ *       poolConfig:
+ *         maxActiveConnections: 100
+ * </pre>
+ *
+ * The values are converted to Ballerina expressions, which are used as the default values of the `ClientConfig`
+ * record fields, or of the `http:ClientConfiguration` parameter of the client init function.
+ *
+ * @since 2.0.0
+ */
+public class HttpClientConfigExtension {
+    private static final String COMPRESSION = "compression";
+    private static final Set<String> COMPRESSION_VALUES = Set.of("AUTO", "ALWAYS", "NEVER");
+    // Fields of the `http:ClientConfiguration` which can be given in the extension.
+    private static final Set<String> CONFIG_FIELDS = Set.of("httpVersion", "http1Settings", "http2Settings",
+            "timeout", "forwarded", "followRedirects", "poolConfig", "cache", COMPRESSION, "circuitBreaker",
+            "retryConfig", "cookieConfig", "responseLimits");
+    // Fields of the `http:ClientConfiguration` of string types, whose values are generated as string literals even
+    // when they are numbers or booleans in the extension, such as an unquoted `httpVersion: 2.0`.
+    private static final Set<String> STRING_FIELDS = Set.of("httpVersion", "forwarded", "http1Settings.keepAlive",
+            "http1Settings.chunking");
+
+    private HttpClientConfigExtension() {
+    }
+
+    /**
+     * Get the default values of the HTTP client configurations given in the extension for the given server.
+     *
+     * @param openAPI OpenAPI definition of the client
+     * @param server  server of the client, or null when the client has no server
+     * @return Ballerina expressions of the default values, in the order they are given, by the field names
+     * @throws BallerinaOpenApiException when the extension has an unsupported field or value
+     */
+    public static Map<String, String> getDefaultValues(OpenAPI openAPI, Server server)
+            throws BallerinaOpenApiException {
+        Map<String, Object> config = new LinkedHashMap<>();
+        merge(config, getExtension(openAPI.getExtensions()));
+        if (server != null) {
+            merge(config, getExtension(server.getExtensions()));
+        }
+        Map<String, String> defaultValues = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> field : config.entrySet()) {
+            if (!CONFIG_FIELDS.contains(field.getKey())) {
+                throw new BallerinaOpenApiException(String.format(Locale.ENGLISH,
+                        "Unsupported field `%s` is given in the `%s` extension", field.getKey(),
+                        X_BALLERINA_HTTP_CLIENT_CONFIG));
+            }
+            defaultValues.put(field.getKey(), COMPRESSION.equals(field.getKey()) ?
+                    getCompression(field.getValue()) : getExpression(field.getKey(), field.getValue()));
+        }
+        return defaultValues;
+    }
+
+    /**
+     * Get the mapping constructor of the given default values, which is used as the default value of the
+     * `http:ClientConfiguration` parameter.
+     *
+     * @param defaultValues Ballerina expressions of the default values by the field names
+     * @return mapping constructor expression, which is {@code {}} when there are no default values
+     */
+    public static String getMappingConstructor(Map<String, String> defaultValues) {
+        StringJoiner fields = new StringJoiner(", ", "{", "}");
+        for (Map.Entry<String, String> defaultValue : defaultValues.entrySet()) {
+            fields.add(defaultValue.getKey() + ": " + defaultValue.getValue());
+        }
+        return fields.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> getExtension(Map<String, Object> extensions)
+            throws BallerinaOpenApiException {
+        if (extensions == null || extensions.get(X_BALLERINA_HTTP_CLIENT_CONFIG) == null) {
+            return Map.of();
+        }
+        Object extension = extensions.get(X_BALLERINA_HTTP_CLIENT_CONFIG);
+        if (!(extension instanceof Map)) {
+            throw new BallerinaOpenApiException(String.format(Locale.ENGLISH,
+                    "The `%s` extension should be an object", X_BALLERINA_HTTP_CLIENT_CONFIG));
+        }
+        return (Map<String, Object>) extension;
+    }
+
+    /**
+     * Merge the given values into the given configuration. The nested objects are merged field by field, and the
+     * other values replace the existing values.
+     */
+    @SuppressWarnings("unchecked")
+    private static void merge(Map<String, Object> config, Map<String, Object> values) {
+        for (Map.Entry<String, Object> value : values.entrySet()) {
+            Object existingValue = config.get(value.getKey());
+            if (existingValue instanceof Map && value.getValue() instanceof Map) {
+                Map<String, Object> mergedValue = new LinkedHashMap<>((Map<String, Object>) existingValue);
+                merge(mergedValue, (Map<String, Object>) value.getValue());
+                config.put(value.getKey(), mergedValue);
+            } else {
+                config.put(value.getKey(), value.getValue());
+            }
+        }
+    }
+
+    private static String getCompression(Object value) throws BallerinaOpenApiException {
+        String compression = String.valueOf(value).toUpperCase(Locale.ENGLISH);
+        if (!COMPRESSION_VALUES.contains(compression)) {
+            throw new BallerinaOpenApiException(String.format(Locale.ENGLISH,
+                    "Unsupported compression `%s` is given in the `%s` extension, the compression should be one of " +
+                            "%s", value, X_BALLERINA_HTTP_CLIENT_CONFIG, COMPRESSION_VALUES));
+        }
+        return "http:COMPRESSION_" + compression;
+    }
+
+    /**
+     * Get the Ballerina expression of the value of the field at the given path, such as {@code poolConfig} or
+     * {@code http1Settings.keepAlive}.
+     */
+    private static String getExpression(String path, Object value) {
+        if (value == null) {
+            return "()";
+        }
+        if (value instanceof Map) {
+            StringJoiner fields = new StringJoiner(", ", "{", "}");
+            for (Map.Entry<?, ?> field : ((Map<?, ?>) value).entrySet()) {
+                String fieldName = String.valueOf(field.getKey());
+                fields.add(escapeIdentifier(fieldName) + ": " + getExpression(path + "." + fieldName,
+                        field.getValue()));
+            }
+            return fields.toString();
+        }
+        if (value instanceof List) {
+            StringJoiner members = new StringJoiner(", ", "[", "]");
+            for (Object member : (List<?>) value) {
+                members.add(getExpression(path, member));
+            }
+            return members.toString();
+        }
+        if ((value instanceof Number || value instanceof Boolean) && !STRING_FIELDS.contains(path)) {
+            return value.toString();
+        }
+        return '"' + value.toString().replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+}
@@ -0,0 +1,508 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.ExplicitAnonymousFunctionExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
+import io.ballerina.compiler.syntax.tree.MarkdownDocumentationNode;
+import io.ballerina.compiler.syntax.tree.MarkdownParameterDocumentationLineNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.ReturnStatementNode;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.StreamTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.DocCommentsGenerator;
+import io.ballerina.openapi.generators.GeneratorUtils;
+import io.ballerina.openapi.generators.OpenAPIIndex;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createCaptureBindingPatternNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createDefaultableParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createErrorTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createExplicitAnonymousFunctionExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionBodyBlockNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionSignatureNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMarkdownDocumentationNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createOptionalTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createStreamTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createStreamTypeParamsNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypedBindingPatternNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createUnionTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createVariableDeclarationNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.ERROR_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.FUNCTION_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.GT_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.ISOLATED_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.LT_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.PIPE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.PUBLIC_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.QUESTION_MARK_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURNS_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURN_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.STREAM_KEYWORD;
+import static io.ballerina.openapi.generators.GeneratorConstants.ERROR;
+import static io.ballerina.openapi.generators.GeneratorConstants.NILLABLE;
+import static io.ballerina.openapi.generators.GeneratorConstants.QUERY;
+import static io.ballerina.openapi.generators.GeneratorConstants.X_BALLERINA_PAGINATION;
+import static io.ballerina.openapi.generators.GeneratorUtils.convertOpenAPITypeToBallerina;
+import static io.ballerina.openapi.generators.GeneratorUtils.escapeIdentifier;
+import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
+
+/**
+ * This class generates the companion function of a paginated remote function, which returns the items of all the
+ * pages as a stream. The pages are fetched by the remote function as the items are consumed. An operation is
+ * paginated with the {@code x-ballerina-pagination} extension.
+ *
+ * <pre>
+ *     x-ballerina-pagination:
+ *       strategy: cursor
+ *       param: cursor
+ *       next: nextCursor
+ *       items: pets
+ *       prefetch: true
+ * </pre>
+ *
+ * The {@code param} is the query parameter which selects the page. With the {@code cursor} strategy, the cursor of
+ * the next page is given in the {@code next} field of the response. With the {@code offset} strategy, the offset of
+ * the next page is the offset of the current page added to the number of its items, and the pages end with an empty
+ * page. With the {@code link} strategy, the link to the next page is given in the {@code next} field of the response,
+ * and the value of the parameter is taken from the query of the link. The {@code items} field of the response has the
+ * items of the page, and the response itself is the array of the items when it is not given. The {@code prefetch}
+ * value is the default value of the {@code prefetch} parameter of the companion function, which fetches the next
+ * page while the items of the current page are consumed.
+ *
+ * @since 2.0.0
+ */
+public class PaginationGenerator {
+    private static final String STRATEGY = "strategy";
+    private static final String PARAM = "param";
+    private static final String NEXT = "next";
+    private static final String ITEMS = "items";
+    private static final String PREFETCH = "prefetch";
+    private static final Set<String> FIELDS = Set.of(STRATEGY, PARAM, NEXT, ITEMS, PREFETCH);
+    private static final String CURSOR = "cursor";
+    private static final String OFFSET = "offset";
+    private static final String LINK = "link";
+    private static final Set<String> BASIC_TYPES = Set.of("string", "integer", "number", "boolean");
+    // Values of these types are immutable, hence the parameters of these types are captured by the isolated page
+    // fetcher function without a read-only copy.
+    private static final Set<String> IMMUTABLE_TYPES = Set.of("string", "int", "float", "decimal", "boolean");
+
+    private static final String PAGE_TOKEN = "pageToken";
+    private static final String PAGE_RESPONSE = "pageResponse";
+    private static final String PAGE_ITEMS = "pageItems";
+    private static final String FETCH_PAGE = "fetchPage";
+    private static final String ITEM_STREAM = "itemStream";
+
+    private final OpenAPIIndex openAPIIndex;
+    private final BallerinaUtilGenerator ballerinaUtilGenerator;
+    private final boolean nullable;
+
+    public PaginationGenerator(OpenAPIIndex openAPIIndex, BallerinaUtilGenerator ballerinaUtilGenerator,
+                               boolean nullable) {
+        this.openAPIIndex = openAPIIndex;
+        this.ballerinaUtilGenerator = ballerinaUtilGenerator;
+        this.nullable = nullable;
+    }
+
+    /**
+     * Check whether the given operation is paginated with the {@code x-ballerina-pagination} extension. The response
+     * of a paginated operation is not streamed, as the companion function streams the items of its pages.
+     */
+    public static boolean isPaginated(Operation operation) {
+        return operation.getExtensions() != null && operation.getExtensions().get(X_BALLERINA_PAGINATION) != null;
+    }
+
+    /**
+     * Generate the companion function of the given paginated remote function.
+     * <pre>
+     *     public isolated function listPetsStream(string? status = (), boolean prefetch = false)
+     *             returns stream&lt;Pet, error?&gt;|error {
+     *         PageFetcher fetchPage = isolated function(anydata pageToken) returns Page|error {
+     *             string? cursor = check pageToken.ensureType();
+     *             PetPage pageResponse = check self->listPets(status = status, cursor = cursor);
+     *             anydata[] pageItems = pageResponse.pets;
+     *             return {items: pageItems, next: pageResponse?.nextCursor};
+     *         };
+     *         stream&lt;anydata, error?&gt; pageStream = getPageStream(fetchPage, (), prefetch);
+     *         stream&lt;Pet, error?&gt; itemStream = stream from anydata pageItem in pageStream
+     *                 select check pageItem.cloneWithType();
+     *         return itemStream;
+     *     }
+     * </pre>
+     *
+     * @param operation      paginated operation
+     * @param remoteFunction remote function of the operation
+     * @return companion function which returns the items of all the pages as a stream
+     * @throws BallerinaOpenApiException when the pagination extension is invalid for the operation
+     */
+    public FunctionDefinitionNode getStreamFunctionDefinitionNode(Operation operation,
+                                                                  FunctionDefinitionNode remoteFunction)
+            throws BallerinaOpenApiException {
+        String operationId = operation.getOperationId();
+        Map<String, Object> pagination = getPagination(operation);
+        String strategy = String.valueOf(pagination.get(STRATEGY)).toLowerCase(Locale.ENGLISH);
+        if (!Set.of(CURSOR, OFFSET, LINK).contains(strategy)) {
+            throw new BallerinaOpenApiException(String.format(Locale.ENGLISH,
+                    "Unsupported strategy `%s` is given in the `%s` extension of the operation `%s`, the strategy " +
+                            "should be one of cursor, offset and link", pagination.get(STRATEGY),
+                    X_BALLERINA_PAGINATION, operationId));
+        }
+        Parameter pageParameter = getPageParameter(operation, getField(pagination, PARAM, operationId));
+        if (!strategy.equals(OFFSET) && Boolean.TRUE.equals(pageParameter.getRequired())) {
+            // The first page is fetched without a cursor or a link, hence the page parameter should be optional.
+            throw new BallerinaOpenApiException(String.format(Locale.ENGLISH,
+                    "The page parameter `%s` of the operation `%s` should be optional for the %s strategy",
+                    pageParameter.getName().trim(), operationId, strategy));
+        }
+        String itemsField = pagination.get(ITEMS) == null ? null : pagination.get(ITEMS).toString();
+        String nextField = strategy.equals(OFFSET) ? null : getField(pagination, NEXT, operationId);
+        boolean prefetch = Boolean.parseBoolean(String.valueOf(pagination.get(PREFETCH)));
+
+        FunctionSignatureNode remoteSignature = remoteFunction.functionSignature();
+        String returnType = remoteSignature.returnTypeDesc().isPresent() ?
+                remoteSignature.returnTypeDesc().get().type().toString().trim() : "";
+        if (!returnType.endsWith("|" + ERROR) || returnType.startsWith("stream<")) {
+            throw new BallerinaOpenApiException(String.format(Locale.ENGLISH,
+                    "The paginated operation `%s` should have a single successful response with content",
+                    operationId));
+        }
+        String responseType = returnType.substring(0, returnType.length() - ERROR.length() - 1);
+        Schema<?> responseSchema = getResponseSchema(operation);
+        String itemType = getItemType(responseSchema, itemsField, operationId);
+
+        // Parameters of the remote function except the page parameter, which are given to the remote function as
+        // they are, or as read-only copies when they are not immutable.
+        String pageParameterName = getValidName(pageParameter.getName().trim(), false);
+        List<Node> parameters = new ArrayList<>();
+        List<StatementNode> statements = new ArrayList<>();
+        StringJoiner arguments = new StringJoiner(", ");
+        for (ParameterNode parameterNode : remoteSignature.parameters()) {
+            String name = getParameterName(parameterNode);
+            if (name.equals(pageParameterName)) {
+                continue;
+            }
+            String type = getParameterType(parameterNode);
+            parameters.add(parameterNode);
+            parameters.add(createToken(COMMA_TOKEN));
+            if (IMMUTABLE_TYPES.contains(type.replace(NILLABLE, ""))) {
+                arguments.add(name + " = " + name);
+            } else {
+                String copyName = name.replace("'", "") + "Value";
+                statements.add(GeneratorUtils.getSimpleStatement("final " + type + " & readonly", copyName,
+                        name + ".cloneReadOnly()"));
+                arguments.add(name + " = " + copyName);
+            }
+        }
+        arguments.add(pageParameterName + " = " + pageParameterName);
+        parameters.add(createDefaultableParameterNode(createEmptyNodeList(),
+                createBuiltinSimpleNameReferenceNode(null, createIdentifierToken("boolean")),
+                createIdentifierToken(PREFETCH), createToken(EQUAL_TOKEN),
+                createSimpleNameReferenceNode(createIdentifierToken(String.valueOf(prefetch)))));
+
+        // Statements of the page fetcher function
+        String pageParameterType = getPageParameterType(pageParameter, strategy, operationId);
+        List<StatementNode> fetcherStatements = new ArrayList<>();
+        if (strategy.equals(LINK) && pageParameterType.equals("int")) {
+            fetcherStatements.add(GeneratorUtils.getSimpleStatement("int?", pageParameterName,
+                    PAGE_TOKEN + " is string ? check int:fromString(" + PAGE_TOKEN + ") : ()"));
+        } else {
+            fetcherStatements.add(GeneratorUtils.getSimpleStatement(
+                    strategy.equals(OFFSET) ? pageParameterType : pageParameterType + NILLABLE, pageParameterName,
+                    "check " + PAGE_TOKEN + ".ensureType()"));
+        }
+        fetcherStatements.add(GeneratorUtils.getSimpleStatement(responseType, PAGE_RESPONSE,
+                "check self->" + remoteFunction.functionName().text() + "(" + arguments + ")"));
+        fetcherStatements.add(GeneratorUtils.getSimpleStatement("anydata[]", PAGE_ITEMS,
+                getItemsExpression(responseSchema, itemsField)));
+        String nextPageToken;
+        if (strategy.equals(OFFSET)) {
+            nextPageToken = PAGE_ITEMS + ".length() == 0 ? () : " + pageParameterName + " + " + PAGE_ITEMS +
+                    ".length()";
+        } else if (strategy.equals(LINK)) {
+            nextPageToken = "check getQueryParamFromLink(" + PAGE_RESPONSE + "?." + escapeIdentifier(nextField) +
+                    ", \"" + pageParameter.getName().trim() + "\")";
+            ballerinaUtilGenerator.setLinkPaginationFound(true);
+        } else {
+            nextPageToken = PAGE_RESPONSE + "?." + escapeIdentifier(nextField);
+        }
+        fetcherStatements.add(getReturnStatement("{items: " + PAGE_ITEMS + ", next: " + nextPageToken + "}"));
+
+        // Statements of the companion function
+        statements.add(getPageFetcherStatement(fetcherStatements));
+        statements.add(GeneratorUtils.getSimpleStatement("stream<anydata, error?>", "pageStream",
+                "getPageStream(" + FETCH_PAGE + ", " + (strategy.equals(OFFSET) ? "0" : "()") + ", " + PREFETCH +
+                        ")"));
+        statements.add(GeneratorUtils.getSimpleStatement("stream<" + itemType + ", error?>", ITEM_STREAM,
+                "stream from anydata pageItem in pageStream select check pageItem.cloneWithType()"));
+        statements.add(getReturnStatement(ITEM_STREAM));
+        ballerinaUtilGenerator.setPaginationFound(true);
+
+        FunctionSignatureNode signature = createFunctionSignatureNode(createToken(OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(parameters), createToken(CLOSE_PAREN_TOKEN),
+                createReturnTypeDescriptorNode(createToken(RETURNS_KEYWORD), createEmptyNodeList(),
+                        createUnionTypeDescriptorNode(getStreamTypeDescriptorNode(itemType), createToken(PIPE_TOKEN),
+                                createErrorTypeDescriptorNode(createToken(ERROR_KEYWORD), null))));
+        FunctionBodyBlockNode body = createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN), null,
+                createNodeList(statements), createToken(CLOSE_BRACE_TOKEN));
+        return createFunctionDefinitionNode(null, getMetadataNode(remoteFunction, pageParameterName),
+                createNodeList(createToken(PUBLIC_KEYWORD), createToken(ISOLATED_KEYWORD)),
+                createToken(FUNCTION_KEYWORD),
+                createIdentifierToken(remoteFunction.functionName().text() + "Stream"), createEmptyNodeList(),
+                signature, body);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> getPagination(Operation operation) throws BallerinaOpenApiException {
+        Object extension = operation.getExtensions().get(X_BALLERINA_PAGINATION);
+        if (!(extension instanceof Map)) {
+            throw new BallerinaOpenApiException(String.format(Locale.ENGLISH,
+                    "The `%s` extension of the operation `%s` should be an object", X_BALLERINA_PAGINATION,
+                    operation.getOperationId()));
+        }
+        Map<String, Object> pagination = (Map<String, Object>) extension;
+        for (String field : pagination.keySet()) {
+            if (!FIELDS.contains(field)) {
+                throw new BallerinaOpenApiException(String.format(Locale.ENGLISH,
+                        "Unsupported field `%s` is given in the `%s` extension of the operation `%s`", field,
+                        X_BALLERINA_PAGINATION, operation.getOperationId()));
+            }
+        }
+        return pagination;
+    }
+
+    private static String getField(Map<String, Object> pagination, String field, String operationId)
+            throws BallerinaOpenApiException {
+        if (pagination.get(field) == null) {
+            throw new BallerinaOpenApiException(String.format(Locale.ENGLISH,
+                    "The `%s` field is not given in the `%s` extension of the operation `%s`", field,
+                    X_BALLERINA_PAGINATION, operationId));
+        }
+        return pagination.get(field).toString();
+    }
+
+    private static Parameter getPageParameter(Operation operation, String name) throws BallerinaOpenApiException {
+        if (operation.getParameters() != null) {
+            for (Parameter parameter : operation.getParameters()) {
+                if (QUERY.equals(parameter.getIn()) && name.equals(parameter.getName().trim())) {
+                    return parameter;
+                }
+            }
+        }
+        throw new BallerinaOpenApiException(String.format(Locale.ENGLISH,
+                "The page parameter `%s` of the `%s` extension is not a query parameter of the operation `%s`", name,
+                X_BALLERINA_PAGINATION, operation.getOperationId()));
+    }
+
+    /**
+     * Get the type of the page parameter, which should be an integer for the offset strategy, and a string or an
+     * integer for the other strategies.
+     */
+    private String getPageParameterType(Parameter pageParameter, String strategy, String operationId)
+            throws BallerinaOpenApiException {
+        Schema<?> schema = pageParameter.getSchema();
+        if (schema != null && schema.get$ref() != null) {
+            schema = openAPIIndex.getReferencedSchema(schema.get$ref());
+        }
+        String type = schema == null ? null : schema.getType();
+        if ("integer".equals(type) || ("string".equals(type) && !strategy.equals(OFFSET))) {
+            return convertOpenAPITypeToBallerina(type);
+        }
+        throw new BallerinaOpenApiException(String.format(Locale.ENGLISH,
+                "The page parameter `%s` of the operation `%s` should be %s", pageParameter.getName(), operationId,
+                strategy.equals(OFFSET) ? "an integer" : "a string or an integer"));
+    }
+
+    private Schema<?> getResponseSchema(Operation operation) throws BallerinaOpenApiException {
+        for (Map.Entry<String, ApiResponse> response : operation.getResponses().entrySet()) {
+            Content content = response.getValue().getContent();
+            if (response.getKey().startsWith("2") && content != null && !content.isEmpty()) {
+                Schema<?> schema = content.values().iterator().next().getSchema();
+                if (schema != null && schema.get$ref() != null) {
+                    schema = openAPIIndex.getReferencedSchema(schema.get$ref());
+                }
+                return schema;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the type of the items of the pages, which is the type of the items of the array in the given field of the
+     * response, or of the response array when the field is not given.
+     */
+    private String getItemType(Schema<?> responseSchema, String itemsField, String operationId)
+            throws BallerinaOpenApiException {
+        Schema<?> itemsSchema = responseSchema;
+        if (itemsField != null) {
+            itemsSchema = responseSchema == null || responseSchema.getProperties() == null ? null :
+                    responseSchema.getProperties().get(itemsField);
+        }
+        if (itemsSchema != null && itemsSchema.get$ref() != null) {
+            itemsSchema = openAPIIndex.getReferencedSchema(itemsSchema.get$ref());
+        }
+        if (!(itemsSchema instanceof ArraySchema) || ((ArraySchema) itemsSchema).getItems() == null) {
+            throw new BallerinaOpenApiException(String.format(Locale.ENGLISH,
+                    "The %s of the paginated operation `%s` should be an array", itemsField == null ?
+                            "response" : "`" + itemsField + "` field of the response", operationId));
+        }
+        Schema<?> itemSchema = ((ArraySchema) itemsSchema).getItems();
+        if (itemSchema.get$ref() != null) {
+            return openAPIIndex.getReferenceTypeName(itemSchema.get$ref()).trim();
+        }
+        if (BASIC_TYPES.contains(itemSchema.getType())) {
+            return convertOpenAPITypeToBallerina(itemSchema.getType());
+        }
+        return "anydata";
+    }
+
+    /**
+     * Get the expression of the items of a page. An optional items field is accessed with the optional field access.
+     */
+    private String getItemsExpression(Schema<?> responseSchema, String itemsField) {
+        if (itemsField == null) {
+            return PAGE_RESPONSE;
+        }
+        String field = escapeIdentifier(itemsField);
+        if (!nullable && responseSchema.getRequired() != null && responseSchema.getRequired().contains(itemsField)) {
+            return PAGE_RESPONSE + "." + field;
+        }
+        return PAGE_RESPONSE + "?." + field + " ?: []";
+    }
+
+    /**
+     * Generate the declaration of the isolated function which gets a page with the remote function.
+     */
+    private static VariableDeclarationNode getPageFetcherStatement(List<StatementNode> fetcherStatements) {
+        FunctionSignatureNode fetcherSignature = createFunctionSignatureNode(createToken(OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(createRequiredParameterNode(createEmptyNodeList(),
+                        createBuiltinSimpleNameReferenceNode(null, createIdentifierToken("anydata")),
+                        createIdentifierToken(PAGE_TOKEN))),
+                createToken(CLOSE_PAREN_TOKEN), createReturnTypeDescriptorNode(createToken(RETURNS_KEYWORD),
+                        createEmptyNodeList(), createUnionTypeDescriptorNode(
+                                createSimpleNameReferenceNode(createIdentifierToken("Page")), createToken(PIPE_TOKEN),
+                                createErrorTypeDescriptorNode(createToken(ERROR_KEYWORD), null))));
+        FunctionBodyBlockNode fetcherBody = createFunctionBodyBlockNode(createToken(OPEN_BRACE_TOKEN), null,
+                createNodeList(fetcherStatements), createToken(CLOSE_BRACE_TOKEN));
+        ExplicitAnonymousFunctionExpressionNode fetcher = createExplicitAnonymousFunctionExpressionNode(
+                createEmptyNodeList(), createNodeList(createToken(ISOLATED_KEYWORD)), createToken(FUNCTION_KEYWORD),
+                fetcherSignature, fetcherBody);
+        return createVariableDeclarationNode(createEmptyNodeList(), null,
+                createTypedBindingPatternNode(createSimpleNameReferenceNode(createIdentifierToken("PageFetcher")),
+                        createCaptureBindingPatternNode(createIdentifierToken(FETCH_PAGE))),
+                createToken(EQUAL_TOKEN), fetcher, createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generate the {@code stream<T, error?>} type descriptor of the stream of the given item type.
+     */
+    private static StreamTypeDescriptorNode getStreamTypeDescriptorNode(String itemType) {
+        return createStreamTypeDescriptorNode(createToken(STREAM_KEYWORD), createStreamTypeParamsNode(
+                createToken(LT_TOKEN), createSimpleNameReferenceNode(createIdentifierToken(itemType)),
+                createToken(COMMA_TOKEN), createOptionalTypeDescriptorNode(
+                        createErrorTypeDescriptorNode(createToken(ERROR_KEYWORD), null),
+                        createToken(QUESTION_MARK_TOKEN)), createToken(GT_TOKEN)));
+    }
+
+    private static ReturnStatementNode getReturnStatement(String expression) {
+        return createReturnStatementNode(createToken(RETURN_KEYWORD), createSimpleNameReferenceNode(
+                createIdentifierToken(expression)), createToken(SEMICOLON_TOKEN));
+    }
+
+    /**
+     * Generate the documentation of the companion function, with the documentation of the parameters of the remote
+     * function except the page parameter.
+     */
+    private static MetadataNode getMetadataNode(FunctionDefinitionNode remoteFunction, String pageParameterName) {
+        String functionName = remoteFunction.functionName().text();
+        List<Node> docs = new ArrayList<>(DocCommentsGenerator.createAPIDescriptionDoc(String.format(Locale.ENGLISH,
+                "Get the items of all the pages of `%s` as a stream. The pages are fetched as the items are " +
+                        "consumed.", functionName), true));
+        if (remoteFunction.metadata().isPresent() && remoteFunction.metadata().get().documentationString()
+                .isPresent()) {
+            MarkdownDocumentationNode remoteDocs =
+                    (MarkdownDocumentationNode) remoteFunction.metadata().get().documentationString().get();
+            for (Node line : remoteDocs.documentationLines()) {
+                if (line instanceof MarkdownParameterDocumentationLineNode) {
+                    String name = ((MarkdownParameterDocumentationLineNode) line).parameterName().text();
+                    if (!name.equals(pageParameterName) && !name.equals("return")) {
+                        docs.add(line);
+                    }
+                }
+            }
+        }
+        docs.add(DocCommentsGenerator.createAPIParamDoc(PREFETCH,
+                "Whether the next page is fetched while the items of the current page are consumed"));
+        docs.add(DocCommentsGenerator.createAPIParamDoc("return", "Stream of the items of all the pages"));
+        return createMetadataNode(createMarkdownDocumentationNode(createNodeList(docs)), createEmptyNodeList());
+    }
+
+    private static String getParameterName(ParameterNode parameterNode) {
+        if (parameterNode.kind() == SyntaxKind.DEFAULTABLE_PARAM) {
+            return ((DefaultableParameterNode) parameterNode).paramName().map(Token::text).orElse("").trim();
+        }
+        return ((RequiredParameterNode) parameterNode).paramName().map(Token::text).orElse("").trim();
+    }
+
+    private static String getParameterType(ParameterNode parameterNode) {
+        if (parameterNode.kind() == SyntaxKind.DEFAULTABLE_PARAM) {
+            return ((DefaultableParameterNode) parameterNode).typeName().toString().trim();
+        }
+        return ((RequiredParameterNode) parameterNode).typeName().toString().trim();
+    }
+}
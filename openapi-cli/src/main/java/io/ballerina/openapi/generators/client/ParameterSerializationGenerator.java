@@ -0,0 +1,410 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.compiler.syntax.tree.BlockStatementNode;
+import io.ballerina.compiler.syntax.tree.ForEachStatementNode;
+import io.ballerina.compiler.syntax.tree.IfElseStatementNode;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.GeneratorUtils;
+import io.ballerina.openapi.generators.OpenAPIIndex;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBlockStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createCaptureBindingPatternNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createForEachStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createIfElseStatementNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createTypedBindingPatternNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_BRACE_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.FOREACH_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.IF_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.IN_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
+import static io.ballerina.openapi.generators.GeneratorConstants.API_KEY_CONFIG_PARAM;
+import static io.ballerina.openapi.generators.GeneratorConstants.HTTP_HEADERS;
+import static io.ballerina.openapi.generators.GeneratorConstants.RESOURCE_PATH;
+import static io.ballerina.openapi.generators.GeneratorConstants.SELF;
+import static io.ballerina.openapi.generators.GeneratorConstants.SQUARE_BRACKETS;
+import static io.ballerina.openapi.generators.GeneratorUtils.getParameterBasicType;
+import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
+
+/**
+ * This class generates the statements which serialize the query parameters and the headers of a remote function
+ * directly from the function parameters. The names, styles and types of the parameters are known at the generation
+ * time, hence the generated statements do not collect the parameters in a map which is iterated and type tested by
+ * the util functions for each request.
+ *
+ * <pre>
+ *     resourcePath = resourcePath + "?status=" + getEncodedUri(status);
+ *     if 'limit is int {
+ *         resourcePath = resourcePath + "&limit=" + 'limit.toString();
+ *     }
+ *     map&lt;string|string[]&gt; httpHeaders = {"X-Request-ID": xRequestId};
+ * </pre>
+ *
+ * Only the parameters of the basic types and the arrays of the basic types are serialized this way. The operations
+ * with other parameters are generated with the util functions.
+ *
+ * @since 2.0.0
+ */
+public class ParameterSerializationGenerator {
+    private static final String QUERY_STRING = "queryString";
+    private static final String FORM = "form";
+    private static final String SPACE_DELIMITED = "spaceDelimited";
+    private static final String PIPE_DELIMITED = "pipeDelimited";
+    private static final Set<String> BASIC_TYPES = Set.of("string", "integer", "number", "boolean");
+    // Values of these types are serialized without any character which needs to be encoded in a URI.
+    private static final Set<String> URI_SAFE_TYPES = Set.of("integer", "boolean");
+
+    private final OpenAPIIndex openAPIIndex;
+    private final boolean nullable;
+
+    public ParameterSerializationGenerator(OpenAPIIndex openAPIIndex, boolean nullable) {
+        this.openAPIIndex = openAPIIndex;
+        this.nullable = nullable;
+    }
+
+    /**
+     * Check whether all the given query parameters can be serialized without the util functions.
+     *
+     * @param queryParameters query parameters of an operation
+     * @return whether the query parameters can be serialized without the util functions
+     * @throws BallerinaOpenApiException when a referenced schema is invalid
+     */
+    public boolean isSerializableQuery(List<Parameter> queryParameters) throws BallerinaOpenApiException {
+        for (Parameter parameter : queryParameters) {
+            Schema<?> schema = getSchema(parameter.getSchema());
+            if (schema == null) {
+                return false;
+            }
+            if (schema instanceof ArraySchema) {
+                Schema<?> itemSchema = getSchema(((ArraySchema) schema).getItems());
+                if (itemSchema == null || itemSchema instanceof ArraySchema || getDelimiter(parameter) == null) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Check whether all the given headers can be serialized without the util functions. The array headers are
+     * supported only when they are string arrays, which are sent as they are.
+     *
+     * @param headerParameters header parameters of an operation
+     * @return whether the headers can be serialized without the util functions
+     * @throws BallerinaOpenApiException when a referenced schema is invalid
+     */
+    public boolean isSerializableHeaders(List<Parameter> headerParameters) throws BallerinaOpenApiException {
+        for (Parameter parameter : headerParameters) {
+            Schema<?> schema = parameter.getSchema();
+            if (schema == null || schema.get$ref() != null || getSchema(schema) == null) {
+                return false;
+            }
+            if (schema instanceof ArraySchema) {
+                Schema<?> itemSchema = ((ArraySchema) schema).getItems();
+                if (itemSchema == null || itemSchema.get$ref() != null || !"string".equals(itemSchema.getType())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Generate the statements which add the given query parameters and API keys to the resource path.
+     *
+     * @param queryParameters query parameters of an operation
+     * @param apiKeyNames     names of the API keys sent as query parameters
+     * @return statements which update the resource path
+     * @throws BallerinaOpenApiException when a referenced schema is invalid
+     */
+    public List<StatementNode> getQueryStatements(List<Parameter> queryParameters, List<String> apiKeyNames)
+            throws BallerinaOpenApiException {
+        List<StatementNode> statements = new ArrayList<>();
+        // The parameters are appended to the resource path directly when the first one is always sent, hence it is
+        // known whether a `?` or a `&` separates each of them. Otherwise, they are appended to a query string which
+        // is added to the resource path at the end.
+        boolean directlyAppended = !queryParameters.isEmpty() ? !isNilable(queryParameters.get(0)) &&
+                !(getSchema(queryParameters.get(0).getSchema()) instanceof ArraySchema) : !apiKeyNames.isEmpty();
+        String target = directlyAppended ? RESOURCE_PATH : QUERY_STRING;
+        if (!directlyAppended) {
+            statements.add(GeneratorUtils.getSimpleStatement("string", QUERY_STRING, "\"\""));
+        }
+
+        // The consecutive parameters which are always sent are appended in a single statement.
+        StringBuilder appendedParameters = new StringBuilder();
+        boolean isAlwaysSent = !apiKeyNames.isEmpty();
+        for (Parameter parameter : queryParameters) {
+            String name = parameter.getName().trim();
+            String variable = getValidName(name, false);
+            Schema<?> schema = getSchema(parameter.getSchema());
+            if (!(schema instanceof ArraySchema) && !isNilable(parameter)) {
+                isAlwaysSent = true;
+                appendedParameters.append(" + \"").append(getSeparator(directlyAppended, statements,
+                        appendedParameters)).append(name).append("=\" + ")
+                        .append(getSerializedValue(variable, schema));
+                continue;
+            }
+            addAppendStatement(statements, target, appendedParameters);
+
+            List<StatementNode> parameterStatements = new ArrayList<>();
+            if (schema instanceof ArraySchema) {
+                addArrayStatements(parameterStatements, parameter, variable, target);
+            } else {
+                parameterStatements.add(getAppendStatement(target, "\"&" + name + "=\" + " +
+                        getSerializedValue(variable, schema)));
+            }
+            if (isNilable(parameter)) {
+                statements.add(getIfStatement(variable + " is " + getNonNilType(parameter), parameterStatements));
+            } else {
+                statements.addAll(parameterStatements);
+            }
+        }
+        for (String apiKeyName : apiKeyNames) {
+            appendedParameters.append(" + \"").append(getSeparator(directlyAppended, statements, appendedParameters))
+                    .append(apiKeyName.trim()).append("=\" + getEncodedUri(").append(getApiKey(apiKeyName))
+                    .append(")");
+        }
+        addAppendStatement(statements, target, appendedParameters);
+
+        if (!directlyAppended) {
+            // Drop the leading `&` of the query string.
+            StatementNode appendQueryString = getAppendStatement(RESOURCE_PATH, "\"?\" + " + QUERY_STRING +
+                    ".substring(1)");
+            if (isAlwaysSent) {
+                statements.add(appendQueryString);
+            } else {
+                statements.add(getIfStatement(QUERY_STRING + ".length() > 0", List.of(appendQueryString)));
+            }
+        }
+        return statements;
+    }
+
+    /**
+     * Generate the statements which create the headers map from the given headers and API keys.
+     *
+     * @param headerParameters header parameters of an operation
+     * @param apiKeyNames      names of the API keys sent as headers
+     * @return statements which create the headers map
+     * @throws BallerinaOpenApiException when a referenced schema is invalid
+     */
+    public List<StatementNode> getHeaderStatements(List<Parameter> headerParameters, List<String> apiKeyNames)
+            throws BallerinaOpenApiException {
+        List<StatementNode> statements = new ArrayList<>();
+        List<StatementNode> nilableHeaderStatements = new ArrayList<>();
+        StringJoiner headerFields = new StringJoiner(", ", "{", "}");
+        for (Parameter parameter : headerParameters) {
+            String name = parameter.getName().trim();
+            String variable = getValidName(name, false);
+            Schema<?> schema = parameter.getSchema();
+            String value = schema instanceof ArraySchema || "string".equals(schema.getType()) ? variable :
+                    variable + ".toString()";
+            if (isNilable(parameter)) {
+                nilableHeaderStatements.add(getIfStatement(variable + " is " + getNonNilType(parameter),
+                        List.of(GeneratorUtils.getSimpleExpressionStatementNode(
+                                HTTP_HEADERS + "[\"" + name + "\"] = " + value))));
+            } else {
+                headerFields.add("\"" + name + "\": " + value);
+            }
+        }
+        for (String apiKeyName : apiKeyNames) {
+            headerFields.add("\"" + apiKeyName.trim() + "\": " + getApiKey(apiKeyName));
+        }
+        statements.add(GeneratorUtils.getSimpleStatement("map<string|string[]>", HTTP_HEADERS,
+                headerFields.toString()));
+        statements.addAll(nilableHeaderStatements);
+        return statements;
+    }
+
+    /**
+     * Generate the statements which append an array query parameter according to its style.
+     *
+     * <pre>
+     *     foreach string tagsItem in tags {
+     *         resourcePath = resourcePath + "&amp;tags=" + getEncodedUri(tagsItem);
+     *     }
+     * </pre>
+     */
+    private void addArrayStatements(List<StatementNode> statements, Parameter parameter, String variable,
+                                    String target) throws BallerinaOpenApiException {
+        String name = parameter.getName().trim();
+        ArraySchema arraySchema = (ArraySchema) getSchema(parameter.getSchema());
+        Schema<?> itemSchema = getSchema(arraySchema.getItems());
+        String itemType = getParameterType(arraySchema.getItems());
+        if (isExploded(parameter)) {
+            String item = variable + "Item";
+            statements.add(getForEachStatement(itemType, item, variable, List.of(getAppendStatement(target,
+                    "\"&" + name + "=\" + " + getSerializedValue(item, itemSchema)))));
+        } else {
+            String index = variable + "Index";
+            List<StatementNode> arrayStatements = new ArrayList<>();
+            arrayStatements.add(getAppendStatement(target, "\"&" + name + "=\" + " +
+                    getSerializedValue(variable + "[0]", itemSchema)));
+            arrayStatements.add(getForEachStatement("int", index, "1 ..< " + variable + ".length()",
+                    List.of(getAppendStatement(target, "\"" + getDelimiter(parameter) + "\" + " +
+                            getSerializedValue(variable + "[" + index + "]", itemSchema)))));
+            statements.add(getIfStatement(variable + ".length() > 0", arrayStatements));
+        }
+    }
+
+    /**
+     * Get the separator of a query parameter which is always sent. Only the first parameter appended directly to the
+     * resource path is separated by a `?`.
+     */
+    private static String getSeparator(boolean directlyAppended, List<StatementNode> statements,
+                                       StringBuilder appendedParameters) {
+        return directlyAppended && statements.isEmpty() && appendedParameters.length() == 0 ? "?" : "&";
+    }
+
+    private static void addAppendStatement(List<StatementNode> statements, String target,
+                                           StringBuilder appendedParameters) {
+        if (appendedParameters.length() > 0) {
+            // Drop the leading ` + ` of the first parameter.
+            statements.add(getAppendStatement(target, appendedParameters.substring(3)));
+            appendedParameters.setLength(0);
+        }
+    }
+
+    private static StatementNode getAppendStatement(String target, String value) {
+        return GeneratorUtils.getSimpleExpressionStatementNode(target + " = " + target + " + " + value);
+    }
+
+    private static IfElseStatementNode getIfStatement(String condition, List<StatementNode> statements) {
+        BlockStatementNode ifBody = createBlockStatementNode(createToken(OPEN_BRACE_TOKEN),
+                createNodeList(statements), createToken(CLOSE_BRACE_TOKEN));
+        return createIfElseStatementNode(createToken(IF_KEYWORD),
+                createSimpleNameReferenceNode(createIdentifierToken(condition)), ifBody, null);
+    }
+
+    private static ForEachStatementNode getForEachStatement(String type, String variable, String collection,
+                                                            List<StatementNode> statements) {
+        TypedBindingPatternNode bindingPattern = createTypedBindingPatternNode(
+                createSimpleNameReferenceNode(createIdentifierToken(type)),
+                createCaptureBindingPatternNode(createIdentifierToken(variable)));
+        BlockStatementNode forEachBody = createBlockStatementNode(createToken(OPEN_BRACE_TOKEN),
+                createNodeList(statements), createToken(CLOSE_BRACE_TOKEN));
+        return createForEachStatementNode(createToken(FOREACH_KEYWORD), bindingPattern, createToken(IN_KEYWORD),
+                createSimpleNameReferenceNode(createIdentifierToken(collection)), forEachBody, null);
+    }
+
+    private static String getSerializedValue(String variable, Schema<?> schema) {
+        return URI_SAFE_TYPES.contains(schema.getType()) ? variable + ".toString()" :
+                "getEncodedUri(" + variable + ")";
+    }
+
+    private static String getApiKey(String apiKeyName) {
+        return SELF + "." + API_KEY_CONFIG_PARAM + "." + getValidName(apiKeyName, false);
+    }
+
+    /**
+     * Resolve the given schema when it is a reference, and return it when it is a basic type or an array.
+     */
+    private Schema<?> getSchema(Schema<?> schema) throws BallerinaOpenApiException {
+        if (schema != null && schema.get$ref() != null) {
+            schema = openAPIIndex.getReferencedSchema(schema.get$ref());
+        }
+        if (schema == null || schema instanceof ComposedSchema || schema.getProperties() != null) {
+            return null;
+        }
+        if (schema instanceof ArraySchema || BASIC_TYPES.contains(schema.getType())) {
+            return schema;
+        }
+        return null;
+    }
+
+    /**
+     * Get the type of a query parameter or a header, which is the same as the type in the function signature.
+     */
+    private String getParameterType(Schema<?> schema) throws BallerinaOpenApiException {
+        if (schema.get$ref() != null) {
+            return openAPIIndex.getReferenceTypeName(schema.get$ref());
+        }
+        if (schema instanceof ArraySchema) {
+            return getParameterType(((ArraySchema) schema).getItems()) + SQUARE_BRACKETS;
+        }
+        return getParameterBasicType(schema);
+    }
+
+    /**
+     * Get the type which a nilable parameter is tested against before it is sent. A referenced nullable type is
+     * generated as a nilable type, hence its parameter is tested against the type of the referenced schema.
+     */
+    private String getNonNilType(Parameter parameter) throws BallerinaOpenApiException {
+        Schema<?> schema = parameter.getSchema();
+        if (schema.get$ref() != null && isNullableType(getSchema(schema))) {
+            return getParameterType(getSchema(schema));
+        }
+        return getParameterType(schema);
+    }
+
+    /**
+     * Whether the parameter may be nil, which is not sent when it is nil. A parameter is nilable when it is optional
+     * without a default value, or when its type is a referenced nullable type, even when it is required.
+     */
+    private boolean isNilable(Parameter parameter) throws BallerinaOpenApiException {
+        Schema<?> schema = parameter.getSchema();
+        if (!Boolean.TRUE.equals(parameter.getRequired()) && schema.getDefault() == null) {
+            return true;
+        }
+        return schema.get$ref() != null && isNullableType(getSchema(schema));
+    }
+
+    /**
+     * Whether the type generated for the given schema is nilable, in the same way as the types generator decides it.
+     */
+    private boolean isNullableType(Schema<?> schema) {
+        return schema != null && (schema.getNullable() != null ? schema.getNullable() : nullable);
+    }
+
+    private static boolean isExploded(Parameter parameter) {
+        return parameter.getExplode() == null || parameter.getExplode();
+    }
+
+    /**
+     * Get the delimiter of the values of a non exploded array query parameter, or null when the style of the
+     * parameter is not supported.
+     */
+    private static String getDelimiter(Parameter parameter) {
+        String style = parameter.getStyle() == null ? FORM : parameter.getStyle().toString();
+        switch (style) {
+            case FORM:
+                return ",";
+            case SPACE_DELIMITED:
+                return "%20";
+            case PIPE_DELIMITED:
+                return "|";
+            default:
+                return null;
+        }
+    }
+}
@@ -36,8 +36,10 @@ public class JsonType extends MimeType {
     @Override
     public void setPayload(List<StatementNode> statementsList, Map.Entry<String, MediaType> mediaTypeEntry) {
         payloadName = "jsonBody";
+        // The payload is always an anydata value, hence it is converted with `toJson()`, which does not make a
+        // type checked deep copy of the payload as `cloneWithType(json)` does.
         VariableDeclarationNode jsonVariable = GeneratorUtils.getSimpleStatement("json", payloadName
-                , "check payload.cloneWithType(json)");
+                , "payload.toJson()");
         statementsList.add(jsonVariable);
         setPayload(statementsList, payloadName, mediaTypeEntry.getKey());
     }
@@ -30,7 +30,9 @@ import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.cmd.Filter;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.OpenAPIIndex;
 import io.ballerina.openapi.generators.schema.ballerinatypegenerators.TypeGenerator;
 import io.ballerina.openapi.generators.schema.model.GeneratorMetaData;
 import io.ballerina.tools.text.TextDocument;
@@ -40,9 +42,9 @@ import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
 import static io.ballerina.openapi.generators.GeneratorUtils.isValidSchemaName;
@@ -52,7 +54,9 @@ import static io.ballerina.openapi.generators.GeneratorUtils.isValidSchemaName;
  * while populating syntax tree.
  */
 public class BallerinaTypesGenerator {
-    private List<TypeDefinitionNode> typeDefinitionNodeList;
+    private final GeneratorMetaData generatorMetaData;
+    private TypeDefinitionRegistry typeDefinitionRegistry;
+    private Set<String> reachableSchemas;
 
     /**
      * This public constructor is used to generate record and other relevant data type when the nullable flag is
@@ -62,8 +66,19 @@ public class BallerinaTypesGenerator {
      * @param isNullable nullable value
      */
     public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable) {
-        GeneratorMetaData.createInstance(openAPI, isNullable);
-        this.typeDefinitionNodeList = new LinkedList<>();
+        this(new OpenAPIIndex(openAPI), isNullable);
+    }
+
+    /**
+     * This public constructor is used to generate record and other relevant data type using the index already built
+     * for the OpenAPI definition by another generator.
+     *
+     * @param openAPIIndex index of the OAS definition
+     * @param isNullable   nullable value
+     */
+    public BallerinaTypesGenerator(OpenAPIIndex openAPIIndex, boolean isNullable) {
+        this.generatorMetaData = new GeneratorMetaData(openAPIIndex, isNullable);
+        this.typeDefinitionRegistry = new TypeDefinitionRegistry();
     }
 
     /**
@@ -74,21 +89,60 @@ public class BallerinaTypesGenerator {
      */
     public BallerinaTypesGenerator(OpenAPI openAPI) {
         this(openAPI, false);
-        GeneratorMetaData.createInstance(openAPI, false);
     }
 
     /**
-     * Set the typeDefinitionNodeList.
+     * This public constructor is used to generate only the records and other relevant data types which are used by
+     * the operations selected by the given tags and operations filter.
+     *
+     * @param openAPI    OAS definition
+     * @param isNullable nullable value
+     * @param filter     tags and operations given in the openapi command
+     * @throws BallerinaOpenApiException when an unsupported reference is found
      */
-    public void setTypeDefinitionNodeList(List<TypeDefinitionNode> typeDefinitionNodeList) {
-        this.typeDefinitionNodeList = typeDefinitionNodeList;
+    public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable, Filter filter)
+            throws BallerinaOpenApiException {
+        this(new OpenAPIIndex(openAPI), isNullable, filter);
+    }
+
+    /**
+     * This public constructor is used to generate only the records and other relevant data types which are used by
+     * the operations selected by the given tags and operations filter, using the index already built for the
+     * OpenAPI definition.
+     *
+     * @param openAPIIndex index of the OAS definition
+     * @param isNullable   nullable value
+     * @param filter       tags and operations given in the openapi command
+     * @throws BallerinaOpenApiException when an unsupported reference is found
+     */
+    public BallerinaTypesGenerator(OpenAPIIndex openAPIIndex, boolean isNullable, Filter filter)
+            throws BallerinaOpenApiException {
+        this(openAPIIndex, isNullable);
+        if (!filter.getTags().isEmpty() || !filter.getOperations().isEmpty()) {
+            this.reachableSchemas = new SchemaDependencyGraph(openAPIIndex).getReachableSchemas(filter);
+        }
+    }
+
+    /**
+     * Get the metadata of this types generation.
+     */
+    public GeneratorMetaData getGeneratorMetaData() {
+        return generatorMetaData;
+    }
+
+    /**
+     * Set the registry of the type definitions, so that the types of the component schemas are emitted after the
+     * types already registered by the client generation.
+     */
+    public void setTypeDefinitionRegistry(TypeDefinitionRegistry typeDefinitionRegistry) {
+        this.typeDefinitionRegistry = typeDefinitionRegistry;
     }
 
     /**
      * Generate syntaxTree for component schema.
      */
     public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
-        OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
+        OpenAPI openAPI = generatorMetaData.getOpenAPI();
         if (openAPI.getComponents() != null) {
             // Create typeDefinitionNode
             Components components = openAPI.getComponents();
@@ -96,10 +150,10 @@ public class BallerinaTypesGenerator {
             if (schemas != null) {
                 for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
                     String schemaKey = schema.getKey().trim();
-                    if (isValidSchemaName(schemaKey)) {
+                    if (isValidSchemaName(schemaKey) &&
+                            (reachableSchemas == null || reachableSchemas.contains(schemaKey))) {
                         List<Node> schemaDoc = new ArrayList<>();
-                        typeDefinitionNodeList.add(getTypeDefinitionNode
-                                (schema.getValue(), schemaKey, schemaDoc));
+                        typeDefinitionRegistry.add(getTypeDefinitionNode(schema.getValue(), schemaKey, schemaDoc));
                     }
                 }
             }
@@ -108,7 +162,7 @@ public class BallerinaTypesGenerator {
         NodeList<ImportDeclarationNode> imports = AbstractNodeFactory.createEmptyNodeList();
         // Create module member declaration
         NodeList<ModuleMemberDeclarationNode> moduleMembers = AbstractNodeFactory.createNodeList(
-                typeDefinitionNodeList.toArray(new TypeDefinitionNode[typeDefinitionNodeList.size()]));
+                typeDefinitionRegistry.getTypeDefinitionNodes().toArray(new TypeDefinitionNode[0]));
 
         Token eofToken = AbstractNodeFactory.createIdentifierToken("");
         ModulePartNode modulePartNode = NodeFactory.createModulePartNode(imports, moduleMembers, eofToken);
@@ -131,9 +185,9 @@ public class BallerinaTypesGenerator {
         IdentifierToken typeNameToken = AbstractNodeFactory.createIdentifierToken(getValidName(
                 typeName.trim(), true));
         TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema, getValidName(
-                typeName.trim(), true));
+                typeName.trim(), true), generatorMetaData);
         List<AnnotationNode> typeAnnotations = new ArrayList<>();
-        TypeGeneratorUtils.getRecordDocs(schemaDocs, schema, typeAnnotations);
+        TypeGeneratorUtils.getRecordDocs(schemaDocs, schema, typeAnnotations, generatorMetaData);
         return typeGenerator.generateTypeDefinitionNode(typeNameToken,
                 schemaDocs, typeAnnotations);
     }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.schema;
+
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.OpenAPIIndex;
+import io.ballerina.openapi.generators.OpenAPIIndex.TypeEntry;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.Encoding;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.openapi.generators.GeneratorUtils.extractReferenceType;
+
+/**
+ * This class builds the dependency graph between the component schemas of a normalized OpenAPI definition, and
+ * finds the component schemas reachable from the operations selected by a {@link Filter}.
+ * <p>
+ * The edges of the graph are the dependencies of the {@link TypeEntry type entries} of the {@link OpenAPIIndex},
+ * which follow {@code $ref}, properties, array items, {@code allOf}/{@code oneOf}/{@code anyOf}, {@code not} and
+ * additional properties, so the reachable schemas are found in a single linear pass without resolving the references
+ * of the component schemas again, and without generating or compiling any Ballerina source.
+ *
+ * @since 2.0.0
+ */
+public class SchemaDependencyGraph {
+    private final OpenAPIIndex openAPIIndex;
+    private final Components components;
+
+    public SchemaDependencyGraph(OpenAPIIndex openAPIIndex) throws BallerinaOpenApiException {
+        this.openAPIIndex = openAPIIndex;
+        this.components = openAPIIndex.getOpenAPI().getComponents();
+    }
+
+    /**
+     * Returns the names of the component schemas which are used by the operations selected by the given filter,
+     * either directly or through other schemas. The operation schemas are taken in the same way as the client
+     * generator does: the parameters, the first media type of the request body and the first media type of the
+     * 2xx responses.
+     *
+     * @param filter tags and operations given in the command
+     * @return set of reachable component schema names
+     * @throws BallerinaOpenApiException when an unsupported reference is found
+     */
+    public Set<String> getReachableSchemas(Filter filter) throws BallerinaOpenApiException {
+        Set<String> rootReferences = new LinkedHashSet<>();
+        for (OpenAPIIndex.OperationEntry operation : openAPIIndex.getOperations(filter)) {
+            collectOperationReferences(operation.getOperation(), rootReferences);
+        }
+
+        boolean[] reached = new boolean[openAPIIndex.getTypeEntries().size()];
+        Deque<TypeEntry> pendingEntries = new ArrayDeque<>();
+        for (String reference : rootReferences) {
+            TypeEntry typeEntry = openAPIIndex.getReferencedTypeEntry(reference);
+            if (typeEntry != null) {
+                pendingEntries.push(typeEntry);
+            }
+        }
+        Set<String> reachableSchemas = new HashSet<>();
+        while (!pendingEntries.isEmpty()) {
+            TypeEntry typeEntry = pendingEntries.pop();
+            if (reached[typeEntry.getIndex()]) {
+                continue;
+            }
+            reached[typeEntry.getIndex()] = true;
+            reachableSchemas.add(typeEntry.getName().trim());
+            for (TypeEntry dependency : typeEntry.getDependencies()) {
+                if (!reached[dependency.getIndex()]) {
+                    pendingEntries.push(dependency);
+                }
+            }
+        }
+        return reachableSchemas;
+    }
+
+    private void collectOperationReferences(Operation operation, Set<String> references)
+            throws BallerinaOpenApiException {
+        if (operation.getParameters() != null) {
+            for (Parameter parameter : operation.getParameters()) {
+                if (parameter.get$ref() != null && components != null && components.getParameters() != null) {
+                    parameter = components.getParameters().get(extractReferenceType(parameter.get$ref()).trim());
+                }
+                if (parameter != null) {
+                    OpenAPIIndex.collectReferences(parameter.getSchema(), references);
+                    collectContentReferences(parameter.getContent(), references);
+                }
+            }
+        }
+
+        RequestBody requestBody = operation.getRequestBody();
+        if (requestBody != null && requestBody.get$ref() != null && components != null &&
+                components.getRequestBodies() != null) {
+            requestBody = components.getRequestBodies().get(extractReferenceType(requestBody.get$ref()).trim());
+        }
+        if (requestBody != null) {
+            collectContentReferences(requestBody.getContent(), references);
+        }
+
+        if (operation.getResponses() != null) {
+            for (Map.Entry<String, ApiResponse> response : operation.getResponses().entrySet()) {
+                if (!response.getKey().startsWith("2")) {
+                    continue;
+                }
+                ApiResponse apiResponse = response.getValue();
+                if (apiResponse.get$ref() != null && components != null && components.getResponses() != null) {
+                    apiResponse = components.getResponses().get(extractReferenceType(apiResponse.get$ref()).trim());
+                }
+                if (apiResponse != null) {
+                    collectContentReferences(apiResponse.getContent(), references);
+                }
+            }
+        }
+    }
+
+    /**
+     * Collect the references of the first media type, including the headers of the multipart encodings.
+     */
+    private void collectContentReferences(Content content, Set<String> references) throws BallerinaOpenApiException {
+        if (content == null || content.isEmpty()) {
+            return;
+        }
+        MediaType mediaType = content.values().iterator().next();
+        OpenAPIIndex.collectReferences(mediaType.getSchema(), references);
+        if (mediaType.getEncoding() != null) {
+            for (Encoding encoding : mediaType.getEncoding().values()) {
+                if (encoding.getHeaders() == null) {
+                    continue;
+                }
+                for (Header header : encoding.getHeaders().values()) {
+                    if (header.get$ref() != null && components != null && components.getHeaders() != null) {
+                        header = components.getHeaders().get(extractReferenceType(header.get$ref()).trim());
+                    }
+                    if (header != null) {
+                        OpenAPIIndex.collectReferences(header.getSchema(), references);
+                    }
+                }
+            }
+        }
+    }
+}
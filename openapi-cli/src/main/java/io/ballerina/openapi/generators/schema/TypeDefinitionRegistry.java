@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.schema;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NonTerminalNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class keeps the type definitions generated for a client and its types module, in the order they are
+ * emitted, with a lookup by the type name. It is shared by the client generators, which register the types of the
+ * inline schemas, and the {@link BallerinaTypesGenerator}, which adds the types of the component schemas.
+ * <p>
+ * When enabled, inline types are deduplicated by their structure, so that operations which have the same inline
+ * response or request shape share the type generated for the first of them.
+ *
+ * @since 2.0.0
+ */
+public class TypeDefinitionRegistry {
+    private final List<TypeDefinitionNode> typeDefinitionNodes = new ArrayList<>();
+    private final Map<String, TypeDefinitionNode> typeDefinitionsByName = new HashMap<>();
+    private final Set<String> conflictingTypeNames = new LinkedHashSet<>();
+    private final Map<String, String> inlineTypeNamesByShape = new HashMap<>();
+    private final Set<String> deduplicatedTypes = new HashSet<>();
+    private boolean deduplicateInlineTypes;
+    private long deduplicatedBytes;
+
+    /**
+     * Register the type definition of an inline schema. When deduplication is enabled and an inline type of the same
+     * shape is already registered with another name, the type definition is dropped and the name of the registered
+     * type is returned instead. The same name may be used by inline schemas of different shapes, hence a name is only
+     * replaced for the shape it was registered with.
+     *
+     * @param typeName    name of the type
+     * @param typeDefNode generated type definition
+     * @return name of the type to be used for the inline schema
+     */
+    public String registerInlineType(String typeName, TypeDefinitionNode typeDefNode) {
+        if (!deduplicateInlineTypes || typeDefinitionsByName.containsKey(typeName)) {
+            register(typeName, typeDefNode);
+            return typeName;
+        }
+        String shape = getShape(typeDefNode);
+        String registeredTypeName = inlineTypeNamesByShape.get(shape);
+        if (registeredTypeName != null) {
+            if (deduplicatedTypes.add(typeName + ' ' + shape)) {
+                deduplicatedBytes += typeDefNode.toSourceCode().length();
+            }
+            return registeredTypeName;
+        }
+        register(typeName, typeDefNode);
+        inlineTypeNamesByShape.put(shape, typeName);
+        return typeName;
+    }
+
+    /**
+     * Register the type definition of an inline schema, unless a type with the same name is already registered.
+     * When the registered type has a different shape, the name is reported as a conflict and the registered type is
+     * kept.
+     *
+     * @param typeName    name of the type
+     * @param typeDefNode generated type definition
+     * @return whether the type definition is registered
+     */
+    public boolean register(String typeName, TypeDefinitionNode typeDefNode) {
+        TypeDefinitionNode registeredTypeDefNode = typeDefinitionsByName.get(typeName);
+        if (registeredTypeDefNode != null) {
+            checkConflict(typeName, registeredTypeDefNode, typeDefNode);
+            return false;
+        }
+        add(typeDefNode);
+        return true;
+    }
+
+    /**
+     * Add the type definition of a component schema. Component schemas have unique names, hence the type definition
+     * is always added, and a conflict is only reported when it clashes with a type of an inline schema.
+     *
+     * @param typeDefNode generated type definition
+     */
+    public void add(TypeDefinitionNode typeDefNode) {
+        String typeName = getTypeName(typeDefNode);
+        TypeDefinitionNode registeredTypeDefNode = typeDefinitionsByName.putIfAbsent(typeName, typeDefNode);
+        if (registeredTypeDefNode != null) {
+            checkConflict(typeName, registeredTypeDefNode, typeDefNode);
+        }
+        typeDefinitionNodes.add(typeDefNode);
+    }
+
+    public boolean contains(String typeName) {
+        return typeDefinitionsByName.containsKey(typeName);
+    }
+
+    /**
+     * Get the first type definition registered with the given name.
+     */
+    public TypeDefinitionNode get(String typeName) {
+        return typeDefinitionsByName.get(typeName);
+    }
+
+    /**
+     * Get the type definitions in the order they are registered.
+     */
+    public List<TypeDefinitionNode> getTypeDefinitionNodes() {
+        return Collections.unmodifiableList(typeDefinitionNodes);
+    }
+
+    /**
+     * Get the names claimed by type definitions of different shapes. Only the first type definition of such a name
+     * is kept, and the code generator reports the names when it is run interactively.
+     */
+    public Set<String> getConflictingTypeNames() {
+        return Collections.unmodifiableSet(conflictingTypeNames);
+    }
+
+    /**
+     * Set whether the inline types of the same shape are generated as a single type.
+     */
+    public void setDeduplicateInlineTypes(boolean deduplicateInlineTypes) {
+        this.deduplicateInlineTypes = deduplicateInlineTypes;
+    }
+
+    /**
+     * Get the number of inline types which are replaced by a type of the same shape.
+     */
+    public int getDeduplicatedTypeCount() {
+        return deduplicatedTypes.size();
+    }
+
+    /**
+     * Get the size of the source of the inline types which are replaced by a type of the same shape.
+     */
+    public long getDeduplicatedBytes() {
+        return deduplicatedBytes;
+    }
+
+    public boolean isEmpty() {
+        return typeDefinitionNodes.isEmpty();
+    }
+
+    public int size() {
+        return typeDefinitionNodes.size();
+    }
+
+    private void checkConflict(String typeName, TypeDefinitionNode registeredTypeDefNode,
+                               TypeDefinitionNode typeDefNode) {
+        if (!getShape(registeredTypeDefNode).equals(getShape(typeDefNode))) {
+            conflictingTypeNames.add(typeName);
+        }
+    }
+
+    private static String getTypeName(TypeDefinitionNode typeDefNode) {
+        return typeDefNode.typeName().text().trim();
+    }
+
+    /**
+     * Get the tokens of the type descriptor joined with a separator, so that the formatting of the type definitions
+     * is not compared. The metadata of the record fields, which are their documentation and annotations, is skipped.
+     */
+    private static String getShape(TypeDefinitionNode typeDefNode) {
+        StringBuilder shape = new StringBuilder();
+        appendTokens(typeDefNode.typeDescriptor(), shape);
+        return shape.toString();
+    }
+
+    private static void appendTokens(Node node, StringBuilder shape) {
+        if (node instanceof Token) {
+            shape.append(((Token) node).text()).append(' ');
+        } else if (node instanceof NonTerminalNode && node.kind() != SyntaxKind.METADATA) {
+            for (Node childNode : ((NonTerminalNode) node).children()) {
+                appendTokens(childNode, shape);
+            }
+        }
+    }
+}
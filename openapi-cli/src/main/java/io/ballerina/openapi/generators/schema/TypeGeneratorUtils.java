@@ -44,7 +44,6 @@ import io.ballerina.openapi.generators.schema.ballerinatypegenerators.Referenced
 import io.ballerina.openapi.generators.schema.ballerinatypegenerators.TypeGenerator;
 import io.ballerina.openapi.generators.schema.ballerinatypegenerators.UnionTypeGenerator;
 import io.ballerina.openapi.generators.schema.model.GeneratorMetaData;
-import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.ObjectSchema;
@@ -74,8 +73,6 @@ import static io.ballerina.openapi.generators.GeneratorConstants.NUMBER;
 import static io.ballerina.openapi.generators.GeneratorConstants.OBJECT;
 import static io.ballerina.openapi.generators.GeneratorConstants.STRING;
 import static io.ballerina.openapi.generators.GeneratorUtils.escapeIdentifier;
-import static io.ballerina.openapi.generators.GeneratorUtils.extractReferenceType;
-import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
 
 /**
  * Contains util functions needed for schema generation.
@@ -91,27 +88,29 @@ public class TypeGeneratorUtils {
      *
      * @param schemaValue Schema object
      * @param typeName parameter name
+     * @param metaData metadata of the current types generation
      * @return Relevant SchemaType object
      */
-    public static TypeGenerator getTypeGenerator(Schema<?> schemaValue, String typeName) {
+    public static TypeGenerator getTypeGenerator(Schema<?> schemaValue, String typeName,
+                                                 GeneratorMetaData metaData) {
         if (schemaValue.get$ref() != null) {
-            return new ReferencedTypeGenerator(schemaValue, typeName);
+            return new ReferencedTypeGenerator(schemaValue, typeName, metaData);
         } else if (schemaValue instanceof ComposedSchema) {
             ComposedSchema composedSchema = (ComposedSchema) schemaValue;
             if (composedSchema.getAllOf() != null) {
-                return new AllOfRecordTypeGenerator(schemaValue, typeName);
+                return new AllOfRecordTypeGenerator(schemaValue, typeName, metaData);
             } else {
-                return new UnionTypeGenerator(schemaValue, typeName);
+                return new UnionTypeGenerator(schemaValue, typeName, metaData);
             }
         } else if ((schemaValue.getType() != null && schemaValue.getType().equals(OBJECT)) ||
                 schemaValue instanceof ObjectSchema || schemaValue.getProperties() != null) {
-            return new RecordTypeGenerator(schemaValue, typeName);
+            return new RecordTypeGenerator(schemaValue, typeName, metaData);
         } else if (schemaValue instanceof ArraySchema) {
-            return new ArrayTypeGenerator(schemaValue, typeName);
+            return new ArrayTypeGenerator(schemaValue, typeName, metaData);
         } else if (schemaValue.getType() != null && primitiveTypeList.contains(schemaValue.getType())) {
-            return new PrimitiveTypeGenerator(schemaValue, typeName);
+            return new PrimitiveTypeGenerator(schemaValue, typeName, metaData);
         } else { // when schemaValue.type == null
-            return new AnyDataTypeGenerator(schemaValue, typeName);
+            return new AnyDataTypeGenerator(schemaValue, typeName, metaData);
         }
     }
 
@@ -126,11 +125,13 @@ public class TypeGeneratorUtils {
      *
      * @param schema Schema of the property
      * @param originalTypeDesc Type name
+     * @param metaData metadata of the current types generation
      * @return Final type of the field
      */
-    public static TypeDescriptorNode getNullableType(Schema schema, TypeDescriptorNode originalTypeDesc) {
+    public static TypeDescriptorNode getNullableType(Schema schema, TypeDescriptorNode originalTypeDesc,
+                                                     GeneratorMetaData metaData) {
         TypeDescriptorNode nillableType = originalTypeDesc;
-        boolean nullable = GeneratorMetaData.getInstance().isNullable();
+        boolean nullable = metaData.isNullable();
         if (schema.getNullable() != null) {
             if (schema.getNullable()) {
                 nillableType = createOptionalTypeDescriptorNode(originalTypeDesc, createToken(QUESTION_MARK_TOKEN));
@@ -144,17 +145,17 @@ public class TypeGeneratorUtils {
     /**
      * This util for generating record field with given schema properties.
      */
-    public static List<Node> addRecordFields(List<String> required, Set<Map.Entry<String, Schema>> fields)
-            throws BallerinaOpenApiException {
+    public static List<Node> addRecordFields(List<String> required, Set<Map.Entry<String, Schema>> fields,
+                                             GeneratorMetaData metaData) throws BallerinaOpenApiException {
         // TODO: Handle allOf , oneOf, anyOf
         List<Node> recordFieldList = new ArrayList<>();
         for (Map.Entry<String, Schema> field : fields) {
             String fieldNameStr = escapeIdentifier(field.getKey().trim());
             // API doc generations
-            List<Node> schemaDoc = getFieldApiDocs(field.getValue());
+            List<Node> schemaDoc = getFieldApiDocs(field.getValue(), metaData);
             NodeList<Node> schemaDocNodes = createNodeList(schemaDoc);
             IdentifierToken fieldName = AbstractNodeFactory.createIdentifierToken(fieldNameStr);
-            TypeDescriptorNode fieldTypeName = getTypeGenerator(field.getValue(), fieldNameStr)
+            TypeDescriptorNode fieldTypeName = getTypeGenerator(field.getValue(), fieldNameStr, metaData)
                     .generateTypeDescriptorNode();
             MarkdownDocumentationNode documentationNode = createMarkdownDocumentationNode(schemaDocNodes);
             MetadataNode metadataNode = createMetadataNode(documentationNode, createEmptyNodeList());
@@ -204,23 +205,25 @@ public class TypeGeneratorUtils {
      * Creates API documentation for record fields.
      *
      * @param field Schema of the field to generate
+     * @param metaData metadata of the current types generation
      * @return Documentation node list
      */
-    public static List<Node> getFieldApiDocs(Schema<?> field) {
+    public static List<Node> getFieldApiDocs(Schema<?> field, GeneratorMetaData metaData) {
         List<Node> schemaDoc = new ArrayList<>();
         if (field.getDescription() != null) {
             schemaDoc.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
                     field.getDescription(), false));
         } else if (field.get$ref() != null) {
-            String[] split = field.get$ref().trim().split("/");
-            String componentName = getValidName(split[split.length - 1], true);
-            OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
-            if (openAPI.getComponents().getSchemas().get(componentName) != null) {
-                Schema<?> schema = openAPI.getComponents().getSchemas().get(componentName);
-                if (schema.getDescription() != null) {
-                    schemaDoc.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
-                            schema.getDescription(), false));
-                }
+            Schema<?> schema;
+            try {
+                schema = metaData.getOpenAPIIndex().getReferencedSchema(field.get$ref().trim());
+            } catch (BallerinaOpenApiException e) {
+                // The unsupported reference is reported when the type of the field is generated.
+                schema = null;
+            }
+            if (schema != null && schema.getDescription() != null) {
+                schemaDoc.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
+                        schema.getDescription(), false));
             }
         }
         return schemaDoc;
@@ -232,16 +235,16 @@ public class TypeGeneratorUtils {
      * @param documentation   Documentation node list
      * @param schemaValue     OpenAPI schema
      * @param typeAnnotations Annotation list of the record
+     * @param metaData        metadata of the current types generation
      */
     public static void getRecordDocs(List<Node> documentation, Schema schemaValue,
-                                     List<AnnotationNode> typeAnnotations) throws BallerinaOpenApiException {
+                                     List<AnnotationNode> typeAnnotations, GeneratorMetaData metaData)
+            throws BallerinaOpenApiException {
         if (schemaValue.getDescription() != null) {
             documentation.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
                     schemaValue.getDescription(), false));
         } else if (schemaValue.get$ref() != null) {
-            String typeName = getValidName(extractReferenceType(schemaValue.get$ref()), true);
-            Schema<?> refSchema = GeneratorMetaData.getInstance().getOpenAPI().
-                    getComponents().getSchemas().get(typeName);
+            Schema<?> refSchema = metaData.getOpenAPIIndex().getReferencedSchema(schemaValue.get$ref());
             if (refSchema.getDescription() != null) {
                 documentation.addAll(DocCommentsGenerator.createAPIDescriptionDoc(
                         refSchema.getDescription(), false));
@@ -258,16 +261,17 @@ public class TypeGeneratorUtils {
      *
      * @param schemas  List of schemas included in the anyOf or oneOf schema
      * @param typeName This is parameter or variable name that used to populate error message meaningful
+     * @param metaData metadata of the current types generation
      * @return Union type
      * @throws BallerinaOpenApiException when unsupported combination of schemas found
      */
-    public static TypeDescriptorNode getUnionType(List<Schema> schemas, String typeName)
+    public static TypeDescriptorNode getUnionType(List<Schema> schemas, String typeName, GeneratorMetaData metaData)
             throws BallerinaOpenApiException {
         List<TypeDescriptorNode> typeDescriptorNodes = new ArrayList<>();
         for (Schema schema : schemas) {
-            TypeDescriptorNode typeDescriptorNode = getTypeGenerator(schema, typeName).generateTypeDescriptorNode();
-            if (typeDescriptorNode instanceof OptionalTypeDescriptorNode &&
-                    GeneratorMetaData.getInstance().isNullable()) {
+            TypeDescriptorNode typeDescriptorNode = getTypeGenerator(schema, typeName, metaData)
+                    .generateTypeDescriptorNode();
+            if (typeDescriptorNode instanceof OptionalTypeDescriptorNode && metaData.isNullable()) {
                 Node internalTypeDesc = ((OptionalTypeDescriptorNode) typeDescriptorNode).typeDescriptor();
                 typeDescriptorNode = (TypeDescriptorNode) internalTypeDesc;
             }
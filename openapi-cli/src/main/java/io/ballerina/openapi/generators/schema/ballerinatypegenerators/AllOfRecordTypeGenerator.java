@@ -27,6 +27,7 @@ import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.TypeReferenceNode;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.schema.TypeGeneratorUtils;
+import io.ballerina.openapi.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Schema;
 
@@ -69,8 +70,8 @@ import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
  */
 public class AllOfRecordTypeGenerator extends TypeGenerator {
 
-    public AllOfRecordTypeGenerator(Schema schema, String typeName) {
-        super(schema, typeName);
+    public AllOfRecordTypeGenerator(Schema schema, String typeName, GeneratorMetaData metaData) {
+        super(schema, typeName, metaData);
     }
 
     /**
@@ -83,7 +84,7 @@ public class AllOfRecordTypeGenerator extends TypeGenerator {
         List<Schema> allOfSchemas = composedSchema.getAllOf();
         if (allOfSchemas.size() == 1 && allOfSchemas.get(0).get$ref() != null) {
             ReferencedTypeGenerator referencedTypeGenerator = new ReferencedTypeGenerator(allOfSchemas.get(0),
-                    typeName);
+                    typeName, metaData);
             return referencedTypeGenerator.generateTypeDescriptorNode();
         } else {
             List<Node> recordFieldList = generateAllOfRecordFields(allOfSchemas);
@@ -106,7 +107,8 @@ public class AllOfRecordTypeGenerator extends TypeGenerator {
             } else if (allOfSchema.getProperties() != null) {
                 Map<String, Schema> properties = allOfSchema.getProperties();
                 List<String> required = allOfSchema.getRequired();
-                recordFieldList.addAll(TypeGeneratorUtils.addRecordFields(required, properties.entrySet()));
+                recordFieldList.addAll(TypeGeneratorUtils.addRecordFields(required, properties.entrySet(),
+                        metaData));
             } else if (allOfSchema instanceof ComposedSchema) {
                 ComposedSchema nestedComposedSchema = (ComposedSchema) allOfSchema;
                 if (nestedComposedSchema.getAllOf() != null) {
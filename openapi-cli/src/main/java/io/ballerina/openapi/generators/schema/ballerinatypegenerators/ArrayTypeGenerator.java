@@ -28,6 +28,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.schema.TypeGeneratorUtils;
+import io.ballerina.openapi.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.media.ArraySchema;
 import io.swagger.v3.oas.models.media.Schema;
 
@@ -61,8 +62,8 @@ import static io.ballerina.openapi.generators.schema.TypeGeneratorUtils.getNulla
 public class ArrayTypeGenerator extends TypeGenerator {
     private final PrintStream outStream = System.out;
 
-    public ArrayTypeGenerator(Schema schema, String typeName) {
-        super(schema, typeName);
+    public ArrayTypeGenerator(Schema schema, String typeName, GeneratorMetaData metaData) {
+        super(schema, typeName, metaData);
     }
 
     /**
@@ -73,7 +74,8 @@ public class ArrayTypeGenerator extends TypeGenerator {
     public TypeDescriptorNode generateTypeDescriptorNode() throws BallerinaOpenApiException {
         assert schema instanceof ArraySchema;
         ArraySchema arraySchema = (ArraySchema) schema;
-        TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(arraySchema.getItems(), typeName);
+        TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(arraySchema.getItems(), typeName,
+                metaData);
         TypeDescriptorNode typeDescriptorNode = typeGenerator.generateTypeDescriptorNode();
         if (typeGenerator instanceof UnionTypeGenerator) {
             typeDescriptorNode = createParenthesisedTypeDescriptorNode(
@@ -107,6 +109,6 @@ public class ArrayTypeGenerator extends TypeGenerator {
         ArrayTypeDescriptorNode arrayTypeDescriptorNode = createArrayTypeDescriptorNode(typeDescriptorNode
                 , arrayDimensions);
 
-        return getNullableType(arraySchema, arrayTypeDescriptorNode);
+        return getNullableType(arraySchema, arrayTypeDescriptorNode, metaData);
     }
 }
@@ -21,6 +21,7 @@ package io.ballerina.openapi.generators.schema.ballerinatypegenerators;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.schema.TypeGeneratorUtils;
+import io.ballerina.openapi.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.media.Schema;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -47,8 +48,8 @@ import static io.ballerina.openapi.generators.GeneratorUtils.convertOpenAPITypeT
  */
 public class PrimitiveTypeGenerator extends TypeGenerator {
 
-    public PrimitiveTypeGenerator(Schema schema, String typeName) {
-        super(schema, typeName);
+    public PrimitiveTypeGenerator(Schema schema, String typeName, GeneratorMetaData metaData) {
+        super(schema, typeName, metaData);
     }
 
     /**
@@ -66,6 +67,6 @@ public class PrimitiveTypeGenerator extends TypeGenerator {
         }
         TypeDescriptorNode typeDescriptorNode = createSimpleNameReferenceNode(
                 createIdentifierToken(typeDescriptorName));
-        return TypeGeneratorUtils.getNullableType(schema, typeDescriptorNode);
+        return TypeGeneratorUtils.getNullableType(schema, typeDescriptorNode, metaData);
     }
 }
@@ -25,6 +25,7 @@ import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.schema.TypeGeneratorUtils;
+import io.ballerina.openapi.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.List;
@@ -72,8 +73,8 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.RECORD_KEYWORD;
  */
 public class RecordTypeGenerator extends TypeGenerator {
 
-    public RecordTypeGenerator(Schema schema, String typeName) {
-        super(schema, typeName);
+    public RecordTypeGenerator(Schema schema, String typeName, GeneratorMetaData metaData) {
+        super(schema, typeName, metaData);
     }
 
     /**
@@ -84,7 +85,8 @@ public class RecordTypeGenerator extends TypeGenerator {
         if (schema.getProperties() != null) {
             Map<String, Schema> properties = schema.getProperties();
             List<String> required = schema.getRequired();
-            List<Node> recordFList = TypeGeneratorUtils.addRecordFields(required, properties.entrySet());
+            List<Node> recordFList = TypeGeneratorUtils.addRecordFields(required, properties.entrySet(),
+                    metaData);
             NodeList<Node> fieldNodes = AbstractNodeFactory.createNodeList(recordFList);
             return NodeFactory.createRecordTypeDescriptorNode(createToken(RECORD_KEYWORD),
                     createToken(OPEN_BRACE_TOKEN), fieldNodes, null, createToken(CLOSE_BRACE_TOKEN));
@@ -26,8 +26,6 @@ import io.swagger.v3.oas.models.media.Schema;
 
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createIdentifierToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createSimpleNameReferenceNode;
-import static io.ballerina.openapi.generators.GeneratorUtils.extractReferenceType;
-import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
 
 /**
  * Generate TypeDefinitionNode and TypeDescriptorNode for referenced schemas.
@@ -50,8 +48,8 @@ import static io.ballerina.openapi.generators.GeneratorUtils.getValidName;
  */
 public class ReferencedTypeGenerator extends TypeGenerator {
 
-    public ReferencedTypeGenerator(Schema schema, String typeName) {
-        super(schema, typeName);
+    public ReferencedTypeGenerator(Schema schema, String typeName, GeneratorMetaData metaData) {
+        super(schema, typeName, metaData);
     }
 
     /**
@@ -59,13 +57,13 @@ public class ReferencedTypeGenerator extends TypeGenerator {
      */
     @Override
     public TypeDescriptorNode generateTypeDescriptorNode() throws BallerinaOpenApiException {
-        String typeName = getValidName(extractReferenceType(schema.get$ref()), true);
-        Schema<?> refSchema = GeneratorMetaData.getInstance().getOpenAPI().getComponents().getSchemas().get(typeName);
+        String typeName = metaData.getOpenAPIIndex().getReferenceTypeName(schema.get$ref());
+        Schema<?> refSchema = metaData.getOpenAPIIndex().getReferencedSchema(schema.get$ref());
         TypeDescriptorNode typeDescriptorNode = createSimpleNameReferenceNode(createIdentifierToken(typeName));
         if (refSchema == null) {
             throw new BallerinaOpenApiException(String.format("Undefined $ref: '%s' in openAPI contract.",
                     schema.get$ref()));
         }
-        return TypeGeneratorUtils.getNullableType(refSchema, typeDescriptorNode);
+        return TypeGeneratorUtils.getNullableType(refSchema, typeDescriptorNode, metaData);
     }
 }
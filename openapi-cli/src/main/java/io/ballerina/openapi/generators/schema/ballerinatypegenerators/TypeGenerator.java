@@ -26,6 +26,7 @@ import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.List;
@@ -45,9 +46,11 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
 public abstract class TypeGenerator {
     Schema schema;
     String typeName;
-    public TypeGenerator(Schema schema, String typeName) {
+    GeneratorMetaData metaData;
+    public TypeGenerator(Schema schema, String typeName, GeneratorMetaData metaData) {
         this.schema = schema;
         this.typeName = typeName;
+        this.metaData = metaData;
     }
 
     /**
@@ -3,6 +3,7 @@ package io.ballerina.openapi.generators.schema.ballerinatypegenerators;
 import io.ballerina.compiler.syntax.tree.TypeDescriptorNode;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.schema.TypeGeneratorUtils;
+import io.ballerina.openapi.generators.schema.model.GeneratorMetaData;
 import io.swagger.v3.oas.models.media.ComposedSchema;
 import io.swagger.v3.oas.models.media.Schema;
 
@@ -28,8 +29,8 @@ import java.util.List;
  */
 public class UnionTypeGenerator extends TypeGenerator {
 
-    public UnionTypeGenerator(Schema schema, String typeName) {
-        super(schema, typeName);
+    public UnionTypeGenerator(Schema schema, String typeName, GeneratorMetaData metaData) {
+        super(schema, typeName, metaData);
     }
 
     @Override
@@ -42,7 +43,7 @@ public class UnionTypeGenerator extends TypeGenerator {
         } else {
             schemas = composedSchema.getAnyOf();
         }
-        TypeDescriptorNode unionTypeDesc = TypeGeneratorUtils.getUnionType(schemas, typeName);
-        return TypeGeneratorUtils.getNullableType(schema, unionTypeDesc);
+        TypeDescriptorNode unionTypeDesc = TypeGeneratorUtils.getUnionType(schemas, typeName, metaData);
+        return TypeGeneratorUtils.getNullableType(schema, unionTypeDesc, metaData);
     }
 }
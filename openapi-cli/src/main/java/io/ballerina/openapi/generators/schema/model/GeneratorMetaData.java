@@ -1,30 +1,36 @@
 package io.ballerina.openapi.generators.schema.model;
 
+import io.ballerina.openapi.generators.OpenAPIIndex;
 import io.swagger.v3.oas.models.OpenAPI;
 
 /**
  * Stores metadata related to Ballerina types generation.
+ * <p>
+ * An instance is created for each types generation and passed explicitly to the type generators, hence
+ * generations of different definitions can run concurrently in the same JVM.
  */
 public class GeneratorMetaData {
-    private final OpenAPI openAPI;
+    private final OpenAPIIndex openAPIIndex;
     private final boolean nullable;
-    private static GeneratorMetaData generatorMetaData = null;
 
-    private GeneratorMetaData(OpenAPI openAPI, boolean nullable) {
-        this.openAPI = openAPI;
-        this.nullable = nullable;
+    public GeneratorMetaData(OpenAPI openAPI, boolean nullable) {
+        this(new OpenAPIIndex(openAPI), nullable);
     }
 
-    public static void createInstance(OpenAPI openAPI, boolean nullable) {
-        generatorMetaData = new GeneratorMetaData(openAPI, nullable);
+    public GeneratorMetaData(OpenAPIIndex openAPIIndex, boolean nullable) {
+        this.openAPIIndex = openAPIIndex;
+        this.nullable = nullable;
     }
 
-    public static GeneratorMetaData getInstance() {
-        return generatorMetaData;
+    public OpenAPI getOpenAPI() {
+        return openAPIIndex.getOpenAPI();
     }
 
-    public OpenAPI getOpenAPI() {
-        return openAPI;
+    /**
+     * Get the index of the OpenAPI definition, which resolves the references of the schemas.
+     */
+    public OpenAPIIndex getOpenAPIIndex() {
+        return openAPIIndex;
     }
 
     public boolean isNullable() {
@@ -1,3 +1,4 @@
+import ballerina/http;
 import ballerina/url;
 import ballerina/mime;
 
@@ -279,3 +280,266 @@ returns mime:Entity[]|error {
     }
     return entities;
 }
+
+# Get the elements of the JSON array payload of a response as a stream. The payload is read in chunks, so that only
+# the element being parsed is held in memory.
+#
+# + response - Response with a JSON array payload
+# + return - Returns the stream of the array elements or error at failure of reading the payload
+isolated function getJsonArrayStream(http:Response response) returns stream<json, error?>|error {
+    if response.statusCode >= 400 {
+        return getApplicationResponseError(response);
+    }
+    if response.statusCode < 200 || response.statusCode > 299 {
+        return error(string `Unexpected response status code: ${response.statusCode}`);
+    }
+    stream<byte[], error?> byteStream = check response.getByteStream();
+    stream<json, error?> elementStream = new (new JsonArrayElementIterator(byteStream));
+    return elementStream;
+}
+
+# Get the error of a response with a 4XX or 5XX status code, which is the error the HTTP client returns when the
+# payload of such a response is bound to a type.
+#
+# + response - Response with a 4XX or 5XX status code
+# + return - Returns the `http:ClientRequestError` or `http:RemoteServerError` with the status code, headers and body
+# of the response, or error at failure of reading the response
+isolated function getApplicationResponseError(http:Response response) returns http:ApplicationResponseError|error {
+    map<string[]> headers = {};
+    foreach string headerName in response.getHeaderNames() {
+        headers[headerName] = check response.getHeaders(headerName);
+    }
+    byte[] payload = check response.getBinaryPayload();
+    anydata body = payload;
+    string|error textPayload = string:fromBytes(payload);
+    if textPayload is string {
+        json|error jsonPayload = textPayload.fromJsonString();
+        body = jsonPayload is json ? jsonPayload : textPayload;
+    }
+    if response.statusCode < 500 {
+        return error http:ClientRequestError(response.reasonPhrase, statusCode = response.statusCode,
+            headers = headers, body = body);
+    }
+    return error http:RemoteServerError(response.reasonPhrase, statusCode = response.statusCode, headers = headers,
+        body = body);
+}
+
+# Iterator of the elements of a JSON array read from a byte stream. The bytes are scanned for the boundaries of the
+# top level elements, and each element is sliced out of the chunks and parsed as soon as it is complete.
+class JsonArrayElementIterator {
+    private final stream<byte[], error?> byteStream;
+    private byte[] chunk = [];
+    private int index = 0;
+    # Index of the first byte of the element being scanned in the chunk, or -1 when no element is being scanned
+    private int elementStart = -1;
+    # Bytes of the element being scanned, which are read from the previous chunks
+    private byte[] elementPrefix = [];
+    private int depth = 0;
+    private boolean inString = false;
+    private boolean escaped = false;
+    private boolean done = false;
+
+    isolated function init(stream<byte[], error?> byteStream) {
+        self.byteStream = byteStream;
+    }
+
+    public isolated function next() returns record {|json value;|}|error? {
+        while !self.done {
+            if self.index == self.chunk.length() {
+                if self.elementStart >= 0 {
+                    // The element continues in the next chunk.
+                    self.elementPrefix.push(...self.chunk.slice(self.elementStart));
+                    self.elementStart = 0;
+                }
+                record {|byte[] value;|}? nextChunk = check self.byteStream.next();
+                if nextChunk is () {
+                    return error("Unexpected end of the JSON array payload");
+                }
+                self.chunk = nextChunk.value;
+                self.index = 0;
+                continue;
+            }
+            byte nextByte = self.chunk[self.index];
+            self.index += 1;
+            if self.inString {
+                if self.escaped {
+                    self.escaped = false;
+                } else if nextByte == 92 {
+                    // `\`
+                    self.escaped = true;
+                } else if nextByte == 34 {
+                    // `"`
+                    self.inString = false;
+                }
+            } else if nextByte == 32 || nextByte == 9 || nextByte == 10 || nextByte == 13 {
+                // Whitespaces between the tokens are not significant.
+                continue;
+            } else if self.depth == 0 {
+                if nextByte != 91 {
+                    return error("The response payload is not a JSON array");
+                }
+                self.depth = 1;
+            } else if self.depth == 1 && (nextByte == 44 || nextByte == 93) {
+                // `,` or `]` completes an element of the array.
+                if nextByte == 93 {
+                    self.done = true;
+                    check self.byteStream.close();
+                    if self.elementStart < 0 && self.elementPrefix.length() == 0 {
+                        return ();
+                    }
+                }
+                if self.elementStart < 0 {
+                    return error("Missing element in the JSON array payload");
+                }
+                byte[] element = self.chunk.slice(self.elementStart, self.index - 1);
+                if self.elementPrefix.length() > 0 {
+                    self.elementPrefix.push(...element);
+                    element = self.elementPrefix;
+                    self.elementPrefix = [];
+                }
+                self.elementStart = -1;
+                string elementString = check string:fromBytes(element);
+                return {value: check elementString.fromJsonString()};
+            } else {
+                if self.elementStart < 0 {
+                    self.elementStart = self.index - 1;
+                }
+                if nextByte == 91 || nextByte == 123 {
+                    // `[` or `{`
+                    self.depth += 1;
+                } else if nextByte == 93 || nextByte == 125 {
+                    // `]` or `}`
+                    self.depth -= 1;
+                } else if nextByte == 34 {
+                    self.inString = true;
+                }
+            }
+        }
+        return ();
+    }
+}
+
+# Represents a page of a paginated operation.
+type Page record {|
+    # Items of the page
+    anydata[] items;
+    # Token of the next page, which is nil when the page is the last page
+    anydata next = ();
+|};
+
+# Represents a function which gets the page of a paginated operation for a page token.
+type PageFetcher isolated function (anydata pageToken) returns Page|error;
+
+# Get the items of all the pages of a paginated operation as a stream. The pages are fetched as the items are consumed,
+# and the next page is fetched while the items of the current page are consumed when `prefetch` is true.
+#
+# + fetchPage - Function which gets the page of a page token
+# + firstPageToken - Page token of the first page
+# + prefetch - Whether the next page is fetched in advance
+# + return - Returns the stream of the items of the pages
+isolated function getPageStream(PageFetcher fetchPage, anydata firstPageToken, boolean prefetch)
+returns stream<anydata, error?> {
+    stream<anydata, error?> itemStream = new (new PageIterator(fetchPage, firstPageToken, prefetch));
+    return itemStream;
+}
+
+# Get the value of a query parameter of a link.
+#
+# + link - Link with the query parameter, which is nil when there is no link
+# + name - Name of the query parameter
+# + return - Returns the decoded value, or nil when there is no link or the link does not have the query parameter
+isolated function getQueryParamFromLink(string? link, string name) returns string?|error {
+    if link is () {
+        return ();
+    }
+    int? queryIndex = link.indexOf("?");
+    if queryIndex is () {
+        return ();
+    }
+    string query = link.substring(queryIndex + 1);
+    int? fragmentIndex = query.indexOf("#");
+    if fragmentIndex is int {
+        query = query.substring(0, fragmentIndex);
+    }
+    int startIndex = 0;
+    while startIndex < query.length() {
+        int? endIndex = query.indexOf("&", startIndex);
+        string param = query.substring(startIndex, endIndex ?: query.length());
+        int? equalIndex = param.indexOf("=");
+        string key = check url:decode(equalIndex is int ? param.substring(0, equalIndex) : param, "UTF8");
+        if key == name {
+            return equalIndex is int ? check url:decode(param.substring(equalIndex + 1), "UTF8") : "";
+        }
+        if endIndex is () {
+            break;
+        }
+        startIndex = endIndex + 1;
+    }
+    return ();
+}
+
+# Iterator of the items of the pages of a paginated operation.
+class PageIterator {
+    private final PageFetcher fetchPage;
+    private final boolean prefetch;
+    private anydata[] items = [];
+    private int index = 0;
+    private anydata nextPageToken;
+    private boolean hasNextPage = true;
+    private future<Page|error>? nextPage = ();
+
+    isolated function init(PageFetcher fetchPage, anydata firstPageToken, boolean prefetch) {
+        self.fetchPage = fetchPage;
+        self.nextPageToken = firstPageToken;
+        self.prefetch = prefetch;
+    }
+
+    public isolated function next() returns record {|anydata value;|}|error? {
+        while self.index == self.items.length() {
+            if !self.hasNextPage {
+                return ();
+            }
+            anydata pageToken = self.nextPageToken;
+            Page page = check self.getNextPage();
+            self.items = page.items;
+            self.index = 0;
+            self.nextPageToken = page.next;
+            // The pages end when the token of the next page is not given, or is the token of the same page again.
+            self.hasNextPage = page.next != () && page.next != "" && page.next != pageToken;
+            if self.prefetch && self.hasNextPage {
+                PageFetcher fetchPage = self.fetchPage;
+                anydata & readonly nextPageToken = page.next.cloneReadOnly();
+                self.nextPage = start fetchPage(nextPageToken);
+            }
+        }
+        anydata item = self.items[self.index];
+        self.index += 1;
+        return {value: item};
+    }
+
+    # Closes the iterator. A page which is being prefetched is waited for, so that its request is not left running
+    # after the stream is closed, and the pages after it are not fetched.
+    #
+    # + return - Returns error at failure of closing the iterator
+    public isolated function close() returns error? {
+        self.hasNextPage = false;
+        self.items = [];
+        self.index = 0;
+        future<Page|error>? nextPage = self.nextPage;
+        if nextPage is future<Page|error> {
+            self.nextPage = ();
+            // The prefetched page is not used, hence an error of fetching it is not an error of closing the stream.
+            Page|error prefetchedPage = wait nextPage;
+        }
+    }
+
+    private isolated function getNextPage() returns Page|error {
+        future<Page|error>? nextPage = self.nextPage;
+        if nextPage is future<Page|error> {
+            self.nextPage = ();
+            return wait nextPage;
+        }
+        PageFetcher fetchPage = self.fetchPage;
+        return fetchPage(self.nextPageToken);
+    }
+}
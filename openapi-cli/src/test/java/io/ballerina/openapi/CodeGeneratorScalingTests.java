@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi;
+
+import io.ballerina.openapi.cmd.CodeGenerator;
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.cmd.model.GenSrcFile;
+import io.ballerina.openapi.generators.common.SyntheticOpenAPIGenerator;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.ballerina.openapi.generators.GeneratorConstants.GenType.GEN_CLIENT;
+
+/**
+ * Tests that the client generation time and allocations grow roughly linearly with the size of the OpenAPI
+ * definition, using synthetic definitions of 1x, 10x and 100x sizes, up to 4,000 paths and 12,000 schemas.
+ * <p>
+ * The scaling test measures the wall-clock time, hence it is in the {@code performance} group, which is excluded
+ * from the default test suite and run with the {@code performanceTest} task.
+ */
+public class CodeGeneratorScalingTests {
+    public static final String PERFORMANCE_GROUP = "performance";
+
+    private static final int BASE_PATH_COUNT = 40;
+    private static final int BASE_SCHEMA_COUNT = 120;
+    private static final int[] SCALES = {1, 10, 100};
+    // The exponent of the growth, which is the slope of the measurements against the sizes on a log-log scale, is 1
+    // for a linear generation and 2 for a quadratic one. An n log n generation has a slope of about 1.18 over the
+    // 40 to 4,000 paths of the scales. The limits leave room above it for the measurement noise, which is larger for
+    // the time, while a generation with a quadratic part exceeds them.
+    private static final double MAX_ALLOCATION_EXPONENT = 1.25;
+    private static final double MAX_TIME_EXPONENT = 1.4;
+
+    private Path tmpDir;
+
+    @BeforeClass(alwaysRun = true)
+    public void setup() throws IOException {
+        this.tmpDir = Files.createTempDirectory("openapi-scaling-test");
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(this.tmpDir.toFile());
+    }
+
+    @Test(description = "Test the synthetic OpenAPI definitions are deterministic")
+    public void testSyntheticDefinitionIsDeterministic() throws IOException {
+        Path first = new SyntheticOpenAPIGenerator(20, 60).write(tmpDir.resolve("first.yaml"));
+        Path second = new SyntheticOpenAPIGenerator(20, 60).write(tmpDir.resolve("second.yaml"));
+        Assert.assertEquals(Files.readString(second), Files.readString(first));
+    }
+
+    @Test(description = "Test client generation time and allocations grow linearly with the definition size",
+            groups = PERFORMANCE_GROUP)
+    public void testClientGenerationScaling() throws Exception {
+        List<Path> definitions = new ArrayList<>();
+        for (int scale : SCALES) {
+            definitions.add(writeDefinition(scale));
+        }
+
+        // Warm up the parser, the generators and the formatter.
+        for (int i = 0; i < 3; i++) {
+            generate(definitions.get(0));
+        }
+        double[] sizes = new double[SCALES.length];
+        double[] allocatedBytes = new double[SCALES.length];
+        double[] times = new double[SCALES.length];
+        for (int i = 0; i < SCALES.length; i++) {
+            // The smaller definitions are measured more times, since their measurements are noisier.
+            Measurement measurement = measure(definitions.get(i), i < SCALES.length - 1 ? 3 : 1);
+            sizes[i] = SCALES[i];
+            allocatedBytes[i] = measurement.allocatedBytes;
+            times[i] = measurement.time;
+        }
+
+        assertLinear("allocated bytes", sizes, allocatedBytes, MAX_ALLOCATION_EXPONENT);
+        assertLinear("time", sizes, times, MAX_TIME_EXPONENT);
+    }
+
+    private Path writeDefinition(int scale) throws IOException {
+        return new SyntheticOpenAPIGenerator(BASE_PATH_COUNT * scale, BASE_SCHEMA_COUNT * scale)
+                .write(tmpDir.resolve("synthetic_" + scale + "x.yaml"));
+    }
+
+    private static void assertLinear(String metric, double[] sizes, double[] measurements, double maxExponent) {
+        double exponent = getLogLogSlope(sizes, measurements);
+        Assert.assertTrue(exponent <= maxExponent, "The " + metric + " of the client generation grew with the " +
+                "exponent " + exponent + " of the OpenAPI definition size, which exceeds " + maxExponent);
+    }
+
+    /**
+     * Get the least squares slope of the logarithms of the measurements against the logarithms of the sizes.
+     */
+    private static double getLogLogSlope(double[] sizes, double[] measurements) {
+        double meanX = 0;
+        double meanY = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            meanX += Math.log(sizes[i]) / sizes.length;
+            meanY += Math.log(Math.max(1, measurements[i])) / sizes.length;
+        }
+        double covariance = 0;
+        double variance = 0;
+        for (int i = 0; i < sizes.length; i++) {
+            double x = Math.log(sizes[i]) - meanX;
+            covariance += x * (Math.log(Math.max(1, measurements[i])) - meanY);
+            variance += x * x;
+        }
+        return covariance / variance;
+    }
+
+    /**
+     * Measure the minimum time and allocations of the given number of client generations.
+     */
+    private static Measurement measure(Path definition, int runs) throws Exception {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long minTime = Long.MAX_VALUE;
+        long minAllocatedBytes = Long.MAX_VALUE;
+        for (int i = 0; i < runs; i++) {
+            long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+            long startTime = System.nanoTime();
+            generate(definition);
+            minTime = Math.min(minTime, System.nanoTime() - startTime);
+            minAllocatedBytes = Math.min(minAllocatedBytes,
+                    threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBytes);
+        }
+        return new Measurement(minTime, minAllocatedBytes);
+    }
+
+    private static List<GenSrcFile> generate(Path definition) throws Exception {
+        CodeGenerator codeGenerator = new CodeGenerator();
+        // All the stages run on the caller thread, so that the allocations of the thread cover the generation.
+        codeGenerator.setThreads(1);
+        return codeGenerator.generateBalSource(GEN_CLIENT, definition.toString(), "synthetic",
+                new Filter(new ArrayList<>(), new ArrayList<>()), false);
+    }
+
+    /**
+     * Time in nanoseconds and allocated bytes of a client generation.
+     */
+    private static class Measurement {
+        private final long time;
+        private final long allocatedBytes;
+
+        Measurement(long time, long allocatedBytes) {
+            this.time = time;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
@@ -17,6 +17,8 @@ package io.ballerina.openapi;
 
 import io.ballerina.openapi.cmd.CodeGenerator;
 import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.cmd.GenerationManifest;
+import io.ballerina.openapi.cmd.OutputDirectory;
 import io.ballerina.openapi.cmd.model.GenSrcFile;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.GeneratorConstants;
@@ -33,16 +35,15 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import static io.ballerina.openapi.cmd.model.GenSrcFile.GenFileType.GEN_SRC;
 import static io.ballerina.openapi.generators.GeneratorConstants.CLIENT_FILE_NAME;
-import static io.ballerina.openapi.generators.GeneratorConstants.CONFIG_FILE_NAME;
 import static io.ballerina.openapi.generators.GeneratorConstants.GenType.GEN_CLIENT;
-import static io.ballerina.openapi.generators.GeneratorConstants.TEST_FILE_NAME;
 import static io.ballerina.openapi.generators.GeneratorConstants.TYPE_FILE_NAME;
 import static io.ballerina.openapi.generators.GeneratorConstants.USER_DIR;
 import static io.ballerina.openapi.generators.GeneratorConstants.UTIL_FILE_NAME;
@@ -105,33 +106,161 @@ public class CodeGeneratorTest {
         }
     }
 
-    @Test(description = "Test duplicated files generation")
-    public void generateDuplicatedFiles() {
-        List<File> duplicatedFileList = new ArrayList<>();
-        duplicatedFileList.add(new File(TEST_FILE_NAME));
-        duplicatedFileList.add(new File(CONFIG_FILE_NAME));
-        duplicatedFileList.add(new File(CLIENT_FILE_NAME));
-        duplicatedFileList.add(new File(UTIL_FILE_NAME));
-        duplicatedFileList.add(new File(TYPE_FILE_NAME));
-
-        String testPackageName = "testDuplicatedFiles";
-        GenSrcFile duplicatedTestFile = new GenSrcFile(GEN_SRC, testPackageName, TEST_FILE_NAME, "");
-        GenSrcFile duplicatedConfigFile = new GenSrcFile(GEN_SRC, testPackageName, CONFIG_FILE_NAME, "");
-        GenSrcFile duplicatedClientFile = new GenSrcFile(GEN_SRC, testPackageName, CLIENT_FILE_NAME, "");
-        GenSrcFile duplicatedUtilsFile = new GenSrcFile(GEN_SRC, testPackageName, UTIL_FILE_NAME, "");
-        GenSrcFile duplicatedTypesFile = new GenSrcFile(GEN_SRC, testPackageName, TYPE_FILE_NAME, "");
-
-        GeneratorUtils.setGeneratedFileName(duplicatedFileList, duplicatedTestFile, 0);
-        GeneratorUtils.setGeneratedFileName(duplicatedFileList, duplicatedConfigFile, 0);
-        GeneratorUtils.setGeneratedFileName(duplicatedFileList, duplicatedClientFile, 0);
-        GeneratorUtils.setGeneratedFileName(duplicatedFileList, duplicatedUtilsFile, 0);
-        GeneratorUtils.setGeneratedFileName(duplicatedFileList, duplicatedTypesFile, 0);
-
-        Assert.assertEquals(duplicatedTestFile.getFileName(), "test.1.bal");
-        Assert.assertEquals(duplicatedConfigFile.getFileName(), "Config.1.toml");
-        Assert.assertEquals(duplicatedClientFile.getFileName(), "client.1.bal");
-        Assert.assertEquals(duplicatedUtilsFile.getFileName(), "utils.1.bal");
-        Assert.assertEquals(duplicatedTypesFile.getFileName(), "types.1.bal");
+    @Test(description = "Test Ballerina service and client generation from a single parsed definition")
+    public void generateServiceAndClient() {
+        final String serviceName = "openapipetstore";
+        String definitionPath = RES_DIR.resolve("petstore.yaml").toString();
+        CodeGenerator generator = new CodeGenerator();
+        try {
+            String expectedServiceContent = getStringFromGivenBalFile(expectedServiceFile, "generateSkeleton.bal");
+            String expectedClientContent = getStringFromGivenBalFile(expectedServiceFile, "generate_client.bal");
+            generator.generateBothFiles(GeneratorConstants.GenType.GEN_BOTH, definitionPath, serviceName,
+                    resourcePath.toString(), filter, false);
+            if (Files.exists(resourcePath.resolve("openapipetstore_service.bal")) &&
+                    Files.exists(resourcePath.resolve("client.bal")) &&
+                    Files.exists(resourcePath.resolve("types.bal"))) {
+                String generatedService = getStringFromGivenBalFile(resourcePath, "openapipetstore_service.bal");
+                String generatedClient = getStringFromGivenBalFile(resourcePath, "client.bal");
+                Assert.assertTrue(generatedService.replaceAll("\\s+", "")
+                        .contains(expectedServiceContent.replaceAll("\\s+", "")));
+                Assert.assertTrue(generatedClient.replaceAll("\\s+", "")
+                        .contains(expectedClientContent.replaceAll("\\s+", "")));
+            } else {
+                Assert.fail("Service and client were not generated");
+            }
+        } catch (IOException | BallerinaOpenApiException | FormatterException e) {
+            Assert.fail("Error while generating the service and client. " + e.getMessage());
+        } finally {
+            deleteGeneratedFiles("openapipetstore_service.bal");
+        }
+    }
+
+    @Test(description = "Test client generation does not leave scratch directories in the temp directory")
+    public void generateClientWithoutScratchDirectories() throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        String definitionPath = RES_DIR.resolve("petstore_tags.yaml").toString();
+        Filter tagFilter = new Filter(List.of("pets"), new ArrayList<>());
+        List<String> scratchDirectories = getScratchDirectories();
+        for (int i = 0; i < 3; i++) {
+            CodeGenerator generator = new CodeGenerator();
+            generator.generateBalSource(GEN_CLIENT, definitionPath, "", tagFilter, false);
+        }
+        Assert.assertEquals(getScratchDirectories(), scratchDirectories);
+    }
+
+    private List<String> getScratchDirectories() throws IOException {
+        try (Stream<Path> tempFiles = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return tempFiles.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(".openapi-tmp") || name.startsWith(".util-tmp"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    @Test(description = "Test incremental client generation skips unchanged inputs and unchanged files")
+    public void generateClientIncrementally() throws IOException, BallerinaOpenApiException, FormatterException {
+        Path outputDir = Files.createTempDirectory("openapi-incremental-out");
+        try {
+            Path definition = outputDir.resolve("petstore.yaml");
+            String definitionContent = Files.readString(RES_DIR.resolve("petstore.yaml"));
+            Files.writeString(definition, definitionContent);
+            Path clientDir = Files.createDirectories(outputDir.resolve("client"));
+            generateIncrementalClient(definition, clientDir);
+            Path manifestPath = clientDir.resolve(GenerationManifest.MANIFEST_FILE_NAME);
+            Assert.assertTrue(Files.exists(manifestPath));
+            GenerationManifest manifest = GenerationManifest.read(clientDir);
+            Assert.assertNotNull(manifest);
+            Assert.assertEquals(manifest.getFileHashes().keySet(),
+                    Set.of(CLIENT_FILE_NAME, UTIL_FILE_NAME, TYPE_FILE_NAME));
+
+            // Re-running with the same inputs does not write any file, even when the definition path is given
+            // differently.
+            FileTime oldTime = FileTime.fromMillis(0);
+            for (String fileName : List.of(CLIENT_FILE_NAME, UTIL_FILE_NAME, TYPE_FILE_NAME,
+                    GenerationManifest.MANIFEST_FILE_NAME)) {
+                Files.setLastModifiedTime(clientDir.resolve(fileName), oldTime);
+            }
+            generateIncrementalClient(clientDir.resolve("..").resolve("petstore.yaml"), clientDir);
+            Assert.assertEquals(Files.getLastModifiedTime(manifestPath), oldTime);
+            Assert.assertEquals(Files.getLastModifiedTime(clientDir.resolve(TYPE_FILE_NAME)), oldTime);
+
+            // A changed schema rewrites only the types.
+            Files.writeString(definition, definitionContent.replace("        tag:\n          type: string\n",
+                    "        tag:\n          type: string\n          description: Tag of the pet\n"));
+            generateIncrementalClient(definition, clientDir);
+            Assert.assertNotEquals(Files.getLastModifiedTime(clientDir.resolve(TYPE_FILE_NAME)), oldTime);
+            Assert.assertEquals(Files.getLastModifiedTime(clientDir.resolve(CLIENT_FILE_NAME)), oldTime);
+            Assert.assertEquals(Files.getLastModifiedTime(clientDir.resolve(UTIL_FILE_NAME)), oldTime);
+            Assert.assertTrue(Files.readString(clientDir.resolve(TYPE_FILE_NAME)).contains("Tag of the pet"));
+            Assert.assertNotEquals(GenerationManifest.read(clientDir).getInputHash(), manifest.getInputHash());
+        } finally {
+            FileUtils.deleteDirectory(outputDir.toFile());
+        }
+    }
+
+    private void generateIncrementalClient(Path definition, Path outputDir)
+            throws IOException, BallerinaOpenApiException, FormatterException {
+        CodeGenerator generator = new CodeGenerator();
+        generator.setIncremental(true);
+        generator.setInteractive(false);
+        generator.generateClient(definition.toString(), "petstore", outputDir.toString(), filter, false);
+    }
+
+    @Test(description = "Test the client is generated as a separate module for each shard of the operations")
+    public void generateShardedClient() throws IOException, BallerinaOpenApiException, FormatterException {
+        Path outputDir = Files.createTempDirectory("openapi-shard-out");
+        try {
+            CodeGenerator generator = new CodeGenerator();
+            generator.setInteractive(false);
+            generator.setShardClientByTag(true);
+            generator.setMaxClientOperations(2);
+            generator.generateClient(RES_DIR.resolve("petstore.yaml").toString(), "petstore", outputDir.toString(),
+                    filter, false);
+
+            Assert.assertFalse(Files.exists(outputDir.resolve(CLIENT_FILE_NAME)));
+            Path firstShard = outputDir.resolve("modules").resolve("pets1");
+            Path secondShard = outputDir.resolve("modules").resolve("pets2");
+            String firstClient = Files.readString(firstShard.resolve(CLIENT_FILE_NAME));
+            String secondClient = Files.readString(secondShard.resolve(CLIENT_FILE_NAME));
+            Assert.assertTrue(firstClient.contains("function listPets("));
+            Assert.assertTrue(firstClient.contains("function createPet("));
+            Assert.assertFalse(firstClient.contains("function showPetById("));
+            Assert.assertTrue(secondClient.contains("function showPetById("));
+            Assert.assertFalse(secondClient.contains("function listPets("));
+            // Each shard has the types used by its own operations.
+            Assert.assertTrue(Files.readString(firstShard.resolve(TYPE_FILE_NAME)).contains("public type Error"));
+            Assert.assertTrue(Files.readString(secondShard.resolve(TYPE_FILE_NAME)).contains("public type Pets"));
+        } finally {
+            FileUtils.deleteDirectory(outputDir.toFile());
+        }
+    }
+
+    @Test(description = "Test the existing files of the client shards are detected when the client is regenerated")
+    public void regenerateShardedClient() throws IOException, BallerinaOpenApiException, FormatterException {
+        Path outputDir = Files.createTempDirectory("openapi-shard-out");
+        try {
+            CodeGenerator generator = new CodeGenerator();
+            generator.setInteractive(false);
+            generator.setShardClientByTag(true);
+            generator.setMaxClientOperations(2);
+            generator.generateClient(RES_DIR.resolve("petstore.yaml").toString(), "petstore", outputDir.toString(),
+                    filter, false);
+            Path shardClient = outputDir.resolve("modules").resolve("pets1").resolve(CLIENT_FILE_NAME);
+            Files.writeString(shardClient, "// edited");
+
+            OutputDirectory outputDirectory = new OutputDirectory(outputDir);
+            Assert.assertTrue(outputDirectory.containsFile("modules/pets1/" + CLIENT_FILE_NAME));
+            Assert.assertTrue(outputDirectory.containsFile("modules/pets2/" + TYPE_FILE_NAME));
+            Assert.assertFalse(outputDirectory.containsFile(CLIENT_FILE_NAME));
+
+            // A non interactive generation overrides the existing files of the shards.
+            generator.generateClient(RES_DIR.resolve("petstore.yaml").toString(), "petstore", outputDir.toString(),
+                    filter, false);
+            Assert.assertTrue(Files.readString(shardClient).contains("function listPets("));
+            Assert.assertFalse(Files.exists(shardClient.resolveSibling("client.1.bal")));
+        } finally {
+            FileUtils.deleteDirectory(outputDir.toFile());
+        }
     }
 
     @Test(description = "Test Ballerina client generation with doc comments in class init function")
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi;
+
+import io.ballerina.openapi.cmd.CodeGenerator;
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.cmd.model.GenSrcFile;
+import io.ballerina.openapi.generators.GeneratorConstants;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static io.ballerina.openapi.generators.GeneratorConstants.GenType.GEN_CLIENT;
+import static io.ballerina.openapi.generators.GeneratorConstants.GenType.GEN_SERVICE;
+
+/**
+ * Tests for running several code generations concurrently in the same JVM.
+ */
+public class ConcurrentCodeGenerationTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+    private static final int REPETITIONS = 3;
+    private static final int THREADS = 8;
+
+    @Test(description = "Test concurrent generations produce the same sources as sequential generations")
+    public void testConcurrentGeneration() throws Exception {
+        List<Generation> generations = getGenerations();
+        List<String> sequentialResults = new ArrayList<>();
+        for (Generation generation : generations) {
+            sequentialResults.add(generation.call());
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<String>> concurrentResults = new ArrayList<>();
+            for (int i = 0; i < REPETITIONS; i++) {
+                for (Generation generation : generations) {
+                    concurrentResults.add(executorService.submit(generation));
+                }
+            }
+            for (int i = 0; i < concurrentResults.size(); i++) {
+                Generation generation = generations.get(i % generations.size());
+                Assert.assertEquals(concurrentResults.get(i).get(), sequentialResults.get(i % generations.size()),
+                        "Concurrent generation differs for " + generation.definition);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test(description = "Test generation stages running on a pool produce the same sources as on a single thread")
+    public void testParallelGenerationStages() throws Exception {
+        for (Generation generation : getGenerations()) {
+            String sequentialResult = generation.withThreads(1).call();
+            String parallelResult = generation.withThreads(THREADS).call();
+            Assert.assertEquals(parallelResult, sequentialResult,
+                    "Parallel generation stages differ for " + generation.definition);
+        }
+    }
+
+    private List<Generation> getGenerations() {
+        List<String> clientDefinitions = Arrays.asList("petstore.yaml", "x_init_description.yaml",
+                "petstore_nullable_false.yaml", "petstore_with_apikey_auth.yaml", "openapi-client-rb.yaml",
+                "generators/client/file_provider/swagger/tag.yaml",
+                "generators/client/file_provider/swagger/operation.yaml");
+        List<String> serviceDefinitions = Arrays.asList("petstore.yaml", "requestBody.yaml", "multiPathParam.yaml",
+                "multiQueryParam.yaml");
+        List<Generation> generations = new ArrayList<>();
+        for (String definition : clientDefinitions) {
+            generations.add(new Generation(GEN_CLIENT, definition, new Filter(new ArrayList<>(),
+                    new ArrayList<>()), false));
+            generations.add(new Generation(GEN_CLIENT, definition, new Filter(new ArrayList<>(),
+                    new ArrayList<>()), true));
+        }
+        generations.add(new Generation(GEN_CLIENT, "petstore_tags.yaml",
+                new Filter(Arrays.asList("pets", "dogs"), new ArrayList<>()), false));
+        for (String definition : serviceDefinitions) {
+            generations.add(new Generation(GEN_SERVICE, definition, new Filter(new ArrayList<>(),
+                    new ArrayList<>()), false));
+        }
+        return generations;
+    }
+
+    /**
+     * A single code generation which returns all the generated sources as one string.
+     */
+    private static class Generation implements Callable<String> {
+        private final GeneratorConstants.GenType type;
+        private final String definition;
+        private final Filter filter;
+        private final boolean nullable;
+        private final Integer threads;
+
+        Generation(GeneratorConstants.GenType type, String definition, Filter filter, boolean nullable) {
+            this(type, definition, filter, nullable, null);
+        }
+
+        private Generation(GeneratorConstants.GenType type, String definition, Filter filter, boolean nullable,
+                           Integer threads) {
+            this.type = type;
+            this.definition = definition;
+            this.filter = filter;
+            this.nullable = nullable;
+            this.threads = threads;
+        }
+
+        Generation withThreads(int threads) {
+            return new Generation(type, definition, filter, nullable, threads);
+        }
+
+        @Override
+        public String call() throws Exception {
+            CodeGenerator codeGenerator = new CodeGenerator();
+            codeGenerator.setIncludeTestFiles(true);
+            if (threads != null) {
+                codeGenerator.setThreads(threads);
+            }
+            List<GenSrcFile> sources = codeGenerator.generateBalSource(type,
+                    RES_DIR.resolve(definition).toString(), "concurrent", filter, nullable);
+            StringBuilder content = new StringBuilder();
+            for (GenSrcFile source : sources) {
+                content.append(source.getFileName()).append(System.lineSeparator())
+                        .append(source.getContent()).append(System.lineSeparator());
+            }
+            return content.toString();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi;
+
+import io.ballerina.openapi.generators.GeneratorUtils;
+import io.ballerina.openapi.generators.common.SyntheticOpenAPIGenerator;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests that a large OpenAPI definition is parsed within the heap documented for the definition size, by parsing it
+ * in a separate JVM with a bounded heap.
+ */
+public class DefinitionParsingMemoryTests {
+    // The documented figure is about 7 MB of heap per MB of definition. The test gives some room above it, and a
+    // fixed heap for the JVM and the parser. Keeping the tree of the whole definition while it is deserialized takes
+    // about 15 MB per MB, hence the bound fails when the definition is not streamed.
+    private static final int HEAP_PER_DEFINITION_MB = 8;
+    private static final int BASE_HEAP_MB = 32;
+    private static final long PARSE_TIMEOUT_MINUTES = 5;
+    private static final long MB = 1024 * 1024;
+
+    private Path tmpDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        this.tmpDir = Files.createTempDirectory("openapi-parsing-memory-test");
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(this.tmpDir.toFile());
+    }
+
+    @Test(description = "Test a large JSON definition is parsed within the documented heap per MB of definition")
+    public void testParseLargeDefinitionWithBoundedHeap() throws IOException, InterruptedException {
+        Path definition = tmpDir.resolve("synthetic_large.json");
+        Json.mapper().writeValue(definition.toFile(), new SyntheticOpenAPIGenerator(10000, 30000).generate());
+        long definitionMB = (Files.size(definition) + MB - 1) / MB;
+        long maxHeapMB = BASE_HEAP_MB + HEAP_PER_DEFINITION_MB * definitionMB;
+
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+        Process process = new ProcessBuilder(List.of(java, "-Xmx" + maxHeapMB + "m",
+                "-cp", System.getProperty("java.class.path"), ParseDefinition.class.getName(),
+                definition.toString()))
+                .redirectErrorStream(true)
+                .redirectOutput(tmpDir.resolve("parse.log").toFile())
+                .start();
+        if (!process.waitFor(PARSE_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            Assert.fail("The parsing of the definition did not complete in " + PARSE_TIMEOUT_MINUTES + " minutes");
+        }
+        Assert.assertEquals(process.exitValue(), 0, "The parsing of a " + definitionMB + " MB definition failed with "
+                + maxHeapMB + " MB of heap: " + Files.readString(tmpDir.resolve("parse.log")));
+    }
+
+    /**
+     * Parses the given definition and exits with a non-zero status when the parsing fails.
+     */
+    public static class ParseDefinition {
+        public static void main(String[] args) throws Exception {
+            OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(Paths.get(args[0]));
+            if (openAPI.getPaths() == null || openAPI.getPaths().isEmpty()) {
+                System.exit(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.cmd;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.GeneratorUtils;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the {@link DefinitionCache}.
+ */
+public class DefinitionCacheTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+
+    private Path tmpDir;
+    private Path cacheDir;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        this.tmpDir = Files.createTempDirectory("openapi-cache-test");
+        this.cacheDir = tmpDir.resolve("cache");
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(this.tmpDir.toFile());
+    }
+
+    @Test(description = "Test a cached definition is parsed to the same model as the definition file")
+    public void testParseCachedDefinition() throws IOException, BallerinaOpenApiException {
+        Path definition = RES_DIR.resolve("petstore.yaml");
+        DefinitionCache cache = new DefinitionCache(cacheDir, DefinitionCache.DEFAULT_MAX_SIZE);
+        String expectedModel = Json.mapper().writeValueAsString(
+                GeneratorUtils.parseOpenAPIFile(definition).getOpenAPI());
+
+        SwaggerParseResult firstResult = GeneratorUtils.parseOpenAPIFile(definition, cache);
+        Assert.assertEquals(getEntryCount(), 1);
+        try (JsonParser cachedParser = cache.load(cache.getKey(definition, "resolve=true,flatten=true"))) {
+            Assert.assertNotNull(cachedParser);
+        }
+        SwaggerParseResult cachedResult = GeneratorUtils.parseOpenAPIFile(definition, cache);
+
+        Assert.assertTrue(firstResult.getMessages().isEmpty());
+        Assert.assertTrue(cachedResult.getMessages().isEmpty());
+        Assert.assertEquals(Json.mapper().writeValueAsString(firstResult.getOpenAPI()), expectedModel);
+        Assert.assertEquals(Json.mapper().writeValueAsString(cachedResult.getOpenAPI()), expectedModel);
+        Assert.assertEquals(getEntryCount(), 1);
+    }
+
+    @Test(description = "Test the cache key changes with the content of the definition and the options")
+    public void testCacheKey() throws IOException {
+        DefinitionCache cache = new DefinitionCache(cacheDir, DefinitionCache.DEFAULT_MAX_SIZE);
+        Path definition = tmpDir.resolve("openapi.yaml");
+        Path copy = tmpDir.resolve("copy.yaml");
+        Files.writeString(definition, "openapi: 3.0.1\n");
+        Files.writeString(copy, "openapi: 3.0.1\n");
+        String key = cache.getKey(definition, "resolve=true");
+
+        Assert.assertEquals(cache.getKey(copy, "resolve=true"), key);
+        Assert.assertNotEquals(cache.getKey(definition, "resolve=false"), key);
+        Files.writeString(definition, "openapi: 3.0.2\n");
+        Assert.assertNotEquals(cache.getKey(definition, "resolve=true"), key);
+    }
+
+    @Test(description = "Test the least recently used entries are evicted when the cache exceeds its size")
+    public void testEvictLeastRecentlyUsedEntries() throws IOException {
+        JsonNode definitionNode = Json.mapper().readTree(Json.mapper().writeValueAsString(
+                new OpenAPI().openapi("3.0.1")));
+        store(new DefinitionCache(cacheDir, DefinitionCache.DEFAULT_MAX_SIZE), "first", definitionNode);
+        long entrySize = Files.size(cacheDir.resolve("first.json.gz"));
+        DefinitionCache cache = new DefinitionCache(cacheDir, 2 * entrySize);
+        store(cache, "second", definitionNode);
+        Files.setLastModifiedTime(cacheDir.resolve("first.json.gz"), FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(cacheDir.resolve("second.json.gz"), FileTime.fromMillis(2000));
+
+        // Loading the first entry makes the second entry the least recently used one.
+        try (JsonParser cachedParser = cache.load("first")) {
+            Assert.assertNotNull(cachedParser);
+        }
+        store(cache, "third", definitionNode);
+
+        Assert.assertTrue(Files.exists(cacheDir.resolve("first.json.gz")));
+        Assert.assertFalse(Files.exists(cacheDir.resolve("second.json.gz")));
+        Assert.assertTrue(Files.exists(cacheDir.resolve("third.json.gz")));
+    }
+
+    @Test(description = "Test an entry which is not committed is not added to the cache")
+    public void testDiscardUncommittedEntry() throws IOException {
+        DefinitionCache cache = new DefinitionCache(cacheDir, DefinitionCache.DEFAULT_MAX_SIZE);
+        try (DefinitionCache.EntryWriter entryWriter = cache.store("partial")) {
+            entryWriter.getGenerator().writeStartObject();
+        }
+
+        Assert.assertNull(cache.load("partial"));
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            Assert.assertEquals(files.count(), 0);
+        }
+    }
+
+    @Test(description = "Test an entry which can not be read is removed from the cache")
+    public void testLoadInvalidEntry() throws IOException {
+        DefinitionCache cache = new DefinitionCache(cacheDir, DefinitionCache.DEFAULT_MAX_SIZE);
+        Files.createDirectories(cacheDir);
+        Files.writeString(cacheDir.resolve("invalid.json.gz"), "not a compressed definition");
+
+        Assert.assertNull(cache.load("invalid"));
+        Assert.assertNull(cache.load("missing"));
+        Assert.assertEquals(getEntryCount(), 0);
+    }
+
+    private static void store(DefinitionCache cache, String key, JsonNode definitionNode) throws IOException {
+        try (DefinitionCache.EntryWriter entryWriter = cache.store(key)) {
+            entryWriter.getGenerator().writeTree(definitionNode);
+            entryWriter.commit();
+        }
+    }
+
+    private long getEntryCount() throws IOException {
+        if (!Files.isDirectory(cacheDir)) {
+            return 0;
+        }
+        try (Stream<Path> entries = Files.list(cacheDir)) {
+            return entries.filter(entry -> entry.toString().endsWith(".json.gz")).count();
+        }
+    }
+}
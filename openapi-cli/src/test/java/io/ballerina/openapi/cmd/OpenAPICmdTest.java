@@ -408,6 +408,46 @@ public class OpenAPICmdTest extends OpenAPICommandTest {
 
 
     // Delete the generated files
+    @Test(description = "Test openapi to ballerina client generation for a directory of contracts")
+    public void testBatchClientGenerationForDirectory() throws IOException {
+        Path specDir = this.tmpDir.resolve("batch-specs");
+        Files.createDirectories(specDir.resolve("nested"));
+        Files.copy(resourceDir.resolve("petstore.yaml"), specDir.resolve("petstore.yaml"));
+        Files.copy(resourceDir.resolve("x_init_description.yaml"),
+                specDir.resolve("nested").resolve("x_init_description.yaml"));
+        Path outputDir = this.tmpDir.resolve("batch-out");
+        String[] args = {"--input", specDir.toString(), "--batch", "--mode", "client", "--threads", "2",
+                "-o", outputDir.toString()};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("Generated 2 of 2 OpenAPI definitions"), output);
+        Assert.assertTrue(Files.exists(outputDir.resolve("petstore").resolve("client.bal")));
+        Assert.assertTrue(Files.exists(outputDir.resolve("petstore").resolve("types.bal")));
+        Assert.assertTrue(Files.exists(outputDir.resolve(Paths.get("nested", "x_init_description", "client.bal"))));
+        FileUtils.deleteDirectory(specDir.toFile());
+        FileUtils.deleteDirectory(outputDir.toFile());
+    }
+
+    @Test(description = "Test openapi to ballerina batch generation reports the failed contracts of a manifest")
+    public void testBatchGenerationForManifestWithFailures() throws IOException {
+        Path manifest = this.tmpDir.resolve("batch-manifest.txt");
+        Files.writeString(manifest, "# OpenAPI contracts\n" + resourceDir.resolve("petstore.yaml") + "\n\n" +
+                resourceDir.resolve("non_existing.yaml") + "\n");
+        Path outputDir = this.tmpDir.resolve("batch-manifest-out");
+        String[] args = {"--input", manifest.toString(), "--batch", "--mode", "client", "-o", outputDir.toString()};
+        OpenApiCmd cmd = new OpenApiCmd(printStream, tmpDir, false);
+        new CommandLine(cmd).parseArgs(args);
+        cmd.execute();
+        String output = readOutput(true);
+        Assert.assertTrue(output.contains("Generated 1 of 2 OpenAPI definitions (1 failed"), output);
+        Assert.assertTrue(output.contains("non_existing.yaml"), output);
+        Assert.assertTrue(Files.exists(outputDir.resolve("petstore").resolve("client.bal")));
+        Files.delete(manifest);
+        FileUtils.deleteDirectory(outputDir.toFile());
+    }
+
     private void deleteGeneratedFiles(boolean isConfigGenerated) throws IOException {
         File serviceFile = new File(this.tmpDir.resolve("petstore_service.bal").toString());
         File clientFile = new File(this.tmpDir.resolve("client.bal").toString());
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.cmd;
+
+import org.apache.commons.io.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Tests for the {@link OutputDirectory}.
+ */
+public class OutputDirectoryTests {
+    private Path outputDir;
+
+    @BeforeMethod
+    public void setup() throws IOException {
+        this.outputDir = Files.createTempDirectory("openapi-output-test");
+    }
+
+    @AfterMethod
+    public void cleanup() throws IOException {
+        FileUtils.deleteDirectory(this.outputDir.toFile());
+    }
+
+    @Test(description = "Test the files of the output directory and its tests directory are indexed")
+    public void testIndexOutputDirectory() throws IOException {
+        Files.writeString(outputDir.resolve("client.bal"), "");
+        Files.createDirectories(outputDir.resolve("tests"));
+        Files.writeString(outputDir.resolve("tests").resolve("test.bal"), "");
+
+        OutputDirectory outputDirectory = new OutputDirectory(outputDir);
+        Assert.assertTrue(outputDirectory.containsFile("client.bal"));
+        Assert.assertTrue(outputDirectory.containsFile("test.bal"));
+        Assert.assertFalse(outputDirectory.containsFile("types.bal"));
+        Assert.assertFalse(new OutputDirectory(outputDir.resolve("missing")).containsFile("client.bal"));
+    }
+
+    @Test(description = "Test the files of the module directories are indexed by their relative paths")
+    public void testIndexModuleDirectories() throws IOException {
+        Path moduleDir = outputDir.resolve("modules").resolve("pets");
+        Files.createDirectories(moduleDir.resolve("tests"));
+        Files.writeString(moduleDir.resolve("client.bal"), "");
+        Files.writeString(moduleDir.resolve("tests").resolve("test.bal"), "");
+
+        OutputDirectory outputDirectory = new OutputDirectory(outputDir);
+        Assert.assertTrue(outputDirectory.containsFile("modules/pets/client.bal"));
+        Assert.assertTrue(outputDirectory.containsFile("modules/pets/tests/test.bal"));
+        Assert.assertFalse(outputDirectory.containsFile("client.bal"));
+        Assert.assertFalse(outputDirectory.containsFile("test.bal"));
+        Assert.assertEquals(outputDirectory.getDuplicateFileName("modules/pets/client.bal"),
+                "modules/pets/client.1.bal");
+    }
+
+    @Test(description = "Test a conflicting file is renamed after the number of the files of the same name stem")
+    public void testGetDuplicateFileName() {
+        OutputDirectory outputDirectory = new OutputDirectory(List.of("client.bal", "client.1.bal", "types.bal",
+                "Config.toml"));
+
+        Assert.assertEquals(outputDirectory.getDuplicateFileName("client.bal"), "client.2.bal");
+        Assert.assertEquals(outputDirectory.getDuplicateFileName("client.bal"), "client.3.bal");
+        Assert.assertTrue(outputDirectory.containsFile("client.3.bal"));
+        Assert.assertEquals(outputDirectory.getDuplicateFileName("types.bal"), "types.1.bal");
+        Assert.assertEquals(outputDirectory.getDuplicateFileName("Config.toml"), "Config.1.toml");
+    }
+
+    @Test(description = "Test a conflicting file is not renamed to a numbered file which exists")
+    public void testGetDuplicateFileNameSkipsExistingFiles() {
+        OutputDirectory outputDirectory = new OutputDirectory(List.of("client.bal", "client.2.bal", "client.3.bal",
+                "types.1.bal"));
+
+        Assert.assertEquals(outputDirectory.getDuplicateFileName("client.bal"), "client.4.bal");
+        Assert.assertEquals(outputDirectory.getDuplicateFileName("client.bal"), "client.5.bal");
+        Assert.assertEquals(outputDirectory.getDuplicateFileName("types.bal"), "types.2.bal");
+    }
+
+    @Test(description = "Test a file is replaced without leaving a temporary file in the directory")
+    public void testWriteFile() throws IOException {
+        Path filePath = outputDir.resolve("client.bal");
+        OutputDirectory.writeFile(filePath, "first");
+        OutputDirectory.writeFile(filePath, "second");
+
+        Assert.assertEquals(Files.readString(filePath), "second");
+        try (Stream<Path> files = Files.list(outputDir)) {
+            Assert.assertEquals(files.map(file -> file.getFileName().toString()).collect(Collectors.toList()),
+                    List.of("client.bal"));
+        }
+    }
+}
@@ -20,6 +20,7 @@ package io.ballerina.openapi.generators.client;
 
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.generators.schema.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -27,7 +28,6 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 
 import static io.ballerina.openapi.generators.common.TestUtils.getOpenAPI;
 
@@ -43,7 +43,7 @@ public class AllOfResponsesTests {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_with_allof_reference.yaml"));
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(response,
-                ballerinaSchemaGenerator, new ArrayList<>());
+                ballerinaSchemaGenerator, new TypeDefinitionRegistry());
         Assert.assertEquals(functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true), "CompoundTestsProductsResponse|error");
     }
@@ -52,7 +52,7 @@ public class AllOfResponsesTests {
         OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/inline_all_of_response.yaml"));
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(response,
-                ballerinaSchemaGenerator, new ArrayList<>());
+                ballerinaSchemaGenerator, new TypeDefinitionRegistry());
         Assert.assertEquals(functionReturnType.getReturnType(response.getPaths().get("/users/{userId}/meetings")
                         .getPost(), true), "CompoundCreateMeetingResponse|error");
     }
@@ -62,7 +62,7 @@ public class AllOfResponsesTests {
                 "response_without_properties_with_additional.yaml"));
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(response,
-                ballerinaSchemaGenerator, new ArrayList<>());
+                ballerinaSchemaGenerator, new TypeDefinitionRegistry());
 
         String returnType = functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true);
@@ -75,7 +75,7 @@ public class AllOfResponsesTests {
                 ".yaml"));
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(response,
-                ballerinaSchemaGenerator, new ArrayList<>());
+                ballerinaSchemaGenerator, new TypeDefinitionRegistry());
 
         String returnType = functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true);
@@ -88,7 +88,7 @@ public class AllOfResponsesTests {
                 "/response_without_properties_without_additional.yaml"));
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(response,
-                ballerinaSchemaGenerator, new ArrayList<>());
+                ballerinaSchemaGenerator, new TypeDefinitionRegistry());
 
         String returnType = functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true);
@@ -101,12 +101,49 @@ public class AllOfResponsesTests {
                 "response_with_properties_without_additional.yaml"));
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(
-                response, ballerinaSchemaGenerator, new ArrayList<>());
+                response, ballerinaSchemaGenerator, new TypeDefinitionRegistry());
 
         String returnType = functionReturnType.getReturnType(response.getPaths().get("/products").getGet(),
                 true);
         Assert.assertEquals(returnType, "TestsProductsResponse|error");
     }
+
+    @Test(description = "Tests the inline responses of the same shape share a return type")
+    public void getReturnTypeForInlineResponsesOfSameShape() throws IOException, BallerinaOpenApiException {
+        OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/inline_responses_with_same_shape.yaml"));
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
+        TypeDefinitionRegistry typeDefinitionRegistry = new TypeDefinitionRegistry();
+        typeDefinitionRegistry.setDeduplicateInlineTypes(true);
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(response,
+                ballerinaSchemaGenerator, typeDefinitionRegistry);
+
+        Assert.assertEquals(functionReturnType.getReturnType(response.getPaths().get("/products").getGet(), true),
+                "ListProductsResponse|error");
+        Assert.assertEquals(functionReturnType.getReturnType(response.getPaths().get("/offers").getGet(), true),
+                "ListProductsResponse|error");
+        Assert.assertEquals(functionReturnType.getReturnType(response.getPaths().get("/orders").getGet(), true),
+                "ListOrdersResponse|error");
+        Assert.assertEquals(typeDefinitionRegistry.size(), 2);
+        Assert.assertEquals(typeDefinitionRegistry.getDeduplicatedTypeCount(), 1);
+        Assert.assertTrue(typeDefinitionRegistry.getDeduplicatedBytes() > 0);
+    }
+
+    @Test(description = "Tests the inline responses of the same shape have separate return types by default")
+    public void getReturnTypeForInlineResponsesWithoutDedup() throws IOException, BallerinaOpenApiException {
+        OpenAPI response = getOpenAPI(RES_DIR.resolve("swagger/return_type/inline_responses_with_same_shape.yaml"));
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(response);
+        TypeDefinitionRegistry typeDefinitionRegistry = new TypeDefinitionRegistry();
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(response,
+                ballerinaSchemaGenerator, typeDefinitionRegistry);
+
+        Assert.assertEquals(functionReturnType.getReturnType(response.getPaths().get("/products").getGet(), true),
+                "ListProductsResponse|error");
+        Assert.assertEquals(functionReturnType.getReturnType(response.getPaths().get("/offers").getGet(), true),
+                "ListOffersResponse|error");
+        Assert.assertEquals(typeDefinitionRegistry.size(), 2);
+        Assert.assertEquals(typeDefinitionRegistry.getDeduplicatedTypeCount(), 0);
+    }
+
     // 1. nested allof
     // 2. allof with reference
     // 3. allof inline record
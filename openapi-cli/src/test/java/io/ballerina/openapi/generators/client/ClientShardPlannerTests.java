@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.generators.OpenAPIIndex;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the {@link ClientShardPlanner}.
+ */
+public class ClientShardPlannerTests {
+    private final OpenAPIIndex openAPIIndex = new OpenAPIIndex(getOpenAPI());
+    private final Filter filter = new Filter(List.of(), List.of());
+
+    @Test(description = "Shard the operations by their first tag in the order of the paths")
+    public void testShardByTag() {
+        Assert.assertFalse(new ClientShardPlanner(false, 0).isEnabled());
+        Assert.assertEquals(getShards(new ClientShardPlanner(true, 0), filter), Map.of(
+                "pet_store", List.of("listPets", "addPet", "getPet"),
+                "tag_2fa", List.of("verify"),
+                "client", List.of("ping")));
+        Assert.assertEquals(getShards(new ClientShardPlanner(true, 0), new Filter(List.of(), List.of("ping"))),
+                Map.of("client", List.of("ping")));
+    }
+
+    @Test(description = "Split the operations into shards of at most the given number of operations")
+    public void testShardByMaxOperations() {
+        Assert.assertEquals(getShards(new ClientShardPlanner(false, 2), filter), Map.of(
+                "client1", List.of("listPets", "addPet"),
+                "client2", List.of("getPet", "verify"),
+                "client3", List.of("ping")));
+        Assert.assertEquals(getShards(new ClientShardPlanner(true, 2), filter), Map.of(
+                "pet_store1", List.of("listPets", "addPet"),
+                "pet_store2", List.of("getPet"),
+                "tag_2fa", List.of("verify"),
+                "client", List.of("ping")));
+        Assert.assertEquals(getShards(new ClientShardPlanner(false, 5), filter).keySet(), Set.of("client"));
+    }
+
+    @Test(description = "Prefix the shards of the tags which are reserved words")
+    public void testShardByReservedWordTag() {
+        Paths paths = new Paths();
+        paths.addPathItem("/types", new PathItem()
+                .get(new Operation().operationId("listTypes").addTagsItem("Type")));
+        paths.addPathItem("/services", new PathItem()
+                .get(new Operation().operationId("listServices").addTagsItem("service")));
+        paths.addPathItem("/errors", new PathItem()
+                .get(new Operation().operationId("listErrors").addTagsItem("Error")));
+        OpenAPIIndex reservedWordIndex = new OpenAPIIndex(new OpenAPI().paths(paths));
+
+        Assert.assertEquals(getShards(new ClientShardPlanner(true, 0), reservedWordIndex, filter), Map.of(
+                "tag_type", List.of("listTypes"),
+                "tag_service", List.of("listServices"),
+                "tag_error", List.of("listErrors")));
+    }
+
+    private Map<String, List<String>> getShards(ClientShardPlanner shardPlanner, Filter shardFilter) {
+        return getShards(shardPlanner, openAPIIndex, shardFilter);
+    }
+
+    private static Map<String, List<String>> getShards(ClientShardPlanner shardPlanner, OpenAPIIndex index,
+                                                       Filter shardFilter) {
+        return shardPlanner.getShards(index, shardFilter).stream().collect(Collectors.toMap(
+                ClientShardPlanner.Shard::getName, ClientShardPlanner.Shard::getOperationIds));
+    }
+
+    private static OpenAPI getOpenAPI() {
+        Paths paths = new Paths();
+        paths.addPathItem("/pets", new PathItem()
+                .get(new Operation().operationId("listPets").addTagsItem("Pet Store").addTagsItem("list"))
+                .post(new Operation().operationId("addPet").addTagsItem("Pet Store")));
+        paths.addPathItem("/pets/{petId}", new PathItem()
+                .get(new Operation().operationId("getPet").addTagsItem("Pet Store")));
+        paths.addPathItem("/verify", new PathItem()
+                .post(new Operation().operationId("verify").addTagsItem("2FA")));
+        paths.addPathItem("/ping", new PathItem()
+                .get(new Operation().operationId("ping")));
+        return new OpenAPI().paths(paths);
+    }
+}
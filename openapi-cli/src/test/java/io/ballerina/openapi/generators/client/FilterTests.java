@@ -22,8 +22,10 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.cmd.CodeGenerator;
 import io.ballerina.openapi.cmd.Filter;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.schema.BallerinaTypesGenerator;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -74,4 +76,39 @@ public class FilterTests {
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
 
+    @Test(description = "Generate only the types used by the operations of the tag filter")
+    public void testTypesWithTag() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("file_provider/swagger/tag.yaml");
+        list1.clear();
+        list2.clear();
+        list1.add("Data for all countries");
+        Filter filter = new Filter(list1, list2);
+        CodeGenerator codeGenerator = new CodeGenerator();
+        OpenAPI openAPI = codeGenerator.normalizeOpenAPI(definitionPath, true);
+        BallerinaTypesGenerator ballerinaTypesGenerator = new BallerinaTypesGenerator(openAPI, false, filter);
+        String typesContent = ballerinaTypesGenerator.generateSyntaxTree().toSourceCode()
+                .replaceAll("\\s+", "");
+        Assert.assertTrue(typesContent.contains("typeCountriesrecord"));
+        Assert.assertFalse(typesContent.contains("typeCountryInforecord"));
+        Assert.assertFalse(typesContent.contains("typeCountryrecord"));
+        Assert.assertFalse(typesContent.contains("typeErrorrecord"));
+    }
+
+    @Test(description = "Generate only the types used by the operations of the operation filter")
+    public void testTypesWithOperation() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("file_provider/swagger/operation.yaml");
+        list1.clear();
+        list2.clear();
+        list2.add("getCountryList");
+        Filter filter = new Filter(list1, list2);
+        CodeGenerator codeGenerator = new CodeGenerator();
+        OpenAPI openAPI = codeGenerator.normalizeOpenAPI(definitionPath, true);
+        BallerinaTypesGenerator ballerinaTypesGenerator = new BallerinaTypesGenerator(openAPI, false, filter);
+        String typesContent = ballerinaTypesGenerator.generateSyntaxTree().toSourceCode()
+                .replaceAll("\\s+", "");
+        Assert.assertTrue(typesContent.contains("typeCountryInforecord"));
+        Assert.assertFalse(typesContent.contains("typeCountriesrecord"));
+        Assert.assertFalse(typesContent.contains("typeCountryrecord"));
+        Assert.assertFalse(typesContent.contains("typeErrorrecord"));
+    }
 }
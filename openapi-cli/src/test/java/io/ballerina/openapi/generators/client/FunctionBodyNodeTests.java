@@ -19,11 +19,16 @@
 package io.ballerina.openapi.generators.client;
 
 import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.cmd.Filter;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.generators.schema.TypeDefinitionRegistry;
+import io.ballerina.tools.diagnostics.Diagnostic;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.PathItem;
+import org.ballerinalang.formatter.core.FormatterException;
 import org.testng.Assert;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.DataProvider;
@@ -35,9 +40,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import static io.ballerina.openapi.generators.common.TestUtils.getDiagnostics;
 import static io.ballerina.openapi.generators.common.TestUtils.getOpenAPI;
 
 /**
@@ -59,7 +66,7 @@ public class FunctionBodyNodeTests {
                 display.getPaths().get(path).readOperationsMap().entrySet();
         Iterator<Map.Entry<PathItem.HttpMethod, Operation>> iterator = operation.iterator();
         FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(new ArrayList<>(),
-                new ArrayList<>(), display, new BallerinaTypesGenerator(display),
+                new TypeDefinitionRegistry(), display, new BallerinaTypesGenerator(display),
                 new BallerinaAuthConfigGenerator(false, false), new BallerinaUtilGenerator());
         FunctionBodyNode bodyNode = functionBodyGenerator.getFunctionBodyNode(path, iterator.next());
         content = content.trim().replaceAll("\n", "").replaceAll("\\s+", "");
@@ -99,7 +106,7 @@ public class FunctionBodyNodeTests {
                         "return response;}"},
                 {"diagnostic_files/xml_payload_with_ref.yaml", "/pets", "{string resourcePath = string `/pets`;" +
                         "http:Request request = new;" +
-                        "json jsonBody = check payload.cloneWithType(json);" +
+                        "json jsonBody = payload.toJson();" +
                         "xml? xmlBody = check xmldata:fromJson(jsonBody);" +
                         "request.setPayload(xmlBody, \"application/xml\");" +
                         "http:Response response = check self.clientEp->post(resourcePath, request);" +
@@ -110,7 +117,7 @@ public class FunctionBodyNodeTests {
                         "return response;}"},
                 {"swagger/text_request_payload.yaml", "/pets", "{string resourcePath = string `/pets`;" +
                         "http:Request request = new;" +
-                        "json jsonBody = check payload.cloneWithType(json);" +
+                        "json jsonBody = payload.toJson();" +
                         "request.setPayload(jsonBody, \"text/json\");" +
                         "json response = check self.clientEp->post(resourcePath, request);" +
                         "return response;}"},
@@ -137,6 +144,92 @@ public class FunctionBodyNodeTests {
         };
     }
 
+    @Test(description = "Tests the query parameters and headers serialized by the statements generated for each " +
+            "operation", dataProvider = "dataProviderForSpecializedParameters")
+    public void getFunctionBodyNodesWithSpecializedParameters(String path, String content) throws IOException,
+            BallerinaOpenApiException {
+        OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/specialized_parameters.yaml"));
+        Map.Entry<PathItem.HttpMethod, Operation> operation =
+                openAPI.getPaths().get(path).readOperationsMap().entrySet().iterator().next();
+        FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(new ArrayList<>(),
+                new TypeDefinitionRegistry(), openAPI, new BallerinaTypesGenerator(openAPI),
+                new BallerinaAuthConfigGenerator(false, false), new BallerinaUtilGenerator());
+        functionBodyGenerator.setSpecializeParameters(true);
+        FunctionBodyNode bodyNode = functionBodyGenerator.getFunctionBodyNode(path, operation);
+        Assert.assertEquals(bodyNode.toString().replaceAll("\\s+", ""), content.replaceAll("\\s+", ""));
+    }
+
+    @DataProvider(name = "dataProviderForSpecializedParameters")
+    public Object[][] dataProviderForSpecializedParameters() {
+        return new Object[][]{
+                {"/pets", "{string resourcePath = string `/pets`;" +
+                        "resourcePath = resourcePath + \"?status=\" + getEncodedUri(status);" +
+                        "if 'limit is int {resourcePath = resourcePath + \"&limit=\" + 'limit.toString();}" +
+                        "if tags is string[] {foreach string tagsItem in tags {" +
+                        "resourcePath = resourcePath + \"&tags=\" + getEncodedUri(tagsItem);}}" +
+                        "if ids.length() > 0 {resourcePath = resourcePath + \"&ids=\" + ids[0].toString();" +
+                        "foreach int idsIndex in 1 ..< ids.length() {" +
+                        "resourcePath = resourcePath + \"|\" + ids[idsIndex].toString();}}" +
+                        "map<string|string[]> httpHeaders = {\"X-Request-ID\": xRequestId};" +
+                        "if xTrace is string {httpHeaders[\"X-Trace\"] = xTrace;}" +
+                        "if xCount is int {httpHeaders[\"X-Count\"] = xCount.toString();}" +
+                        "http:Response response = check self.clientEp->get(resourcePath, httpHeaders);" +
+                        "return response;}"},
+                {"/orders", "{string resourcePath = string `/orders`;" +
+                        "string queryString = \"\";" +
+                        "if page is int {queryString = queryString + \"&page=\" + page.toString();}" +
+                        "queryString = queryString + \"&sort=\" + getEncodedUri(sort);" +
+                        "resourcePath = resourcePath + \"?\" + queryString.substring(1);" +
+                        "http:Response response = check self.clientEp->get(resourcePath);" +
+                        "return response;}"},
+                {"/stores", "{string resourcePath = string `/stores`;" +
+                        "string queryString = \"\";" +
+                        "if region is string {queryString = queryString + \"&region=\" + getEncodedUri(region);}" +
+                        "if queryString.length() > 0 {" +
+                        "resourcePath = resourcePath + \"?\" + queryString.substring(1);}" +
+                        "map<string|string[]> httpHeaders = {};" +
+                        "if xRate is float {httpHeaders[\"X-Rate\"] = xRate.toString();}" +
+                        "http:Response response = check self.clientEp->get(resourcePath, httpHeaders);" +
+                        "return response;}"},
+                {"/owners", "{string resourcePath = string `/owners`;" +
+                        "map<anydata> queryParam = {\"filter\": filter};" +
+                        "map<Encoding> queryParamEncoding = {\"filter\": {style: DEEPOBJECT, explode: true}};" +
+                        "resourcePath = resourcePath + check getPathForQueryParam(queryParam, queryParamEncoding);" +
+                        "http:Response response = check self.clientEp->get(resourcePath);" +
+                        "return response;}"}
+        };
+    }
+
+    @Test(description = "Tests the client with the query parameters and headers serialized for each operation " +
+            "compiles")
+    public void testSpecializedParametersCompile() throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/specialized_parameters.yaml"));
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(openAPI,
+                new Filter(List.of(), List.of()), false);
+        ballerinaClientGenerator.setSpecializeParameters(true);
+        SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        List<Diagnostic> diagnostics = getDiagnostics(clientSyntaxTree, openAPI, ballerinaClientGenerator);
+        Assert.assertTrue(diagnostics.isEmpty(), diagnostics.toString());
+    }
+
+    @Test(description = "Tests the JSON array response returned as a stream of the array elements")
+    public void getFunctionBodyNodeWithStreamedArrayResponse() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/return_type/stream_array_response.yaml"));
+        Map.Entry<PathItem.HttpMethod, Operation> operation =
+                openAPI.getPaths().get("/pets").readOperationsMap().entrySet().iterator().next();
+        FunctionBodyGenerator functionBodyGenerator = new FunctionBodyGenerator(new ArrayList<>(),
+                new TypeDefinitionRegistry(), openAPI, new BallerinaTypesGenerator(openAPI),
+                new BallerinaAuthConfigGenerator(false, false), new BallerinaUtilGenerator());
+        FunctionBodyNode bodyNode = functionBodyGenerator.getFunctionBodyNode("/pets", operation);
+        Assert.assertEquals(bodyNode.toString().replaceAll("\\s+", ""), ("{string resourcePath = string `/pets`;" +
+                "http:Response response = check self.clientEp->get(resourcePath);" +
+                "stream<json, error?> payloadElements = check getJsonArrayStream(response);" +
+                "stream<Pet, error?> elementStream = stream from json element in payloadElements " +
+                "select check element.cloneWithType();" +
+                "return elementStream;}").replaceAll("\\s+", ""));
+    }
+
     @AfterTest
     private void deleteGeneratedFiles() {
         try {
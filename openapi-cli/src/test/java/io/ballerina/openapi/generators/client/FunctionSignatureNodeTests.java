@@ -29,6 +29,7 @@ import io.ballerina.openapi.cmd.CodeGenerator;
 import io.ballerina.openapi.cmd.Filter;
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.generators.schema.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.testng.Assert;
 import org.testng.annotations.AfterTest;
@@ -59,7 +60,7 @@ public class FunctionSignatureNodeTests {
     public void getFunctionSignatureNodeTests() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/valid_operation.yaml"));
         FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
-                new BallerinaTypesGenerator(openAPI), new ArrayList<>());
+                new BallerinaTypesGenerator(openAPI), new TypeDefinitionRegistry());
         FunctionSignatureNode signature = functionSignatureGenerator.getFunctionSignatureNode(openAPI.getPaths()
                 .get("/products/{country}").getGet(), new ArrayList<>());
         SeparatedNodeList<ParameterNode> parameters = signature.parameters();
@@ -89,7 +90,7 @@ public class FunctionSignatureNodeTests {
     public void testFunctionSignatureNodeForXMLPayload() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/xml_request_payload.yaml"));
         FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
-                new BallerinaTypesGenerator(openAPI), new ArrayList<>());
+                new BallerinaTypesGenerator(openAPI), new TypeDefinitionRegistry());
         FunctionSignatureNode signature = functionSignatureGenerator.getFunctionSignatureNode(openAPI.getPaths()
                 .get("/pets").getPost(), new ArrayList<>());
         SeparatedNodeList<ParameterNode> parameters = signature.parameters();
@@ -107,7 +108,7 @@ public class FunctionSignatureNodeTests {
     public void testFunctionSignatureNodeForJSONPayload() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/json_request_payload.yaml"));
         FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
-                new BallerinaTypesGenerator(openAPI), new ArrayList<>());
+                new BallerinaTypesGenerator(openAPI), new TypeDefinitionRegistry());
         FunctionSignatureNode signature = functionSignatureGenerator.getFunctionSignatureNode(openAPI.getPaths()
                 .get("/pets").getPost(), new ArrayList<>());
         SeparatedNodeList<ParameterNode> parameters = signature.parameters();
@@ -127,7 +128,7 @@ public class FunctionSignatureNodeTests {
         OpenAPI openAPI = codeGenerator.normalizeOpenAPI(
                 RESDIR.resolve("swagger/multipart_formdata_custom.yaml"), true);
         FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
-                new BallerinaTypesGenerator(openAPI), new ArrayList<>());
+                new BallerinaTypesGenerator(openAPI), new TypeDefinitionRegistry());
         FunctionSignatureNode signature = functionSignatureGenerator.getFunctionSignatureNode(openAPI.getPaths()
                 .get("/pets").getPost(), new ArrayList<>());
         SeparatedNodeList<ParameterNode> parameters = signature.parameters();
@@ -153,7 +154,7 @@ public class FunctionSignatureNodeTests {
     public void getFunctionSignatureForNestedArrayResponse() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/response_nested_array.yaml"));
         FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
-                new BallerinaTypesGenerator(openAPI), new ArrayList<>());
+                new BallerinaTypesGenerator(openAPI), new TypeDefinitionRegistry());
         FunctionSignatureNode signature = functionSignatureGenerator.getFunctionSignatureNode(openAPI.getPaths()
                 .get("/timestags").getGet(), new ArrayList<>());
         ReturnTypeDescriptorNode returnTypeNode = signature.returnTypeDesc().orElseThrow();
@@ -164,7 +165,7 @@ public class FunctionSignatureNodeTests {
     public void getFunctionSignatureForStringArrayResponse() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/response_string_array.yaml"));
         FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
-                new BallerinaTypesGenerator(openAPI), new ArrayList<>());
+                new BallerinaTypesGenerator(openAPI), new TypeDefinitionRegistry());
         FunctionSignatureNode signature = functionSignatureGenerator.getFunctionSignatureNode(openAPI.getPaths()
                 .get("/timestags").getGet(), new ArrayList<>());
         ReturnTypeDescriptorNode returnTypeNode = signature.returnTypeDesc().orElseThrow();
@@ -177,7 +178,7 @@ public class FunctionSignatureNodeTests {
     public void testNestedArrayQueryParamGeneration() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/invalid_array_query_params.yaml"));
         FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
-                new BallerinaTypesGenerator(openAPI), new ArrayList<>());
+                new BallerinaTypesGenerator(openAPI), new TypeDefinitionRegistry());
         functionSignatureGenerator.getFunctionSignatureNode(openAPI.getPaths()
                 .get("/pets").getGet(), new ArrayList<>());
     }
@@ -188,7 +189,7 @@ public class FunctionSignatureNodeTests {
     public void testArrayQueryParamWithNoTypeGeneration() throws IOException, BallerinaOpenApiException {
         OpenAPI openAPI = getOpenAPI(RESDIR.resolve("swagger/invalid_array_query_params.yaml"));
         FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
-                new BallerinaTypesGenerator(openAPI), new ArrayList<>());
+                new BallerinaTypesGenerator(openAPI), new TypeDefinitionRegistry());
         functionSignatureGenerator.getFunctionSignatureNode(openAPI.getPaths()
                 .get("/dogs").getGet(), new ArrayList<>());
     }
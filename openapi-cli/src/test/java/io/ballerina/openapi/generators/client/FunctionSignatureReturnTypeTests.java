@@ -20,6 +20,7 @@ package io.ballerina.openapi.generators.client;
 
 import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.generators.schema.TypeDefinitionRegistry;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -27,7 +28,6 @@ import org.testng.annotations.Test;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 
 import static io.ballerina.openapi.generators.common.TestUtils.getOpenAPI;
 
@@ -70,7 +70,7 @@ public class FunctionSignatureReturnTypeTests {
         OpenAPI array = getOpenAPI(RES_DIR.resolve("swagger/return_type/" +
                 "response_with_properties_with_additional.yaml"));
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(array,
-                new BallerinaTypesGenerator(array), new ArrayList<>());
+                new BallerinaTypesGenerator(array), new TypeDefinitionRegistry());
         String returnType = functionReturnType.getReturnType(array.getPaths().get("/products").getGet(),
                 true);
         Assert.assertEquals(returnType, "TestsProductsResponse|error");
@@ -92,7 +92,7 @@ public class FunctionSignatureReturnTypeTests {
         OpenAPI array = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_with_properties_without_additional" +
                 ".yaml"));
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(array,
-                new BallerinaTypesGenerator(array), new ArrayList<>());
+                new BallerinaTypesGenerator(array), new TypeDefinitionRegistry());
         String returnType = functionReturnType.getReturnType(array.getPaths().get("/products").getGet(),
                 true);
         Assert.assertEquals(returnType, "TestsProductsResponse|error");
@@ -102,9 +102,28 @@ public class FunctionSignatureReturnTypeTests {
     public void getReturnTypeForResponseWithoutSchema() throws IOException, BallerinaOpenApiException {
         OpenAPI array = getOpenAPI(RES_DIR.resolve("swagger/return_type/response_no_schema.yaml"));
         FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(array,
-                new BallerinaTypesGenerator(array), new ArrayList<>());
+                new BallerinaTypesGenerator(array), new TypeDefinitionRegistry());
         String returnType = functionReturnType.getReturnType(array.getPaths().get("/path01").getGet(),
                 true);
         Assert.assertEquals(returnType, "json|error");
     }
+
+    @Test(description = "Tests for the JSON array responses returned as streams")
+    public void getReturnTypeForStreamedArrayResponse() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/return_type/stream_array_response.yaml"));
+        FunctionReturnTypeGenerator functionReturnType = new FunctionReturnTypeGenerator(openAPI,
+                new BallerinaTypesGenerator(openAPI), new TypeDefinitionRegistry());
+        Assert.assertEquals(functionReturnType.getReturnType(openAPI.getPaths().get("/pets").getGet(), true),
+                "stream<Pet, error?>|error");
+        Assert.assertEquals(functionReturnType.getReturnType(openAPI.getPaths().get("/tags").getGet(), true),
+                "string[]|error");
+
+        functionReturnType.setStreamArrayResponses(true);
+        Assert.assertEquals(functionReturnType.getReturnType(openAPI.getPaths().get("/tags").getGet(), true),
+                "stream<string, error?>|error");
+        Assert.assertEquals(functionReturnType.getReturnType(openAPI.getPaths().get("/owners").getGet(), true),
+                "Pet[]|error");
+        Assert.assertEquals(functionReturnType.getReturnType(openAPI.getPaths().get("/orders").getGet(), true),
+                "Pet[]|error?");
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.openapi.generators.GeneratorConstants.X_BALLERINA_HTTP_CLIENT_CONFIG;
+import static io.ballerina.openapi.generators.common.TestUtils.getOpenAPI;
+
+/**
+ * Tests for the default HTTP client configurations given in the {@code x-ballerina-http-client-config} extension.
+ */
+public class HttpClientConfigExtensionTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/client").toAbsolutePath();
+
+    @Test(description = "Test the extension of the selected server overrides the extension of the definition")
+    public void testGetDefaultValues() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/http_client_config_extension.yaml"));
+        Map<String, String> defaultValues = HttpClientConfigExtension.getDefaultValues(openAPI,
+                openAPI.getServers().get(1));
+
+        Assert.assertEquals(defaultValues, Map.of(
+                "timeout", "30",
+                "compression", "http:COMPRESSION_ALWAYS",
+                "poolConfig", "{maxActiveConnections: 200, maxIdleConnections: 50}",
+                "httpVersion", "\"2.0\"",
+                "retryConfig", "{count: 3, interval: 0.5, statusCodes: [502, 503]}"));
+        Assert.assertEquals(HttpClientConfigExtension.getDefaultValues(openAPI, openAPI.getServers().get(0))
+                .get("poolConfig"), "{maxActiveConnections: 100, maxIdleConnections: 50}");
+    }
+
+    @Test(description = "Test the ClientConfig record is generated with the default values of the extension")
+    public void testClientConfigRecordWithDefaultValues() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/http_client_config_extension.yaml"));
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(openAPI,
+                new Filter(List.of(), List.of()), false);
+        String client = ballerinaClientGenerator.generateSyntaxTree().toString().replaceAll("\\s+", "");
+
+        Assert.assertTrue(client.contains("stringhttpVersion=\"2.0\";"));
+        Assert.assertTrue(client.contains("decimaltimeout=30;"));
+        Assert.assertTrue(client.contains("http:PoolConfiguration?poolConfig={maxActiveConnections:200," +
+                "maxIdleConnections:50};"));
+        Assert.assertTrue(client.contains("http:Compressioncompression=http:COMPRESSION_ALWAYS;"));
+        Assert.assertTrue(client.contains("http:RetryConfig?retryConfig={count:3,interval:0.5," +
+                "statusCodes:[502,503]};"));
+        Assert.assertTrue(client.contains("http:CookieConfig?cookieConfig=();"));
+    }
+
+    @Test(description = "Test the client init function is generated with the default values of the extension")
+    public void testClientConfigurationWithDefaultValues() {
+        BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator = new BallerinaAuthConfigGenerator(false, false);
+        ballerinaAuthConfigGenerator.setClientConfigDefaultValues(Map.of("timeout", "30"));
+        StringBuilder params = new StringBuilder();
+        for (Node param : ballerinaAuthConfigGenerator.getConfigParamForClassInit("https://localhost:9090")) {
+            params.append(param.toString());
+        }
+        Assert.assertEquals(params.toString().replaceAll("\\s+", ""),
+                "http:ClientConfigurationclientConfig={timeout:30},stringserviceUrl=\"https://localhost:9090\"");
+    }
+
+    @Test(description = "Test the numbers given for the string fields are generated as string literals")
+    public void testStringFieldsWithNumbers() throws BallerinaOpenApiException {
+        OpenAPI openAPI = new OpenAPI().addExtension(X_BALLERINA_HTTP_CLIENT_CONFIG, Map.of(
+                "httpVersion", 2.0,
+                "forwarded", 1,
+                "http1Settings", Map.of("maxPipelinedRequests", 10),
+                "timeout", 30));
+        Map<String, String> defaultValues = HttpClientConfigExtension.getDefaultValues(openAPI, null);
+
+        Assert.assertEquals(defaultValues.get("httpVersion"), "\"2.0\"");
+        Assert.assertEquals(defaultValues.get("forwarded"), "\"1\"");
+        Assert.assertEquals(defaultValues.get("http1Settings"), "{maxPipelinedRequests: 10}");
+        Assert.assertEquals(defaultValues.get("timeout"), "30");
+    }
+
+    @Test(description = "Test an unsupported field of the extension is reported",
+            expectedExceptions = BallerinaOpenApiException.class,
+            expectedExceptionsMessageRegExp = "Unsupported field `proxy` is given in the " +
+                    "`x-ballerina-http-client-config` extension")
+    public void testUnsupportedField() throws BallerinaOpenApiException {
+        OpenAPI openAPI = new OpenAPI().addExtension(X_BALLERINA_HTTP_CLIENT_CONFIG,
+                Map.of("proxy", Map.of("host", "localhost")));
+        HttpClientConfigExtension.getDefaultValues(openAPI, null);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.tools.diagnostics.Diagnostic;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import static io.ballerina.openapi.generators.GeneratorConstants.X_BALLERINA_PAGINATION;
+import static io.ballerina.openapi.generators.GeneratorConstants.X_BALLERINA_STREAM;
+import static io.ballerina.openapi.generators.common.TestUtils.getDiagnostics;
+import static io.ballerina.openapi.generators.common.TestUtils.getOpenAPI;
+
+/**
+ * Tests for the companion functions of the operations paginated with the {@code x-ballerina-pagination} extension.
+ */
+public class PaginationGeneratorTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/client").toAbsolutePath();
+
+    @Test(description = "Test the companion function of an operation paginated with cursors")
+    public void testCursorPagination() throws IOException, BallerinaOpenApiException {
+        String client = generateClient(getOpenAPI(RES_DIR.resolve("swagger/pagination.yaml")));
+
+        Assert.assertTrue(client.contains("publicisolatedfunctionlistPetsStream(string?status=()," +
+                "booleanprefetch=true)returnsstream<Pet,error?>|error{"));
+        Assert.assertTrue(client.contains("PageFetcherfetchPage=isolatedfunction(anydatapageToken)returnsPage|error{" +
+                "string?cursor=checkpageToken.ensureType();" +
+                "PetPagepageResponse=checkself->listPets(status=status,cursor=cursor);" +
+                "anydata[]pageItems=pageResponse.pets;" +
+                "return{items:pageItems,next:pageResponse?.nextCursor};};"));
+        Assert.assertTrue(client.contains("stream<anydata,error?>pageStream=getPageStream(fetchPage,(),prefetch);" +
+                "stream<Pet,error?>itemStream=streamfromanydatapageIteminpageStream" +
+                "selectcheckpageItem.cloneWithType();returnitemStream;"));
+    }
+
+    @Test(description = "Test the companion function of an operation paginated with offsets")
+    public void testOffsetPagination() throws IOException, BallerinaOpenApiException {
+        String client = generateClient(getOpenAPI(RES_DIR.resolve("swagger/pagination.yaml")));
+
+        Assert.assertTrue(client.contains("booleanprefetch=false)returnsstream<string,error?>|error{"));
+        Assert.assertTrue(client.contains("intoffset=checkpageToken.ensureType();"));
+        Assert.assertTrue(client.contains("anydata[]pageItems=pageResponse;"));
+        Assert.assertTrue(client.contains("next:pageItems.length()==0?():offset+pageItems.length()};"));
+        Assert.assertTrue(client.contains("getPageStream(fetchPage,0,prefetch);"));
+    }
+
+    @Test(description = "Test the companion function of an operation paginated with the links to the next pages")
+    public void testLinkPagination() throws IOException, BallerinaOpenApiException {
+        String client = generateClient(getOpenAPI(RES_DIR.resolve("swagger/pagination.yaml")));
+
+        Assert.assertTrue(client.contains("finalstring[]?&readonlytagsValue=tags.cloneReadOnly();"));
+        Assert.assertTrue(client.contains("int?page=pageTokenisstring?checkint:fromString(pageToken):();"));
+        Assert.assertTrue(client.contains("checkself->listOrders(tags=tagsValue,page=page);"));
+        Assert.assertTrue(client.contains("anydata[]pageItems=pageResponse?.orders?:[];"));
+        Assert.assertTrue(client.contains("next:checkgetQueryParamFromLink(pageResponse?.next,\"page\")};"));
+    }
+
+    @Test(description = "Test the utils of the paginated operations are generated and the client compiles")
+    public void testPaginationUtils() throws IOException, BallerinaOpenApiException, FormatterException {
+        OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/pagination.yaml"));
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(openAPI,
+                new Filter(List.of(), List.of()), false);
+        SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        String utilContent = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()
+                .toSourceCode();
+
+        Assert.assertTrue(utilContent.contains("import ballerina/url;"));
+        Assert.assertTrue(utilContent.contains("type Page record"));
+        Assert.assertTrue(utilContent.contains("type PageFetcher"));
+        Assert.assertTrue(utilContent.contains("isolated function getPageStream"));
+        Assert.assertTrue(utilContent.contains("isolated function getQueryParamFromLink"));
+        Assert.assertTrue(utilContent.contains("class PageIterator"));
+        Assert.assertTrue(utilContent.contains("public isolated function close() returns error?"));
+        List<Diagnostic> diagnostics = getDiagnostics(clientSyntaxTree, openAPI, ballerinaClientGenerator);
+        Assert.assertTrue(diagnostics.isEmpty());
+    }
+
+    @Test(description = "Test the response of a paginated operation is not streamed with the array responses")
+    public void testPaginationWithStreamedArrayResponses() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/pagination.yaml"));
+        openAPI.getPaths().get("/owners").getGet().addExtension(X_BALLERINA_STREAM, true);
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(openAPI,
+                new Filter(List.of(), List.of()), false);
+        ballerinaClientGenerator.setStreamArrayResponses(true);
+        String client = ballerinaClientGenerator.generateSyntaxTree().toString().replaceAll("\\s+", "");
+
+        Assert.assertTrue(client.contains("returnsstring[]|error{"));
+        Assert.assertTrue(client.contains("string[]pageResponse=checkself->listOwners("));
+        Assert.assertTrue(client.contains("booleanprefetch=false)returnsstream<string,error?>|error{"));
+        Assert.assertFalse(client.contains("getJsonArrayStream"));
+    }
+
+    @Test(description = "Test a required cursor parameter is reported",
+            expectedExceptions = BallerinaOpenApiException.class,
+            expectedExceptionsMessageRegExp = "The page parameter `cursor` of the operation `listPets` should be " +
+                    "optional for the cursor strategy")
+    public void testRequiredCursorParameter() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/pagination.yaml"));
+        openAPI.getPaths().get("/pets").getGet().getParameters().get(1).setRequired(true);
+        generateClient(openAPI);
+    }
+
+    @Test(description = "Test an unsupported strategy of the extension is reported",
+            expectedExceptions = BallerinaOpenApiException.class,
+            expectedExceptionsMessageRegExp = "Unsupported strategy `page` is given in the " +
+                    "`x-ballerina-pagination` extension of the operation `listPets`.*")
+    public void testUnsupportedStrategy() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = getOpenAPI(RES_DIR.resolve("swagger/pagination.yaml"));
+        openAPI.getPaths().get("/pets").getGet().getExtensions().put(X_BALLERINA_PAGINATION,
+                Map.of("strategy", "page", "param", "cursor"));
+        generateClient(openAPI);
+    }
+
+    private static String generateClient(OpenAPI openAPI) throws BallerinaOpenApiException {
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(openAPI,
+                new Filter(List.of(), List.of()), false);
+        return ballerinaClientGenerator.generateSyntaxTree().toString().replaceAll("\\s+", "");
+    }
+}
@@ -168,6 +168,45 @@ public class UtilGenerationTests {
         Assert.assertTrue(diagnostics.isEmpty());
     }
 
+    @Test(description = "Validate the util functions generated for the JSON array responses returned as streams")
+    public void testUtilFileGenForStreamedArrayResponse() throws IOException, BallerinaOpenApiException,
+            FormatterException {
+        CodeGenerator codeGenerator = new CodeGenerator();
+        Path definitionPath = RESDIR.getParent().resolve("swagger/return_type/stream_array_response.yaml");
+        OpenAPI openAPI = codeGenerator.normalizeOpenAPI(definitionPath, true);
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(openAPI, filter, false);
+        ballerinaClientGenerator.setStreamArrayResponses(true);
+        SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        String utilContent = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()
+                .toSourceCode();
+        Assert.assertTrue(utilContent.contains("import ballerina/http;"));
+        Assert.assertTrue(utilContent.contains("getJsonArrayStream"));
+        Assert.assertTrue(utilContent.contains("getApplicationResponseError"));
+        Assert.assertTrue(utilContent.contains("class JsonArrayElementIterator"));
+        List<Diagnostic> diagnostics = getDiagnostics(clientSyntaxTree, openAPI, ballerinaClientGenerator);
+        Assert.assertTrue(diagnostics.isEmpty());
+    }
+
+    @Test(description = "Validate the util template functions are shared between the generations")
+    public void testUtilFileGenWithSharedTemplate() throws IOException, BallerinaOpenApiException {
+        CodeGenerator codeGenerator = new CodeGenerator();
+        OpenAPI queryParamOpenAPI = codeGenerator.normalizeOpenAPI(RESDIR.resolve("swagger/query_param.yaml"), true);
+        OpenAPI headerOpenAPI = codeGenerator.normalizeOpenAPI(RESDIR.resolve("swagger/header.yaml"), true);
+        BallerinaClientGenerator queryParamClientGenerator =
+                new BallerinaClientGenerator(queryParamOpenAPI, filter, false);
+        queryParamClientGenerator.generateSyntaxTree();
+        String firstUtilContent = queryParamClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()
+                .toSourceCode();
+        BallerinaClientGenerator headerClientGenerator = new BallerinaClientGenerator(headerOpenAPI, filter, false);
+        headerClientGenerator.generateSyntaxTree();
+        Assert.assertTrue(checkUtil(Arrays.asList(CREATE_FORM_URLENCODED_REQUEST_BODY, GET_PATH_FOR_QUERY_PARAM),
+                headerClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()));
+        String secondUtilContent = queryParamClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree()
+                .toSourceCode();
+        Assert.assertEquals(secondUtilContent, firstUtilContent);
+        Assert.assertTrue(firstUtilContent.contains(GET_PATH_FOR_QUERY_PARAM));
+    }
+
     private boolean checkUtil(List<String> invalidFunctionNames, SyntaxTree utilSyntaxTree) {
         ModulePartNode modulePartNode = utilSyntaxTree.rootNode();
         NodeList<ModuleMemberDeclarationNode> members = modulePartNode.members();
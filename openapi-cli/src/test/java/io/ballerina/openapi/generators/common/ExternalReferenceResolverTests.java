@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.ExternalReferenceResolver;
+import io.ballerina.openapi.generators.GeneratorUtils;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+
+/**
+ * Tests for the {@link ExternalReferenceResolver}.
+ */
+public class ExternalReferenceResolverTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/swagger/references")
+            .toAbsolutePath();
+
+    @Test(description = "Resolve the relative references to the same model as the OpenAPI parser")
+    public void testResolveRelativeReferences() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("openapi.yaml");
+        ParseOptions parseOptions = new ParseOptions();
+        parseOptions.setResolve(true);
+        parseOptions.setFlatten(true);
+        OpenAPI expectedOpenAPI = new OpenAPIV3Parser().read(definitionPath.toString(), null, parseOptions);
+
+        SwaggerParseResult parseResult = GeneratorUtils.parseOpenAPIFile(definitionPath, null,
+                new ExternalReferenceResolver());
+        Assert.assertTrue(parseResult.getMessages().isEmpty());
+        Assert.assertEquals(Json.pretty(parseResult.getOpenAPI()), Json.pretty(expectedOpenAPI));
+        Assert.assertTrue(parseResult.getOpenAPI().getComponents().getSchemas().containsKey("Error"));
+    }
+
+    @Test(description = "Resolve the remote references and their nested references from the mirror directory")
+    public void testResolveRemoteReferencesOffline() throws IOException, BallerinaOpenApiException {
+        SwaggerParseResult parseResult = GeneratorUtils.parseOpenAPIFile(RES_DIR.resolve("remote_reference.yaml"),
+                null, new ExternalReferenceResolver(RES_DIR.resolve("mirror"), true));
+
+        Assert.assertTrue(parseResult.getMessages().isEmpty(), parseResult.getMessages().toString());
+        Map<String, Schema> schemas = parseResult.getOpenAPI().getComponents().getSchemas();
+        Assert.assertTrue(schemas.containsKey("Pet"));
+        Assert.assertTrue(schemas.containsKey("Owner"));
+        Assert.assertTrue(schemas.containsKey("Error"));
+        Assert.assertEquals(schemas.get("Error").getRequired().get(0), "code");
+    }
+
+    @Test(description = "Report a remote reference which is not found in the mirror directory in the offline mode")
+    public void testResolveMissingRemoteReferenceOffline() throws IOException, BallerinaOpenApiException {
+        Path mirrorDirectory = Files.createTempDirectory("openapi-mirror-test");
+        try {
+            SwaggerParseResult parseResult = GeneratorUtils.parseOpenAPIFile(
+                    RES_DIR.resolve("remote_reference.yaml"), null,
+                    new ExternalReferenceResolver(mirrorDirectory, true));
+
+            Assert.assertFalse(parseResult.getMessages().isEmpty());
+            Assert.assertTrue(parseResult.getMessages().get(0).contains(
+                    "https://schemas.example.com/pets/common.yaml in the offline mode"));
+        } finally {
+            Files.delete(mirrorDirectory);
+        }
+    }
+
+    @Test(description = "Report a reference to a schema which is not an object in an external document")
+    public void testResolveBooleanSchemaReference() throws IOException, BallerinaOpenApiException {
+        SwaggerParseResult parseResult = GeneratorUtils.parseOpenAPIFile(
+                RES_DIR.resolve("boolean_schema_reference.yaml"), null, new ExternalReferenceResolver());
+
+        Assert.assertFalse(parseResult.getMessages().isEmpty());
+        Assert.assertTrue(parseResult.getMessages().get(0).contains(
+                "Could not read components/schemas/Any in contents of"), parseResult.getMessages().toString());
+        Assert.assertTrue(parseResult.getMessages().get(0).endsWith("as a schema, since it is not an object"),
+                parseResult.getMessages().toString());
+    }
+}
@@ -24,6 +24,9 @@ import io.ballerina.openapi.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.generators.GeneratorUtils;
 import io.ballerina.openapi.generators.schema.BallerinaTypesGenerator;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -70,6 +73,9 @@ public class GeneratorUtilsTests {
         Assert.assertEquals(GeneratorUtils.extractReferenceType("#/components/schemas/Pet.-id"), "Pet.-id");
         Assert.assertEquals(GeneratorUtils.extractReferenceType("#/components/schemas/Pet."), "Pet.");
         Assert.assertEquals(GeneratorUtils.extractReferenceType("#/components/schemas/200"), "200");
+        Assert.assertEquals(GeneratorUtils.extractReferenceType("#/components/schemas/Error/"), "Error");
+        Assert.assertEquals(GeneratorUtils.extractReferenceType("#/components//Error"), "Error");
+        Assert.assertEquals(GeneratorUtils.extractReferenceType("#/"), "#");
         Assert.assertEquals(getValidName(GeneratorUtils.extractReferenceType("#/components/schemas/worker"),
                 true), "Worker");
         Assert.assertEquals(getValidName(GeneratorUtils.extractReferenceType("#/components/schemas/worker abc"),
@@ -92,4 +98,33 @@ public class GeneratorUtilsTests {
         Path expectedPath = RES_DIR.resolve("schema/ballerina/recordName.bal");
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
+
+    @Test(description = "Synthesize the missing operation ids and disambiguate the ids which collide")
+    public void testSetOperationId() {
+        Paths paths = new Paths();
+        paths.addPathItem("/", new PathItem().get(new Operation()).post(new Operation()));
+        paths.addPathItem("/pets", new PathItem().get(new Operation()).post(new Operation()));
+        paths.addPathItem("/pets/{petId}", new PathItem().get(new Operation())
+                .delete(new Operation().operationId("delete-pet")));
+        paths.addPathItem("/v1/pets/", new PathItem().get(new Operation()).put(new Operation()));
+        paths.addPathItem("/store", new PathItem().get(new Operation().operationId("getstore")));
+        paths.addPathItem("/v2/store", new PathItem().get(new Operation()).patch(new Operation()));
+        paths.addPathItem("/owners/{ownerId}", new PathItem().get(new Operation()));
+        paths.addPathItem("/people/{personId}", new PathItem().get(new Operation().operationId("ownersByownerId")));
+        GeneratorUtils.setOperationId(paths);
+
+        Assert.assertEquals(paths.get("/").getGet().getOperationId(), "getroot");
+        Assert.assertEquals(paths.get("/").getPost().getOperationId(), "postroot");
+        Assert.assertEquals(paths.get("/pets").getGet().getOperationId(), "getpets");
+        Assert.assertEquals(paths.get("/pets").getPost().getOperationId(), "postpets");
+        Assert.assertEquals(paths.get("/pets/{petId}").getGet().getOperationId(), " petsBypetId");
+        Assert.assertEquals(paths.get("/pets/{petId}").getDelete().getOperationId(), "deletePet");
+        Assert.assertEquals(paths.get("/v1/pets/").getGet().getOperationId(), "getpets1");
+        Assert.assertEquals(paths.get("/v1/pets/").getPut().getOperationId(), "putpets");
+        Assert.assertEquals(paths.get("/store").getGet().getOperationId(), "getstore");
+        Assert.assertEquals(paths.get("/v2/store").getGet().getOperationId(), "getstore1");
+        Assert.assertEquals(paths.get("/v2/store").getPatch().getOperationId(), "patchstore");
+        Assert.assertEquals(paths.get("/owners/{ownerId}").getGet().getOperationId(), " ownersByownerId1");
+        Assert.assertEquals(paths.get("/people/{personId}").getGet().getOperationId(), "ownersByownerId");
+    }
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.ballerina.compiler.syntax.tree.SyntaxInfo;
+import io.ballerina.openapi.generators.GeneratorConstants;
+import io.ballerina.openapi.generators.IdentifierNormalizer;
+import io.swagger.v3.core.util.Yaml;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Differential tests for {@link IdentifierNormalizer} against the regular expression based name rules.
+ */
+public class IdentifierNormalizerTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+    private static final List<String> BAL_KEYWORDS = SyntaxInfo.keywords();
+
+    @Test(description = "Test the normalized names of all the names and values in the test resource definitions")
+    public void testNamesInTestResources() throws IOException {
+        Set<String> identifiers = getIdentifiers();
+        Assert.assertTrue(identifiers.size() > 1000, "Too few identifiers are found in the test resources");
+        for (String identifier : identifiers) {
+            assertSameNames(identifier);
+        }
+    }
+
+    @Test(description = "Test the normalized names of the edge cases of the name rules")
+    public void testEdgeCases() {
+        String[] identifiers = {"", " ", "\u2003", "_", "__", "0", "0123", "1a", "a", "A", "_a", "a_", "__a_b__",
+                "a__b", "-a", "a-", "a--b", "pet-store.v1", "PET_ID", "x-rate-limit", "{id}", "/pets/{petId}",
+                "type", "record", "Type", "int", "string[]", "a b", "a\tb", "a\u000Bb", "\u2003a_b", "a_\u2003_b",
+                "\u0130stanbul_city", "\u01C5emal-x", "stra\u00DFe_name", "\u65E5\u672C\u8A9E", "\u65E5\u672C_\u8A9E",
+                "\uD83D\uDE00_smile", "a'b", "a\"b", "a%b", "a,b", "$ref", "@type", "a\\b", "end_", "123_456",
+                "_123", "x_0"};
+        for (String identifier : identifiers) {
+            assertSameNames(identifier);
+        }
+    }
+
+    @Test(description = "Test the memoized names are the same when a name is normalized again")
+    public void testMemoizedNames() {
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(IdentifierNormalizer.getValidName("pet-store_id", false), "petStoreId");
+            Assert.assertEquals(IdentifierNormalizer.getValidName("pet-store_id", true), "PetStoreId");
+            Assert.assertEquals(IdentifierNormalizer.escapeIdentifier("pet-store_id"), "'pet\\-store\\_id");
+            Assert.assertEquals(IdentifierNormalizer.escapeIdentifier("type"), "'type");
+        }
+    }
+
+    private static void assertSameNames(String identifier) {
+        Assert.assertEquals(getResult(() -> IdentifierNormalizer.escapeIdentifier(identifier)),
+                getResult(() -> escapeIdentifier(identifier)), "Escaped identifier differs for `" + identifier + "`");
+        Assert.assertEquals(getResult(() -> IdentifierNormalizer.getValidName(identifier, true)),
+                getResult(() -> getValidName(identifier, true)), "Schema name differs for `" + identifier + "`");
+        Assert.assertEquals(getResult(() -> IdentifierNormalizer.getValidName(identifier, false)),
+                getResult(() -> getValidName(identifier, false)), "Name differs for `" + identifier + "`");
+    }
+
+    /**
+     * Get the name, or the exception type when the name can not be normalized.
+     */
+    private static String getResult(Supplier<String> normalizer) {
+        try {
+            return normalizer.get();
+        } catch (RuntimeException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    private static Set<String> getIdentifiers() throws IOException {
+        Set<String> identifiers = new LinkedHashSet<>();
+        List<Path> definitions;
+        try (Stream<Path> files = Files.walk(RES_DIR)) {
+            definitions = files.filter(Files::isRegularFile).filter(path -> {
+                String fileName = path.getFileName().toString();
+                return fileName.endsWith(".yaml") || fileName.endsWith(".yml") || fileName.endsWith(".json");
+            }).sorted().collect(Collectors.toList());
+        }
+        for (Path definition : definitions) {
+            JsonNode root;
+            try {
+                root = Yaml.mapper().readTree(definition.toFile());
+            } catch (IOException e) {
+                // Invalid definitions in the test resources are skipped.
+                continue;
+            }
+            if (root != null) {
+                addIdentifiers(root, identifiers);
+            }
+        }
+        return identifiers;
+    }
+
+    private static void addIdentifiers(JsonNode node, Set<String> identifiers) {
+        if (node.isObject()) {
+            Iterator<String> fieldNames = node.fieldNames();
+            while (fieldNames.hasNext()) {
+                String fieldName = fieldNames.next();
+                identifiers.add(fieldName);
+                addIdentifiers(node.get(fieldName), identifiers);
+            }
+        } else if (node.isArray()) {
+            for (JsonNode element : node) {
+                addIdentifiers(element, identifiers);
+            }
+        } else if (node.isTextual()) {
+            identifiers.add(node.asText());
+        }
+    }
+
+    // The regular expression based name rules, which the identifier normalizer replaces.
+
+    private static String escapeIdentifier(String identifier) {
+        if (identifier.matches("\\b[0-9]*\\b")) {
+            return "'" + identifier;
+        } else if (!identifier.matches("\\b[_a-zA-Z][_a-zA-Z0-9]*\\b") || BAL_KEYWORDS.contains(identifier)) {
+            identifier = identifier.replaceAll(GeneratorConstants.ESCAPE_PATTERN, "\\\\$1");
+            return "'" + identifier;
+        }
+        return identifier;
+    }
+
+    private static String getValidName(String identifier, boolean isSchema) {
+        if (!identifier.matches("\\b[0-9]*\\b")) {
+            String[] split = identifier.split(GeneratorConstants.ESCAPE_PATTERN);
+            StringBuilder validName = new StringBuilder();
+            for (String part: split) {
+                if (!part.isBlank()) {
+                    if (split.length > 1) {
+                        part = part.substring(0, 1).toUpperCase(Locale.ENGLISH) +
+                                part.substring(1).toLowerCase(Locale.ENGLISH);
+                    }
+                    validName.append(part);
+                }
+            }
+            identifier = validName.toString();
+        }
+        if (isSchema) {
+            return identifier.substring(0, 1).toUpperCase(Locale.ENGLISH) + identifier.substring(1);
+        } else {
+            return escapeIdentifier(identifier.substring(0, 1).toLowerCase(Locale.ENGLISH) + identifier.substring(1));
+        }
+    }
+}
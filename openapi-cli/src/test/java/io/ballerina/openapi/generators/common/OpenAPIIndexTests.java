@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.cmd.Filter;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.generators.OpenAPIIndex;
+import io.ballerina.openapi.generators.OpenAPIIndex.TypeEntry;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the {@link OpenAPIIndex}.
+ */
+public class OpenAPIIndexTests {
+    private final Schema<?> pet = new ObjectSchema();
+    private final Schema<?> petInfo = new StringSchema();
+    private final OpenAPIIndex openAPIIndex = new OpenAPIIndex(getOpenAPI());
+
+    @Test(description = "Select the operations of the tag and operation filters in the order of the paths")
+    public void testGetOperations() {
+        Assert.assertEquals(getOperationIds(new Filter(List.of(), List.of())),
+                List.of("listPets", "addPet", "getPet", "listStores", "ping"));
+        Assert.assertEquals(getOperationIds(new Filter(List.of("stores", "pets"), List.of())),
+                List.of("listPets", "addPet", "getPet", "listStores"));
+        Assert.assertEquals(getOperationIds(new Filter(List.of("stores"), List.of("ping", "listPets"))),
+                List.of("listPets", "listStores", "ping"));
+        Assert.assertEquals(getOperationIds(new Filter(List.of("owners"), List.of("getOwner"))), List.of());
+
+        Assert.assertEquals(openAPIIndex.getOperation("getPet").getPath(), "/pets/{petId}");
+        Assert.assertEquals(openAPIIndex.getOperation("getPet").getMethod(), PathItem.HttpMethod.GET);
+        Assert.assertEquals(openAPIIndex.getOperationsByTag("pets").size(), 3);
+    }
+
+    @Test(description = "Resolve the schema references to the type names and the component schemas")
+    public void testResolveReferences() throws BallerinaOpenApiException {
+        Assert.assertEquals(openAPIIndex.getReferenceTypeName("#/components/schemas/Pet"), "Pet");
+        Assert.assertSame(openAPIIndex.getReferencedSchema("#/components/schemas/Pet"), pet);
+        Assert.assertEquals(openAPIIndex.getReferenceTypeName("#/components/schemas/pet_info"), "PetInfo");
+        Assert.assertSame(openAPIIndex.getReferencedSchema("#/components/schemas/pet_info"), petInfo);
+        Assert.assertEquals(openAPIIndex.getReferenceTypeName("#/components/responses/pet-list"), "PetList");
+        Assert.assertNull(openAPIIndex.getReferencedSchema("#/components/schemas/Owner"));
+        Assert.assertSame(openAPIIndex.getSchema("PetInfo"), petInfo);
+    }
+
+    @Test(description = "Build the type entries of the component schemas with their direct dependencies")
+    public void testTypeEntries() throws BallerinaOpenApiException {
+        List<TypeEntry> typeEntries = openAPIIndex.getTypeEntries();
+        Assert.assertEquals(typeEntries.stream().map(TypeEntry::getName).collect(Collectors.toList()),
+                List.of("Pet", "pet_info", "PetInfo"));
+        TypeEntry petEntry = openAPIIndex.getReferencedTypeEntry("#/components/schemas/Pet");
+        TypeEntry petInfoEntry = openAPIIndex.getReferencedTypeEntry("#/components/schemas/pet_info");
+        Assert.assertSame(petEntry, typeEntries.get(0));
+        Assert.assertSame(petInfoEntry, typeEntries.get(2));
+        Assert.assertEquals(petInfoEntry.getIndex(), 2);
+        Assert.assertEquals(typeEntries.get(1).getTypeName(), "PetInfo");
+
+        Assert.assertEquals(petEntry.getKind(), TypeEntry.OBJECT);
+        Assert.assertEquals(petInfoEntry.getKind(), TypeEntry.STRING);
+        Assert.assertSame(petEntry.getSchema(), pet);
+
+        // The references of the properties are resolved to the entries, and the unsupported ones are skipped.
+        List<TypeEntry> dependencies = petEntry.getDependencies();
+        Assert.assertEquals(dependencies.size(), 2);
+        Assert.assertSame(dependencies.get(0), petInfoEntry);
+        Assert.assertSame(dependencies.get(1), petEntry);
+        Assert.assertTrue(petInfoEntry.getDependencies().isEmpty());
+    }
+
+    @Test(description = "Reject the references which are not local references",
+            expectedExceptions = BallerinaOpenApiException.class)
+    public void testResolveRemoteReference() throws BallerinaOpenApiException {
+        openAPIIndex.getReferenceTypeName("pets.yaml#/components/schemas/Pet");
+    }
+
+    private OpenAPI getOpenAPI() {
+        Paths paths = new Paths();
+        paths.addPathItem("/pets", new PathItem()
+                .get(new Operation().operationId("listPets").addTagsItem("pets"))
+                .post(new Operation().operationId("addPet").addTagsItem("pets")));
+        paths.addPathItem("/pets/{petId}", new PathItem()
+                .get(new Operation().operationId("getPet").addTagsItem("pets")));
+        paths.addPathItem("/stores", new PathItem()
+                .get(new Operation().operationId("listStores").addTagsItem("stores")));
+        paths.addPathItem("/ping", new PathItem().get(new Operation().operationId("ping")));
+        pet.addProperties("info", new Schema<>().$ref("#/components/schemas/pet_info"));
+        pet.addProperties("children", new ArraySchema().items(new Schema<>().$ref("#/components/schemas/Pet")));
+        pet.addProperties("owner", new Schema<>().$ref("owners.yaml#/components/schemas/Owner"));
+        Components components = new Components()
+                .addSchemas("Pet", pet)
+                .addSchemas("pet_info", new ObjectSchema())
+                .addSchemas("PetInfo", petInfo);
+        return new OpenAPI().paths(paths).components(components);
+    }
+
+    private List<String> getOperationIds(Filter filter) {
+        return openAPIIndex.getOperations(filter).stream()
+                .map(operation -> operation.getOperation().getOperationId())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.ballerina.openapi.generators.StreamingOpenAPIParser;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.parser.ObjectMapperFactory;
+import io.swagger.v3.parser.OpenAPIV3Parser;
+import io.swagger.v3.parser.core.models.ParseOptions;
+import io.swagger.v3.parser.core.models.SwaggerParseResult;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Tests for the {@link StreamingOpenAPIParser}.
+ */
+public class StreamingOpenAPIParserTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/").toAbsolutePath();
+    private static final ObjectMapper YAML_MAPPER = ObjectMapperFactory.createYaml();
+    private static final ObjectMapper JSON_MAPPER = ObjectMapperFactory.createJson();
+
+    @Test(description = "Test the paths are validated against the components which come after them")
+    public void testParsePathsBeforeComponents() throws IOException {
+        Path definition = RES_DIR.resolve("generators/swagger/streaming/paths_before_components.yaml");
+        SwaggerParseResult parseResult;
+        try (JsonParser parser = YAML_MAPPER.createParser(definition.toFile())) {
+            parseResult = new StreamingOpenAPIParser(new ParseOptions()).parse(parser, null);
+        }
+
+        Assert.assertTrue(parseResult.getMessages().isEmpty(), parseResult.getMessages().toString());
+        OpenAPI openAPI = parseResult.getOpenAPI();
+        Assert.assertEquals(openAPI.getPaths().get("/pets/{petId}").getParameters().get(0).get$ref(),
+                "#/components/parameters/petId");
+        Assert.assertEquals(openAPI.getPaths().getExtensions().get("x-paths-extension"), true);
+        Assert.assertEquals(openAPI.getComponents().getSchemas().keySet().toString(), "[Pet, Dog]");
+        Assert.assertTrue(openAPI.getComponents().getHeaders().isEmpty());
+    }
+
+    @Test(description = "Test a streamed definition is deserialized to the same model and messages as its tree")
+    public void testParseSameAsTree() throws IOException {
+        for (String definition : new String[]{"petstore.yaml", "generators/schema/swagger/invalid.yaml",
+                "generators/swagger/streaming/paths_before_components.yaml"}) {
+            Path definitionPath = RES_DIR.resolve(definition);
+            SwaggerParseResult expectedResult = new OpenAPIV3Parser().parseJsonNode(null,
+                    YAML_MAPPER.readTree(definitionPath.toFile()), new ParseOptions());
+            SwaggerParseResult parseResult;
+            StringWriter copy = new StringWriter();
+            try (JsonParser parser = YAML_MAPPER.createParser(definitionPath.toFile());
+                 JsonGenerator copyGenerator = JSON_MAPPER.createGenerator(copy)) {
+                parseResult = new StreamingOpenAPIParser(new ParseOptions()).parse(parser, copyGenerator);
+            }
+            SwaggerParseResult copyResult;
+            try (JsonParser parser = JSON_MAPPER.createParser(copy.toString())) {
+                copyResult = new StreamingOpenAPIParser(new ParseOptions()).parse(parser, null);
+            }
+
+            String expectedModel = Json.pretty(expectedResult.getOpenAPI());
+            Assert.assertEquals(parseResult.getMessages(), expectedResult.getMessages(), definition);
+            Assert.assertEquals(Json.pretty(parseResult.getOpenAPI()), expectedModel, definition);
+            Assert.assertEquals(copyResult.getMessages(), expectedResult.getMessages(), definition);
+            Assert.assertEquals(Json.pretty(copyResult.getOpenAPI()), expectedModel, definition);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.common;
+
+import io.swagger.v3.core.util.Yaml;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.PathParameter;
+import io.swagger.v3.oas.models.parameters.QueryParameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates deterministic synthetic OpenAPI definitions of a given size, used to test how the code generation scales
+ * with the size of the definition. The same options always generate the same definition.
+ */
+public class SyntheticOpenAPIGenerator {
+    private static final String SCHEMA_PREFIX = "Schema";
+    private static final String SCHEMA_REF_PREFIX = "#/components/schemas/" + SCHEMA_PREFIX;
+    private static final String JSON_MEDIA_TYPE = "application/json";
+
+    private final int pathCount;
+    private final int schemaCount;
+    private int referenceDepth = 3;
+    private double composedSchemaRatio = 0.2;
+    private int enumSize = 4;
+    private double inlineSchemaRatio = 0.3;
+    private long seed = 42;
+
+    /**
+     * Create a generator for a definition of the given size.
+     *
+     * @param pathCount   number of paths, each path has a GET and a POST operation
+     * @param schemaCount number of component schemas
+     */
+    public SyntheticOpenAPIGenerator(int pathCount, int schemaCount) {
+        this.pathCount = pathCount;
+        this.schemaCount = Math.max(1, schemaCount);
+    }
+
+    /**
+     * Set the length of the reference chains between the component schemas.
+     */
+    public SyntheticOpenAPIGenerator setReferenceDepth(int referenceDepth) {
+        this.referenceDepth = Math.max(1, referenceDepth);
+        return this;
+    }
+
+    /**
+     * Set the ratio of the component schemas defined with {@code allOf} or {@code oneOf}.
+     */
+    public SyntheticOpenAPIGenerator setComposedSchemaRatio(double composedSchemaRatio) {
+        this.composedSchemaRatio = composedSchemaRatio;
+        return this;
+    }
+
+    /**
+     * Set the number of values of the enum property of each component schema. No enum is generated for zero.
+     */
+    public SyntheticOpenAPIGenerator setEnumSize(int enumSize) {
+        this.enumSize = enumSize;
+        return this;
+    }
+
+    /**
+     * Set the ratio of the component schemas and operations which have an inline object schema.
+     */
+    public SyntheticOpenAPIGenerator setInlineSchemaRatio(double inlineSchemaRatio) {
+        this.inlineSchemaRatio = inlineSchemaRatio;
+        return this;
+    }
+
+    public SyntheticOpenAPIGenerator setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public OpenAPI generate() {
+        Random random = new Random(seed);
+        OpenAPI openAPI = new OpenAPI();
+        openAPI.setOpenapi("3.0.1");
+        openAPI.setInfo(new Info().title("Synthetic API").version("1.0.0"));
+        Components components = new Components();
+        for (int i = 0; i < schemaCount; i++) {
+            components.addSchemas(SCHEMA_PREFIX + i, getComponentSchema(i, random));
+        }
+        openAPI.setComponents(components);
+        Paths paths = new Paths();
+        for (int i = 0; i < pathCount; i++) {
+            paths.addPathItem("/resources" + i + "/{id}", getPathItem(i, random));
+        }
+        openAPI.setPaths(paths);
+        return openAPI;
+    }
+
+    /**
+     * Write the generated definition as YAML to the given file.
+     *
+     * @param definitionPath path of the YAML file
+     * @return given path
+     */
+    public Path write(Path definitionPath) throws IOException {
+        Files.writeString(definitionPath, Yaml.mapper().writeValueAsString(generate()));
+        return definitionPath;
+    }
+
+    private Schema<?> getComponentSchema(int index, Random random) {
+        ObjectSchema schema = new ObjectSchema();
+        schema.addProperties("id", new IntegerSchema().format("int64"));
+        schema.addProperties("name", new StringSchema());
+        schema.addRequiredItem("id");
+        if (enumSize > 0) {
+            StringSchema status = new StringSchema();
+            for (int i = 0; i < enumSize; i++) {
+                status.addEnumItem("STATUS_" + i);
+            }
+            schema.addProperties("status", status);
+        }
+        // Schemas form reference chains of the given depth.
+        if (index % referenceDepth != referenceDepth - 1 && index + 1 < schemaCount) {
+            schema.addProperties("next", getSchemaReference(index + 1));
+            schema.addProperties("items", new ArraySchema().items(getSchemaReference(index + 1)));
+        }
+        if (random.nextDouble() < inlineSchemaRatio) {
+            schema.addProperties("details", getInlineSchema());
+        }
+        if (index > 0 && random.nextDouble() < composedSchemaRatio) {
+            ComposedSchema composedSchema = new ComposedSchema();
+            int referredIndex = random.nextInt(index);
+            if (random.nextBoolean()) {
+                composedSchema.addAllOfItem(getSchemaReference(referredIndex));
+                composedSchema.addAllOfItem(schema);
+            } else {
+                composedSchema.addOneOfItem(getSchemaReference(referredIndex));
+                composedSchema.addOneOfItem(schema);
+            }
+            return composedSchema;
+        }
+        return schema;
+    }
+
+    private PathItem getPathItem(int index, Random random) {
+        PathItem pathItem = new PathItem();
+        PathParameter id = new PathParameter();
+        id.setName("id");
+        id.setSchema(new IntegerSchema());
+        QueryParameter limit = new QueryParameter();
+        limit.setName("limit");
+        limit.setSchema(new IntegerSchema());
+        List<io.swagger.v3.oas.models.parameters.Parameter> parameters = new ArrayList<>();
+        parameters.add(id);
+        parameters.add(limit);
+
+        Operation get = new Operation().operationId("getResource" + index).tags(List.of("tag" + index % 10))
+                .parameters(parameters)
+                .responses(new ApiResponses().addApiResponse("200", getResponse(
+                        getSchemaReference(index % schemaCount))));
+        pathItem.setGet(get);
+
+        Schema<?> requestSchema = random.nextDouble() < inlineSchemaRatio ? getInlineSchema() :
+                getSchemaReference((index * 7) % schemaCount);
+        Operation post = new Operation().operationId("createResource" + index).tags(List.of("tag" + index % 10))
+                .parameters(List.of(id))
+                .requestBody(new RequestBody().content(new Content().addMediaType(JSON_MEDIA_TYPE,
+                        new MediaType().schema(requestSchema))))
+                .responses(new ApiResponses().addApiResponse("201", getResponse(
+                        getSchemaReference((index * 3) % schemaCount))));
+        pathItem.setPost(post);
+        return pathItem;
+    }
+
+    private static ApiResponse getResponse(Schema<?> schema) {
+        return new ApiResponse().description("Successful response")
+                .content(new Content().addMediaType(JSON_MEDIA_TYPE, new MediaType().schema(schema)));
+    }
+
+    private static Schema<?> getInlineSchema() {
+        ObjectSchema inlineSchema = new ObjectSchema();
+        inlineSchema.addProperties("code", new IntegerSchema());
+        inlineSchema.addProperties("message", new StringSchema());
+        return inlineSchema;
+    }
+
+    private static Schema<?> getSchemaReference(int index) {
+        return new Schema<>().$ref(SCHEMA_REF_PREFIX + index);
+    }
+}
@@ -51,8 +51,8 @@ public class AnyOfDataTypeTests {
         Schema schema = openAPI.getComponents().getSchemas().get("AnyOF");
         ComposedSchema composedSchema = (ComposedSchema) schema;
         List<Schema> anyOf = composedSchema.getAnyOf();
-        GeneratorMetaData.createInstance(openAPI, false);
-        String anyOfUnionType = TypeGeneratorUtils.getUnionType(anyOf, "AnyOF").toString().trim();
+        GeneratorMetaData metaData = new GeneratorMetaData(openAPI, false);
+        String anyOfUnionType = TypeGeneratorUtils.getUnionType(anyOf, "AnyOF", metaData).toString().trim();
         Assert.assertEquals(anyOfUnionType, "User|Activity");
     }
 
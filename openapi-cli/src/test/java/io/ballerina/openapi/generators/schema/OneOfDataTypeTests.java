@@ -50,8 +50,8 @@ public class OneOfDataTypeTests {
         Schema schema = openAPI.getComponents().getSchemas().get("Error");
         ComposedSchema composedSchema = (ComposedSchema) schema;
         List<Schema> oneOf = composedSchema.getOneOf();
-        GeneratorMetaData.createInstance(openAPI, false);
-        String oneOfUnionType = TypeGeneratorUtils.getUnionType(oneOf, "Error").toString().trim();
+        GeneratorMetaData metaData = new GeneratorMetaData(openAPI, false);
+        String oneOfUnionType = TypeGeneratorUtils.getUnionType(oneOf, "Error", metaData).toString().trim();
         Assert.assertEquals(oneOfUnionType, "Activity|Profile");
     }
 
@@ -62,8 +62,8 @@ public class OneOfDataTypeTests {
         Schema schema = openAPI.getComponents().getSchemas().get("Error");
         ComposedSchema composedSchema = (ComposedSchema) schema;
         List<Schema> oneOf = composedSchema.getOneOf();
-        GeneratorMetaData.createInstance(openAPI, false);
-        String oneOfUnionType = TypeGeneratorUtils.getUnionType(oneOf, "Error").toString().trim();
+        GeneratorMetaData metaData = new GeneratorMetaData(openAPI, false);
+        String oneOfUnionType = TypeGeneratorUtils.getUnionType(oneOf, "Error", metaData).toString().trim();
         Assert.assertEquals(oneOfUnionType, "Activity|Profile01");
     }
 
@@ -73,8 +73,8 @@ public class OneOfDataTypeTests {
         OpenAPI openAPI = codeGenerator.normalizeOpenAPI(definitionPath, true);
         Schema schema = openAPI.getComponents().getSchemas().get("Error");
         ComposedSchema composedSchema = (ComposedSchema) schema;
-        GeneratorMetaData.createInstance(openAPI, true);
-        TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema, "Error");
+        GeneratorMetaData metaData = new GeneratorMetaData(openAPI, true);
+        TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema, "Error", metaData);
         String oneOfUnionType = typeGenerator.generateTypeDescriptorNode().toString().trim();
         Assert.assertEquals(oneOfUnionType, "Activity|Profile?");
     }
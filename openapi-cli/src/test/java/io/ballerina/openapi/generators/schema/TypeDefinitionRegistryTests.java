@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2022, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.schema;
+
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.exception.BallerinaOpenApiException;
+import io.ballerina.tools.text.TextDocuments;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the {@link TypeDefinitionRegistry}.
+ */
+public class TypeDefinitionRegistryTests {
+    private final BallerinaTypesGenerator typesGenerator = new BallerinaTypesGenerator(new OpenAPI());
+
+    @Test(description = "Register the type definitions once per name in the registration order")
+    public void testRegisterTypeDefinitions() throws BallerinaOpenApiException {
+        TypeDefinitionRegistry registry = new TypeDefinitionRegistry();
+        Assert.assertTrue(registry.register("Pet", getTypeDefinitionNode("Pet", false)));
+        Assert.assertTrue(registry.register("Error", getTypeDefinitionNode("Error", false)));
+        Assert.assertFalse(registry.register("Pet", getTypeDefinitionNode("Pet", false)));
+
+        Assert.assertEquals(getTypeNames(registry), List.of("Pet", "Error"));
+        Assert.assertTrue(registry.contains("Error"));
+        Assert.assertFalse(registry.contains("Order"));
+        Assert.assertTrue(registry.getConflictingTypeNames().isEmpty());
+    }
+
+    @Test(description = "Report the names claimed by type definitions of different shapes")
+    public void testConflictingTypeDefinitions() throws BallerinaOpenApiException {
+        TypeDefinitionRegistry registry = new TypeDefinitionRegistry();
+        TypeDefinitionNode pet = getTypeDefinitionNode("Pet", false);
+        registry.register("Pet", pet);
+        Assert.assertFalse(registry.register("Pet", getTypeDefinitionNode("Pet", true)));
+
+        Assert.assertEquals(registry.size(), 1);
+        Assert.assertSame(registry.get("Pet"), pet);
+        Assert.assertEquals(registry.getConflictingTypeNames(), Set.of("Pet"));
+    }
+
+    @Test(description = "Add the type definitions of component schemas after the registered inline types")
+    public void testAddComponentTypeDefinitions() throws BallerinaOpenApiException {
+        TypeDefinitionRegistry registry = new TypeDefinitionRegistry();
+        registry.register("GetPetResponse", getTypeDefinitionNode("GetPetResponse", false));
+        registry.add(getTypeDefinitionNode("Pet", false));
+        registry.add(getTypeDefinitionNode("GetPetResponse", true));
+
+        Assert.assertEquals(getTypeNames(registry), List.of("GetPetResponse", "Pet", "GetPetResponse"));
+        Assert.assertEquals(registry.getConflictingTypeNames(), Set.of("GetPetResponse"));
+    }
+
+    @Test(description = "Deduplicate the inline types which only differ in the documentation of their fields")
+    public void testDeduplicateTypesWithDifferentDocumentation() {
+        TypeDefinitionRegistry registry = new TypeDefinitionRegistry();
+        registry.setDeduplicateInlineTypes(true);
+        registry.registerInlineType("A", parseTypeDefinitionNode("type A record {|\n# First\nint id;\n|};"));
+
+        Assert.assertEquals(registry.registerInlineType("B",
+                parseTypeDefinitionNode("type B record {|\n# Second\nint  id ;\n|};")), "A");
+        Assert.assertEquals(registry.getDeduplicatedTypeCount(), 1);
+    }
+
+    @Test(description = "Keep the inline types whose sources only differ in the whitespaces between the tokens")
+    public void testKeepTypesWithDifferentTokens() {
+        TypeDefinitionRegistry registry = new TypeDefinitionRegistry();
+        registry.setDeduplicateInlineTypes(true);
+        registry.registerInlineType("A", parseTypeDefinitionNode("type A record {| Foo bar; |};"));
+
+        Assert.assertEquals(registry.registerInlineType("B",
+                parseTypeDefinitionNode("type B record {| Foob ar; |};")), "B");
+        Assert.assertEquals(getTypeNames(registry), List.of("A", "B"));
+    }
+
+    @Test(description = "Replace a deduplicated type name only for the shape it was registered with")
+    public void testRegisterDeduplicatedNameWithAnotherShape() {
+        TypeDefinitionRegistry registry = new TypeDefinitionRegistry();
+        registry.setDeduplicateInlineTypes(true);
+        registry.registerInlineType("A", parseTypeDefinitionNode("type A record {| int id; |};"));
+        Assert.assertEquals(registry.registerInlineType("B", parseTypeDefinitionNode("type B record {| int id; |};")),
+                "A");
+
+        Assert.assertEquals(registry.registerInlineType("B",
+                parseTypeDefinitionNode("type B record {| string name; |};")), "B");
+        Assert.assertEquals(registry.registerInlineType("B", parseTypeDefinitionNode("type B record {| int id; |};")),
+                "A");
+        Assert.assertEquals(getTypeNames(registry), List.of("A", "B"));
+        Assert.assertEquals(registry.getDeduplicatedTypeCount(), 1);
+    }
+
+    @Test(description = "Keep the inline types of the same shape apart unless deduplication is enabled")
+    public void testRegisterTypesOfSameShapeByDefault() {
+        TypeDefinitionRegistry registry = new TypeDefinitionRegistry();
+        registry.registerInlineType("A", parseTypeDefinitionNode("type A record {| int id; |};"));
+
+        Assert.assertEquals(registry.registerInlineType("B", parseTypeDefinitionNode("type B record {| int id; |};")),
+                "B");
+        Assert.assertEquals(getTypeNames(registry), List.of("A", "B"));
+        Assert.assertEquals(registry.getDeduplicatedTypeCount(), 0);
+    }
+
+    private static TypeDefinitionNode parseTypeDefinitionNode(String source) {
+        ModulePartNode modulePartNode = SyntaxTree.from(TextDocuments.from(source)).rootNode();
+        return (TypeDefinitionNode) modulePartNode.members().get(0);
+    }
+
+    private TypeDefinitionNode getTypeDefinitionNode(String typeName, boolean withTag)
+            throws BallerinaOpenApiException {
+        ObjectSchema schema = new ObjectSchema();
+        schema.addProperties("id", new IntegerSchema());
+        if (withTag) {
+            schema.addProperties("tag", new StringSchema());
+        }
+        return typesGenerator.getTypeDefinitionNode(schema, typeName, new ArrayList<>());
+    }
+
+    private static List<String> getTypeNames(TypeDefinitionRegistry registry) {
+        return registry.getTypeDefinitionNodes().stream()
+                .map(typeDefNode -> typeDefNode.typeName().text())
+                .collect(Collectors.toList());
+    }
+}
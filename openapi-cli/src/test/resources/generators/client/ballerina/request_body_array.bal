@@ -19,7 +19,7 @@ public isolated client class Client {
     remote isolated function updateUser(string[] payload) returns http:Response|error {
         string resourcePath = string `/path01`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         http:Response response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -20,7 +20,7 @@ public isolated client class Client {
     remote isolated function updateUser(Path01Body payload) returns http:Response|error {
         string resourcePath = string `/path01`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         http:Response response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -31,7 +31,7 @@ public isolated client class Client {
     remote isolated function postUser(User payload) returns http:Response|error {
         string resourcePath = string `/path01`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         http:Response response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -43,7 +43,7 @@ public isolated client class Client {
     remote isolated function updateNewUser(User payload) returns http:Response|error {
         string resourcePath = string `/path02`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         http:Response response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -54,7 +54,7 @@ public isolated client class Client {
     remote isolated function postNewUser(User[] payload) returns http:Response|error {
         string resourcePath = string `/path02`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         http:Response response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -65,7 +65,7 @@ public isolated client class Client {
     remote isolated function updateXMLUser(Path03Body payload) returns http:Response|error {
         string resourcePath = string `/path03`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         xml? xmlBody = check xmldata:fromJson(jsonBody);
         request.setPayload(xmlBody, "application/xml");
         http:Response response = check self.clientEp->put(resourcePath, request);
@@ -77,7 +77,7 @@ public isolated client class Client {
     remote isolated function postXMLUser(Path03Body1 payload) returns http:Response|error {
         string resourcePath = string `/path03`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         xml? xmlBody = check xmldata:fromJson(jsonBody);
         request.setPayload(xmlBody, "application/xml");
         http:Response response = check self.clientEp->post(resourcePath, request);
@@ -89,7 +89,7 @@ public isolated client class Client {
     remote isolated function postXMLUserInLineArray(Path04Body[] payload) returns http:Response|error {
         string resourcePath = string `/path04`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         xml? xmlBody = check xmldata:fromJson(jsonBody);
         request.setPayload(xmlBody, "application/xml");
         http:Response response = check self.clientEp->post(resourcePath, request);
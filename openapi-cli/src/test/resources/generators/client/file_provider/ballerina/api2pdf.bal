@@ -33,7 +33,7 @@ public isolated client class Client {
         map<any> headerValues = {"Authorization": self.apiKeyConfig.authorization};
         map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ApiResponseSuccess response = check self.clientEp->post(resourcePath, request, headers = httpHeaders);
         return response;
@@ -59,7 +59,7 @@ public isolated client class Client {
         map<any> headerValues = {"Authorization": self.apiKeyConfig.authorization};
         map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ApiResponseSuccess response = check self.clientEp->post(resourcePath, request, headers = httpHeaders);
         return response;
@@ -73,7 +73,7 @@ public isolated client class Client {
         map<any> headerValues = {"Authorization": self.apiKeyConfig.authorization};
         map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ApiResponseSuccess response = check self.clientEp->post(resourcePath, request, headers = httpHeaders);
         return response;
@@ -87,7 +87,7 @@ public isolated client class Client {
         map<any> headerValues = {"Authorization": self.apiKeyConfig.authorization};
         map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ApiResponseSuccess response = check self.clientEp->post(resourcePath, request, headers = httpHeaders);
         return response;
@@ -101,7 +101,7 @@ public isolated client class Client {
         map<any> headerValues = {"Authorization": self.apiKeyConfig.authorization};
         map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ApiResponseSuccess response = check self.clientEp->post(resourcePath, request, headers = httpHeaders);
         return response;
@@ -127,7 +127,7 @@ public isolated client class Client {
         map<any> headerValues = {"Authorization": self.apiKeyConfig.authorization};
         map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ApiResponseSuccess response = check self.clientEp->post(resourcePath, request, headers = httpHeaders);
         return response;
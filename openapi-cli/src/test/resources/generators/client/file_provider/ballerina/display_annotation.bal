@@ -21,7 +21,7 @@ public isolated client class Client {
     remote isolated function updatePet(Pet payload) returns http:Response|error {
         string resourcePath = string `/pet`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         http:Response response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -67,7 +67,7 @@ public isolated client class Client {
     remote isolated function updateCustomFieldValue(string fieldIdOrKey, CustomFieldValueUpdateRequest payload) returns json|error {
         string resourcePath = string `/rest/api/2/app/field/${fieldIdOrKey}/value`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -87,7 +87,7 @@ public isolated client class Client {
     remote isolated function setApplicationProperty(string id, SimpleApplicationPropertyBean payload) returns ApplicationProperty|error {
         string resourcePath = string `/rest/api/2/application-properties/${id}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ApplicationProperty response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -146,7 +146,7 @@ public isolated client class Client {
         map<anydata> queryParam = {expand: expand};
         resourcePath = resourcePath + check check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         PageBeanComment response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -164,7 +164,7 @@ public isolated client class Client {
     remote isolated function setCommentProperty(string commentId, string propertyKey, json payload) returns json|error {
         string resourcePath = string `/rest/api/2/comment/${commentId}/properties/${propertyKey}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -179,7 +179,7 @@ public isolated client class Client {
     remote isolated function createComponent(Component payload) returns Component|error {
         string resourcePath = string `/rest/api/2/component`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Component response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -192,7 +192,7 @@ public isolated client class Client {
     remote isolated function updateComponent(string id, Component payload) returns Component|error {
         string resourcePath = string `/rest/api/2/component/${id}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Component response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -224,7 +224,7 @@ public isolated client class Client {
     remote isolated function selectTimeTrackingImplementation(TimeTrackingProvider payload) returns json|error {
         string resourcePath = string `/rest/api/2/configuration/timetracking`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -242,7 +242,7 @@ public isolated client class Client {
     remote isolated function setSharedTimeTrackingConfiguration(TimeTrackingConfiguration payload) returns TimeTrackingConfiguration|error {
         string resourcePath = string `/rest/api/2/configuration/timetracking/options`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         TimeTrackingConfiguration response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -257,7 +257,7 @@ public isolated client class Client {
     remote isolated function updateCustomFieldOptions(int fieldId, UpdateCustomFieldOption payload) returns json|error {
         string resourcePath = string `/rest/api/2/customField/${fieldId}/option`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -265,7 +265,7 @@ public isolated client class Client {
     remote isolated function createCustomFieldOptions(int fieldId, BulkCreateCustomFieldOptionRequest payload) returns json|error {
         string resourcePath = string `/rest/api/2/customField/${fieldId}/option`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -285,7 +285,7 @@ public isolated client class Client {
     remote isolated function createDashboard(DashboardDetails payload) returns Dashboard|error {
         string resourcePath = string `/rest/api/2/dashboard`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Dashboard response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -310,7 +310,7 @@ public isolated client class Client {
     remote isolated function setDashboardItemProperty(string dashboardId, string itemId, string propertyKey, json payload) returns json|error {
         string resourcePath = string `/rest/api/2/dashboard/${dashboardId}/items/${itemId}/properties/${propertyKey}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -330,7 +330,7 @@ public isolated client class Client {
     remote isolated function updateDashboard(string id, DashboardDetails payload) returns Dashboard|error {
         string resourcePath = string `/rest/api/2/dashboard/${id}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Dashboard response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -345,7 +345,7 @@ public isolated client class Client {
     remote isolated function copyDashboard(string id, DashboardDetails payload) returns Dashboard|error {
         string resourcePath = string `/rest/api/2/dashboard/${id}/copy`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Dashboard response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -355,7 +355,7 @@ public isolated client class Client {
         map<anydata> queryParam = {'check: 'check};
         resourcePath = resourcePath + check check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         JiraExpressionsAnalysis response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -365,7 +365,7 @@ public isolated client class Client {
         map<anydata> queryParam = {expand: expand};
         resourcePath = resourcePath + check check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         JiraExpressionResult response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -378,7 +378,7 @@ public isolated client class Client {
     remote isolated function createCustomField(CustomFieldDefinitionJsonBean payload) returns FieldDetails|error {
         string resourcePath = string `/rest/api/2/field`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         FieldDetails response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -393,7 +393,7 @@ public isolated client class Client {
     remote isolated function updateCustomField(string fieldId, UpdateCustomFieldDetails payload) returns json|error {
         string resourcePath = string `/rest/api/2/field/${fieldId}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -408,7 +408,7 @@ public isolated client class Client {
     remote isolated function createCustomFieldContext(string fieldId, CreateCustomFieldContext payload) returns CreateCustomFieldContext|error {
         string resourcePath = string `/rest/api/2/field/${fieldId}/context`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         CreateCustomFieldContext response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -423,7 +423,7 @@ public isolated client class Client {
     remote isolated function setDefaultValues(string fieldId, CustomFieldContextDefaultValueUpdate payload) returns json|error {
         string resourcePath = string `/rest/api/2/field/${fieldId}/context/defaultValue`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -440,7 +440,7 @@ public isolated client class Client {
         map<anydata> queryParam = {startAt: startAt, maxResults: maxResults};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         PageBeanContextForProjectAndIssueType response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -455,7 +455,7 @@ public isolated client class Client {
     remote isolated function updateCustomFieldContext(string fieldId, int contextId, CustomFieldContextUpdateDetails payload) returns json|error {
         string resourcePath = string `/rest/api/2/field/${fieldId}/context/${contextId}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -470,7 +470,7 @@ public isolated client class Client {
     remote isolated function addIssueTypesToContext(string fieldId, int contextId, IssueTypeIds payload) returns json|error {
         string resourcePath = string `/rest/api/2/field/${fieldId}/context/${contextId}/issuetype`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -478,7 +478,7 @@ public isolated client class Client {
     remote isolated function removeIssueTypesFromContext(string fieldId, int contextId, IssueTypeIds payload) returns json|error {
         string resourcePath = string `/rest/api/2/field/${fieldId}/context/${contextId}/issuetype/remove`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -493,7 +493,7 @@ public isolated client class Client {
     remote isolated function updateCustomFieldOption(string fieldId, int contextId, BulkCustomFieldOptionUpdateRequest payload) returns CustomFieldUpdatedContextOptionsList|error {
         string resourcePath = string `/rest/api/2/field/${fieldId}/context/${contextId}/option`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         CustomFieldUpdatedContextOptionsList response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -501,7 +501,7 @@ public isolated client class Client {
     remote isolated function createCustomFieldOption(string fieldId, int contextId, BulkCustomFieldOptionCreateRequest payload) returns CustomFieldCreatedContextOptionsList|error {
         string resourcePath = string `/rest/api/2/field/${fieldId}/context/${contextId}/option`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         CustomFieldCreatedContextOptionsList response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -509,7 +509,7 @@ public isolated client class Client {
     remote isolated function reorderCustomFieldOptions(string fieldId, int contextId, OrderOfCustomFieldOptions payload) returns json|error {
         string resourcePath = string `/rest/api/2/field/${fieldId}/context/${contextId}/option/move`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -524,7 +524,7 @@ public isolated client class Client {
     remote isolated function assignProjectsToCustomFieldContext(string fieldId, int contextId, ProjectIds payload) returns json|error {
         string resourcePath = string `/rest/api/2/field/${fieldId}/context/${contextId}/project`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -532,7 +532,7 @@ public isolated client class Client {
     remote isolated function removeCustomFieldContextFromProjects(string fieldId, int contextId, ProjectIds payload) returns json|error {
         string resourcePath = string `/rest/api/2/field/${fieldId}/context/${contextId}/project/remove`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -561,7 +561,7 @@ public isolated client class Client {
     remote isolated function createIssueFieldOption(string fieldKey, IssueFieldOptionCreateBean payload) returns IssueFieldOption|error {
         string resourcePath = string `/rest/api/2/field/${fieldKey}/option`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         IssueFieldOption response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -588,7 +588,7 @@ public isolated client class Client {
     remote isolated function updateIssueFieldOption(string fieldKey, int optionId, IssueFieldOption payload) returns IssueFieldOption|error {
         string resourcePath = string `/rest/api/2/field/${fieldKey}/option/${optionId}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         IssueFieldOption response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -647,7 +647,7 @@ public isolated client class Client {
     remote isolated function assignFieldConfigurationSchemeToProject(FieldConfigurationSchemeProjectAssociation payload) returns json|error {
         string resourcePath = string `/rest/api/2/fieldconfigurationscheme/project`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -664,7 +664,7 @@ public isolated client class Client {
         map<anydata> queryParam = {expand: expand};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Filter response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -677,7 +677,7 @@ public isolated client class Client {
     remote isolated function setDefaultShareScope(DefaultShareScope payload) returns DefaultShareScope|error {
         string resourcePath = string `/rest/api/2/filter/defaultShareScope`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         DefaultShareScope response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -715,7 +715,7 @@ public isolated client class Client {
         map<anydata> queryParam = {expand: expand};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Filter response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -771,7 +771,7 @@ public isolated client class Client {
     remote isolated function addSharePermission(int id, SharePermissionInputBean payload) returns SharePermissionArr|error {
         string resourcePath = string `/rest/api/2/filter/${id}/permission`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         SharePermissionArr response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -798,7 +798,7 @@ public isolated client class Client {
     remote isolated function createGroup(AddGroupBean payload) returns Group|error {
         string resourcePath = string `/rest/api/2/group`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Group response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -831,7 +831,7 @@ public isolated client class Client {
         map<anydata> queryParam = {groupname: groupname};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Group response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -869,7 +869,7 @@ public isolated client class Client {
         map<anydata> queryParam = {updateHistory: updateHistory};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         CreatedIssue response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -877,7 +877,7 @@ public isolated client class Client {
     remote isolated function createIssues(IssuesUpdateBean payload) returns CreatedIssues|error {
         string resourcePath = string `/rest/api/2/issue/bulk`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         CreatedIssues response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -899,7 +899,7 @@ public isolated client class Client {
     remote isolated function bulkSetIssuesProperties(IssueEntityProperties payload) returns http:Response | error {
         string resourcePath = string `/rest/api/2/issue/properties`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         http:Response  response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -907,7 +907,7 @@ public isolated client class Client {
     remote isolated function bulkSetIssueProperty(string propertyKey, BulkIssuePropertyUpdateRequest payload) returns http:Response | error {
         string resourcePath = string `/rest/api/2/issue/properties/${propertyKey}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         http:Response  response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -931,7 +931,7 @@ public isolated client class Client {
         map<anydata> queryParam = {notifyUsers: notifyUsers, overrideScreenSecurity: overrideScreenSecurity, overrideEditableFlag: overrideEditableFlag};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -948,7 +948,7 @@ public isolated client class Client {
     remote isolated function assignIssue(string issueIdOrKey, User payload) returns json|error {
         string resourcePath = string `/rest/api/2/issue/${issueIdOrKey}/assignee`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -978,7 +978,7 @@ public isolated client class Client {
         map<anydata> queryParam = {expand: expand};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Comment response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -995,7 +995,7 @@ public isolated client class Client {
         map<anydata> queryParam = {expand: expand};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Comment response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1017,7 +1017,7 @@ public isolated client class Client {
     remote isolated function notify(string issueIdOrKey, Notification payload) returns json|error {
         string resourcePath = string `/rest/api/2/issue/${issueIdOrKey}/notify`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1035,7 +1035,7 @@ public isolated client class Client {
     remote isolated function setIssueProperty(string issueIdOrKey, string propertyKey, json payload) returns json|error {
         string resourcePath = string `/rest/api/2/issue/${issueIdOrKey}/properties/${propertyKey}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1057,7 +1057,7 @@ public isolated client class Client {
     remote isolated function createOrUpdateRemoteIssueLink(string issueIdOrKey, RemoteIssueLinkRequest payload) returns RemoteIssueLinkIdentifies|error {
         string resourcePath = string `/rest/api/2/issue/${issueIdOrKey}/remotelink`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         RemoteIssueLinkIdentifies response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1079,7 +1079,7 @@ public isolated client class Client {
     remote isolated function updateRemoteIssueLink(string issueIdOrKey, string linkId, RemoteIssueLinkRequest payload) returns json|error {
         string resourcePath = string `/rest/api/2/issue/${issueIdOrKey}/remotelink/${linkId}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1101,7 +1101,7 @@ public isolated client class Client {
     remote isolated function doTransition(string issueIdOrKey, IssueUpdateDetails payload) returns json|error {
         string resourcePath = string `/rest/api/2/issue/${issueIdOrKey}/transitions`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1133,7 +1133,7 @@ public isolated client class Client {
     remote isolated function addWatcher(string issueIdOrKey, string payload) returns json|error {
         string resourcePath = string `/rest/api/2/issue/${issueIdOrKey}/watchers`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1159,7 +1159,7 @@ public isolated client class Client {
         map<anydata> queryParam = {notifyUsers: notifyUsers, adjustEstimate: adjustEstimate, newEstimate: newEstimate, reduceBy: reduceBy, expand: expand, overrideEditableFlag: overrideEditableFlag};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Worklog response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1176,7 +1176,7 @@ public isolated client class Client {
         map<anydata> queryParam = {notifyUsers: notifyUsers, adjustEstimate: adjustEstimate, newEstimate: newEstimate, expand: expand, overrideEditableFlag: overrideEditableFlag};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Worklog response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1203,7 +1203,7 @@ public isolated client class Client {
     remote isolated function setWorklogProperty(string issueIdOrKey, string worklogId, string propertyKey, json payload) returns json|error {
         string resourcePath = string `/rest/api/2/issue/${issueIdOrKey}/worklog/${worklogId}/properties/${propertyKey}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1218,7 +1218,7 @@ public isolated client class Client {
     remote isolated function linkIssues(LinkIssueRequestJsonBean payload) returns json|error {
         string resourcePath = string `/rest/api/2/issueLink`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1243,7 +1243,7 @@ public isolated client class Client {
     remote isolated function createIssueLinkType(IssueLinkType payload) returns IssueLinkType|error {
         string resourcePath = string `/rest/api/2/issueLinkType`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         IssueLinkType response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1256,7 +1256,7 @@ public isolated client class Client {
     remote isolated function updateIssueLinkType(string issueLinkTypeId, IssueLinkType payload) returns IssueLinkType|error {
         string resourcePath = string `/rest/api/2/issueLinkType/${issueLinkTypeId}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         IssueLinkType response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1293,7 +1293,7 @@ public isolated client class Client {
     remote isolated function createIssueType(IssueTypeCreateBean payload) returns IssueTypeDetails|error {
         string resourcePath = string `/rest/api/2/issuetype`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         IssueTypeDetails response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1306,7 +1306,7 @@ public isolated client class Client {
     remote isolated function updateIssueType(string id, IssueTypeUpdateBean payload) returns IssueTypeDetails|error {
         string resourcePath = string `/rest/api/2/issuetype/${id}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         IssueTypeDetails response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1346,7 +1346,7 @@ public isolated client class Client {
     remote isolated function setIssueTypeProperty(string issueTypeId, string propertyKey, json payload) returns json|error {
         string resourcePath = string `/rest/api/2/issuetype/${issueTypeId}/properties/${propertyKey}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1368,7 +1368,7 @@ public isolated client class Client {
     remote isolated function createIssueTypeScheme(IssueTypeSchemeDetails payload) returns IssueTypeSchemeID|error {
         string resourcePath = string `/rest/api/2/issuetypescheme`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         IssueTypeSchemeID response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1390,7 +1390,7 @@ public isolated client class Client {
     remote isolated function assignIssueTypeSchemeToProject(IssueTypeSchemeProjectAssociation payload) returns json|error {
         string resourcePath = string `/rest/api/2/issuetypescheme/project`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1398,7 +1398,7 @@ public isolated client class Client {
     remote isolated function updateIssueTypeScheme(int issueTypeSchemeId, IssueTypeSchemeUpdateDetails payload) returns json|error {
         string resourcePath = string `/rest/api/2/issuetypescheme/${issueTypeSchemeId}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1413,7 +1413,7 @@ public isolated client class Client {
     remote isolated function addIssueTypesToIssueTypeScheme(int issueTypeSchemeId, IssueTypeIds payload) returns json|error {
         string resourcePath = string `/rest/api/2/issuetypescheme/${issueTypeSchemeId}/issuetype`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1421,7 +1421,7 @@ public isolated client class Client {
     remote isolated function reorderIssueTypesInIssueTypeScheme(int issueTypeSchemeId, OrderOfIssueTypes payload) returns json|error {
         string resourcePath = string `/rest/api/2/issuetypescheme/${issueTypeSchemeId}/issuetype/move`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1443,7 +1443,7 @@ public isolated client class Client {
     remote isolated function createIssueTypeScreenScheme(IssueTypeScreenSchemeDetails payload) returns IssueTypeScreenSchemeId|error {
         string resourcePath = string `/rest/api/2/issuetypescreenscheme`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         IssueTypeScreenSchemeId response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1465,7 +1465,7 @@ public isolated client class Client {
     remote isolated function assignIssueTypeScreenSchemeToProject(IssueTypeScreenSchemeProjectAssociation payload) returns json|error {
         string resourcePath = string `/rest/api/2/issuetypescreenscheme/project`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1473,7 +1473,7 @@ public isolated client class Client {
     remote isolated function updateIssueTypeScreenScheme(string issueTypeScreenSchemeId, IssueTypeScreenSchemeUpdateDetails payload) returns json|error {
         string resourcePath = string `/rest/api/2/issuetypescreenscheme/${issueTypeScreenSchemeId}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1488,7 +1488,7 @@ public isolated client class Client {
     remote isolated function appendMappingsForIssueTypeScreenScheme(string issueTypeScreenSchemeId, IssueTypeScreenSchemeMappingDetails payload) returns json|error {
         string resourcePath = string `/rest/api/2/issuetypescreenscheme/${issueTypeScreenSchemeId}/mapping`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1496,7 +1496,7 @@ public isolated client class Client {
     remote isolated function updateDefaultScreenScheme(string issueTypeScreenSchemeId, UpdateDefaultScreenScheme payload) returns json|error {
         string resourcePath = string `/rest/api/2/issuetypescreenscheme/${issueTypeScreenSchemeId}/mapping/default`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1504,7 +1504,7 @@ public isolated client class Client {
     remote isolated function removeMappingsFromIssueTypeScreenScheme(string issueTypeScreenSchemeId, IssueTypeIds payload) returns json|error {
         string resourcePath = string `/rest/api/2/issuetypescreenscheme/${issueTypeScreenSchemeId}/mapping/remove`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1517,7 +1517,7 @@ public isolated client class Client {
     remote isolated function getAutoCompletePost(SearchAutoCompleteFilter payload) returns JQLReferenceData|error {
         string resourcePath = string `/rest/api/2/jql/autocompletedata`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         JQLReferenceData response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1532,7 +1532,7 @@ public isolated client class Client {
     remote isolated function matchIssues(IssuesAndJQLQueries payload) returns IssueMatches|error {
         string resourcePath = string `/rest/api/2/jql/match`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         IssueMatches response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1542,7 +1542,7 @@ public isolated client class Client {
         map<anydata> queryParam = {validation: validation};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ParsedJqlQueries response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1550,7 +1550,7 @@ public isolated client class Client {
     remote isolated function migrateQueries(JQLPersonalDataMigrationRequest payload) returns ConvertedJQLQueries|error {
         string resourcePath = string `/rest/api/2/jql/pdcleaner`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ConvertedJQLQueries response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1581,7 +1581,7 @@ public isolated client class Client {
         map<anydata> queryParam = {'key: 'key};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1603,7 +1603,7 @@ public isolated client class Client {
     remote isolated function setLocale(Locale payload) returns json|error {
         string resourcePath = string `/rest/api/2/mypreferences/locale`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1644,7 +1644,7 @@ public isolated client class Client {
     remote isolated function getBulkPermissions(BulkPermissionsRequestBean payload) returns BulkPermissionGrants|error {
         string resourcePath = string `/rest/api/2/permissions/check`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         BulkPermissionGrants response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1652,7 +1652,7 @@ public isolated client class Client {
     remote isolated function getPermittedProjects(PermissionsKeysBean payload) returns PermittedProjects|error {
         string resourcePath = string `/rest/api/2/permissions/project`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         PermittedProjects response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1669,7 +1669,7 @@ public isolated client class Client {
         map<anydata> queryParam = {expand: expand};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         PermissionScheme response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1686,7 +1686,7 @@ public isolated client class Client {
         map<anydata> queryParam = {expand: expand};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         PermissionScheme response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1710,7 +1710,7 @@ public isolated client class Client {
         map<anydata> queryParam = {expand: expand};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         PermissionGrant response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1749,7 +1749,7 @@ public isolated client class Client {
     remote isolated function createProject(ProjectInputBean payload) returns ProjectIdentifiers|error {
         string resourcePath = string `/rest/api/2/project`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ProjectIdentifiers response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1793,7 +1793,7 @@ public isolated client class Client {
         map<anydata> queryParam = {expand: expand};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Project response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1817,7 +1817,7 @@ public isolated client class Client {
     remote isolated function updateProjectAvatar(string projectIdOrKey, Avatar payload) returns json|error {
         string resourcePath = string `/rest/api/2/project/${projectIdOrKey}/avatar`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1869,7 +1869,7 @@ public isolated client class Client {
     remote isolated function toggleFeatureForProject(string projectIdOrKey, string featureKey, ProjectFeatureToggleRequest payload) returns ProjectFeaturesResponse|error {
         string resourcePath = string `/rest/api/2/project/${projectIdOrKey}/features/${featureKey}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ProjectFeaturesResponse response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1887,7 +1887,7 @@ public isolated client class Client {
     remote isolated function setProjectProperty(string projectIdOrKey, string propertyKey, json payload) returns json|error {
         string resourcePath = string `/rest/api/2/project/${projectIdOrKey}/properties/${propertyKey}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1919,7 +1919,7 @@ public isolated client class Client {
     remote isolated function setActors(string projectIdOrKey, int id, ProjectRoleActorsUpdateBean payload) returns ProjectRole|error {
         string resourcePath = string `/rest/api/2/project/${projectIdOrKey}/role/${id}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ProjectRole response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -1927,7 +1927,7 @@ public isolated client class Client {
     remote isolated function addActorUsers(string projectIdOrKey, int id, ActorsMap payload) returns ProjectRole|error {
         string resourcePath = string `/rest/api/2/project/${projectIdOrKey}/role/${id}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ProjectRole response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -1982,7 +1982,7 @@ public isolated client class Client {
     remote isolated function updateProjectEmail(int projectId, ProjectEmailAddress payload) returns json|error {
         string resourcePath = string `/rest/api/2/project/${projectId}/email`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2016,7 +2016,7 @@ public isolated client class Client {
         map<anydata> queryParam = {expand: expand};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         PermissionScheme response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2034,7 +2034,7 @@ public isolated client class Client {
     remote isolated function createProjectCategory(ProjectCategory payload) returns ProjectCategory|error {
         string resourcePath = string `/rest/api/2/projectCategory`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ProjectCategory response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2047,7 +2047,7 @@ public isolated client class Client {
     remote isolated function updateProjectCategory(int id, ProjectCategory payload) returns UpdatedProjectCategory|error {
         string resourcePath = string `/rest/api/2/projectCategory/${id}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         UpdatedProjectCategory response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2098,7 +2098,7 @@ public isolated client class Client {
     remote isolated function createProjectRole(CreateUpdateRoleRequestBean payload) returns ProjectRole|error {
         string resourcePath = string `/rest/api/2/role`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ProjectRole response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2111,7 +2111,7 @@ public isolated client class Client {
     remote isolated function fullyUpdateProjectRole(int id, CreateUpdateRoleRequestBean payload) returns ProjectRole|error {
         string resourcePath = string `/rest/api/2/role/${id}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ProjectRole response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2119,7 +2119,7 @@ public isolated client class Client {
     remote isolated function partialUpdateProjectRole(int id, CreateUpdateRoleRequestBean payload) returns ProjectRole|error {
         string resourcePath = string `/rest/api/2/role/${id}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ProjectRole response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2141,7 +2141,7 @@ public isolated client class Client {
     remote isolated function addProjectRoleActorsToRole(int id, ActorInputBean payload) returns ProjectRole|error {
         string resourcePath = string `/rest/api/2/role/${id}/actors`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ProjectRole response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2165,7 +2165,7 @@ public isolated client class Client {
     remote isolated function createScreen(ScreenDetails payload) returns Screen|error {
         string resourcePath = string `/rest/api/2/screens`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Screen response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2180,7 +2180,7 @@ public isolated client class Client {
     remote isolated function updateScreen(int screenId, UpdateScreenDetails payload) returns Screen|error {
         string resourcePath = string `/rest/api/2/screens/${screenId}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Screen response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2207,7 +2207,7 @@ public isolated client class Client {
     remote isolated function addScreenTab(int screenId, ScreenableTab payload) returns ScreenableTab|error {
         string resourcePath = string `/rest/api/2/screens/${screenId}/tabs`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ScreenableTab response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2215,7 +2215,7 @@ public isolated client class Client {
     remote isolated function renameScreenTab(int screenId, int tabId, ScreenableTab payload) returns ScreenableTab|error {
         string resourcePath = string `/rest/api/2/screens/${screenId}/tabs/${tabId}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ScreenableTab response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2237,7 +2237,7 @@ public isolated client class Client {
     remote isolated function addScreenTabField(int screenId, int tabId, AddFieldBean payload) returns ScreenableField|error {
         string resourcePath = string `/rest/api/2/screens/${screenId}/tabs/${tabId}/fields`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ScreenableField response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2252,7 +2252,7 @@ public isolated client class Client {
     remote isolated function moveScreenTabField(int screenId, int tabId, string id, MoveFieldBean payload) returns json|error {
         string resourcePath = string `/rest/api/2/screens/${screenId}/tabs/${tabId}/fields/${id}/move`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2274,7 +2274,7 @@ public isolated client class Client {
     remote isolated function createScreenScheme(ScreenSchemeDetails payload) returns ScreenSchemeId|error {
         string resourcePath = string `/rest/api/2/screenscheme`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ScreenSchemeId response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2282,7 +2282,7 @@ public isolated client class Client {
     remote isolated function updateScreenScheme(string screenSchemeId, UpdateScreenSchemeDetails payload) returns json|error {
         string resourcePath = string `/rest/api/2/screenscheme/${screenSchemeId}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2304,7 +2304,7 @@ public isolated client class Client {
     remote isolated function searchForIssuesUsingJqlPost(SearchRequestBean payload) returns SearchResults|error {
         string resourcePath = string `/rest/api/2/search`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         SearchResults response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2392,7 +2392,7 @@ public isolated client class Client {
     remote isolated function createUser(UserWriteBean payload) returns User|error {
         string resourcePath = string `/rest/api/2/user`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         User response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2512,7 +2512,7 @@ public isolated client class Client {
         map<anydata> queryParam = {accountId: accountId, userKey: userKey, username: username};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2571,7 +2571,7 @@ public isolated client class Client {
     remote isolated function createVersion(Version payload) returns Version|error {
         string resourcePath = string `/rest/api/2/version`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Version response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2586,7 +2586,7 @@ public isolated client class Client {
     remote isolated function updateVersion(string id, Version payload) returns Version|error {
         string resourcePath = string `/rest/api/2/version/${id}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Version response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2610,7 +2610,7 @@ public isolated client class Client {
     remote isolated function moveVersion(string id, VersionMoveBean payload) returns Version|error {
         string resourcePath = string `/rest/api/2/version/${id}/move`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         Version response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2623,7 +2623,7 @@ public isolated client class Client {
     remote isolated function deleteAndReplaceVersion(string id, DeleteAndReplaceVersionBean payload) returns json|error {
         string resourcePath = string `/rest/api/2/version/${id}/removeAndSwap`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2643,7 +2643,7 @@ public isolated client class Client {
     remote isolated function registerDynamicWebhooks(WebhookRegistrationDetails payload) returns ContainerForRegisteredWebhooks|error {
         string resourcePath = string `/rest/api/2/webhook`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         ContainerForRegisteredWebhooks response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2665,7 +2665,7 @@ public isolated client class Client {
     remote isolated function refreshWebhooks(ContainerForWebhookIDs payload) returns WebhooksExpirationDate|error {
         string resourcePath = string `/rest/api/2/webhook/refresh`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WebhooksExpirationDate response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2680,7 +2680,7 @@ public isolated client class Client {
     remote isolated function createWorkflow(CreateWorkflowDetails payload) returns WorkflowIDs|error {
         string resourcePath = string `/rest/api/2/workflow`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WorkflowIDs response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2695,7 +2695,7 @@ public isolated client class Client {
     remote isolated function updateWorkflowTransitionRuleConfigurations(WorkflowTransitionRulesUpdate payload) returns WorkflowTransitionRulesUpdateErrors|error {
         string resourcePath = string `/rest/api/2/workflow/rule/config`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WorkflowTransitionRulesUpdateErrors response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2719,7 +2719,7 @@ public isolated client class Client {
         map<anydata> queryParam = {'key: 'key, workflowName: workflowName, workflowMode: workflowMode};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WorkflowTransitionProperty response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2729,7 +2729,7 @@ public isolated client class Client {
         map<anydata> queryParam = {'key: 'key, workflowName: workflowName, workflowMode: workflowMode};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WorkflowTransitionProperty response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2760,7 +2760,7 @@ public isolated client class Client {
     remote isolated function createWorkflowScheme(WorkflowScheme payload) returns WorkflowScheme|error {
         string resourcePath = string `/rest/api/2/workflowscheme`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WorkflowScheme response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -2775,7 +2775,7 @@ public isolated client class Client {
     remote isolated function assignSchemeToProject(WorkflowSchemeProjectAssociation payload) returns json|error {
         string resourcePath = string `/rest/api/2/workflowscheme/project`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         json response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2790,7 +2790,7 @@ public isolated client class Client {
     remote isolated function updateWorkflowScheme(int id, WorkflowScheme payload) returns WorkflowScheme|error {
         string resourcePath = string `/rest/api/2/workflowscheme/${id}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WorkflowScheme response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2819,7 +2819,7 @@ public isolated client class Client {
     remote isolated function updateDefaultWorkflow(int id, DefaultWorkflow payload) returns WorkflowScheme|error {
         string resourcePath = string `/rest/api/2/workflowscheme/${id}/default`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WorkflowScheme response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2841,7 +2841,7 @@ public isolated client class Client {
     remote isolated function updateWorkflowSchemeDraft(int id, WorkflowScheme payload) returns WorkflowScheme|error {
         string resourcePath = string `/rest/api/2/workflowscheme/${id}/draft`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WorkflowScheme response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2861,7 +2861,7 @@ public isolated client class Client {
     remote isolated function updateDraftDefaultWorkflow(int id, DefaultWorkflow payload) returns WorkflowScheme|error {
         string resourcePath = string `/rest/api/2/workflowscheme/${id}/draft/default`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WorkflowScheme response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2881,7 +2881,7 @@ public isolated client class Client {
     remote isolated function setWorkflowSchemeDraftIssueType(int id, string issueType, IssueTypeWorkflowMapping payload) returns WorkflowScheme|error {
         string resourcePath = string `/rest/api/2/workflowscheme/${id}/draft/issuetype/${issueType}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WorkflowScheme response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2905,7 +2905,7 @@ public isolated client class Client {
         map<anydata> queryParam = {workflowName: workflowName};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WorkflowScheme response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2929,7 +2929,7 @@ public isolated client class Client {
     remote isolated function setWorkflowSchemeIssueType(int id, string issueType, IssueTypeWorkflowMapping payload) returns WorkflowScheme|error {
         string resourcePath = string `/rest/api/2/workflowscheme/${id}/issuetype/${issueType}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WorkflowScheme response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2955,7 +2955,7 @@ public isolated client class Client {
         map<anydata> queryParam = {workflowName: workflowName};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WorkflowScheme response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -2981,7 +2981,7 @@ public isolated client class Client {
         map<anydata> queryParam = {expand: expand};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         WorklogArr response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -3006,7 +3006,7 @@ public isolated client class Client {
     remote isolated function 'AddonPropertiesResource\.putAddonProperty\_put(string addonKey, string propertyKey, json payload) returns OperationMessage|error {
         string resourcePath = string `/rest/atlassian-connect/1/addons/${addonKey}/properties/${propertyKey}`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         OperationMessage response = check self.clientEp->put(resourcePath, request);
         return response;
@@ -3026,7 +3026,7 @@ public isolated client class Client {
     remote isolated function 'DynamicModulesResource\.registerModules\_post(ConnectModules payload) returns http:Response | error {
         string resourcePath = string `/rest/atlassian-connect/1/app/module/dynamic`;
         http:Request request = new;
-        json jsonBody = check payload.cloneWithType(json);
+        json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
         http:Response  response = check self.clientEp->post(resourcePath, request);
         return response;